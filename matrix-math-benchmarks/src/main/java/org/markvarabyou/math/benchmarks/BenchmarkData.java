@@ -0,0 +1,64 @@
+package org.markvarabyou.math.benchmarks;
+
+import org.markvarabyou.math.common.Calculator;
+import org.markvarabyou.math.common.Calculators.DoubleCalculator;
+import org.markvarabyou.math.common.Calculators.FloatCalculator;
+import org.markvarabyou.math.common.Calculators.IntCalculator;
+
+import java.util.Random;
+
+/**
+ * Test data for benchmarks: calculators and random values by element type name.
+ * Author: Mark Vorobyov
+ * Date: 10/18/26
+ * Time: 4:10 PM
+ */
+final class BenchmarkData {
+    static final String INT = "int";
+    static final String FLOAT = "float";
+    static final String DOUBLE = "double";
+
+    private BenchmarkData() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Calculator<T> calculator(String type) {
+        if (INT.equals(type))
+            return (Calculator<T>) new IntCalculator();
+        if (FLOAT.equals(type))
+            return (Calculator<T>) new FloatCalculator();
+        if (DOUBLE.equals(type))
+            return (Calculator<T>) new DoubleCalculator();
+        throw new IllegalArgumentException("Unknown element type " + type);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> T[] values(String type, int length, long seed) {
+        Random random = new Random(seed);
+        Object[] values;
+        if (INT.equals(type)){
+            values = new Integer[length];
+            for (int i = 0; i < length; i++){
+                values[i] = random.nextInt(100);
+            }
+        } else if (FLOAT.equals(type)){
+            values = new Float[length];
+            for (int i = 0; i < length; i++){
+                values[i] = random.nextFloat();
+            }
+        } else if (DOUBLE.equals(type)){
+            values = new Double[length];
+            for (int i = 0; i < length; i++){
+                values[i] = random.nextDouble();
+            }
+        } else {
+            throw new IllegalArgumentException("Unknown element type " + type);
+        }
+        return (T[]) values;
+    }
+
+    static <T> T scalar(String type) {
+        T[] value = values(type, 1, 0);
+        return value[0];
+    }
+}
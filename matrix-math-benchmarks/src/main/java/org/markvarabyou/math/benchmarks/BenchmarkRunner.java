@@ -0,0 +1,37 @@
+package org.markvarabyou.math.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs matrix-math benchmarks with allocation profiling and writes results to JSON file.
+ * Usage: java -jar target/benchmarks.jar [jmh options], e.g. -p size=256 -p type=double
+ * Author: Mark Vorobyov
+ * Date: 10/18/26
+ * Time: 4:45 PM
+ */
+public class BenchmarkRunner {
+    private static final String DEFAULT_RESULT_FILE = "matrix-math-benchmarks.json";
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        if (commandLine.getIncludes().isEmpty())
+            builder.include(BenchmarkRunner.class.getPackage().getName() + ".*");
+        if (!commandLine.getResult().hasValue())
+            builder.result(DEFAULT_RESULT_FILE);
+        if (!commandLine.getResultFormat().hasValue())
+            builder.resultFormat(ResultFormatType.JSON);
+        if (commandLine.getProfilers().isEmpty())
+            builder.addProfiler(GCProfiler.class);
+
+        Options options = builder.parent(commandLine).build();
+        new Runner(options).run();
+    }
+}
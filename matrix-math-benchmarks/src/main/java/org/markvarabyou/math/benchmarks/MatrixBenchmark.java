@@ -0,0 +1,111 @@
+package org.markvarabyou.math.benchmarks;
+
+import org.markvarabyou.math.common.Calculator;
+import org.markvarabyou.math.common.ExecutionPolicy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for ArrayList and LinkedList based Matrix operations.
+ * Default grid finishes in about half an hour, large sizes and more threads are selected by options,
+ * e.g. -p size=1024,4096 -p implementation=arraylist -p threads=1,8,32 -jvmArgs -Xmx8g
+ * Author: Mark Vorobyov
+ * Date: 10/18/26
+ * Time: 4:20 PM
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MatrixBenchmark {
+
+    @Param({"arraylist", "linkedlist"})
+    public String implementation;
+
+    @Param({"10", "64", "256"})
+    public int size;
+
+    @Param({BenchmarkData.INT, BenchmarkData.FLOAT, BenchmarkData.DOUBLE})
+    public String type;
+
+    @Param({"1", "8"})
+    public int threads;
+
+    private ForkJoinPool pool;
+    private Object value;
+    private org.markvarabyou.math.arraylistbased.Matrix<Object> arrayFirst;
+    private org.markvarabyou.math.arraylistbased.Matrix<Object> arraySecond;
+    private org.markvarabyou.math.linkedlistbased.Matrix<Object> linkedFirst;
+    private org.markvarabyou.math.linkedlistbased.Matrix<Object> linkedSecond;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Calculator<Object> calculator = BenchmarkData.calculator(type);
+        Object[] first = BenchmarkData.values(type, size * size, 1);
+        Object[] second = BenchmarkData.values(type, size * size, 2);
+        value = BenchmarkData.scalar(type);
+
+        ExecutionPolicy policy = ExecutionPolicy.SEQUENTIAL;
+        if (threads > 1){
+            pool = new ForkJoinPool(threads);
+            policy = new ExecutionPolicy(pool);
+        }
+
+        if ("arraylist".equals(implementation)){
+            arrayFirst = new org.markvarabyou.math.arraylistbased.Matrix<Object>(size, size, first, calculator);
+            arraySecond = new org.markvarabyou.math.arraylistbased.Matrix<Object>(size, size, second, calculator);
+            arrayFirst.setExecutionPolicy(policy);
+        } else {
+            linkedFirst = new org.markvarabyou.math.linkedlistbased.Matrix<Object>(size, size, first, calculator);
+            linkedSecond = new org.markvarabyou.math.linkedlistbased.Matrix<Object>(size, size, second, calculator);
+            linkedFirst.setExecutionPolicy(policy);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (pool != null)
+            pool.shutdown();
+    }
+
+    @Benchmark
+    public Object get() {
+        int index = size / 2;
+        return arrayFirst != null ? arrayFirst.get(index, index) : linkedFirst.get(index, index);
+    }
+
+    @Benchmark
+    public Object set() {
+        int index = size / 2;
+        return arrayFirst != null ? arrayFirst.set(index, index, value) : linkedFirst.set(index, index, value);
+    }
+
+    @Benchmark
+    public Object getRow() {
+        return arrayFirst != null ? arrayFirst.getRow(size / 2) : linkedFirst.getRow(size / 2);
+    }
+
+    @Benchmark
+    public Object getCol() {
+        return arrayFirst != null ? arrayFirst.getCol(size / 2) : linkedFirst.getCol(size / 2);
+    }
+
+    @Benchmark
+    public Object add() {
+        return arrayFirst != null ? arrayFirst.add(arraySecond) : linkedFirst.add(linkedSecond);
+    }
+
+    @Benchmark
+    public Object multiplyByValue() {
+        return arrayFirst != null ? arrayFirst.multiply(value) : linkedFirst.multiply(value);
+    }
+
+    @Benchmark
+    public Object multiplyMatrices() {
+        return arrayFirst != null ? arrayFirst.multiply(arraySecond) : linkedFirst.multiply(linkedSecond);
+    }
+}
@@ -0,0 +1,71 @@
+package org.markvarabyou.math.benchmarks;
+
+import org.markvarabyou.math.arraybased.DoubleMatrix;
+import org.markvarabyou.math.common.ExecutionPolicy;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares classic blocked multiplication of DoubleMatrix with Strassen-Winograd one to find crossover size.
+ * Usage: java -jar target/benchmarks.jar StrassenBenchmark -p size=2048 -p cutoff=256,512
+ * Author: Mark Vorobyov
+ * Date: 10/20/26
+ * Time: 10:20 PM
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StrassenBenchmark {
+
+    @Param({"256", "512", "1024"})
+    public int size;
+
+    @Param({"128", "256"})
+    public int cutoff;
+
+    @Param({"1", "8"})
+    public int threads;
+
+    private ForkJoinPool pool;
+    private DoubleMatrix first;
+    private DoubleMatrix second;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        first = new DoubleMatrix(size, size, toDoubles(BenchmarkData.values(BenchmarkData.DOUBLE, size * size, 1)));
+        second = new DoubleMatrix(size, size, toDoubles(BenchmarkData.values(BenchmarkData.DOUBLE, size * size, 2)));
+        if (threads > 1){
+            pool = new ForkJoinPool(threads);
+            first.setExecutionPolicy(new ExecutionPolicy(pool));
+        }
+    }
+
+    private static double[] toDoubles(Object[] values) {
+        double[] result = new double[values.length];
+        for (int i = 0; i < values.length; i++){
+            result[i] = (Double) values[i];
+        }
+        return result;
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (pool != null)
+            pool.shutdown();
+    }
+
+    @Benchmark
+    public DoubleMatrix classic() {
+        return first.multiply(second);
+    }
+
+    @Benchmark
+    public DoubleMatrix strassen() {
+        return first.multiplyStrassen(second, cutoff);
+    }
+}
@@ -0,0 +1,75 @@
+package org.markvarabyou.math.benchmarks;
+
+import org.markvarabyou.math.common.Calculator;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks for ArrayList and LinkedList based Vector operations.
+ * Author: Mark Vorobyov
+ * Date: 10/18/26
+ * Time: 4:35 PM
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class VectorBenchmark {
+
+    @Param({"arraylist", "linkedlist"})
+    public String implementation;
+
+    @Param({"10", "64", "256", "1024", "4096"})
+    public int size;
+
+    @Param({BenchmarkData.INT, BenchmarkData.FLOAT, BenchmarkData.DOUBLE})
+    public String type;
+
+    private Object value;
+    private org.markvarabyou.math.arraylistbased.Vector<Object> arrayFirst;
+    private org.markvarabyou.math.arraylistbased.Vector<Object> arraySecond;
+    private org.markvarabyou.math.linkedlistbased.Vector<Object> linkedFirst;
+    private org.markvarabyou.math.linkedlistbased.Vector<Object> linkedSecond;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Calculator<Object> calculator = BenchmarkData.calculator(type);
+        Object[] first = BenchmarkData.values(type, size, 1);
+        Object[] second = BenchmarkData.values(type, size, 2);
+        value = BenchmarkData.scalar(type);
+
+        if ("arraylist".equals(implementation)){
+            arrayFirst = new org.markvarabyou.math.arraylistbased.Vector<Object>(first, calculator);
+            arraySecond = new org.markvarabyou.math.arraylistbased.Vector<Object>(second, calculator);
+        } else {
+            linkedFirst = new org.markvarabyou.math.linkedlistbased.Vector<Object>(first, calculator);
+            linkedSecond = new org.markvarabyou.math.linkedlistbased.Vector<Object>(second, calculator);
+        }
+    }
+
+    @Benchmark
+    public Object get() {
+        return arrayFirst != null ? arrayFirst.get(size / 2) : linkedFirst.get(size / 2);
+    }
+
+    @Benchmark
+    public void set() {
+        if (arrayFirst != null)
+            arrayFirst.set(size / 2, value);
+        else
+            linkedFirst.set(size / 2, value);
+    }
+
+    @Benchmark
+    public Object sumElements() {
+        return arrayFirst != null ? arrayFirst.sumElements() : linkedFirst.sumElements();
+    }
+
+    @Benchmark
+    public Object multiply() {
+        return arrayFirst != null ? arrayFirst.multiply(arraySecond) : linkedFirst.multiply(linkedSecond);
+    }
+}
@@ -0,0 +1,822 @@
+package org.markvarabyou.math.arraybased;
+
+import org.markvarabyou.math.common.ChainPlan;
+import org.markvarabyou.math.common.ElementType;
+import org.markvarabyou.math.common.ExecutionPolicy;
+import org.markvarabyou.math.common.MatrixExceptionHelper;
+import org.markvarabyou.math.common.RangeTask;
+import org.markvarabyou.math.common.kernels.DenseKernels;
+import org.markvarabyou.math.common.kernels.DoubleGemm;
+import org.markvarabyou.math.common.kernels.DoubleGemv;
+import org.markvarabyou.math.common.kernels.ElementWise;
+import org.markvarabyou.math.common.kernels.StrassenWinograd;
+import org.markvarabyou.math.common.kernels.Transpose;
+import org.markvarabyou.math.iterative.DenseOperator;
+import org.markvarabyou.math.iterative.LinearOperator;
+import org.markvarabyou.math.io.BinaryMatrixFile;
+import org.markvarabyou.math.io.MatrixFileHeader;
+import org.markvarabyou.math.io.TextMatrixFile;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Class for matrix math with double elements stored in flat row-major primitive array.
+ * Author: Mark Vorobyov
+ * Date: 10/18/26
+ * Time: 10:20 AM
+ */
+public class DoubleMatrix implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    // Columns combined per term before next term is added, so segment of result stays in L1 cache
+    static final int COMBINE_BLOCK = 1024;
+
+    private double[] elements;
+    private int rowCount;
+    private int colCount;
+    // Element (row, col) is stored at offset + row * rowStride + col * colStride, views share parent array
+    private int offset;
+    private int rowStride;
+    private int colStride = 1;
+    private transient MatrixExceptionHelper helper = new MatrixExceptionHelper();
+    private transient ExecutionPolicy executionPolicy = ExecutionPolicy.SEQUENTIAL;
+    private transient double[] packedWorkspace;
+
+    /**
+     * Initializes new matrix rowCount x colCount with values from array
+     * @param rowCount Number of rows in new matrix
+     * @param colCount Number of columns in new matrix
+     * @param array Array with values to initialize matrix (row-major)
+     */
+    public DoubleMatrix(int rowCount, int colCount, double[] array) {
+        helper.checkLength(array.length, rowCount * colCount, "array");
+
+        this.rowCount = rowCount;
+        this.colCount = colCount;
+        this.rowStride = colCount;
+        elements = array.clone();
+    }
+
+    /**
+     * Initializes new matrix rowCount x colCount filled with zeros
+     * @param rowCount Number of rows in new matrix
+     * @param colCount Number of columns in new matrix
+     */
+    public DoubleMatrix(int rowCount, int colCount) {
+        this.rowCount = rowCount;
+        this.colCount = colCount;
+        this.rowStride = colCount;
+        elements = new double[rowCount * colCount];
+    }
+
+    /**
+     * Initializes new matrix without values
+     */
+    public DoubleMatrix(){
+        this.rowCount = 0;
+        this.colCount = 0;
+        elements = new double[0];
+    }
+
+    private DoubleMatrix(double[] elements, int offset, int rowCount, int colCount, int rowStride, int colStride,
+                         ExecutionPolicy executionPolicy){
+        this.elements = elements;
+        this.offset = offset;
+        this.rowCount = rowCount;
+        this.colCount = colCount;
+        this.rowStride = rowStride;
+        this.colStride = colStride;
+        this.executionPolicy = executionPolicy;
+    }
+
+    private void setValues(int rowCount, int colCount, double[] values){
+        this.rowCount = rowCount;
+        this.colCount = colCount;
+        this.elements = values;
+        this.offset = 0;
+        this.rowStride = colCount;
+        this.colStride = 1;
+    }
+
+    private int index(int row, int col){
+        return offset + row * rowStride + col * colStride;
+    }
+
+    private boolean isContiguous(){
+        return offset == 0 && colStride == 1 && rowStride == colCount && elements.length == rowCount * colCount;
+    }
+
+    /**
+     * @return storage array, row-major elements for matrix which is not view
+     */
+    double[] storage(){
+        return elements;
+    }
+
+    /**
+     * @return row-major elements, storage itself for contiguous matrix and copy for views
+     */
+    private double[] values(){
+        if (isContiguous())
+            return elements;
+
+        double[] values = new double[rowCount * colCount];
+        for (int i = 0; i < rowCount; i++){
+            new DoubleVector(elements, index(i, 0), colCount, colStride).copyTo(values, i * colCount, 1);
+        }
+        return values;
+    }
+    /**
+     * @return Count of rows in matrix
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return Count of columns in matrix
+     */
+    public int getColCount() {
+        return colCount;
+    }
+
+    /**
+     * @return Execution policy of matrix operations
+     */
+    public ExecutionPolicy getExecutionPolicy() {
+        return executionPolicy;
+    }
+
+    /**
+     * Sets execution policy for operations of this matrix, results inherit it
+     * @param executionPolicy sequential or parallel policy
+     */
+    public void setExecutionPolicy(ExecutionPolicy executionPolicy) {
+        this.executionPolicy = executionPolicy;
+    }
+
+    /**
+     * @param row number of element row
+     * @param col number of element column
+     * @return value of element of matrix
+     */
+    public double get(int row, int col){
+        helper.checkRowAndColCount(row, col, rowCount - 1, colCount - 1);
+
+        return elements[index(row, col)];
+    }
+
+    /**
+     * Sets the value to element in specified row and column
+     * @param row number of element row
+     * @param col number of element column
+     * @param value value of element to set
+     * @return previous value of element
+     */
+    public double set(int row, int col, double value){
+        helper.checkRowAndColCount(row, col, rowCount - 1, colCount - 1);
+
+        int index = index(row, col);
+        double previous = elements[index];
+        elements[index] = value;
+        return previous;
+    }
+
+    /**
+     * Returns view of specified row, changes of vector are visible in matrix and vice versa
+     * @param row number of row
+     * @return vector from specified matrix row
+     */
+    public DoubleVector getRow(int row){
+        helper.checkRange(row, rowCount - 1);
+
+        return new DoubleVector(elements, index(row, 0), colCount, colStride);
+    }
+
+    /**
+     * Sets the vector values to elements from specified row
+     * @param row number of row
+     * @param vector vector with new values for row
+     */
+    public void setRow(int row, DoubleVector vector){
+        helper.checkRange(row, rowCount - 1);
+        helper.checkLength(vector.getLength(), colCount, "vector");
+
+        vector.copyTo(elements, index(row, 0), colStride);
+    }
+
+    /**
+     * Returns view of specified column, changes of vector are visible in matrix and vice versa
+     * @param col number of column
+     * @return vector from specified matrix column
+     */
+    public DoubleVector getCol(int col){
+        helper.checkRange(col, colCount - 1);
+
+        return new DoubleVector(elements, index(0, col), rowCount, rowStride);
+    }
+
+    /**
+     * Sets the vector values to elements from specified column
+     * @param col number of column
+     * @param vector vector with new values for column
+     */
+    public void setCol(int col, DoubleVector vector){
+        helper.checkRange(col, colCount - 1);
+        helper.checkLength(vector.getLength(), rowCount, "vector");
+
+        vector.copyTo(elements, index(0, col), rowStride);
+    }
+
+    /**
+     * Returns view of block of matrix, changes of view are visible in matrix and vice versa
+     * @param row first row of block
+     * @param col first column of block
+     * @param rowCount count of rows in block
+     * @param colCount count of columns in block
+     * @return view of block
+     */
+    public DoubleMatrix subMatrix(int row, int col, int rowCount, int colCount){
+        helper.checkRowAndColCount(row, col, this.rowCount, this.colCount);
+        if (rowCount < 0 || colCount < 0)
+            throw new IllegalArgumentException("Invalid row or column index");
+        helper.checkRowAndColCount(row + rowCount, col + colCount, this.rowCount, this.colCount);
+
+        return new DoubleMatrix(elements, index(row, col), rowCount, colCount, rowStride, colStride,
+                executionPolicy);
+    }
+
+    /**
+     * Copies matrix or view into new matrix with its own storage
+     * @return detached copy
+     */
+    public DoubleMatrix copy(){
+        DoubleMatrix result = newMatrix(rowCount, colCount);
+        double[] values = values();
+        System.arraycopy(values, 0, result.elements, 0, values.length);
+        return result;
+    }
+
+    /**
+     * Returns transposed view of matrix, which swaps row and column strides without copying.
+     * Multiplication packs operands by strides, so products with transposed views need no extra copy
+     * @return view colCount x rowCount
+     */
+    public DoubleMatrix transpose(){
+        return new DoubleMatrix(elements, offset, colCount, rowCount, colStride, rowStride, executionPolicy);
+    }
+
+    /**
+     * Copies transposed matrix into new storage with cache-oblivious recursive blocking
+     * @return matrix colCount x rowCount
+     */
+    public DoubleMatrix transposeMaterialized(){
+        DoubleMatrix result = newMatrix(colCount, rowCount);
+        Transpose.transpose(elements, offset, rowStride, colStride, rowCount, colCount, result.elements, 0, rowCount);
+        return result;
+    }
+
+    /**
+     * Adds specified matrix with this (only if sizes is equal)
+     * @param matrix matrix to add
+     * @return result of adding
+     */
+    public DoubleMatrix add(DoubleMatrix matrix){
+        // Validation
+        if (this.rowCount != matrix.getRowCount() || this.colCount != matrix.getColCount()){
+            throw new IllegalArgumentException("Illegal size of matrix to add");
+        }
+
+        DoubleMatrix result = newMatrix(rowCount, colCount);
+        ElementWise.add(values(), matrix.values(), result.elements, executionPolicy);
+        return result;
+    }
+
+    /**
+     * Multiplies current matrix to single value
+     * @param value value to be multiplied
+     * @return result matrix
+     */
+    public DoubleMatrix multiply(double value){
+        DoubleMatrix result = newMatrix(rowCount, colCount);
+        ElementWise.multiply(values(), value, result.elements, executionPolicy);
+        return result;
+    }
+
+    /**
+     * Multiplies current matrix to specified (only if matrices is consistent)
+     * @param matrix matrix to multiply by
+     * @return result matrix
+     */
+    public DoubleMatrix multiply(DoubleMatrix matrix){
+        // Validation
+        if (this.getColCount() != matrix.getRowCount())
+            throw new IllegalArgumentException("Matrices are not consistent");
+
+        int n = matrix.getColCount();
+        DoubleMatrix result = newMatrix(rowCount, n);
+        double[] packedB = DoubleGemm.packB(matrix.elements, matrix.offset, matrix.rowStride, matrix.colStride,
+                colCount, n);
+        DoubleGemm.multiply(elements, offset, rowStride, colStride, packedB, result.elements, 0, n,
+                rowCount, colCount, n, executionPolicy);
+        return result;
+    }
+
+    /**
+     * Multiplies current matrix to specified with Strassen-Winograd algorithm and default cutoff
+     * (only if matrices is consistent). Pays off for very large matrices only
+     * @param matrix matrix to multiply by
+     * @return result matrix
+     */
+    public DoubleMatrix multiplyStrassen(DoubleMatrix matrix){
+        return multiplyStrassen(matrix, StrassenWinograd.DEFAULT_CUTOFF);
+    }
+
+    /**
+     * Multiplies current matrix to specified with Strassen-Winograd algorithm (only if matrices is consistent).
+     * Needs less arithmetic than {@link #multiply(DoubleMatrix)}, but more memory and has bigger rounding error
+     * @param matrix matrix to multiply by
+     * @param cutoff size below which blocks are multiplied by classic kernel
+     * @return result matrix
+     */
+    public DoubleMatrix multiplyStrassen(DoubleMatrix matrix, int cutoff){
+        // Validation
+        if (this.getColCount() != matrix.getRowCount())
+            throw new IllegalArgumentException("Matrices are not consistent");
+
+        int n = matrix.getColCount();
+        DoubleMatrix result = newMatrix(rowCount, n);
+        StrassenWinograd.multiply(elements, offset, rowStride, colStride,
+                matrix.elements, matrix.offset, matrix.rowStride, matrix.colStride,
+                result.elements, 0, n, rowCount, colCount, n, cutoff, executionPolicy);
+        return result;
+    }
+
+    /**
+     * Multiplies current matrix to vector (only if vector length equals count of columns)
+     * @param vector vector to multiply by
+     * @return result vector with rowCount elements
+     */
+    public DoubleVector multiply(DoubleVector vector){
+        helper.checkLength(vector.getLength(), colCount, "vector");
+
+        double[] result = new double[rowCount];
+        DoubleGemv.multiply(elements, offset, rowStride, colStride, rowCount, colCount,
+                vector.storage(), vector.offset(), vector.stride(), result, 0, executionPolicy);
+        return new DoubleVector(result, rowCount);
+    }
+
+    /**
+     * Multiplies every matrix of batch by this matrix (batch.get(i) * this).
+     * This matrix is packed once for whole batch
+     * @param batch matrices with count of columns equal to count of rows of this matrix
+     * @return products in order of batch
+     */
+    public List<DoubleMatrix> multiplyBatch(List<DoubleMatrix> batch){
+        for (DoubleMatrix matrix : batch){
+            // Validation
+            if (matrix.getColCount() != rowCount)
+                throw new IllegalArgumentException("Matrices are not consistent");
+        }
+
+        double[] packed = DoubleGemm.packB(elements, offset, rowStride, colStride, rowCount, colCount);
+        List<DoubleMatrix> result = new ArrayList<DoubleMatrix>(batch.size());
+        for (DoubleMatrix matrix : batch){
+            DoubleMatrix product = newMatrix(matrix.getRowCount(), colCount);
+            DoubleGemm.multiply(matrix.elements, matrix.offset, matrix.rowStride, matrix.colStride, packed,
+                    product.elements, 0, colCount, matrix.getRowCount(), rowCount, colCount, executionPolicy);
+            result.add(product);
+        }
+        return result;
+    }
+
+    /**
+     * Plans optimal order of multiplication of matrix chain (only if neighbour matrices are consistent)
+     * @param matrices chain of matrices
+     * @return plan with parenthesization and estimated cost
+     */
+    public static ChainPlan planChain(DoubleMatrix... matrices){
+        if (matrices.length == 0)
+            throw new IllegalArgumentException("Chain of matrices is empty");
+
+        int[] dims = new int[matrices.length + 1];
+        dims[0] = matrices[0].getRowCount();
+        for (int i = 0; i < matrices.length; i++){
+            // Validation
+            if (matrices[i].getRowCount() != dims[i])
+                throw new IllegalArgumentException("Matrices are not consistent");
+            dims[i + 1] = matrices[i].getColCount();
+        }
+        return ChainPlan.of(dims);
+    }
+
+    /**
+     * Multiplies matrix chain in order of {@link #planChain} with GEMM kernel
+     * @param matrices chain of matrices
+     * @return product of chain
+     */
+    public static DoubleMatrix multiplyChain(DoubleMatrix... matrices){
+        ChainPlan plan = planChain(matrices);
+        if (matrices.length == 1)
+            return matrices[0].copy();
+
+        return plan.execute(Arrays.asList(matrices), new ChainPlan.Multiplier<DoubleMatrix>() {
+            @Override
+            public DoubleMatrix multiply(DoubleMatrix left, DoubleMatrix right) {
+                return left.multiply(right);
+            }
+        });
+    }
+
+    /**
+     * Returns operator for iterative solvers, which multiplies by this matrix without copying it
+     * @return linear operator over storage of matrix
+     */
+    public LinearOperator asOperator(){
+        return new DenseOperator(elements, offset, rowStride, colStride, rowCount, colCount, executionPolicy);
+    }
+
+    /**
+     * Factorizes matrix, decomposition should be kept to solve systems with many right-hand sides
+     * @return LU decomposition with partial pivoting of square matrix
+     */
+    public LUDecomposition lu(){
+        return new LUDecomposition(this);
+    }
+
+    /**
+     * Solves system this * x = vector (only if matrix is square and not singular)
+     * @param vector right-hand side
+     * @return solution vector
+     */
+    public DoubleVector solve(DoubleVector vector){
+        return lu().solve(vector);
+    }
+
+    /**
+     * Solves system this * X = matrix for all columns at once (only if matrix is square and not singular)
+     * @param matrix right-hand sides
+     * @return solution matrix
+     */
+    public DoubleMatrix solve(DoubleMatrix matrix){
+        return lu().solve(matrix);
+    }
+
+    /**
+     * @return determinant of square matrix
+     */
+    public double determinant(){
+        return lu().determinant();
+    }
+
+    /**
+     * @return inverse of square not singular matrix
+     */
+    public DoubleMatrix inverse(){
+        return lu().inverse();
+    }
+
+    /**
+     * Adds specified matrix to this one without creating new matrix (only if sizes is equal)
+     * @param matrix matrix to add
+     * @return this matrix
+     */
+    public DoubleMatrix addInPlace(DoubleMatrix matrix){
+        // Validation
+        if (this.rowCount != matrix.getRowCount() || this.colCount != matrix.getColCount()){
+            throw new IllegalArgumentException("Illegal size of matrix to add");
+        }
+
+        if (isContiguous()){
+            ElementWise.add(elements, matrix.values(), elements, executionPolicy);
+            return this;
+        }
+        if (sharesStorage(matrix)){
+            // Overlapping operand is read from snapshot, otherwise its elements would be read after being changed
+            double[] values = matrix.isContiguous() ? matrix.elements.clone() : matrix.values();
+            for (int i = 0, k = 0; i < rowCount; i++){
+                for (int j = 0; j < colCount; j++){
+                    elements[index(i, j)] += values[k++];
+                }
+            }
+            return this;
+        }
+        for (int i = 0; i < rowCount; i++){
+            for (int j = 0; j < colCount; j++){
+                elements[index(i, j)] += matrix.elements[matrix.index(i, j)];
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Multiplies every element of this matrix to single value without creating new matrix
+     * @param value value to be multiplied
+     * @return this matrix
+     */
+    public DoubleMatrix scaleInPlace(double value){
+        if (isContiguous()){
+            ElementWise.multiply(elements, value, elements, executionPolicy);
+            return this;
+        }
+        for (int i = 0; i < rowCount; i++){
+            for (int j = 0; j < colCount; j++){
+                elements[index(i, j)] *= value;
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Multiplies matrices and stores product to destination matrix (dest = a * b).
+     * Packing storage is kept by destination matrix, so repeated calls do not allocate
+     * @param a first matrix
+     * @param b second matrix consistent with first one
+     * @param dest matrix of size a.getRowCount() x b.getColCount(), other than a and b,
+     *             view of their storage gets product through temporary matrix
+     * @return destination matrix
+     */
+    public static DoubleMatrix multiplyInto(DoubleMatrix a, DoubleMatrix b, DoubleMatrix dest){
+        if (checkDestination(a, b, dest)){
+            // Destination overlapping operand is cleared only after product is computed
+            DoubleMatrix product = a.multiply(b);
+            dest.clear();
+            return dest.addInPlace(product);
+        }
+
+        dest.clear();
+        accumulate(a, b, dest);
+        return dest;
+    }
+
+    /**
+     * Multiplies matrices and adds product to destination matrix (dest += a * b)
+     * @param a first matrix
+     * @param b second matrix consistent with first one
+     * @param dest matrix of size a.getRowCount() x b.getColCount(), other than a and b,
+     *             view of their storage gets product through temporary matrix
+     * @return destination matrix
+     */
+    public static DoubleMatrix multiplyAccumulate(DoubleMatrix a, DoubleMatrix b, DoubleMatrix dest){
+        if (checkDestination(a, b, dest))
+            return dest.addInPlace(a.multiply(b));
+
+        accumulate(a, b, dest);
+        return dest;
+    }
+
+    /**
+     * Stores zeros to every element, unlike multiplication by zero it does not keep NaN and infinite values
+     */
+    private void clear(){
+        if (colStride == 1){
+            for (int i = 0; i < rowCount; i++){
+                Arrays.fill(elements, index(i, 0), index(i, 0) + colCount, 0.0);
+            }
+            return;
+        }
+        for (int i = 0; i < rowCount; i++){
+            for (int j = 0; j < colCount; j++){
+                elements[index(i, j)] = 0.0;
+            }
+        }
+    }
+
+    /**
+     * Validates operands and destination of product
+     * @return true if destination is view of storage of some operand, then product is computed into temporary
+     */
+    private static boolean checkDestination(DoubleMatrix a, DoubleMatrix b, DoubleMatrix dest){
+        // Validation
+        if (a.getColCount() != b.getRowCount())
+            throw new IllegalArgumentException("Matrices are not consistent");
+        if (dest.getRowCount() != a.getRowCount() || dest.getColCount() != b.getColCount())
+            throw new IllegalArgumentException("Illegal size of destination matrix");
+        if (dest == a || dest == b)
+            throw new IllegalArgumentException("Destination matrix should differ from operands");
+        return dest.sharesStorage(a) || dest.sharesStorage(b);
+    }
+
+    private static void accumulate(DoubleMatrix a, DoubleMatrix b, DoubleMatrix dest){
+        if (dest.colStride != 1){
+            // Kernel writes rows of result contiguously, so strided destination gets product through copy
+            dest.addInPlace(a.multiply(b));
+            return;
+        }
+        int n = b.getColCount();
+        dest.packedWorkspace = DoubleGemm.packB(b.elements, b.offset, b.rowStride, b.colStride, b.getRowCount(), n,
+                dest.packedWorkspace);
+        DoubleGemm.multiply(a.elements, a.offset, a.rowStride, a.colStride, dest.packedWorkspace,
+                dest.elements, dest.offset, dest.rowStride, a.getRowCount(), a.getColCount(), n,
+                a.getExecutionPolicy());
+    }
+
+    /**
+     * Starts lazy expression over this matrix, see {@link MatrixExpr}
+     * @return expression which evaluates to this matrix
+     */
+    public MatrixExpr lazy(){
+        return MatrixExpr.of(this);
+    }
+
+    /**
+     * Writes linear combination of matrices to destination in one pass (dest = sum of coefficients[t] * terms[t]).
+     * Result is computed by segments of COMBINE_BLOCK columns, so every term is read once and
+     * destination is written once. Only first term may share storage with destination, with the same layout
+     * @param coefficients factors of terms
+     * @param terms matrices of destination size
+     * @param dest destination matrix
+     */
+    static void combine(final double[] coefficients, final DoubleMatrix[] terms, final DoubleMatrix dest){
+        dest.executionPolicy.execute(dest.rowCount, (long) terms.length * dest.colCount, new RangeTask() {
+            @Override
+            public void compute(int from, int to) {
+                for (int i = from; i < to; i++){
+                    for (int j = 0; j < dest.colCount; j += COMBINE_BLOCK){
+                        combine(coefficients, terms, dest, i, j, Math.min(COMBINE_BLOCK, dest.colCount - j));
+                    }
+                }
+            }
+        });
+    }
+
+    private static void combine(double[] coefficients, DoubleMatrix[] terms, DoubleMatrix dest,
+                                int row, int col, int length){
+        double[] target = dest.elements;
+        int targetIndex = dest.index(row, col);
+        for (int t = 0; t < terms.length; t++){
+            DoubleMatrix term = terms[t];
+            int source = term.index(row, col);
+            if (term.colStride == 1 && dest.colStride == 1){
+                if (t == 0)
+                    DenseKernels.scale(term.elements, source, coefficients[t], target, targetIndex, length);
+                else
+                    DenseKernels.axpy(coefficients[t], term.elements, source, target, targetIndex, length);
+                continue;
+            }
+            for (int j = 0, index = targetIndex; j < length; j++, index += dest.colStride, source += term.colStride){
+                double value = coefficients[t] * term.elements[source];
+                target[index] = t == 0 ? value : target[index] + value;
+            }
+        }
+    }
+
+    /**
+     * @param matrix other matrix
+     * @return true if matrices are views of the same storage
+     */
+    boolean sharesStorage(DoubleMatrix matrix){
+        return elements == matrix.elements;
+    }
+
+    /**
+     * @param matrix other matrix
+     * @return true if matrices address the same elements of the same storage in the same order
+     */
+    boolean sameLayout(DoubleMatrix matrix){
+        return elements == matrix.elements && offset == matrix.offset && rowStride == matrix.rowStride
+                && colStride == matrix.colStride;
+    }
+
+    private DoubleMatrix newMatrix(int rowCount, int colCount){
+        DoubleMatrix result = new DoubleMatrix(rowCount, colCount);
+        result.setExecutionPolicy(executionPolicy);
+        return result;
+    }
+
+    /**
+     * Serializes matrix in file specified
+     * @param fileName file to serialize matrix
+     */
+    public void serialize(String fileName){
+        try {
+            FileOutputStream fileOut = new FileOutputStream(fileName);
+            ObjectOutputStream out = new ObjectOutputStream(fileOut);
+            out.writeObject(this);
+            out.close();
+            fileOut.close();
+        } catch(IOException i) {
+            i.printStackTrace();
+        }
+    }
+
+    /**
+     * Deserializes matrix from file specified
+     * @param fileName file from matrix will be deserialized
+     */
+    public void deserialize(String fileName) {
+        try {
+            FileInputStream fileIn = new FileInputStream(fileName);
+            ObjectInputStream in = new ObjectInputStream(fileIn);
+            cloneValues((DoubleMatrix) in.readObject());
+            in.close();
+            fileIn.close();
+        } catch(IOException i) {
+            i.printStackTrace();
+        } catch(ClassNotFoundException c) {
+            c.printStackTrace();
+        }
+    }
+
+    /**
+     * Restores transient helper and sequential execution policy, which are not written with matrix
+     */
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        helper = new MatrixExceptionHelper();
+        executionPolicy = ExecutionPolicy.SEQUENTIAL;
+    }
+
+    private void cloneValues(DoubleMatrix matrix){
+        setValues(matrix.getRowCount(), matrix.getColCount(), matrix.values().clone());
+    }
+
+    /**
+     * Write matrix to text file
+     * @param fileName file to write matrix
+     */
+    public void writeToFile(String fileName) {
+        BufferedWriter writer = null;
+        try {
+            writer = new BufferedWriter(new FileWriter(fileName));
+            writer.write(Integer.toString(rowCount));
+            writer.newLine();
+            writer.write(Integer.toString(colCount));
+            writer.newLine();
+            for (double element : values()){
+                writer.write(Double.toString(element));
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+        } finally {
+            if (writer != null) try {
+                writer.close();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Read matrix from text file of appropriate format.
+     * File is memory-mapped and parsed by chunks according to execution policy
+     * @param fileName file to read from
+     */
+    public void readFromFile(String fileName){
+        try {
+            TextMatrixFile file = TextMatrixFile.read(fileName, executionPolicy);
+            setValues(file.getRowCount(), file.getColCount(), file.getValues());
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Read matrix from CSV file with one row per line, elements are separated by commas,
+     * semicolons or whitespace. File is memory-mapped and parsed by chunks according to execution policy
+     * @param fileName file to read from
+     */
+    public void readFromCsvFile(String fileName){
+        try {
+            TextMatrixFile file = TextMatrixFile.readCsv(fileName, executionPolicy);
+            setValues(file.getRowCount(), file.getColCount(), file.getValues());
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Writes matrix to binary matrix file with NIO bulk transfer
+     * @param fileName file where matrix will be written
+     */
+    public void writeToBinaryFile(String fileName) {
+        try {
+            new BinaryMatrixFile(new MatrixFileHeader(ElementType.DOUBLE, rowCount, colCount), values())
+                    .write(fileName);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Reads matrix from binary matrix file, int and float elements are converted to doubles.
+     * Files in text format of {@link #writeToFile} are imported as well
+     * @param fileName file from matrix will be read
+     */
+    public void readFromBinaryFile(String fileName) {
+        try {
+            if (!BinaryMatrixFile.isBinary(fileName)){
+                readFromFile(fileName);
+                return;
+            }
+            BinaryMatrixFile file = BinaryMatrixFile.read(fileName);
+            setValues(file.getHeader().getRowCount(), file.getHeader().getColCount(), file.toDoubles());
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+}
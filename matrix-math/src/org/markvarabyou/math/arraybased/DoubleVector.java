@@ -0,0 +1,180 @@
+package org.markvarabyou.math.arraybased;
+
+import org.markvarabyou.math.common.kernels.DenseKernels;
+
+/**
+ * Class for mathematical vector of doubles based on primitive array.
+ * Author: Mark Vorobyov
+ * Date: 10/18/26
+ * Time: 10:12 AM
+ */
+public class DoubleVector {
+
+    private double[] elements;
+    private int length;
+    // Element i is stored at offset + i * stride, views share array of parent matrix
+    private int offset;
+    private int stride = 1;
+
+    /**
+     * Initializes new vector object with values from array
+     * @param elements array of vector values
+     */
+    public DoubleVector(double[] elements) {
+        this(elements.clone(), elements.length);
+    }
+
+    /**
+     * Initializes new vector object with specified length. Fills them with zeros
+     * @param length count of elements in vector
+     */
+    public DoubleVector(int length) {
+        this(new double[length], length);
+    }
+
+    /**
+     * Wraps array without copying, used by matrix to hand over freshly filled storage
+     * @param elements array of vector values
+     * @param length count of elements in vector
+     */
+    DoubleVector(double[] elements, int length) {
+        this(elements, 0, length, 1);
+    }
+
+    /**
+     * Initializes view of strided part of array, changes of view are written to array
+     * @param elements array of vector values
+     * @param offset index of first element in array
+     * @param length count of elements in vector
+     * @param stride distance between neighbour elements in array
+     */
+    DoubleVector(double[] elements, int offset, int length, int stride) {
+        this.elements = elements;
+        this.offset = offset;
+        this.length = length;
+        this.stride = stride;
+    }
+
+    /**
+     * Gets value of element with specified index
+     * @param index index of element
+     * @return value of selected element
+     */
+    public double get(int index){
+        return elements[index(index)];
+    }
+
+    /**
+     * Sets value to element with specified index
+     * @param index index of element
+     * @param value value to set
+     */
+    public void set(int index, double value){
+        elements[index(index)] = value;
+    }
+
+    private int index(int index){
+        if (index < 0 || index >= length)
+            throw new IndexOutOfBoundsException("Index is out of range");
+        return offset + index * stride;
+    }
+
+    /**
+     * Copies vector or view into new vector with its own storage
+     * @return detached copy
+     */
+    public DoubleVector copy(){
+        double[] values = new double[length];
+        copyTo(values, 0, 1);
+        return new DoubleVector(values, length);
+    }
+
+    /**
+     * Gets length of current vector
+     * @return length of current vector
+     */
+    public int getLength(){
+        return length;
+    }
+
+    /**
+     * Sums elements values from vector
+     * @return sum of elements
+     */
+    public double sumElements(){
+        if (stride == 1)
+            return DenseKernels.sum(elements, offset, length);
+
+        double sum = 0;
+        for (int i = 0, index = offset; i < length; i++, index += stride){
+            sum += elements[index];
+        }
+        return sum;
+    }
+
+    /**
+     * Multiplies current vector as row to matrix (only if length equals count of matrix rows)
+     * @param matrix matrix to multiply by
+     * @return result vector with element for every matrix column
+     */
+    public DoubleVector multiply(DoubleMatrix matrix){
+        return matrix.transpose().multiply(this);
+    }
+
+    /**
+     * Multiplies current vector to specified vector
+     * @param vector vector to multiply by
+     * @return result vector
+     */
+    public DoubleVector multiply(DoubleVector vector){
+        if (vector.getLength() != length)
+            throw new IllegalArgumentException("Invalid vector length");
+
+        double[] result = new double[length];
+        double[] other = vector.elements;
+        for (int i = 0, a = offset, b = vector.offset; i < length; i++, a += stride, b += vector.stride){
+            result[i] = elements[a] * other[b];
+        }
+        return new DoubleVector(result, length);
+    }
+
+    /**
+     * Computes dot product of vectors
+     * @param vector vector of the same length
+     * @return sum of products of elements
+     */
+    public double dot(DoubleVector vector){
+        if (vector.getLength() != length)
+            throw new IllegalArgumentException("Invalid vector length");
+
+        return DenseKernels.dot(elements, offset, stride, vector.elements, vector.offset, vector.stride, length);
+    }
+
+    double[] storage(){
+        return elements;
+    }
+
+    int offset(){
+        return offset;
+    }
+
+    int stride(){
+        return stride;
+    }
+
+    /**
+     * Copies elements into strided part of array
+     * @param target array to copy to
+     * @param targetOffset index of first element in target
+     * @param targetStride distance between neighbour elements in target
+     */
+    void copyTo(double[] target, int targetOffset, int targetStride){
+        if (stride == 1 && targetStride == 1){
+            System.arraycopy(elements, offset, target, targetOffset, length);
+            return;
+        }
+        for (int i = 0, index = offset; i < length; i++, index += stride, targetOffset += targetStride){
+            target[targetOffset] = elements[index];
+        }
+    }
+}
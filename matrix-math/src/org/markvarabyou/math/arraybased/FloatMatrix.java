@@ -0,0 +1,233 @@
+package org.markvarabyou.math.arraybased;
+
+import org.markvarabyou.math.common.Accumulation;
+import org.markvarabyou.math.common.ExecutionPolicy;
+import org.markvarabyou.math.common.MatrixExceptionHelper;
+import org.markvarabyou.math.common.kernels.ElementWise;
+import org.markvarabyou.math.common.kernels.FloatGemm;
+import org.markvarabyou.math.common.kernels.FloatKernels;
+
+/**
+ * Class for matrix math with float elements stored in flat row-major primitive array.
+ * Takes half of memory and bandwidth of {@link DoubleMatrix}, while sums, dot products and matrix products
+ * accumulate with precision selected per matrix ({@link Accumulation#DOUBLE} by default).
+ * Author: Mark Vorobyov
+ * Date: 10/21/26
+ * Time: 8:55 PM
+ */
+public class FloatMatrix {
+
+    private float[] elements;
+    private int rowCount;
+    private int colCount;
+    private MatrixExceptionHelper helper = new MatrixExceptionHelper();
+    private ExecutionPolicy executionPolicy = ExecutionPolicy.SEQUENTIAL;
+    private Accumulation accumulation = Accumulation.DOUBLE;
+
+    /**
+     * Initializes new matrix rowCount x colCount with values from array
+     * @param rowCount Number of rows in new matrix
+     * @param colCount Number of columns in new matrix
+     * @param array Array with values to initialize matrix (row-major)
+     */
+    public FloatMatrix(int rowCount, int colCount, float[] array) {
+        helper.checkLength(array.length, rowCount * colCount, "array");
+
+        this.rowCount = rowCount;
+        this.colCount = colCount;
+        elements = array.clone();
+    }
+
+    /**
+     * Initializes new matrix rowCount x colCount filled with zeros
+     * @param rowCount Number of rows in new matrix
+     * @param colCount Number of columns in new matrix
+     */
+    public FloatMatrix(int rowCount, int colCount) {
+        this.rowCount = rowCount;
+        this.colCount = colCount;
+        elements = new float[rowCount * colCount];
+    }
+
+    /**
+     * Initializes new matrix without values
+     */
+    public FloatMatrix(){
+        this(0, 0);
+    }
+
+    /**
+     * Initializes float matrix with values of double matrix rounded to float
+     * @param matrix source matrix
+     */
+    public FloatMatrix(DoubleMatrix matrix){
+        this(matrix.getRowCount(), matrix.getColCount());
+        for (int i = 0, index = 0; i < rowCount; i++){
+            for (int j = 0; j < colCount; j++, index++){
+                elements[index] = (float) matrix.get(i, j);
+            }
+        }
+        executionPolicy = matrix.getExecutionPolicy();
+    }
+
+    /**
+     * @return Count of rows in matrix
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return Count of columns in matrix
+     */
+    public int getColCount() {
+        return colCount;
+    }
+
+    /**
+     * @return Execution policy of matrix operations
+     */
+    public ExecutionPolicy getExecutionPolicy() {
+        return executionPolicy;
+    }
+
+    /**
+     * Sets execution policy for operations of this matrix, results inherit it
+     * @param executionPolicy sequential or parallel policy
+     */
+    public void setExecutionPolicy(ExecutionPolicy executionPolicy) {
+        this.executionPolicy = executionPolicy;
+    }
+
+    /**
+     * @return precision of sums and products of this matrix
+     */
+    public Accumulation getAccumulation() {
+        return accumulation;
+    }
+
+    /**
+     * Sets precision of sums and products of this matrix, results inherit it
+     * @param accumulation accumulation precision
+     */
+    public void setAccumulation(Accumulation accumulation) {
+        this.accumulation = accumulation;
+    }
+
+    /**
+     * @param row number of element row
+     * @param col number of element column
+     * @return value of element of matrix
+     */
+    public float get(int row, int col){
+        helper.checkRowAndColCount(row, col, rowCount - 1, colCount - 1);
+
+        return elements[row * colCount + col];
+    }
+
+    /**
+     * Sets the value to element in specified row and column
+     * @param row number of element row
+     * @param col number of element column
+     * @param value value of element to set
+     * @return previous value of element
+     */
+    public float set(int row, int col, float value){
+        helper.checkRowAndColCount(row, col, rowCount - 1, colCount - 1);
+
+        int index = row * colCount + col;
+        float previous = elements[index];
+        elements[index] = value;
+        return previous;
+    }
+
+    /**
+     * Adds specified matrix with this (only if sizes is equal)
+     * @param matrix matrix to add
+     * @return result of adding
+     */
+    public FloatMatrix add(FloatMatrix matrix){
+        // Validation
+        if (this.rowCount != matrix.getRowCount() || this.colCount != matrix.getColCount()){
+            throw new IllegalArgumentException("Illegal size of matrix to add");
+        }
+
+        FloatMatrix result = newMatrix(rowCount, colCount);
+        ElementWise.add(elements, matrix.elements, result.elements, executionPolicy);
+        return result;
+    }
+
+    /**
+     * Multiplies current matrix to single value
+     * @param value value to be multiplied
+     * @return result matrix
+     */
+    public FloatMatrix multiply(float value){
+        FloatMatrix result = newMatrix(rowCount, colCount);
+        ElementWise.multiply(elements, value, result.elements, executionPolicy);
+        return result;
+    }
+
+    /**
+     * Multiplies current matrix to specified (only if matrices is consistent).
+     * Uses accumulation precision of this matrix
+     * @param matrix matrix to multiply by
+     * @return result matrix
+     */
+    public FloatMatrix multiply(FloatMatrix matrix){
+        // Validation
+        if (this.getColCount() != matrix.getRowCount())
+            throw new IllegalArgumentException("Matrices are not consistent");
+
+        int n = matrix.getColCount();
+        FloatMatrix result = newMatrix(rowCount, n);
+        float[] packedB = FloatGemm.packB(matrix.elements, 0, n, 1, colCount, n);
+        FloatGemm.multiply(elements, 0, colCount, 1, packedB, result.elements, 0, n,
+                rowCount, colCount, n, accumulation, executionPolicy);
+        return result;
+    }
+
+    /**
+     * Multiplies current matrix to vector (only if vector length equals count of columns).
+     * Uses accumulation precision of this matrix
+     * @param vector vector to multiply by
+     * @return result vector with rowCount elements
+     */
+    public FloatVector multiply(FloatVector vector){
+        helper.checkLength(vector.getLength(), colCount, "vector");
+
+        float[] result = new float[rowCount];
+        FloatKernels.multiply(elements, 0, colCount, 1, rowCount, colCount, vector.storage(), 0, 1,
+                result, 0, accumulation, executionPolicy);
+        return new FloatVector(result, accumulation);
+    }
+
+    /**
+     * Sums all elements of matrix
+     * @return sum of elements
+     */
+    public float sumElements(){
+        return FloatKernels.sum(elements, 0, 1, elements.length, accumulation);
+    }
+
+    /**
+     * Converts matrix to double precision
+     * @return double matrix with the same values
+     */
+    public DoubleMatrix toDoubleMatrix(){
+        double[] values = new double[elements.length];
+        for (int i = 0; i < values.length; i++){
+            values[i] = elements[i];
+        }
+        DoubleMatrix result = new DoubleMatrix(rowCount, colCount, values);
+        result.setExecutionPolicy(executionPolicy);
+        return result;
+    }
+
+    private FloatMatrix newMatrix(int rowCount, int colCount){
+        FloatMatrix result = new FloatMatrix(rowCount, colCount);
+        result.setExecutionPolicy(executionPolicy);
+        result.setAccumulation(accumulation);
+        return result;
+    }
+}
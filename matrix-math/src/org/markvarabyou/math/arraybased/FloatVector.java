@@ -0,0 +1,112 @@
+package org.markvarabyou.math.arraybased;
+
+import org.markvarabyou.math.common.Accumulation;
+import org.markvarabyou.math.common.kernels.FloatKernels;
+
+/**
+ * Class for mathematical vector of floats based on primitive array.
+ * Sums and dot products accumulate with precision selected per vector.
+ * Author: Mark Vorobyov
+ * Date: 10/21/26
+ * Time: 8:40 PM
+ */
+public class FloatVector {
+
+    private float[] elements;
+    private Accumulation accumulation = Accumulation.DOUBLE;
+
+    /**
+     * Initializes new vector object with values from array
+     * @param elements array of vector values
+     */
+    public FloatVector(float[] elements) {
+        this.elements = elements.clone();
+    }
+
+    /**
+     * Initializes new vector object with specified length. Fills them with zeros
+     * @param length count of elements in vector
+     */
+    public FloatVector(int length) {
+        this.elements = new float[length];
+    }
+
+    /**
+     * Wraps array without copying, used by matrix to hand over freshly filled storage
+     */
+    FloatVector(float[] elements, Accumulation accumulation) {
+        this.elements = elements;
+        this.accumulation = accumulation;
+    }
+
+    /**
+     * @return precision of sums and dot products
+     */
+    public Accumulation getAccumulation() {
+        return accumulation;
+    }
+
+    /**
+     * Sets precision of sums and dot products
+     * @param accumulation accumulation precision
+     */
+    public void setAccumulation(Accumulation accumulation) {
+        this.accumulation = accumulation;
+    }
+
+    /**
+     * Gets value of element with specified index
+     * @param index index of element
+     * @return value of selected element
+     */
+    public float get(int index){
+        return elements[index(index)];
+    }
+
+    /**
+     * Sets value to element with specified index
+     * @param index index of element
+     * @param value value to set
+     */
+    public void set(int index, float value){
+        elements[index(index)] = value;
+    }
+
+    private int index(int index){
+        if (index < 0 || index >= elements.length)
+            throw new IndexOutOfBoundsException("Index is out of range");
+        return index;
+    }
+
+    /**
+     * Gets length of current vector
+     * @return length of current vector
+     */
+    public int getLength(){
+        return elements.length;
+    }
+
+    /**
+     * Sums elements values from vector
+     * @return sum of elements
+     */
+    public float sumElements(){
+        return FloatKernels.sum(elements, 0, 1, elements.length, accumulation);
+    }
+
+    /**
+     * Computes dot product of vectors
+     * @param vector vector of the same length
+     * @return sum of products of elements
+     */
+    public float dot(FloatVector vector){
+        if (vector.getLength() != elements.length)
+            throw new IllegalArgumentException("Invalid vector length");
+
+        return FloatKernels.dot(elements, 0, 1, vector.elements, 0, 1, elements.length, accumulation);
+    }
+
+    float[] storage(){
+        return elements;
+    }
+}
@@ -0,0 +1,157 @@
+package org.markvarabyou.math.arraybased;
+
+import org.markvarabyou.math.common.ExecutionPolicy;
+import org.markvarabyou.math.common.kernels.DoubleLu;
+
+/**
+ * LU decomposition with partial pivoting of square double matrix (PA = LU).
+ * Matrix is factorized once, so the decomposition should be kept to solve systems with many right-hand sides.
+ * Author: Mark Vorobyov
+ * Date: 10/21/26
+ * Time: 11:50 AM
+ */
+public class LUDecomposition {
+
+    private final double[] lu;
+    private final int n;
+    private final int[] pivots;
+    private final int pivotSign;
+    private final ExecutionPolicy executionPolicy;
+
+    /**
+     * Factorizes copy of specified matrix with its execution policy
+     * @param matrix square matrix or view
+     */
+    public LUDecomposition(DoubleMatrix matrix) {
+        // Validation
+        if (matrix.getRowCount() != matrix.getColCount())
+            throw new IllegalArgumentException("Matrix is not square");
+
+        n = matrix.getRowCount();
+        executionPolicy = matrix.getExecutionPolicy();
+        lu = matrix.copy().storage();
+        pivots = new int[n];
+        pivotSign = DoubleLu.factor(lu, n, pivots, executionPolicy);
+    }
+
+    /**
+     * @return true if matrix has no inverse
+     */
+    public boolean isSingular(){
+        for (int i = 0; i < n; i++){
+            if (lu[i * (n + 1)] == 0)
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * @return determinant of matrix
+     */
+    public double determinant(){
+        double result = pivotSign;
+        for (int i = 0; i < n; i++){
+            result *= lu[i * (n + 1)];
+        }
+        return result;
+    }
+
+    /**
+     * @return unit lower triangular factor
+     */
+    public DoubleMatrix getLower(){
+        DoubleMatrix result = newMatrix(n, n);
+        double[] values = result.storage();
+        for (int i = 0; i < n; i++){
+            System.arraycopy(lu, i * n, values, i * n, i);
+            values[i * (n + 1)] = 1;
+        }
+        return result;
+    }
+
+    /**
+     * @return upper triangular factor
+     */
+    public DoubleMatrix getUpper(){
+        DoubleMatrix result = newMatrix(n, n);
+        double[] values = result.storage();
+        for (int i = 0; i < n; i++){
+            System.arraycopy(lu, i * (n + 1), values, i * (n + 1), n - i);
+        }
+        return result;
+    }
+
+    /**
+     * @return row i of factorized matrix is row getPivot()[i] of original one
+     */
+    public int[] getPivot(){
+        int[] permutation = new int[n];
+        for (int i = 0; i < n; i++){
+            permutation[i] = i;
+        }
+        for (int i = 0; i < n; i++){
+            int row = permutation[i];
+            permutation[i] = permutation[pivots[i]];
+            permutation[pivots[i]] = row;
+        }
+        return permutation;
+    }
+
+    /**
+     * Solves system A * x = b (only if vector length equals size of matrix)
+     * @param vector right-hand side
+     * @return solution vector
+     */
+    public DoubleVector solve(DoubleVector vector){
+        // Validation
+        if (vector.getLength() != n)
+            throw new IllegalArgumentException("Invalid vector length");
+        checkSingular();
+
+        DoubleVector result = vector.copy();
+        DoubleLu.solve(lu, n, pivots, result.storage(), 1, executionPolicy);
+        return result;
+    }
+
+    /**
+     * Solves system A * X = B for all columns of B (only if B has as many rows as matrix)
+     * @param matrix right-hand sides
+     * @return solution matrix
+     */
+    public DoubleMatrix solve(DoubleMatrix matrix){
+        // Validation
+        if (matrix.getRowCount() != n)
+            throw new IllegalArgumentException("Matrices are not consistent");
+        checkSingular();
+
+        DoubleMatrix result = matrix.copy();
+        DoubleLu.solve(lu, n, pivots, result.storage(), result.getColCount(), executionPolicy);
+        return result;
+    }
+
+    /**
+     * @return inverse matrix
+     */
+    public DoubleMatrix inverse(){
+        checkSingular();
+
+        DoubleMatrix result = newMatrix(n, n);
+        double[] values = result.storage();
+        for (int i = 0; i < n; i++){
+            values[i * (n + 1)] = 1;
+        }
+        DoubleLu.solve(lu, n, pivots, values, n, executionPolicy);
+        return result;
+    }
+
+    private void checkSingular(){
+        if (isSingular())
+            throw new IllegalArgumentException("Matrix is singular");
+    }
+
+    private DoubleMatrix newMatrix(int rowCount, int colCount){
+        DoubleMatrix result = new DoubleMatrix(rowCount, colCount);
+        result.setExecutionPolicy(executionPolicy);
+        return result;
+    }
+}
@@ -0,0 +1,311 @@
+package org.markvarabyou.math.arraybased;
+
+import java.util.ArrayList;
+
+/**
+ * Lazy expression over double matrices. Operations only build expression tree, and evaluation normalizes it
+ * to linear combination of matrices and products: scalar factors are moved out of products ((2a)(3b) = 6ab)
+ * and repeated matrices are merged. Products are computed by GEMM kernel, the first one straight into
+ * destination, then whole combination is written in one fused pass, so element-wise chains
+ * like a.lazy().add(b).multiply(2.0).add(c) read every matrix once and create no intermediate matrices.
+ * Author: Mark Vorobyov
+ * Date: 10/20/26
+ * Time: 6:20 PM
+ */
+public abstract class MatrixExpr {
+
+    private final int rowCount;
+    private final int colCount;
+
+    private MatrixExpr(int rowCount, int colCount) {
+        this.rowCount = rowCount;
+        this.colCount = colCount;
+    }
+
+    /**
+     * Creates expression which evaluates to specified matrix
+     * @param matrix matrix or view
+     * @return leaf expression
+     */
+    public static MatrixExpr of(DoubleMatrix matrix){
+        return new Leaf(matrix);
+    }
+
+    /**
+     * @return Count of rows in result
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return Count of columns in result
+     */
+    public int getColCount() {
+        return colCount;
+    }
+
+    /**
+     * Adds specified expression to this one (only if sizes is equal)
+     * @param expr expression to add
+     * @return sum expression
+     */
+    public MatrixExpr add(MatrixExpr expr){
+        // Validation
+        if (rowCount != expr.getRowCount() || colCount != expr.getColCount())
+            throw new IllegalArgumentException("Illegal size of matrix to add");
+
+        return new Sum(this, expr);
+    }
+
+    /**
+     * Adds specified matrix to this expression (only if sizes is equal)
+     * @param matrix matrix to add
+     * @return sum expression
+     */
+    public MatrixExpr add(DoubleMatrix matrix){
+        return add(of(matrix));
+    }
+
+    /**
+     * Multiplies this expression to single value
+     * @param value value to be multiplied
+     * @return scaled expression
+     */
+    public MatrixExpr multiply(double value){
+        return new Scale(this, value);
+    }
+
+    /**
+     * Multiplies this expression to specified one (only if they are consistent)
+     * @param expr expression to multiply by
+     * @return product expression
+     */
+    public MatrixExpr multiply(MatrixExpr expr){
+        // Validation
+        if (colCount != expr.getRowCount())
+            throw new IllegalArgumentException("Matrices are not consistent");
+
+        return new Product(this, expr);
+    }
+
+    /**
+     * Multiplies this expression to specified matrix (only if they are consistent)
+     * @param matrix matrix to multiply by
+     * @return product expression
+     */
+    public MatrixExpr multiply(DoubleMatrix matrix){
+        return multiply(of(matrix));
+    }
+
+    /**
+     * Evaluates expression into new matrix
+     * @return result matrix
+     */
+    public DoubleMatrix evaluate(){
+        Terms terms = new Terms();
+        collect(1.0, terms);
+        DoubleMatrix result = new DoubleMatrix(rowCount, colCount);
+        result.setExecutionPolicy(terms.first().getExecutionPolicy());
+        return terms.evaluate(result);
+    }
+
+    /**
+     * Evaluates expression into destination matrix, which may be one of operands
+     * @param dest matrix or view of expression size
+     * @return destination matrix
+     */
+    public DoubleMatrix into(DoubleMatrix dest){
+        // Validation
+        if (dest.getRowCount() != rowCount || dest.getColCount() != colCount)
+            throw new IllegalArgumentException("Illegal size of destination matrix");
+
+        Terms terms = new Terms();
+        collect(1.0, terms);
+        return terms.evaluate(dest);
+    }
+
+    /**
+     * Adds terms of this expression multiplied by factor
+     * @param factor scalar factor of this expression
+     * @param terms linear combination to fill
+     */
+    abstract void collect(double factor, Terms terms);
+
+    private static class Leaf extends MatrixExpr {
+        private final DoubleMatrix matrix;
+
+        Leaf(DoubleMatrix matrix) {
+            super(matrix.getRowCount(), matrix.getColCount());
+            this.matrix = matrix;
+        }
+
+        @Override
+        void collect(double factor, Terms terms) {
+            terms.add(factor, matrix);
+        }
+    }
+
+    private static class Sum extends MatrixExpr {
+        private final MatrixExpr left;
+        private final MatrixExpr right;
+
+        Sum(MatrixExpr left, MatrixExpr right) {
+            super(left.getRowCount(), left.getColCount());
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        void collect(double factor, Terms terms) {
+            left.collect(factor, terms);
+            right.collect(factor, terms);
+        }
+    }
+
+    private static class Scale extends MatrixExpr {
+        private final MatrixExpr expr;
+        private final double value;
+
+        Scale(MatrixExpr expr, double value) {
+            super(expr.getRowCount(), expr.getColCount());
+            this.expr = expr;
+            this.value = value;
+        }
+
+        @Override
+        void collect(double factor, Terms terms) {
+            expr.collect(factor * value, terms);
+        }
+    }
+
+    private static class Product extends MatrixExpr {
+        private final MatrixExpr left;
+        private final MatrixExpr right;
+
+        Product(MatrixExpr left, MatrixExpr right) {
+            super(left.getRowCount(), right.getColCount());
+            this.left = left;
+            this.right = right;
+        }
+
+        @Override
+        void collect(double factor, Terms terms) {
+            Terms first = new Terms();
+            left.collect(1.0, first);
+            Terms second = new Terms();
+            right.collect(1.0, second);
+            terms.addProduct(factor * first.factor() * second.factor(), first.operand(), second.operand());
+        }
+    }
+
+    /**
+     * Linear combination of matrices and products of matrices
+     */
+    static class Terms {
+        private final ArrayList<Double> coefficients = new ArrayList<Double>();
+        private final ArrayList<DoubleMatrix> matrices = new ArrayList<DoubleMatrix>();
+        private final ArrayList<Double> productCoefficients = new ArrayList<Double>();
+        private final ArrayList<DoubleMatrix> productLeft = new ArrayList<DoubleMatrix>();
+        private final ArrayList<DoubleMatrix> productRight = new ArrayList<DoubleMatrix>();
+
+        void add(double coefficient, DoubleMatrix matrix){
+            for (int t = 0; t < matrices.size(); t++){
+                if (matrices.get(t) == matrix){
+                    coefficients.set(t, coefficients.get(t) + coefficient);
+                    return;
+                }
+            }
+            coefficients.add(coefficient);
+            matrices.add(matrix);
+        }
+
+        void addProduct(double coefficient, DoubleMatrix left, DoubleMatrix right){
+            productCoefficients.add(coefficient);
+            productLeft.add(left);
+            productRight.add(right);
+        }
+
+        /**
+         * @return first matrix operand of combination
+         */
+        DoubleMatrix first(){
+            return matrices.isEmpty() ? productLeft.get(0) : matrices.get(0);
+        }
+
+        private boolean isSingleTerm(){
+            return matrices.size() + productLeft.size() == 1;
+        }
+
+        /**
+         * @return scalar factor which is moved out when combination is single term
+         */
+        double factor(){
+            if (!isSingleTerm())
+                return 1.0;
+            return matrices.isEmpty() ? productCoefficients.get(0) : coefficients.get(0);
+        }
+
+        /**
+         * @return matrix of combination without factor, evaluated when combination is not single matrix
+         */
+        DoubleMatrix operand(){
+            if (isSingleTerm() && !matrices.isEmpty())
+                return matrices.get(0);
+            if (isSingleTerm())
+                productCoefficients.set(0, 1.0);
+            DoubleMatrix first = first();
+            DoubleMatrix result = new DoubleMatrix(first.getRowCount(),
+                    matrices.isEmpty() ? productRight.get(0).getColCount() : first.getColCount());
+            result.setExecutionPolicy(first.getExecutionPolicy());
+            return evaluate(result);
+        }
+
+        DoubleMatrix evaluate(DoubleMatrix dest){
+            boolean aliased = false;
+            for (int t = 0; t < productLeft.size(); t++){
+                aliased |= dest.sharesStorage(productLeft.get(t)) || dest.sharesStorage(productRight.get(t));
+            }
+            int sameLayout = -1;
+            for (int t = 0; t < matrices.size(); t++){
+                if (!dest.sharesStorage(matrices.get(t)))
+                    continue;
+                aliased |= sameLayout >= 0 || !dest.sameLayout(matrices.get(t)) || !productLeft.isEmpty();
+                sameLayout = t;
+            }
+            if (aliased){
+                DoubleMatrix result = new DoubleMatrix(dest.getRowCount(), dest.getColCount());
+                result.setExecutionPolicy(dest.getExecutionPolicy());
+                evaluate(result);
+                DoubleMatrix.combine(new double[]{1.0}, new DoubleMatrix[]{result}, dest);
+                return dest;
+            }
+
+            int count = matrices.size() + productLeft.size();
+            double[] factors = new double[count];
+            DoubleMatrix[] operands = new DoubleMatrix[count];
+            int index = 0;
+            for (int t = 0; t < productLeft.size(); t++){
+                // First product is written straight into destination, which then becomes first term
+                DoubleMatrix product = t == 0
+                        ? dest
+                        : new DoubleMatrix(dest.getRowCount(), dest.getColCount());
+                DoubleMatrix.multiplyInto(productLeft.get(t), productRight.get(t), product);
+                factors[index] = productCoefficients.get(t);
+                operands[index++] = product;
+            }
+            if (sameLayout >= 0){
+                factors[index] = coefficients.get(sameLayout);
+                operands[index++] = matrices.get(sameLayout);
+            }
+            for (int t = 0; t < matrices.size(); t++){
+                if (t == sameLayout)
+                    continue;
+                factors[index] = coefficients.get(t);
+                operands[index++] = matrices.get(t);
+            }
+            DoubleMatrix.combine(factors, operands, dest);
+            return dest;
+        }
+    }
+}
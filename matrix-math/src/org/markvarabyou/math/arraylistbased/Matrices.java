@@ -0,0 +1,62 @@
+package org.markvarabyou.math.arraylistbased;
+
+import org.markvarabyou.math.common.ChainPlan;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Operations over several matrices.
+ * Author: Mark Vorobyov
+ * Date: 10/20/26
+ * Time: 7:55 PM
+ */
+public final class Matrices {
+
+    private Matrices() {
+    }
+
+    /**
+     * Plans optimal order of multiplication of matrix chain (only if neighbour matrices are consistent)
+     * @param matrices chain of matrices
+     * @return plan with parenthesization and estimated cost
+     */
+    public static ChainPlan planChain(Matrix<?>... matrices){
+        if (matrices.length == 0)
+            throw new IllegalArgumentException("Chain of matrices is empty");
+
+        int[] dims = new int[matrices.length + 1];
+        dims[0] = matrices[0].getRowCount();
+        for (int i = 0; i < matrices.length; i++){
+            // Validation
+            if (matrices[i].getRowCount() != dims[i])
+                throw new IllegalArgumentException("Matrices are not consistent");
+            dims[i + 1] = matrices[i].getColCount();
+        }
+        return ChainPlan.of(dims);
+    }
+
+    /**
+     * Multiplies matrix chain in order of {@link #planChain}, every product uses fastest kernel of calculator
+     * @param matrices chain of matrices
+     * @return product of chain
+     */
+    @SafeVarargs
+    public static <T> Matrix<T> multiplyChain(Matrix<T>... matrices){
+        ChainPlan plan = planChain(matrices);
+        if (matrices.length == 1)
+            return matrices[0].copy();
+
+        // Varargs array itself is not passed on, so @SafeVarargs holds
+        List<Matrix<T>> chain = new ArrayList<Matrix<T>>(matrices.length);
+        for (Matrix<T> matrix : matrices){
+            chain.add(matrix);
+        }
+        return plan.execute(chain, new ChainPlan.Multiplier<Matrix<T>>() {
+            @Override
+            public Matrix<T> multiply(Matrix<T> left, Matrix<T> right) {
+                return left.multiply(right);
+            }
+        });
+    }
+}
@@ -1,11 +1,28 @@
 package org.markvarabyou.math.arraylistbased;
 
 import org.markvarabyou.math.common.Calculator;
+import org.markvarabyou.math.common.Calculators.DoubleCalculator;
+import org.markvarabyou.math.common.Calculators.IntCalculator;
+import org.markvarabyou.math.common.Calculators.ModularCalculator;
+import org.markvarabyou.math.common.ElementType;
+import org.markvarabyou.math.common.ExecutionPolicy;
+import org.markvarabyou.math.common.IntArithmetic;
 import org.markvarabyou.math.common.MatrixExceptionHelper;
+import org.markvarabyou.math.common.kernels.ElementWise;
+import org.markvarabyou.math.common.kernels.GenericGemm;
+import org.markvarabyou.math.common.kernels.PrimitiveKernels;
+import org.markvarabyou.math.common.kernels.Transpose;
+import org.markvarabyou.math.iterative.DenseOperator;
+import org.markvarabyou.math.iterative.LinearOperator;
+import org.markvarabyou.math.io.BinaryMatrixFile;
+import org.markvarabyou.math.io.ElementStreams;
+import org.markvarabyou.math.io.TextMatrixFile;
 
 import java.io.*;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 /**
  * Class for matrix math based on ArrayList.
@@ -13,13 +30,23 @@ import java.util.Collections;
  * Date: 9/9/13
  * Time: 3:44 PM
  */
-public class Matrix<T> implements Serializable {
+public class Matrix<T> implements Externalizable {
 
     private ArrayList<T> elements;
     private int rowCount;
     private int colCount;
+    // Element (row, col) is stored at offset + row * rowStride + col * colStride, views share parent list
+    private int offset;
+    private int rowStride;
+    private int colStride;
     private transient Calculator<T> calculator;
     private transient MatrixExceptionHelper helper = new MatrixExceptionHelper();
+    private transient ExecutionPolicy executionPolicy = ExecutionPolicy.SEQUENTIAL;
+    // Primitive copies of operands and product reused by multiplyInto and multiplyAccumulate into this matrix
+    private transient PrimitiveKernels.Workspace productWorkspace;
+    // Codes of modular calculator and of boxed elements in external form, they differ from codes of element types
+    private static final int MODULAR_CODE = 16;
+    private static final int BOXED_CODE = 0;
 
     /**
      * Initializes new matrix rowCount x colCount with values from array and calculator
@@ -36,6 +63,7 @@ public class Matrix<T> implements Serializable {
         this.calculator = calculator;
         elements = new ArrayList<T>();
         Collections.addAll(elements, array);
+        resetLayout();
     }
 
     /**
@@ -52,6 +80,17 @@ public class Matrix<T> implements Serializable {
         for (int i = 0; i < rowCount*colCount; i++){
             elements.add(calculator.getNew());
         }
+        resetLayout();
+    }
+
+    /**
+     * Initializes new matrix without values and calculator, calculator is restored by {@link #readExternal}
+     */
+    public Matrix(){
+        this.rowCount = 0;
+        this.colCount = 0;
+        elements = new ArrayList<T>();
+        resetLayout();
     }
 
     /**
@@ -63,6 +102,49 @@ public class Matrix<T> implements Serializable {
         this.colCount = 0;
         this.calculator = calculator;
         elements = new ArrayList<T>();
+        resetLayout();
+    }
+
+    private Matrix(ArrayList<T> elements, int offset, int rowCount, int colCount, int rowStride, int colStride,
+                   Calculator<T> calculator, ExecutionPolicy executionPolicy){
+        this.elements = elements;
+        this.offset = offset;
+        this.rowCount = rowCount;
+        this.colCount = colCount;
+        this.rowStride = rowStride;
+        this.colStride = colStride;
+        this.calculator = calculator;
+        this.executionPolicy = executionPolicy;
+    }
+
+    private void resetLayout(){
+        offset = 0;
+        rowStride = colCount;
+        colStride = 1;
+    }
+
+    private int index(int row, int col){
+        return offset + row * rowStride + col * colStride;
+    }
+
+    private boolean isContiguous(){
+        return offset == 0 && colStride == 1 && rowStride == colCount && elements.size() == rowCount * colCount;
+    }
+
+    /**
+     * @return row-major elements, copied from parent storage for views
+     */
+    private Object[] values(){
+        if (isContiguous())
+            return elements.toArray();
+
+        Object[] values = new Object[rowCount * colCount];
+        for (int i = 0, k = 0; i < rowCount; i++){
+            for (int j = 0; j < colCount; j++){
+                values[k++] = elements.get(index(i, j));
+            }
+        }
+        return values;
     }
 
     /**
@@ -79,15 +161,30 @@ public class Matrix<T> implements Serializable {
         return colCount;
     }
 
+    /**
+     * @return Execution policy of matrix operations
+     */
+    public ExecutionPolicy getExecutionPolicy() {
+        return executionPolicy;
+    }
+
+    /**
+     * Sets execution policy for operations of this matrix, results inherit it
+     * @param executionPolicy sequential or parallel policy
+     */
+    public void setExecutionPolicy(ExecutionPolicy executionPolicy) {
+        this.executionPolicy = executionPolicy;
+    }
+
     /**
      * @param row number of element row
      * @param col number of element column
      * @return value of element of matrix
      */
     public T get(int row, int col){
-        helper.checkRowAndColCount(row, col, rowCount, colCount);
+        helper.checkRowAndColCount(row, col, rowCount - 1, colCount - 1);
 
-        return elements.get(row * colCount + col);
+        return elements.get(index(row, col));
     }
 
     /**
@@ -98,25 +195,20 @@ public class Matrix<T> implements Serializable {
      * @return set value
      */
     public T set(int row, int col, T value){
-        helper.checkRowAndColCount(row, col, rowCount, colCount);
+        helper.checkRowAndColCount(row, col, rowCount - 1, colCount - 1);
 
-        return elements.set(row * colCount + col, value);
+        return elements.set(index(row, col), value);
     }
 
     /**
-     * Convert specified row into vector an returns it
-     * @param row number of row          ArrayList
+     * Returns view of specified row, changes of vector are visible in matrix and vice versa
+     * @param row number of row
      * @return vector from specified matrix row
      */
     public Vector<T> getRow(int row){
-        helper.checkRange(row, rowCount);
+        helper.checkRange(row, rowCount - 1);
 
-        ArrayList<T> vector = new ArrayList<T>();
-        int startIndex = this.getColCount() * row;
-        for (int i = startIndex; i < startIndex + this.getColCount(); i++){
-            vector.add(elements.get(i));
-        }
-        return new Vector<T>(vector, calculator);
+        return new Vector<T>(elements, index(row, 0), colCount, colStride, calculator);
     }
 
     /**
@@ -125,7 +217,7 @@ public class Matrix<T> implements Serializable {
      * @param vector vector with new values for row
      */
     public void setRow(int row, Vector<T> vector){
-        helper.checkRange(row, rowCount);
+        helper.checkRange(row, rowCount - 1);
         helper.checkLength(vector.getLength(), colCount, "vector");
 
         for (int i = 0; i < colCount; i++){
@@ -134,18 +226,14 @@ public class Matrix<T> implements Serializable {
     }
 
     /**
-     * Convert specified column into vector an returns it
+     * Returns view of specified column, changes of vector are visible in matrix and vice versa
      * @param col number of column
      * @return vector from specified matrix column
      */
     public Vector<T> getCol(int col){
-        helper.checkRange(col, colCount);
+        helper.checkRange(col, colCount - 1);
 
-        ArrayList<T> vector = new ArrayList<T>();
-        for (int i = col; i < colCount * rowCount; i+=colCount){
-            vector.add(elements.get(i));
-        }
-        return new Vector<T>(vector, calculator);
+        return new Vector<T>(elements, index(0, col), rowCount, rowStride, calculator);
     }
 
     /**
@@ -154,7 +242,7 @@ public class Matrix<T> implements Serializable {
      * @param vector vector with new values for column
      */
     public void setCol(int col, Vector<T> vector){
-        helper.checkRange(col, colCount);
+        helper.checkRange(col, colCount - 1);
         helper.checkLength(vector.getLength(), rowCount, "vector");
 
         for (int i = 0; i < rowCount; i++){
@@ -162,25 +250,65 @@ public class Matrix<T> implements Serializable {
         }
     }
 
+    /**
+     * Returns view of block of matrix, changes of view are visible in matrix and vice versa
+     * @param row first row of block
+     * @param col first column of block
+     * @param rowCount count of rows in block
+     * @param colCount count of columns in block
+     * @return view of block
+     */
+    public Matrix<T> subMatrix(int row, int col, int rowCount, int colCount){
+        helper.checkRowAndColCount(row, col, this.rowCount, this.colCount);
+        if (rowCount < 0 || colCount < 0)
+            throw new IllegalArgumentException("Invalid row or column index");
+        helper.checkRowAndColCount(row + rowCount, col + colCount, this.rowCount, this.colCount);
+
+        return new Matrix<T>(elements, index(row, col), rowCount, colCount, rowStride, colStride,
+                calculator, executionPolicy);
+    }
+
+    /**
+     * Copies matrix or view into new matrix with its own storage
+     * @return detached copy
+     */
+    public Matrix<T> copy(){
+        return newMatrix(rowCount, colCount, values());
+    }
+
+    /**
+     * Returns transposed view of matrix, which swaps row and column strides without copying
+     * @return view colCount x rowCount
+     */
+    public Matrix<T> transpose(){
+        return new Matrix<T>(elements, offset, colCount, rowCount, colStride, rowStride, calculator, executionPolicy);
+    }
+
+    /**
+     * Copies transposed matrix into new storage with cache-oblivious recursive blocking
+     * @return matrix colCount x rowCount
+     */
+    public Matrix<T> transposeMaterialized(){
+        Matrix<T> source = dense();
+        Object[] result = new Object[rowCount * colCount];
+        Transpose.transpose(source.elements.toArray(), source.offset, source.rowStride, source.colStride,
+                rowCount, colCount, result, 0, rowCount);
+        return newMatrix(colCount, rowCount, result);
+    }
+
     /**
      * Adds specified matrix with this (only if sizes is equal)
      * @param matrix matrix to add
      * @return result of adding
      */
     public Matrix<T> add(Matrix<T> matrix){
-        Matrix<T> result = new Matrix<T>(rowCount, colCount, calculator);
-
         // Validation
         if (this.rowCount != matrix.getRowCount() || this.colCount != matrix.getColCount()){
             throw new IllegalArgumentException("Illegal size of matrix to add");
         }
 
-        for (int i = 0; i < getRowCount(); i++){
-            for (int j = 0; j < getColCount(); j++)
-                result.set(i, j, calculator.sum(this.get(i, j), matrix.get(i, j)));
-        }
-
-        return result;
+        Object[] sum = ElementWise.add(calculator, values(), matrix.values(), executionPolicy);
+        return newMatrix(rowCount, colCount, sum);
     }
 
     /**
@@ -189,13 +317,7 @@ public class Matrix<T> implements Serializable {
      * @return result matrix
      */
     public Matrix<T> multiply(T value){
-        Matrix<T> result = new Matrix<T>(rowCount, colCount, calculator);
-
-        for (int i = 0; i < getRowCount(); i++){
-            for (int j = 0; j < getColCount(); j++)
-                result.set(i, j, calculator.mul(this.get(i, j), value));
-        }
-        return result;
+        return newMatrix(rowCount, colCount, ElementWise.multiply(calculator, values(), value, executionPolicy));
     }
 
     /**
@@ -204,17 +326,256 @@ public class Matrix<T> implements Serializable {
      * @return result matrix
      */
     public Matrix<T> multiply(Matrix<T> matrix){
-        Matrix<T> result =  new Matrix<T>(this.getRowCount(), matrix.getColCount(), calculator);
-
         // Validation
         if (this.getColCount() != matrix.getRowCount())
             throw new IllegalArgumentException("Matrices are not consistent");
 
-        for (int i = 0; i < this.getRowCount(); i++){
-            for (int j = 0; j < matrix.getColCount(); j++){
-                result.set(i, j, this.getRow(i).multiply(matrix.getCol(j)).sumElements());
+        return newMatrix(rowCount, matrix.getColCount(), product(matrix));
+    }
+
+    private Object[] product(Matrix<T> matrix){
+        // Kernels take strides, so transposed operands are passed without reordering their elements
+        Matrix<T> first = dense();
+        Matrix<T> second = matrix.dense();
+        Object[] a = first.elements.toArray();
+        Object[] b = second.elements.toArray();
+        return PrimitiveKernels.supports(calculator)
+                ? PrimitiveKernels.multiply(calculator, a, first.offset, first.rowStride, first.colStride,
+                        b, second.offset, second.rowStride, second.colStride,
+                        rowCount, colCount, matrix.getColCount(), executionPolicy)
+                : GenericGemm.multiply(calculator, a, first.offset, first.rowStride, first.colStride,
+                        b, second.offset, second.rowStride, second.colStride,
+                        rowCount, colCount, matrix.getColCount(), executionPolicy);
+    }
+
+    /**
+     * Raises square matrix to power by repeated squaring, so only about 2 * log2(exponent) products are computed
+     * @param exponent non-negative exponent, zero gives identity matrix
+     * @return result matrix
+     */
+    public Matrix<T> power(long exponent){
+        // Validation
+        if (rowCount != colCount)
+            throw new IllegalArgumentException("Matrix is not square");
+        if (exponent < 0)
+            throw new IllegalArgumentException("Invalid exponent");
+
+        Matrix<T> result = null;
+        Matrix<T> square = this;
+        while (true){
+            if ((exponent & 1) != 0)
+                result = result == null ? square : result.multiply(square);
+            exponent >>>= 1;
+            if (exponent == 0)
+                break;
+            square = square.multiply(square);
+        }
+        if (result == this)
+            return copy();
+        return result != null ? result : identity();
+    }
+
+    private Matrix<T> identity(){
+        Object[] values = new Object[rowCount * colCount];
+        T zero = calculator.getNew();
+        T one = calculator.getOne();
+        for (int i = 0; i < values.length; i++){
+            values[i] = i % (colCount + 1) == 0 ? one : zero;
+        }
+        return newMatrix(rowCount, colCount, values);
+    }
+
+    /**
+     * Returns operator for iterative solvers over snapshot of elements unboxed to doubles,
+     * elements should be numbers
+     * @return linear operator with products computed by primitive kernel
+     */
+    public LinearOperator asOperator(){
+        Object[] values = values();
+        double[] doubles = new double[values.length];
+        for (int i = 0; i < values.length; i++){
+            doubles[i] = ((Number) values[i]).doubleValue();
+        }
+        return new DenseOperator(doubles, 0, colCount, 1, rowCount, colCount, executionPolicy);
+    }
+
+    /**
+     * Multiplies current matrix to vector (only if vector length equals count of columns)
+     * @param vector vector to multiply by
+     * @return result vector with rowCount elements
+     */
+    @SuppressWarnings("unchecked")
+    public Vector<T> multiply(Vector<T> vector){
+        helper.checkLength(vector.getLength(), colCount, "vector");
+
+        Matrix<T> source = dense();
+        Object[] a = source.elements.toArray();
+        Object[] x = vector.values();
+        Object[] y = PrimitiveKernels.supports(calculator)
+                ? PrimitiveKernels.multiply(calculator, a, source.offset, source.rowStride, source.colStride,
+                        x, 0, 1, 1, rowCount, colCount, 1, executionPolicy)
+                : GenericGemm.multiply(calculator, a, source.offset, source.rowStride, source.colStride,
+                        x, 0, 1, 1, rowCount, colCount, 1, executionPolicy);
+        return new Vector<T>((T[]) y, calculator);
+    }
+
+    /**
+     * Multiplies every matrix of batch by this matrix (batch.get(i) * this).
+     * This matrix is unboxed and packed once for whole batch
+     * @param batch matrices with count of columns equal to count of rows of this matrix
+     * @return products in order of batch
+     */
+    public List<Matrix<T>> multiplyBatch(List<Matrix<T>> batch){
+        List<Object[]> values = new ArrayList<Object[]>(batch.size());
+        int[] rowCounts = new int[batch.size()];
+        for (int m = 0; m < batch.size(); m++){
+            // Validation
+            if (batch.get(m).getColCount() != rowCount)
+                throw new IllegalArgumentException("Matrices are not consistent");
+            values.add(batch.get(m).values());
+            rowCounts[m] = batch.get(m).getRowCount();
+        }
+
+        Matrix<T> shared = dense();
+        Object[] b = shared.elements.toArray();
+        List<Object[]> products = PrimitiveKernels.supports(calculator)
+                ? PrimitiveKernels.multiplyBatch(calculator, values, rowCounts, rowCount,
+                        b, shared.offset, shared.rowStride, shared.colStride, colCount, executionPolicy)
+                : GenericGemm.multiplyBatch(calculator, values, rowCounts, rowCount,
+                        b, shared.offset, shared.rowStride, shared.colStride, colCount, executionPolicy);
+        List<Matrix<T>> result = new ArrayList<Matrix<T>>(products.size());
+        for (int m = 0; m < products.size(); m++){
+            result.add(newMatrix(rowCounts[m], colCount, products.get(m)));
+        }
+        return result;
+    }
+
+    /**
+     * @return this matrix when it uses whole storage (also transposed), otherwise compact copy of view
+     */
+    private Matrix<T> dense(){
+        return elements.size() == rowCount * colCount ? this : copy();
+    }
+
+    /**
+     * Adds specified matrix to this one without creating new matrix (only if sizes is equal)
+     * @param matrix matrix to add
+     * @return this matrix
+     */
+    @SuppressWarnings("unchecked")
+    public Matrix<T> addInPlace(Matrix<T> matrix){
+        // Validation
+        if (this.rowCount != matrix.getRowCount() || this.colCount != matrix.getColCount()){
+            throw new IllegalArgumentException("Illegal size of matrix to add");
+        }
+
+        if (elements == matrix.elements){
+            // Overlapping operand is read from snapshot, otherwise its elements would be read after being changed
+            Object[] values = matrix.values();
+            for (int i = 0, k = 0; i < rowCount; i++){
+                for (int j = 0; j < colCount; j++){
+                    int index = index(i, j);
+                    elements.set(index, calculator.sum(elements.get(index), (T) values[k++]));
+                }
+            }
+            return this;
+        }
+        for (int i = 0; i < rowCount; i++){
+            for (int j = 0; j < colCount; j++){
+                int index = index(i, j);
+                elements.set(index, calculator.sum(elements.get(index), matrix.elements.get(matrix.index(i, j))));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Multiplies every element of this matrix to single value without creating new matrix
+     * @param value value to be multiplied
+     * @return this matrix
+     */
+    public Matrix<T> scaleInPlace(T value){
+        for (int i = 0; i < rowCount; i++){
+            for (int j = 0; j < colCount; j++){
+                int index = index(i, j);
+                elements.set(index, calculator.mul(elements.get(index), value));
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Multiplies matrices and stores product to destination matrix (dest = a * b),
+     * without creating new matrix and filling it with initial values
+     * @param a first matrix
+     * @param b second matrix consistent with first one
+     * @param dest matrix of size a.getRowCount() x b.getColCount(), other than a and b
+     * @return destination matrix
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Matrix<T> multiplyInto(Matrix<T> a, Matrix<T> b, Matrix<T> dest){
+        checkDestination(a, b, dest);
+
+        if (PrimitiveKernels.supports(a.calculator))
+            return primitiveProduct(a, b, dest, false);
+        Object[] product = a.product(b);
+        for (int i = 0, k = 0; i < dest.rowCount; i++){
+            for (int j = 0; j < dest.colCount; j++){
+                dest.elements.set(dest.index(i, j), (T) product[k++]);
+            }
+        }
+        return dest;
+    }
+
+    /**
+     * Multiplies matrices and adds product to destination matrix (dest += a * b)
+     * @param a first matrix
+     * @param b second matrix consistent with first one
+     * @param dest matrix of size a.getRowCount() x b.getColCount(), other than a and b
+     * @return destination matrix
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Matrix<T> multiplyAccumulate(Matrix<T> a, Matrix<T> b, Matrix<T> dest){
+        checkDestination(a, b, dest);
+
+        if (PrimitiveKernels.supports(a.calculator))
+            return primitiveProduct(a, b, dest, true);
+        Object[] product = a.product(b);
+        for (int i = 0, k = 0; i < dest.rowCount; i++){
+            for (int j = 0; j < dest.colCount; j++){
+                int index = dest.index(i, j);
+                dest.elements.set(index, a.calculator.sum(dest.elements.get(index), (T) product[k++]));
             }
         }
+        return dest;
+    }
+
+    private static <T> Matrix<T> primitiveProduct(Matrix<T> a, Matrix<T> b, Matrix<T> dest, boolean accumulate){
+        // Operands are read through their strides and unboxed into workspace kept on destination,
+        // so steady-state calls allocate only boxes of result elements
+        if (dest.productWorkspace == null)
+            dest.productWorkspace = new PrimitiveKernels.Workspace();
+        PrimitiveKernels.multiplyInto(a.calculator, a.elements, a.offset, a.rowStride, a.colStride,
+                b.elements, b.offset, b.rowStride, b.colStride,
+                dest.elements, dest.offset, dest.rowStride, dest.colStride,
+                a.rowCount, a.colCount, b.colCount, accumulate, a.executionPolicy, dest.productWorkspace);
+        return dest;
+    }
+
+    private static <T> void checkDestination(Matrix<T> a, Matrix<T> b, Matrix<T> dest){
+        // Validation
+        if (a.getColCount() != b.getRowCount())
+            throw new IllegalArgumentException("Matrices are not consistent");
+        if (dest.getRowCount() != a.getRowCount() || dest.getColCount() != b.getColCount())
+            throw new IllegalArgumentException("Illegal size of destination matrix");
+        if (dest == a || dest == b)
+            throw new IllegalArgumentException("Destination matrix should differ from operands");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Matrix<T> newMatrix(int rowCount, int colCount, Object[] values){
+        Matrix<T> result = new Matrix<T>(rowCount, colCount, (T[]) values, calculator);
+        result.setExecutionPolicy(executionPolicy);
         return result;
     }
 
@@ -257,7 +618,103 @@ public class Matrix<T> implements Serializable {
     private void cloneValues(Matrix<T> matrix){
         rowCount = matrix.getRowCount();
         colCount = matrix.getColCount();
-        elements = new ArrayList<T>(matrix.elements);
+        if (matrix.calculator != null)
+            calculator = matrix.calculator;
+        elements = matrix.elements;
+        resetLayout();
+    }
+
+    /**
+     * Writes element type, sizes and primitive payload of matrix.
+     * Matrices of default int, long, float and double calculators and of {@link ModularCalculator} are written
+     * as primitives, modular calculator with its own code and modulus. Matrices of other calculators are written
+     * with boxed elements and with calculator if it is serializable
+     * @param out stream to write
+     * @throws IOException if matrix cannot be written
+     */
+    @Override
+    public void writeExternal(ObjectOutput out) throws IOException {
+        ElementType type = externalType(calculator);
+        if (type == null){
+            out.writeByte(BOXED_CODE);
+            out.writeObject(calculator instanceof Serializable ? calculator : null);
+            out.writeInt(rowCount);
+            out.writeInt(colCount);
+            for (Object element : values()){
+                out.writeObject(element);
+            }
+            return;
+        }
+        if (calculator instanceof ModularCalculator){
+            out.writeByte(MODULAR_CODE);
+            out.writeLong(((ModularCalculator) calculator).getModulus());
+        } else {
+            out.writeByte(type.getCode());
+        }
+        out.writeInt(rowCount);
+        out.writeInt(colCount);
+        ElementStreams.write(out, type, isContiguous() ? elements : Arrays.asList(values()));
+    }
+
+    /**
+     * Reads matrix written by {@link #writeExternal} and restores calculator of its element type.
+     * Calculator of boxed matrix is null if it was not serializable, {@link #deserialize} keeps current one then
+     * @param in stream to read
+     * @throws IOException if matrix cannot be read
+     * @throws ClassNotFoundException if class of boxed element or calculator cannot be found
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public void readExternal(ObjectInput in) throws IOException, ClassNotFoundException {
+        int code = in.readByte();
+        if (code == BOXED_CODE){
+            calculator = (Calculator<T>) in.readObject();
+            readSize(in);
+            elements = new ArrayList<T>(rowCount * colCount);
+            for (int i = 0; i < rowCount * colCount; i++){
+                elements.add((T) in.readObject());
+            }
+            resetLayout();
+            return;
+        }
+        ElementType type;
+        try {
+            if (code == MODULAR_CODE){
+                type = ElementType.LONG;
+                calculator = (Calculator<T>) new ModularCalculator(in.readLong());
+            } else {
+                type = ElementType.fromCode(code);
+                calculator = (Calculator<T>) type.newCalculator();
+            }
+        } catch (IllegalArgumentException e) {
+            throw new InvalidObjectException(e.getMessage());
+        }
+        readSize(in);
+        elements = new ArrayList<T>(rowCount * colCount);
+        ElementStreams.read(in, type, rowCount * colCount, elements);
+        resetLayout();
+    }
+
+    private void readSize(ObjectInput in) throws IOException {
+        rowCount = in.readInt();
+        colCount = in.readInt();
+        if (rowCount < 0 || colCount < 0)
+            throw new InvalidObjectException("Invalid matrix size");
+    }
+
+    /**
+     * Finds element type of calculator which is restored exactly by its code, so calculators derived from
+     * primitive ones are not written as their base type with their own state lost
+     * @return element type or null if matrix is written with boxed elements
+     */
+    private static ElementType externalType(Calculator<?> calculator){
+        if (calculator.getClass() == ModularCalculator.class)
+            return ElementType.LONG;
+        for (ElementType type : ElementType.values()){
+            if (type.newCalculator().getClass() == calculator.getClass())
+                return type;
+        }
+        return null;
     }
 
     /**
@@ -272,7 +729,7 @@ public class Matrix<T> implements Serializable {
             writer.newLine();
             writer.write(Integer.toString(colCount));
             writer.newLine();
-            for (T element : elements){
+            for (Object element : values()){
                 writer.write(element.toString());
                 writer.newLine();
                 writer.flush();
@@ -289,18 +746,25 @@ public class Matrix<T> implements Serializable {
     }
 
     /**
-     * Read matrix from text file of appropriate format
+     * Read matrix from text file of appropriate format.
+     * Matrices of default double and int calculators are parsed by chunks according to execution policy
      * @param fileName file to read from
      */
     public void readFromFile(String fileName){
+        if (calculator.getClass() == DoubleCalculator.class || calculator.getClass() == IntCalculator.class){
+            readParsedFile(fileName);
+            return;
+        }
         BufferedReader reader = null;
         try {
             reader = new BufferedReader(new FileReader(fileName));
             rowCount = Integer.parseInt(reader.readLine());
             colCount = Integer.parseInt(reader.readLine());
+            elements = new ArrayList<T>(rowCount * colCount);
             for (int i = 0; i < rowCount * colCount; i++){
                 elements.add(calculator.decode(reader.readLine()));
             }
+            resetLayout();
 
         } catch (FileNotFoundException e) {
             e.printStackTrace();
@@ -314,4 +778,76 @@ public class Matrix<T> implements Serializable {
             }
         }
     }
+
+    /**
+     * Parses text file in parallel into primitive array and boxes every element once.
+     * Only double and int elements are parsed this way, as parser reads doubles and every int is exact in double
+     * @param fileName file to read from
+     */
+    @SuppressWarnings("unchecked")
+    private void readParsedFile(String fileName){
+        try {
+            TextMatrixFile file = TextMatrixFile.read(fileName, executionPolicy);
+            double[] values = file.getValues();
+            boolean ints = calculator instanceof IntArithmetic;
+            ArrayList<T> result = new ArrayList<T>(values.length);
+            for (double value : values){
+                if (!ints){
+                    result.add((T) Double.valueOf(value));
+                    continue;
+                }
+                if ((int) value != value)
+                    throw new NumberFormatException("Invalid integer element " + value);
+                result.add((T) Integer.valueOf((int) value));
+            }
+            rowCount = file.getRowCount();
+            colCount = file.getColCount();
+            elements = result;
+            resetLayout();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Writes matrix to binary matrix file with NIO bulk transfer.
+     * Only matrices of int, float and double calculators are supported
+     * @param fileName file where matrix will be written
+     */
+    public void writeToBinaryFile(String fileName) {
+        try {
+            BinaryMatrixFile.fromBoxed(rowCount, colCount, ElementType.of(calculator), values())
+                    .write(fileName);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Reads matrix from binary matrix file with elements of calculator type.
+     * Files in text format of {@link #writeToFile} are imported as well
+     * @param fileName file from matrix will be read
+     */
+    @SuppressWarnings("unchecked")
+    public void readFromBinaryFile(String fileName) {
+        try {
+            if (!BinaryMatrixFile.isBinary(fileName)){
+                readFromFile(fileName);
+                return;
+            }
+            BinaryMatrixFile file = BinaryMatrixFile.read(fileName);
+            if (file.getHeader().getElementType() != ElementType.of(calculator))
+                throw new IOException("Matrix file contains elements of another type");
+            rowCount = file.getHeader().getRowCount();
+            colCount = file.getHeader().getColCount();
+            Object[] values = file.toBoxed();
+            elements = new ArrayList<T>(values.length);
+            for (Object value : values){
+                elements.add((T) value);
+            }
+            resetLayout();
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
 }
@@ -1,6 +1,7 @@
 package org.markvarabyou.math.arraylistbased;
 
 import org.markvarabyou.math.common.Calculator;
+import org.markvarabyou.math.common.kernels.PrimitiveKernels;
 
 import java.util.AbstractList;
 import java.util.ArrayList;
@@ -16,6 +17,9 @@ public class Vector<T> {
 
     private ArrayList<T> elements;
     private int length;
+    // Element i is stored at offset + i * stride, views share list of parent matrix
+    private int offset;
+    private int stride = 1;
     private Calculator<T> calculator;
 
     /**
@@ -58,13 +62,29 @@ public class Vector<T> {
         }
     }
 
+    /**
+     * Initializes view of strided part of list, changes of view are written to list
+     * @param elements list with vector values
+     * @param offset index of first element in list
+     * @param length count of elements in vector
+     * @param stride distance between neighbour elements in list
+     * @param calculator object to perform math operations with values
+     */
+    Vector(ArrayList<T> elements, int offset, int length, int stride, Calculator<T> calculator) {
+        this.elements = elements;
+        this.offset = offset;
+        this.length = length;
+        this.stride = stride;
+        this.calculator = calculator;
+    }
+
     /**
      * Gets value of element with specified index
      * @param index index of element
      * @return value of selected element
      */
     public T get(int index){
-        return elements.get(index);
+        return elements.get(index(index));
     }
 
     /**
@@ -73,7 +93,36 @@ public class Vector<T> {
      * @param value value to set
      */
     public void set(int index, T value){
-        elements.set(index, value);
+        elements.set(index(index), value);
+    }
+
+    private int index(int index){
+        if (index < 0 || index >= length)
+            throw new IndexOutOfBoundsException("Index is out of range");
+        return offset + index * stride;
+    }
+
+    /**
+     * Copies vector or view into new vector with its own storage
+     * @return detached copy
+     */
+    @SuppressWarnings("unchecked")
+    public Vector<T> copy(){
+        return new Vector<T>((T[]) values(), calculator);
+    }
+
+    /**
+     * @return elements in order, copied from parent storage for views
+     */
+    Object[] values(){
+        if (offset == 0 && stride == 1 && elements.size() == length)
+            return elements.toArray();
+
+        Object[] values = new Object[length];
+        for (int i = 0; i < length; i++){
+            values[i] = elements.get(offset + i * stride);
+        }
+        return values;
     }
 
     /**
@@ -88,14 +137,27 @@ public class Vector<T> {
      * Sums elements values from vector
      * @return sum of elements
      */
+    @SuppressWarnings("unchecked")
     public T sumElements(){
+        if (PrimitiveKernels.supports(calculator))
+            return (T) PrimitiveKernels.sum(calculator, values());
+
         T sum = calculator.getNew();
-        for (T element : elements){
-            sum = calculator.sum(sum, element);
+        for (int i = 0; i < length; i++){
+            sum = calculator.sum(sum, get(i));
         }
         return sum;
     }
 
+    /**
+     * Multiplies current vector as row to matrix (only if length equals count of matrix rows)
+     * @param matrix matrix to multiply by
+     * @return result vector with element for every matrix column
+     */
+    public Vector<T> multiply(Matrix<T> matrix){
+        return matrix.transpose().multiply(this);
+    }
+
     /**
      * Multiplies current vector to specified vector
      * @param vector vector to multiply by
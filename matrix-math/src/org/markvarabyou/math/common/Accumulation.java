@@ -0,0 +1,22 @@
+package org.markvarabyou.math.common;
+
+/**
+ * Precision of sums in reductions over float elements: sums, dot products and matrix products.
+ * Author: Mark Vorobyov
+ * Date: 10/21/26
+ * Time: 7:30 PM
+ */
+public enum Accumulation {
+    /**
+     * Partial sums in float, error grows with length of sum
+     */
+    FLOAT,
+    /**
+     * Partial sums in double rounded to float once, products of floats are exact in double
+     */
+    DOUBLE,
+    /**
+     * Partial sums in float with Kahan compensation of rounding error
+     */
+    KAHAN
+}
@@ -14,6 +14,14 @@ public abstract class Calculator<T> {
      */
     public abstract T getNew();
 
+    /**
+     * Gets identity element of multiplication
+     * @return one
+     */
+    public T getOne() {
+        return decode("1");
+    }
+
     /**
      * Sums two elements
      * @param first first element
@@ -30,6 +38,17 @@ public abstract class Calculator<T> {
      */
     public abstract T mul(T first, T second);
 
+    /**
+     * Multiplies two elements and adds the third one
+     * @param first first element
+     * @param second second element
+     * @param addend element to add to product
+     * @return addend + first * second
+     */
+    public T fma(T first, T second, T addend) {
+        return sum(addend, mul(first, second));
+    }
+
     /**
      * Decodes element from string
      * @param s string to decode
@@ -1,31 +1,27 @@
 package org.markvarabyou.math.common.Calculators;
 
-import org.markvarabyou.math.common.Calculator;
+import org.markvarabyou.math.common.DoubleArithmetic;
+import org.markvarabyou.math.common.kernels.DenseKernels;
 
 /**
  * Calculator realization for double elements.
  * Author: Mark Vorobyov
  * Date: 9/16/13
- * Time: 7:09 PM
+ * Time: 7:02 PM
  */
-public class DoubleCalculator extends Calculator<Double> {
+public class DoubleCalculator extends DoubleArithmetic {
     @Override
-    public Double getNew() {
-        return (double) 0;
-    }
-
-    @Override
-    public Double sum(Double first, Double second) {
+    public double sum(double first, double second) {
         return first + second;
     }
 
     @Override
-    public Double mul(Double first, Double second) {
+    public double mul(double first, double second) {
         return first * second;
     }
 
     @Override
-    public Double decode(String s) {
-        return Double.parseDouble(s);
+    public double dot(double[] a, int aOffset, int aStride, double[] b, int bOffset, int bStride, int length) {
+        return DenseKernels.dot(a, aOffset, aStride, b, bOffset, bStride, length);
     }
 }
@@ -1,6 +1,7 @@
 package org.markvarabyou.math.common.Calculators;
 
-import org.markvarabyou.math.common.Calculator;
+import org.markvarabyou.math.common.FloatArithmetic;
+import org.markvarabyou.math.common.kernels.DenseKernels;
 
 /**
  * Calculator realization for float elements.
@@ -8,24 +9,19 @@ import org.markvarabyou.math.common.Calculator;
  * Date: 9/16/13
  * Time: 7:02 PM
  */
-public class FloatCalculator extends Calculator<Float> {
+public class FloatCalculator extends FloatArithmetic {
     @Override
-    public Float getNew() {
-        return (float) 0;
-    }
-
-    @Override
-    public Float sum(Float first, Float second) {
+    public float sum(float first, float second) {
         return first + second;
     }
 
     @Override
-    public Float mul(Float first, Float second) {
+    public float mul(float first, float second) {
         return first * second;
     }
 
     @Override
-    public Float decode(String s) {
-        return Float.parseFloat(s);
+    public float dot(float[] a, int aOffset, int aStride, float[] b, int bOffset, int bStride, int length) {
+        return DenseKernels.dot(a, aOffset, aStride, b, bOffset, bStride, length);
     }
 }
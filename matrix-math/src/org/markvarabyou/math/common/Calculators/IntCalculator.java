@@ -1,6 +1,7 @@
 package org.markvarabyou.math.common.Calculators;
 
-import org.markvarabyou.math.common.Calculator;
+import org.markvarabyou.math.common.IntArithmetic;
+import org.markvarabyou.math.common.kernels.DenseKernels;
 
 /**
  * Calculator realization for int elements.
@@ -8,24 +9,19 @@ import org.markvarabyou.math.common.Calculator;
  * Date: 9/16/13
  * Time: 7:02 PM
  */
-public class IntCalculator extends Calculator<Integer> {
+public class IntCalculator extends IntArithmetic {
     @Override
-    public Integer getNew() {
-        return 0;
-    }
-
-    @Override
-    public Integer sum(Integer first, Integer second) {
+    public int sum(int first, int second) {
         return first + second;
     }
 
     @Override
-    public Integer mul(Integer first, Integer second) {
+    public int mul(int first, int second) {
         return first * second;
     }
 
     @Override
-    public Integer decode(String s) {
-        return Integer.parseInt(s);
+    public int dot(int[] a, int aOffset, int aStride, int[] b, int bOffset, int bStride, int length) {
+        return DenseKernels.dot(a, aOffset, aStride, b, bOffset, bStride, length);
     }
 }
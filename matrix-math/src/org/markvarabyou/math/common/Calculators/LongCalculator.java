@@ -0,0 +1,27 @@
+package org.markvarabyou.math.common.Calculators;
+
+import org.markvarabyou.math.common.LongArithmetic;
+import org.markvarabyou.math.common.kernels.DenseKernels;
+
+/**
+ * Calculator realization for long elements.
+ * Author: Mark Vorobyov
+ * Date: 10/20/26
+ * Time: 9:30 AM
+ */
+public class LongCalculator extends LongArithmetic {
+    @Override
+    public long sum(long first, long second) {
+        return first + second;
+    }
+
+    @Override
+    public long mul(long first, long second) {
+        return first * second;
+    }
+
+    @Override
+    public long dot(long[] a, int aOffset, int aStride, long[] b, int bOffset, int bStride, int length) {
+        return DenseKernels.dot(a, aOffset, aStride, b, bOffset, bStride, length);
+    }
+}
@@ -0,0 +1,100 @@
+package org.markvarabyou.math.common.Calculators;
+
+import org.markvarabyou.math.common.LongArithmetic;
+
+/**
+ * Calculator realization for residues modulo number up to 2^31 - 1, elements are longs from 0 to modulus - 1.
+ * Products are reduced by Barrett method with floating-point reciprocal of modulus instead of division.
+ * Dot products add batches of unreduced products, so one reduction is paid per batch instead of per product.
+ * Author: Mark Vorobyov
+ * Date: 10/21/26
+ * Time: 10:30 PM
+ */
+public class ModularCalculator extends LongArithmetic {
+    // Upper bound of batch keeps quotient estimate of reduction within few units of exact one
+    static final int MAX_BATCH = 1 << 16;
+
+    private final long modulus;
+    private final double reciprocal;
+    // Count of unreduced products which can be added to reduced sum without overflow
+    private final int batch;
+
+    /**
+     * Initializes calculator for residues modulo specified number
+     * @param modulus modulus from 2 to 2^31 - 1, usually prime
+     */
+    public ModularCalculator(long modulus) {
+        // Validation
+        if (modulus < 2 || modulus > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Invalid modulus");
+
+        this.modulus = modulus;
+        this.reciprocal = 1.0 / modulus;
+        long square = (modulus - 1) * (modulus - 1);
+        this.batch = (int) Math.min(MAX_BATCH, (Long.MAX_VALUE - modulus) / square);
+    }
+
+    /**
+     * @return modulus of residues
+     */
+    public long getModulus() {
+        return modulus;
+    }
+
+    /**
+     * Reduces non-negative value modulo modulus
+     * @param value non-negative value
+     * @return residue from 0 to modulus - 1
+     */
+    public long reduce(long value) {
+        long residue = value - (long) (value * reciprocal) * modulus;
+        while (residue < 0){
+            residue += modulus;
+        }
+        while (residue >= modulus){
+            residue -= modulus;
+        }
+        return residue;
+    }
+
+    @Override
+    public long sum(long first, long second) {
+        long sum = first + second;
+        return sum >= modulus ? sum - modulus : sum;
+    }
+
+    @Override
+    public long mul(long first, long second) {
+        return reduce(first * second);
+    }
+
+    @Override
+    public long fma(long first, long second, long addend) {
+        return reduce(addend + first * second);
+    }
+
+    @Override
+    public long dot(long[] a, int aOffset, int aStride, long[] b, int bOffset, int bStride, int length) {
+        long sum = 0;
+        int i = 0;
+        while (i < length){
+            int end = Math.min(length, i + batch);
+            for (; i < end; i++, aOffset += aStride, bOffset += bStride){
+                sum += a[aOffset] * b[bOffset];
+            }
+            sum = reduce(sum);
+        }
+        return sum;
+    }
+
+    /**
+     * Decodes element from string, any long value is reduced to residue
+     * @param s string to decode
+     * @return decoded residue
+     */
+    @Override
+    public Long decode(String s) {
+        long residue = Long.parseLong(s) % modulus;
+        return residue < 0 ? residue + modulus : residue;
+    }
+}
@@ -0,0 +1,147 @@
+package org.markvarabyou.math.common;
+
+import java.util.List;
+
+/**
+ * Optimal order of multiplication of matrix chain, found by dynamic programming over dimensions
+ * in O(n^3) time. Cost of product of p x q and q x r matrices is estimated as p * q * r multiply-adds.
+ * Author: Mark Vorobyov
+ * Date: 10/20/26
+ * Time: 7:30 PM
+ */
+public final class ChainPlan {
+
+    /**
+     * Multiplication of two operands of chain
+     * @param <M> type of matrices
+     */
+    public interface Multiplier<M> {
+        /**
+         * @param left first matrix
+         * @param right second matrix
+         * @return product of matrices
+         */
+        M multiply(M left, M right);
+    }
+
+    private final int[] dims;
+    private final long[][] costs;
+    private final int[][] splits;
+
+    private ChainPlan(int[] dims, long[][] costs, int[][] splits) {
+        this.dims = dims;
+        this.costs = costs;
+        this.splits = splits;
+    }
+
+    /**
+     * Plans multiplication of chain where matrix i has size dims[i] x dims[i + 1]
+     * @param dims dimensions of chain, one more than count of matrices
+     * @return optimal plan
+     */
+    public static ChainPlan of(int... dims) {
+        if (dims.length < 2)
+            throw new IllegalArgumentException("Chain of matrices is empty");
+        for (int dim : dims){
+            if (dim < 0)
+                throw new IllegalArgumentException("Invalid matrix dimension");
+        }
+
+        int count = dims.length - 1;
+        long[][] costs = new long[count][count];
+        int[][] splits = new int[count][count];
+        for (int length = 2; length <= count; length++){
+            for (int i = 0; i + length <= count; i++){
+                int j = i + length - 1;
+                costs[i][j] = Long.MAX_VALUE;
+                for (int k = i; k < j; k++){
+                    long cost = costs[i][k] + costs[k + 1][j] + (long) dims[i] * dims[k + 1] * dims[j + 1];
+                    if (cost < costs[i][j]){
+                        costs[i][j] = cost;
+                        splits[i][j] = k;
+                    }
+                }
+            }
+        }
+        return new ChainPlan(dims.clone(), costs, splits);
+    }
+
+    /**
+     * @return count of matrices in chain
+     */
+    public int getCount() {
+        return dims.length - 1;
+    }
+
+    /**
+     * @return estimated floating point operations of planned order (two per multiply-add)
+     */
+    public long getFlops() {
+        return 2 * costs[0][getCount() - 1];
+    }
+
+    /**
+     * @return estimated floating point operations of left to right order, for comparison
+     */
+    public long getLeftToRightFlops() {
+        long cost = 0;
+        for (int k = 1; k < getCount(); k++){
+            cost += (long) dims[0] * dims[k] * dims[k + 1];
+        }
+        return 2 * cost;
+    }
+
+    /**
+     * @param from first matrix of subchain
+     * @param to last matrix of subchain
+     * @return index of last matrix of left part in optimal split of subchain
+     */
+    public int getSplit(int from, int to) {
+        if (from < 0 || to >= getCount() || from >= to)
+            throw new IllegalArgumentException("Index is out of range");
+        return splits[from][to];
+    }
+
+    /**
+     * Multiplies matrices in planned order
+     * @param matrices chain of matrices matching planned dimensions
+     * @param multiplier multiplication of two matrices
+     * @param <M> type of matrices
+     * @return product of chain
+     */
+    public <M> M execute(List<M> matrices, Multiplier<M> multiplier) {
+        if (matrices.size() != getCount())
+            throw new IllegalArgumentException("Invalid matrices length");
+        return execute(matrices, multiplier, 0, getCount() - 1);
+    }
+
+    private <M> M execute(List<M> matrices, Multiplier<M> multiplier, int from, int to) {
+        if (from == to)
+            return matrices.get(from);
+        int split = splits[from][to];
+        return multiplier.multiply(execute(matrices, multiplier, from, split),
+                execute(matrices, multiplier, split + 1, to));
+    }
+
+    /**
+     * @return parenthesization of chain, like ((M0 M1) M2)
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        append(builder, 0, getCount() - 1);
+        return builder.toString();
+    }
+
+    private void append(StringBuilder builder, int from, int to) {
+        if (from == to){
+            builder.append('M').append(from);
+            return;
+        }
+        builder.append('(');
+        append(builder, from, splits[from][to]);
+        builder.append(' ');
+        append(builder, splits[from][to] + 1, to);
+        builder.append(')');
+    }
+}
@@ -0,0 +1,82 @@
+package org.markvarabyou.math.common;
+
+/**
+ * Calculator contract for double elements. Kernels call primitive operations and hooks directly,
+ * so boxed operations are used only at storage boundaries.
+ * Author: Mark Vorobyov
+ * Date: 10/20/26
+ * Time: 9:25 AM
+ */
+public abstract class DoubleArithmetic extends Calculator<Double> {
+
+    /**
+     * Sums two elements
+     * @param first first element
+     * @param second second element
+     * @return sum of elements
+     */
+    public abstract double sum(double first, double second);
+
+    /**
+     * Multiplies two elements
+     * @param first first element
+     * @param second second element
+     * @return result of multiplication
+     */
+    public abstract double mul(double first, double second);
+
+    /**
+     * Multiplies two elements and adds the third one
+     * @param first first element
+     * @param second second element
+     * @param addend element to add to product
+     * @return addend + first * second
+     */
+    public double fma(double first, double second, double addend) {
+        return sum(addend, mul(first, second));
+    }
+
+    /**
+     * Computes dot product of two strided sequences
+     * @param a first storage
+     * @param aOffset index of first element of first sequence
+     * @param aStride distance between elements of first sequence
+     * @param b second storage
+     * @param bOffset index of first element of second sequence
+     * @param bStride distance between elements of second sequence
+     * @param length count of elements
+     * @return sum of products
+     */
+    public double dot(double[] a, int aOffset, int aStride, double[] b, int bOffset, int bStride, int length) {
+        double result = 0.0;
+        for (int i = 0; i < length; i++, aOffset += aStride, bOffset += bStride){
+            result = fma(a[aOffset], b[bOffset], result);
+        }
+        return result;
+    }
+
+    @Override
+    public Double getNew() {
+        return 0.0;
+    }
+
+    @Override
+    public Double sum(Double first, Double second) {
+        return sum(first.doubleValue(), second.doubleValue());
+    }
+
+    @Override
+    public Double mul(Double first, Double second) {
+        return mul(first.doubleValue(), second.doubleValue());
+    }
+
+    @Override
+    public Double fma(Double first, Double second, Double addend) {
+        return fma(first.doubleValue(), second.doubleValue(), addend.doubleValue());
+    }
+
+    @Override
+    public Double decode(String s) {
+        return Double.parseDouble(s);
+    }
+}
@@ -0,0 +1,88 @@
+package org.markvarabyou.math.common;
+
+import org.markvarabyou.math.common.Calculators.DoubleCalculator;
+import org.markvarabyou.math.common.Calculators.FloatCalculator;
+import org.markvarabyou.math.common.Calculators.IntCalculator;
+import org.markvarabyou.math.common.Calculators.LongCalculator;
+
+/**
+ * Primitive types of matrix elements with codes used in binary formats.
+ * Author: Mark Vorobyov
+ * Date: 10/19/26
+ * Time: 10:05 AM
+ */
+public enum ElementType {
+    INT(1, 4),
+    FLOAT(2, 4),
+    DOUBLE(3, 8),
+    LONG(4, 8);
+
+    private final int code;
+    private final int size;
+
+    ElementType(int code, int size) {
+        this.code = code;
+        this.size = size;
+    }
+
+    /**
+     * @return code of type in binary formats
+     */
+    public int getCode() {
+        return code;
+    }
+
+    /**
+     * @return size of single element in bytes
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Creates calculator for elements of this type
+     * @return new calculator
+     */
+    public Calculator<?> newCalculator() {
+        switch (this){
+            case INT:
+                return new IntCalculator();
+            case LONG:
+                return new LongCalculator();
+            case FLOAT:
+                return new FloatCalculator();
+            default:
+                return new DoubleCalculator();
+        }
+    }
+
+    /**
+     * Finds type of elements handled by calculator
+     * @param calculator calculator of matrix elements
+     * @return element type
+     */
+    public static ElementType of(Calculator<?> calculator) {
+        if (calculator instanceof IntArithmetic)
+            return INT;
+        if (calculator instanceof LongArithmetic)
+            return LONG;
+        if (calculator instanceof FloatArithmetic)
+            return FLOAT;
+        if (calculator instanceof DoubleArithmetic)
+            return DOUBLE;
+        throw new IllegalArgumentException("Calculator has no primitive element type");
+    }
+
+    /**
+     * Finds type by its code
+     * @param code code of type in binary formats
+     * @return element type
+     */
+    public static ElementType fromCode(int code) {
+        for (ElementType type : values()){
+            if (type.code == code)
+                return type;
+        }
+        throw new IllegalArgumentException("Unknown element type code " + code);
+    }
+}
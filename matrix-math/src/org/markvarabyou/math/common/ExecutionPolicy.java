@@ -0,0 +1,118 @@
+package org.markvarabyou.math.common;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Describes how matrix operations are executed: sequentially or split into fork/join tasks.
+ * Work is measured in element operations, operations smaller than threshold always run on calling thread.
+ * Author: Mark Vorobyov
+ * Date: 10/18/26
+ * Time: 2:10 PM
+ */
+public class ExecutionPolicy {
+    public static final long DEFAULT_THRESHOLD = 1 << 16;
+    public static final ExecutionPolicy SEQUENTIAL = new ExecutionPolicy(null, Long.MAX_VALUE);
+
+    private static ForkJoinPool defaultPool;
+
+    private final ForkJoinPool pool;
+    private final long threshold;
+
+    /**
+     * Initializes new policy running operations in specified pool
+     * @param pool pool for tasks, null for sequential execution
+     * @param threshold minimal work of single task
+     */
+    public ExecutionPolicy(ForkJoinPool pool, long threshold) {
+        if (threshold < 1)
+            throw new IllegalArgumentException("Threshold should be positive");
+
+        this.pool = pool;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Initializes new policy running operations in specified pool with default threshold
+     * @param pool pool for tasks
+     */
+    public ExecutionPolicy(ForkJoinPool pool) {
+        this(pool, DEFAULT_THRESHOLD);
+    }
+
+    /**
+     * Gets policy using shared pool with parallelism equal to count of processors
+     * @return parallel policy with default threshold
+     */
+    public static synchronized ExecutionPolicy parallel() {
+        if (defaultPool == null)
+            defaultPool = new ForkJoinPool();
+        return new ExecutionPolicy(defaultPool);
+    }
+
+    /**
+     * @return pool for tasks or null for sequential policy
+     */
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * @return minimal work of single task
+     */
+    public long getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Checks if operation of specified size should be split into tasks
+     * @param work total count of element operations
+     * @return true if operation worth running in parallel
+     */
+    public boolean isParallel(long work) {
+        return pool != null && work > threshold;
+    }
+
+    /**
+     * Executes task over items [0, count), splitting range into subtasks of at least threshold work
+     * @param count count of items
+     * @param workPerItem count of element operations per single item
+     * @param task task to execute
+     */
+    public void execute(int count, long workPerItem, RangeTask task) {
+        if (count <= 0)
+            return;
+        if (!isParallel(count * workPerItem)){
+            task.compute(0, count);
+            return;
+        }
+        int grain = (int) Math.max(1, Math.min(count, threshold / Math.max(1, workPerItem)));
+        pool.invoke(new RangeAction(task, 0, count, grain));
+    }
+
+    private static class RangeAction extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final RangeTask task;
+        private final int from;
+        private final int to;
+        private final int grain;
+
+        RangeAction(RangeTask task, int from, int to, int grain) {
+            this.task = task;
+            this.from = from;
+            this.to = to;
+            this.grain = grain;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= grain){
+                task.compute(from, to);
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new RangeAction(task, from, middle, grain), new RangeAction(task, middle, to, grain));
+        }
+    }
+}
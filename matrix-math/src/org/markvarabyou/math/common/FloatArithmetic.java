@@ -0,0 +1,82 @@
+package org.markvarabyou.math.common;
+
+/**
+ * Calculator contract for float elements. Kernels call primitive operations and hooks directly,
+ * so boxed operations are used only at storage boundaries.
+ * Author: Mark Vorobyov
+ * Date: 10/20/26
+ * Time: 9:20 AM
+ */
+public abstract class FloatArithmetic extends Calculator<Float> {
+
+    /**
+     * Sums two elements
+     * @param first first element
+     * @param second second element
+     * @return sum of elements
+     */
+    public abstract float sum(float first, float second);
+
+    /**
+     * Multiplies two elements
+     * @param first first element
+     * @param second second element
+     * @return result of multiplication
+     */
+    public abstract float mul(float first, float second);
+
+    /**
+     * Multiplies two elements and adds the third one
+     * @param first first element
+     * @param second second element
+     * @param addend element to add to product
+     * @return addend + first * second
+     */
+    public float fma(float first, float second, float addend) {
+        return sum(addend, mul(first, second));
+    }
+
+    /**
+     * Computes dot product of two strided sequences
+     * @param a first storage
+     * @param aOffset index of first element of first sequence
+     * @param aStride distance between elements of first sequence
+     * @param b second storage
+     * @param bOffset index of first element of second sequence
+     * @param bStride distance between elements of second sequence
+     * @param length count of elements
+     * @return sum of products
+     */
+    public float dot(float[] a, int aOffset, int aStride, float[] b, int bOffset, int bStride, int length) {
+        float result = 0f;
+        for (int i = 0; i < length; i++, aOffset += aStride, bOffset += bStride){
+            result = fma(a[aOffset], b[bOffset], result);
+        }
+        return result;
+    }
+
+    @Override
+    public Float getNew() {
+        return 0f;
+    }
+
+    @Override
+    public Float sum(Float first, Float second) {
+        return sum(first.floatValue(), second.floatValue());
+    }
+
+    @Override
+    public Float mul(Float first, Float second) {
+        return mul(first.floatValue(), second.floatValue());
+    }
+
+    @Override
+    public Float fma(Float first, Float second, Float addend) {
+        return fma(first.floatValue(), second.floatValue(), addend.floatValue());
+    }
+
+    @Override
+    public Float decode(String s) {
+        return Float.parseFloat(s);
+    }
+}
@@ -0,0 +1,82 @@
+package org.markvarabyou.math.common;
+
+/**
+ * Calculator contract for int elements. Kernels call primitive operations and hooks directly,
+ * so boxed operations are used only at storage boundaries.
+ * Author: Mark Vorobyov
+ * Date: 10/20/26
+ * Time: 9:10 AM
+ */
+public abstract class IntArithmetic extends Calculator<Integer> {
+
+    /**
+     * Sums two elements
+     * @param first first element
+     * @param second second element
+     * @return sum of elements
+     */
+    public abstract int sum(int first, int second);
+
+    /**
+     * Multiplies two elements
+     * @param first first element
+     * @param second second element
+     * @return result of multiplication
+     */
+    public abstract int mul(int first, int second);
+
+    /**
+     * Multiplies two elements and adds the third one
+     * @param first first element
+     * @param second second element
+     * @param addend element to add to product
+     * @return addend + first * second
+     */
+    public int fma(int first, int second, int addend) {
+        return sum(addend, mul(first, second));
+    }
+
+    /**
+     * Computes dot product of two strided sequences
+     * @param a first storage
+     * @param aOffset index of first element of first sequence
+     * @param aStride distance between elements of first sequence
+     * @param b second storage
+     * @param bOffset index of first element of second sequence
+     * @param bStride distance between elements of second sequence
+     * @param length count of elements
+     * @return sum of products
+     */
+    public int dot(int[] a, int aOffset, int aStride, int[] b, int bOffset, int bStride, int length) {
+        int result = 0;
+        for (int i = 0; i < length; i++, aOffset += aStride, bOffset += bStride){
+            result = fma(a[aOffset], b[bOffset], result);
+        }
+        return result;
+    }
+
+    @Override
+    public Integer getNew() {
+        return 0;
+    }
+
+    @Override
+    public Integer sum(Integer first, Integer second) {
+        return sum(first.intValue(), second.intValue());
+    }
+
+    @Override
+    public Integer mul(Integer first, Integer second) {
+        return mul(first.intValue(), second.intValue());
+    }
+
+    @Override
+    public Integer fma(Integer first, Integer second, Integer addend) {
+        return fma(first.intValue(), second.intValue(), addend.intValue());
+    }
+
+    @Override
+    public Integer decode(String s) {
+        return Integer.parseInt(s);
+    }
+}
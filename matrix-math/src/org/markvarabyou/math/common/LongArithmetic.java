@@ -0,0 +1,82 @@
+package org.markvarabyou.math.common;
+
+/**
+ * Calculator contract for long elements. Kernels call primitive operations and hooks directly,
+ * so boxed operations are used only at storage boundaries.
+ * Author: Mark Vorobyov
+ * Date: 10/20/26
+ * Time: 9:15 AM
+ */
+public abstract class LongArithmetic extends Calculator<Long> {
+
+    /**
+     * Sums two elements
+     * @param first first element
+     * @param second second element
+     * @return sum of elements
+     */
+    public abstract long sum(long first, long second);
+
+    /**
+     * Multiplies two elements
+     * @param first first element
+     * @param second second element
+     * @return result of multiplication
+     */
+    public abstract long mul(long first, long second);
+
+    /**
+     * Multiplies two elements and adds the third one
+     * @param first first element
+     * @param second second element
+     * @param addend element to add to product
+     * @return addend + first * second
+     */
+    public long fma(long first, long second, long addend) {
+        return sum(addend, mul(first, second));
+    }
+
+    /**
+     * Computes dot product of two strided sequences
+     * @param a first storage
+     * @param aOffset index of first element of first sequence
+     * @param aStride distance between elements of first sequence
+     * @param b second storage
+     * @param bOffset index of first element of second sequence
+     * @param bStride distance between elements of second sequence
+     * @param length count of elements
+     * @return sum of products
+     */
+    public long dot(long[] a, int aOffset, int aStride, long[] b, int bOffset, int bStride, int length) {
+        long result = 0L;
+        for (int i = 0; i < length; i++, aOffset += aStride, bOffset += bStride){
+            result = fma(a[aOffset], b[bOffset], result);
+        }
+        return result;
+    }
+
+    @Override
+    public Long getNew() {
+        return 0L;
+    }
+
+    @Override
+    public Long sum(Long first, Long second) {
+        return sum(first.longValue(), second.longValue());
+    }
+
+    @Override
+    public Long mul(Long first, Long second) {
+        return mul(first.longValue(), second.longValue());
+    }
+
+    @Override
+    public Long fma(Long first, Long second, Long addend) {
+        return fma(first.longValue(), second.longValue(), addend.longValue());
+    }
+
+    @Override
+    public Long decode(String s) {
+        return Long.parseLong(s);
+    }
+}
@@ -0,0 +1,17 @@
+package org.markvarabyou.math.common;
+
+/**
+ * Piece of work over range of items which can be split between threads.
+ * Author: Mark Vorobyov
+ * Date: 10/18/26
+ * Time: 2:05 PM
+ */
+public interface RangeTask {
+
+    /**
+     * Processes items from range
+     * @param from first item to process
+     * @param to item after the last one to process
+     */
+    void compute(int from, int to);
+}
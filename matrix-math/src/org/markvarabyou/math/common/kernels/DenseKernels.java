@@ -0,0 +1,455 @@
+package org.markvarabyou.math.common.kernels;
+
+/**
+ * Unrolled loops over primitive arrays. Reductions keep four independent partial sums,
+ * so consecutive multiply-adds do not wait for each other, and element-wise loops are left in form
+ * which JIT compiler vectorizes. Floating point reductions are summed in different order than plain loop.
+ * Author: Mark Vorobyov
+ * Date: 10/20/26
+ * Time: 1:15 PM
+ */
+public final class DenseKernels {
+
+    private DenseKernels() {
+    }
+
+    /**
+     * Computes dot product of two strided sequences
+     * @param a first storage
+     * @param aOffset index of first element of first sequence
+     * @param aStride distance between elements of first sequence
+     * @param b second storage
+     * @param bOffset index of first element of second sequence
+     * @param bStride distance between elements of second sequence
+     * @param length count of elements
+     * @return sum of products
+     */
+    public static int dot(int[] a, int aOffset, int aStride, int[] b, int bOffset, int bStride, int length) {
+        int s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        if (aStride == 1 && bStride == 1){
+            // Single induction variable lets JIT compiler drop range checks of both arrays
+            int shift = bOffset - aOffset;
+            int end = aOffset + length;
+            for (i = aOffset; i < end - 3; i += 4){
+                s0 += a[i] * b[i + shift];
+                s1 += a[i + 1] * b[i + 1 + shift];
+                s2 += a[i + 2] * b[i + 2 + shift];
+                s3 += a[i + 3] * b[i + 3 + shift];
+            }
+            for (; i < end; i++){
+                s0 += a[i] * b[i + shift];
+            }
+            return (s0 + s1) + (s2 + s3);
+        }
+        for (; i + 3 < length; i += 4, aOffset += 4 * aStride, bOffset += 4 * bStride){
+            s0 += a[aOffset] * b[bOffset];
+            s1 += a[aOffset + aStride] * b[bOffset + bStride];
+            s2 += a[aOffset + 2 * aStride] * b[bOffset + 2 * bStride];
+            s3 += a[aOffset + 3 * aStride] * b[bOffset + 3 * bStride];
+        }
+        for (; i < length; i++, aOffset += aStride, bOffset += bStride){
+            s0 += a[aOffset] * b[bOffset];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * Sums contiguous elements
+     * @param a storage
+     * @param offset index of first element
+     * @param length count of elements
+     * @return sum of elements
+     */
+    public static int sum(int[] a, int offset, int length) {
+        int s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = offset;
+        int end = offset + length;
+        for (; i < end - 3; i += 4){
+            s0 += a[i];
+            s1 += a[i + 1];
+            s2 += a[i + 2];
+            s3 += a[i + 3];
+        }
+        for (; i < end; i++){
+            s0 += a[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * Adds scaled sequence to another one (y += alpha * x)
+     * @param alpha scale of first sequence
+     * @param x first storage
+     * @param xOffset index of first element of first sequence
+     * @param y second storage, updated in place
+     * @param yOffset index of first element of second sequence
+     * @param length count of elements
+     */
+    public static void axpy(int alpha, int[] x, int xOffset, int[] y, int yOffset, int length) {
+        for (int i = 0; i < length; i++){
+            y[yOffset + i] += alpha * x[xOffset + i];
+        }
+    }
+
+    /**
+     * Sums sequences element by element (c = a + b)
+     * @param a first storage
+     * @param aOffset index of first element of first sequence
+     * @param b second storage
+     * @param bOffset index of first element of second sequence
+     * @param c result storage, may be the same as a or b
+     * @param cOffset index of first element of result
+     * @param length count of elements
+     */
+    public static void add(int[] a, int aOffset, int[] b, int bOffset, int[] c, int cOffset, int length) {
+        for (int i = 0; i < length; i++){
+            c[cOffset + i] = a[aOffset + i] + b[bOffset + i];
+        }
+    }
+
+    /**
+     * Multiplies sequence to single value (c = a * value)
+     * @param a storage
+     * @param aOffset index of first element of sequence
+     * @param value value to be multiplied
+     * @param c result storage, may be the same as a
+     * @param cOffset index of first element of result
+     * @param length count of elements
+     */
+    public static void scale(int[] a, int aOffset, int value, int[] c, int cOffset, int length) {
+        for (int i = 0; i < length; i++){
+            c[cOffset + i] = a[aOffset + i] * value;
+        }
+    }
+
+    /**
+     * Computes dot product of two strided sequences
+     * @param a first storage
+     * @param aOffset index of first element of first sequence
+     * @param aStride distance between elements of first sequence
+     * @param b second storage
+     * @param bOffset index of first element of second sequence
+     * @param bStride distance between elements of second sequence
+     * @param length count of elements
+     * @return sum of products
+     */
+    public static long dot(long[] a, int aOffset, int aStride, long[] b, int bOffset, int bStride, int length) {
+        long s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        if (aStride == 1 && bStride == 1){
+            // Single induction variable lets JIT compiler drop range checks of both arrays
+            int shift = bOffset - aOffset;
+            int end = aOffset + length;
+            for (i = aOffset; i < end - 3; i += 4){
+                s0 += a[i] * b[i + shift];
+                s1 += a[i + 1] * b[i + 1 + shift];
+                s2 += a[i + 2] * b[i + 2 + shift];
+                s3 += a[i + 3] * b[i + 3 + shift];
+            }
+            for (; i < end; i++){
+                s0 += a[i] * b[i + shift];
+            }
+            return (s0 + s1) + (s2 + s3);
+        }
+        for (; i + 3 < length; i += 4, aOffset += 4 * aStride, bOffset += 4 * bStride){
+            s0 += a[aOffset] * b[bOffset];
+            s1 += a[aOffset + aStride] * b[bOffset + bStride];
+            s2 += a[aOffset + 2 * aStride] * b[bOffset + 2 * bStride];
+            s3 += a[aOffset + 3 * aStride] * b[bOffset + 3 * bStride];
+        }
+        for (; i < length; i++, aOffset += aStride, bOffset += bStride){
+            s0 += a[aOffset] * b[bOffset];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * Sums contiguous elements
+     * @param a storage
+     * @param offset index of first element
+     * @param length count of elements
+     * @return sum of elements
+     */
+    public static long sum(long[] a, int offset, int length) {
+        long s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = offset;
+        int end = offset + length;
+        for (; i < end - 3; i += 4){
+            s0 += a[i];
+            s1 += a[i + 1];
+            s2 += a[i + 2];
+            s3 += a[i + 3];
+        }
+        for (; i < end; i++){
+            s0 += a[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * Adds scaled sequence to another one (y += alpha * x)
+     * @param alpha scale of first sequence
+     * @param x first storage
+     * @param xOffset index of first element of first sequence
+     * @param y second storage, updated in place
+     * @param yOffset index of first element of second sequence
+     * @param length count of elements
+     */
+    public static void axpy(long alpha, long[] x, int xOffset, long[] y, int yOffset, int length) {
+        for (int i = 0; i < length; i++){
+            y[yOffset + i] += alpha * x[xOffset + i];
+        }
+    }
+
+    /**
+     * Sums sequences element by element (c = a + b)
+     * @param a first storage
+     * @param aOffset index of first element of first sequence
+     * @param b second storage
+     * @param bOffset index of first element of second sequence
+     * @param c result storage, may be the same as a or b
+     * @param cOffset index of first element of result
+     * @param length count of elements
+     */
+    public static void add(long[] a, int aOffset, long[] b, int bOffset, long[] c, int cOffset, int length) {
+        for (int i = 0; i < length; i++){
+            c[cOffset + i] = a[aOffset + i] + b[bOffset + i];
+        }
+    }
+
+    /**
+     * Multiplies sequence to single value (c = a * value)
+     * @param a storage
+     * @param aOffset index of first element of sequence
+     * @param value value to be multiplied
+     * @param c result storage, may be the same as a
+     * @param cOffset index of first element of result
+     * @param length count of elements
+     */
+    public static void scale(long[] a, int aOffset, long value, long[] c, int cOffset, int length) {
+        for (int i = 0; i < length; i++){
+            c[cOffset + i] = a[aOffset + i] * value;
+        }
+    }
+
+    /**
+     * Computes dot product of two strided sequences
+     * @param a first storage
+     * @param aOffset index of first element of first sequence
+     * @param aStride distance between elements of first sequence
+     * @param b second storage
+     * @param bOffset index of first element of second sequence
+     * @param bStride distance between elements of second sequence
+     * @param length count of elements
+     * @return sum of products
+     */
+    public static float dot(float[] a, int aOffset, int aStride, float[] b, int bOffset, int bStride, int length) {
+        float s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        if (aStride == 1 && bStride == 1){
+            // Single induction variable lets JIT compiler drop range checks of both arrays
+            int shift = bOffset - aOffset;
+            int end = aOffset + length;
+            for (i = aOffset; i < end - 3; i += 4){
+                s0 += a[i] * b[i + shift];
+                s1 += a[i + 1] * b[i + 1 + shift];
+                s2 += a[i + 2] * b[i + 2 + shift];
+                s3 += a[i + 3] * b[i + 3 + shift];
+            }
+            for (; i < end; i++){
+                s0 += a[i] * b[i + shift];
+            }
+            return (s0 + s1) + (s2 + s3);
+        }
+        for (; i + 3 < length; i += 4, aOffset += 4 * aStride, bOffset += 4 * bStride){
+            s0 += a[aOffset] * b[bOffset];
+            s1 += a[aOffset + aStride] * b[bOffset + bStride];
+            s2 += a[aOffset + 2 * aStride] * b[bOffset + 2 * bStride];
+            s3 += a[aOffset + 3 * aStride] * b[bOffset + 3 * bStride];
+        }
+        for (; i < length; i++, aOffset += aStride, bOffset += bStride){
+            s0 += a[aOffset] * b[bOffset];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * Sums contiguous elements
+     * @param a storage
+     * @param offset index of first element
+     * @param length count of elements
+     * @return sum of elements
+     */
+    public static float sum(float[] a, int offset, int length) {
+        float s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = offset;
+        int end = offset + length;
+        for (; i < end - 3; i += 4){
+            s0 += a[i];
+            s1 += a[i + 1];
+            s2 += a[i + 2];
+            s3 += a[i + 3];
+        }
+        for (; i < end; i++){
+            s0 += a[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * Adds scaled sequence to another one (y += alpha * x)
+     * @param alpha scale of first sequence
+     * @param x first storage
+     * @param xOffset index of first element of first sequence
+     * @param y second storage, updated in place
+     * @param yOffset index of first element of second sequence
+     * @param length count of elements
+     */
+    public static void axpy(float alpha, float[] x, int xOffset, float[] y, int yOffset, int length) {
+        for (int i = 0; i < length; i++){
+            y[yOffset + i] += alpha * x[xOffset + i];
+        }
+    }
+
+    /**
+     * Sums sequences element by element (c = a + b)
+     * @param a first storage
+     * @param aOffset index of first element of first sequence
+     * @param b second storage
+     * @param bOffset index of first element of second sequence
+     * @param c result storage, may be the same as a or b
+     * @param cOffset index of first element of result
+     * @param length count of elements
+     */
+    public static void add(float[] a, int aOffset, float[] b, int bOffset, float[] c, int cOffset, int length) {
+        for (int i = 0; i < length; i++){
+            c[cOffset + i] = a[aOffset + i] + b[bOffset + i];
+        }
+    }
+
+    /**
+     * Multiplies sequence to single value (c = a * value)
+     * @param a storage
+     * @param aOffset index of first element of sequence
+     * @param value value to be multiplied
+     * @param c result storage, may be the same as a
+     * @param cOffset index of first element of result
+     * @param length count of elements
+     */
+    public static void scale(float[] a, int aOffset, float value, float[] c, int cOffset, int length) {
+        for (int i = 0; i < length; i++){
+            c[cOffset + i] = a[aOffset + i] * value;
+        }
+    }
+
+    /**
+     * Computes dot product of two strided sequences
+     * @param a first storage
+     * @param aOffset index of first element of first sequence
+     * @param aStride distance between elements of first sequence
+     * @param b second storage
+     * @param bOffset index of first element of second sequence
+     * @param bStride distance between elements of second sequence
+     * @param length count of elements
+     * @return sum of products
+     */
+    public static double dot(double[] a, int aOffset, int aStride, double[] b, int bOffset, int bStride, int length) {
+        double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        if (aStride == 1 && bStride == 1){
+            // Single induction variable lets JIT compiler drop range checks of both arrays
+            int shift = bOffset - aOffset;
+            int end = aOffset + length;
+            for (i = aOffset; i < end - 3; i += 4){
+                s0 += a[i] * b[i + shift];
+                s1 += a[i + 1] * b[i + 1 + shift];
+                s2 += a[i + 2] * b[i + 2 + shift];
+                s3 += a[i + 3] * b[i + 3 + shift];
+            }
+            for (; i < end; i++){
+                s0 += a[i] * b[i + shift];
+            }
+            return (s0 + s1) + (s2 + s3);
+        }
+        for (; i + 3 < length; i += 4, aOffset += 4 * aStride, bOffset += 4 * bStride){
+            s0 += a[aOffset] * b[bOffset];
+            s1 += a[aOffset + aStride] * b[bOffset + bStride];
+            s2 += a[aOffset + 2 * aStride] * b[bOffset + 2 * bStride];
+            s3 += a[aOffset + 3 * aStride] * b[bOffset + 3 * bStride];
+        }
+        for (; i < length; i++, aOffset += aStride, bOffset += bStride){
+            s0 += a[aOffset] * b[bOffset];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * Sums contiguous elements
+     * @param a storage
+     * @param offset index of first element
+     * @param length count of elements
+     * @return sum of elements
+     */
+    public static double sum(double[] a, int offset, int length) {
+        double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = offset;
+        int end = offset + length;
+        for (; i < end - 3; i += 4){
+            s0 += a[i];
+            s1 += a[i + 1];
+            s2 += a[i + 2];
+            s3 += a[i + 3];
+        }
+        for (; i < end; i++){
+            s0 += a[i];
+        }
+        return (s0 + s1) + (s2 + s3);
+    }
+
+    /**
+     * Adds scaled sequence to another one (y += alpha * x)
+     * @param alpha scale of first sequence
+     * @param x first storage
+     * @param xOffset index of first element of first sequence
+     * @param y second storage, updated in place
+     * @param yOffset index of first element of second sequence
+     * @param length count of elements
+     */
+    public static void axpy(double alpha, double[] x, int xOffset, double[] y, int yOffset, int length) {
+        for (int i = 0; i < length; i++){
+            y[yOffset + i] += alpha * x[xOffset + i];
+        }
+    }
+
+    /**
+     * Sums sequences element by element (c = a + b)
+     * @param a first storage
+     * @param aOffset index of first element of first sequence
+     * @param b second storage
+     * @param bOffset index of first element of second sequence
+     * @param c result storage, may be the same as a or b
+     * @param cOffset index of first element of result
+     * @param length count of elements
+     */
+    public static void add(double[] a, int aOffset, double[] b, int bOffset, double[] c, int cOffset, int length) {
+        for (int i = 0; i < length; i++){
+            c[cOffset + i] = a[aOffset + i] + b[bOffset + i];
+        }
+    }
+
+    /**
+     * Multiplies sequence to single value (c = a * value)
+     * @param a storage
+     * @param aOffset index of first element of sequence
+     * @param value value to be multiplied
+     * @param c result storage, may be the same as a
+     * @param cOffset index of first element of result
+     * @param length count of elements
+     */
+    public static void scale(double[] a, int aOffset, double value, double[] c, int cOffset, int length) {
+        for (int i = 0; i < length; i++){
+            c[cOffset + i] = a[aOffset + i] * value;
+        }
+    }
+}
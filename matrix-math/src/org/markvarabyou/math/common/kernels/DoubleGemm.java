@@ -0,0 +1,266 @@
+package org.markvarabyou.math.common.kernels;
+
+import org.markvarabyou.math.common.ExecutionPolicy;
+import org.markvarabyou.math.common.RangeTask;
+
+/**
+ * Cache-blocked matrix multiplication kernel for double elements.
+ * Second operand is packed once into NR-wide column slivers, blocks of first operand
+ * are packed into MR-high row slivers, and MR x NR micro-kernel keeps its partial sums in registers.
+ * Operands are addressed as offset + row * rowStride + col * colStride, result is row-major with leading dimension.
+ * Author: Mark Vorobyov
+ * Date: 10/18/26
+ * Time: 12:05 PM
+ */
+public final class DoubleGemm {
+    static final int MR = 4;
+    static final int NR = 4;
+    static final int MC = 96;
+    static final int KC = 256;
+    static final int NC = 4096;
+    static final int TILE_COLS = 256;
+
+    // Packing buffers of current thread, kernels do not call each other while they are in use
+    private static final ThreadLocal<double[][]> BUFFERS = new ThreadLocal<double[][]>() {
+        @Override
+        protected double[][] initialValue() {
+            return new double[][]{new double[MC * KC], new double[MR * NR]};
+        }
+    };
+
+    private DoubleGemm() {
+    }
+
+    /**
+     * Multiplies two row-major matrices and adds product to result (c += a * b)
+     * @param a first matrix rowCount x innerCount
+     * @param b second matrix innerCount x colCount
+     * @param c result matrix rowCount x colCount
+     * @param rowCount count of rows in first matrix
+     * @param innerCount count of columns in first matrix
+     * @param colCount count of columns in second matrix
+     */
+    public static void multiply(double[] a, double[] b, double[] c, int rowCount, int innerCount, int colCount) {
+        multiply(a, b, c, rowCount, innerCount, colCount, ExecutionPolicy.SEQUENTIAL);
+    }
+
+    /**
+     * Multiplies two row-major matrices and adds product to result (c += a * b)
+     * @param a first matrix rowCount x innerCount
+     * @param b second matrix innerCount x colCount
+     * @param c result matrix rowCount x colCount
+     * @param rowCount count of rows in first matrix
+     * @param innerCount count of columns in first matrix
+     * @param colCount count of columns in second matrix
+     * @param policy execution policy
+     */
+    public static void multiply(double[] a, double[] b, double[] c, int rowCount, int innerCount, int colCount,
+                                ExecutionPolicy policy) {
+        double[] packedB = packB(b, 0, colCount, 1, innerCount, colCount);
+        multiply(a, 0, innerCount, 1, packedB, c, 0, colCount, rowCount, innerCount, colCount, policy);
+    }
+
+    /**
+     * Adds product of first operand and packed second operand to result,
+     * splitting result into MC x TILE_COLS tiles when policy is parallel
+     * @param a first operand storage
+     * @param aOffset index of first element of first operand
+     * @param aRowStride distance between rows of first operand
+     * @param aColStride distance between columns of first operand
+     * @param packedB second operand packed with {@link #packB}
+     * @param c result storage
+     * @param cOffset index of first element of result
+     * @param ldc distance between rows of result
+     * @param rowCount count of rows in first operand
+     * @param innerCount count of columns in first operand
+     * @param colCount count of columns in second operand
+     * @param policy execution policy
+     */
+    public static void multiply(final double[] a, final int aOffset, final int aRowStride, final int aColStride,
+                                final double[] packedB, final double[] c, final int cOffset, final int ldc,
+                                final int rowCount, final int innerCount, final int colCount,
+                                ExecutionPolicy policy) {
+        long work = (long) rowCount * innerCount * colCount;
+        if (!policy.isParallel(work)){
+            multiply(a, aOffset, aRowStride, aColStride, packedB, c, cOffset, ldc, innerCount,
+                    0, rowCount, 0, colCount);
+            return;
+        }
+
+        final int colTiles = (colCount + TILE_COLS - 1) / TILE_COLS;
+        int rowTiles = (rowCount + MC - 1) / MC;
+        policy.execute(rowTiles * colTiles, (long) MC * TILE_COLS * innerCount, new RangeTask() {
+            @Override
+            public void compute(int from, int to) {
+                double[][] buffers = BUFFERS.get();
+                for (int tile = from; tile < to; tile++){
+                    int row = (tile / colTiles) * MC;
+                    int col = (tile % colTiles) * TILE_COLS;
+                    multiply(a, aOffset, aRowStride, aColStride, packedB, c, cOffset, ldc, innerCount,
+                            row, Math.min(rowCount, row + MC), col, Math.min(colCount, col + TILE_COLS),
+                            buffers[0], buffers[1]);
+                }
+            }
+        });
+    }
+
+    /**
+     * Packs second operand into NR-wide column slivers, zero padded to multiple of NR
+     * @param b second operand storage
+     * @param offset index of first element
+     * @param rowStride distance between rows
+     * @param colStride distance between columns
+     * @param innerCount count of rows in second operand
+     * @param colCount count of columns in second operand
+     * @return packed copy which can be reused for many multiplications
+     */
+    public static double[] packB(double[] b, int offset, int rowStride, int colStride, int innerCount, int colCount) {
+        return packB(b, offset, rowStride, colStride, innerCount, colCount, null);
+    }
+
+    /**
+     * Packs second operand into NR-wide column slivers, reusing storage when it is large enough
+     * @param b second operand storage
+     * @param offset index of first element
+     * @param rowStride distance between rows
+     * @param colStride distance between columns
+     * @param innerCount count of rows in second operand
+     * @param colCount count of columns in second operand
+     * @param packed storage from previous packing or null
+     * @return packed storage, the same as specified one if it was large enough
+     */
+    public static double[] packB(double[] b, int offset, int rowStride, int colStride, int innerCount, int colCount,
+                                 double[] packed) {
+        int slivers = (colCount + NR - 1) / NR;
+        if (packed == null || packed.length < slivers * innerCount * NR)
+            packed = new double[slivers * innerCount * NR];
+        int index = 0;
+        for (int s = 0; s < slivers; s++){
+            int col = s * NR;
+            int width = Math.min(NR, colCount - col);
+            for (int p = 0; p < innerCount; p++){
+                int source = offset + p * rowStride + col * colStride;
+                for (int j = 0; j < width; j++){
+                    packed[index + j] = b[source + j * colStride];
+                }
+                for (int j = width; j < NR; j++){
+                    packed[index + j] = 0;
+                }
+                index += NR;
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Adds product of first operand block and packed second operand to result block
+     * rows [rowFrom, rowTo) x columns [colFrom, colTo)
+     * @param a first operand storage
+     * @param aOffset index of first element of first operand
+     * @param aRowStride distance between rows of first operand
+     * @param aColStride distance between columns of first operand
+     * @param packedB second operand packed with {@link #packB}
+     * @param c result storage
+     * @param cOffset index of first element of result
+     * @param ldc distance between rows of result
+     * @param innerCount count of columns in first operand
+     * @param rowFrom first row to compute
+     * @param rowTo row after the last one to compute
+     * @param colFrom first column to compute, should be multiple of NR
+     * @param colTo column after the last one to compute
+     */
+    public static void multiply(double[] a, int aOffset, int aRowStride, int aColStride, double[] packedB,
+                                double[] c, int cOffset, int ldc, int innerCount,
+                                int rowFrom, int rowTo, int colFrom, int colTo) {
+        double[][] buffers = BUFFERS.get();
+        multiply(a, aOffset, aRowStride, aColStride, packedB, c, cOffset, ldc, innerCount,
+                rowFrom, rowTo, colFrom, colTo, buffers[0], buffers[1]);
+    }
+
+    private static void multiply(double[] a, int aOffset, int aRowStride, int aColStride, double[] packedB,
+                                 double[] c, int cOffset, int ldc, int innerCount,
+                                 int rowFrom, int rowTo, int colFrom, int colTo,
+                                 double[] packedA, double[] edge) {
+        for (int jc = colFrom; jc < colTo; jc += NC){
+            int nc = Math.min(NC, colTo - jc);
+            for (int pc = 0; pc < innerCount; pc += KC){
+                int kc = Math.min(KC, innerCount - pc);
+                for (int ic = rowFrom; ic < rowTo; ic += MC){
+                    int mc = Math.min(MC, rowTo - ic);
+                    packA(a, aOffset, aRowStride, aColStride, ic, pc, mc, kc, packedA);
+                    for (int jr = 0; jr < nc; jr += NR){
+                        int nr = Math.min(NR, nc - jr);
+                        int bIndex = (((jc + jr) / NR) * innerCount + pc) * NR;
+                        for (int ir = 0; ir < mc; ir += MR){
+                            int mr = Math.min(MR, mc - ir);
+                            kernel(kc, packedA, ir * kc, packedB, bIndex,
+                                    c, cOffset + (ic + ir) * ldc + jc + jr, ldc, mr, nr, edge);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void packA(double[] a, int offset, int rowStride, int colStride,
+                              int row, int inner, int mc, int kc, double[] packed) {
+        int index = 0;
+        for (int ir = 0; ir < mc; ir += MR){
+            int height = Math.min(MR, mc - ir);
+            for (int p = 0; p < kc; p++){
+                int source = offset + (row + ir) * rowStride + (inner + p) * colStride;
+                for (int i = 0; i < height; i++){
+                    packed[index + i] = a[source + i * rowStride];
+                }
+                for (int i = height; i < MR; i++){
+                    packed[index + i] = 0;
+                }
+                index += MR;
+            }
+        }
+    }
+
+    private static void kernel(int kc, double[] a, int aIndex, double[] b, int bIndex,
+                               double[] c, int cIndex, int ldc, int mr, int nr, double[] edge) {
+        double c00 = 0, c01 = 0, c02 = 0, c03 = 0;
+        double c10 = 0, c11 = 0, c12 = 0, c13 = 0;
+        double c20 = 0, c21 = 0, c22 = 0, c23 = 0;
+        double c30 = 0, c31 = 0, c32 = 0, c33 = 0;
+
+        for (int p = 0; p < kc; p++){
+            double b0 = b[bIndex], b1 = b[bIndex + 1], b2 = b[bIndex + 2], b3 = b[bIndex + 3];
+            double a0 = a[aIndex];
+            c00 += a0 * b0; c01 += a0 * b1; c02 += a0 * b2; c03 += a0 * b3;
+            double a1 = a[aIndex + 1];
+            c10 += a1 * b0; c11 += a1 * b1; c12 += a1 * b2; c13 += a1 * b3;
+            double a2 = a[aIndex + 2];
+            c20 += a2 * b0; c21 += a2 * b1; c22 += a2 * b2; c23 += a2 * b3;
+            double a3 = a[aIndex + 3];
+            c30 += a3 * b0; c31 += a3 * b1; c32 += a3 * b2; c33 += a3 * b3;
+            aIndex += MR;
+            bIndex += NR;
+        }
+
+        if (mr == MR && nr == NR){
+            c[cIndex] += c00; c[cIndex + 1] += c01; c[cIndex + 2] += c02; c[cIndex + 3] += c03;
+            cIndex += ldc;
+            c[cIndex] += c10; c[cIndex + 1] += c11; c[cIndex + 2] += c12; c[cIndex + 3] += c13;
+            cIndex += ldc;
+            c[cIndex] += c20; c[cIndex + 1] += c21; c[cIndex + 2] += c22; c[cIndex + 3] += c23;
+            cIndex += ldc;
+            c[cIndex] += c30; c[cIndex + 1] += c31; c[cIndex + 2] += c32; c[cIndex + 3] += c33;
+            return;
+        }
+
+        // Partial tile on the bottom or right border
+        edge[0] = c00; edge[1] = c01; edge[2] = c02; edge[3] = c03;
+        edge[4] = c10; edge[5] = c11; edge[6] = c12; edge[7] = c13;
+        edge[8] = c20; edge[9] = c21; edge[10] = c22; edge[11] = c23;
+        edge[12] = c30; edge[13] = c31; edge[14] = c32; edge[15] = c33;
+        for (int i = 0; i < mr; i++){
+            for (int j = 0; j < nr; j++){
+                c[cIndex + i * ldc + j] += edge[i * NR + j];
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.markvarabyou.math.common.kernels;
+
+import org.markvarabyou.math.common.ExecutionPolicy;
+import org.markvarabyou.math.common.RangeTask;
+
+import java.util.Arrays;
+
+/**
+ * Matrix-vector multiplication kernel for double elements (y = A * x).
+ * Matrix with contiguous rows is multiplied row by row with unrolled dot products,
+ * matrix with contiguous columns (for example transposed view) adds scaled columns to result,
+ * so matrix is always streamed in storage order once and runs at memory bandwidth.
+ * Author: Mark Vorobyov
+ * Date: 10/20/26
+ * Time: 8:40 PM
+ */
+public final class DoubleGemv {
+    // Rows of result updated together by column pass, so result block stays in L1 cache
+    static final int ROW_BLOCK = 1024;
+
+    private DoubleGemv() {
+    }
+
+    /**
+     * Writes product of matrix and vector to result
+     * @param a matrix storage
+     * @param offset index of first element of matrix
+     * @param rowStride distance between rows of matrix
+     * @param colStride distance between columns of matrix
+     * @param rowCount count of rows in matrix
+     * @param colCount count of columns in matrix
+     * @param x vector storage
+     * @param xOffset index of first element of vector
+     * @param xStride distance between elements of vector
+     * @param y result storage for rowCount elements
+     * @param yOffset index of first element of result
+     * @param policy execution policy
+     */
+    public static void multiply(final double[] a, final int offset, final int rowStride, final int colStride,
+                                int rowCount, final int colCount, final double[] x, final int xOffset,
+                                final int xStride, final double[] y, final int yOffset, ExecutionPolicy policy) {
+        if (colStride != 1 && rowStride == 1){
+            int blocks = (rowCount + ROW_BLOCK - 1) / ROW_BLOCK;
+            final int rows = rowCount;
+            policy.execute(blocks, (long) ROW_BLOCK * colCount, new RangeTask() {
+                @Override
+                public void compute(int from, int to) {
+                    for (int block = from; block < to; block++){
+                        int row = block * ROW_BLOCK;
+                        int length = Math.min(ROW_BLOCK, rows - row);
+                        Arrays.fill(y, yOffset + row, yOffset + row + length, 0);
+                        for (int j = 0; j < colCount; j++){
+                            DenseKernels.axpy(x[xOffset + j * xStride], a, offset + row + j * colStride,
+                                    y, yOffset + row, length);
+                        }
+                    }
+                }
+            });
+            return;
+        }
+        policy.execute(rowCount, colCount, new RangeTask() {
+            @Override
+            public void compute(int from, int to) {
+                for (int i = from; i < to; i++){
+                    y[yOffset + i] = DenseKernels.dot(a, offset + i * rowStride, colStride, x, xOffset, xStride,
+                            colCount);
+                }
+            }
+        });
+    }
+}
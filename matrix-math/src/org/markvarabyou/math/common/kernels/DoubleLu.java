@@ -0,0 +1,155 @@
+package org.markvarabyou.math.common.kernels;
+
+import org.markvarabyou.math.common.ExecutionPolicy;
+import org.markvarabyou.math.common.RangeTask;
+
+/**
+ * Blocked LU decomposition with partial pivoting of square row-major double matrix (PA = LU).
+ * Every PANEL columns are factorized unblocked, then the panel rows of U are solved and trailing matrix
+ * is updated by {@link DoubleGemm}, so almost all work runs in GEMM kernel split between threads of policy.
+ * Author: Mark Vorobyov
+ * Date: 10/21/26
+ * Time: 11:10 AM
+ */
+public final class DoubleLu {
+    // Columns factorized together, inner dimension of trailing update
+    static final int PANEL = 64;
+    // Columns processed by one task of triangular solves
+    static final int COL_BLOCK = 256;
+
+    private DoubleLu() {
+    }
+
+    /**
+     * Factorizes matrix in place: unit lower triangle of L is stored below diagonal, U on and above it.
+     * Zero pivot columns are left unscaled, so singular matrix has zero on diagonal of U
+     * @param a matrix storage, n x n row-major
+     * @param n count of rows and columns
+     * @param pivots row swapped with row i on step i, filled for n elements
+     * @param policy execution policy
+     * @return sign of row permutation, 1 or -1
+     */
+    public static int factor(final double[] a, final int n, int[] pivots, ExecutionPolicy policy) {
+        int sign = 1;
+        double[] packed = null;
+        for (int k = 0; k < n; k += PANEL){
+            final int panel = k;
+            final int width = Math.min(PANEL, n - k);
+            sign *= factorPanel(a, n, panel, width, pivots);
+            final int rest = n - panel - width;
+            if (rest == 0)
+                break;
+
+            // U12 = L11^-1 * A12, columns of block row are independent
+            int blocks = (rest + COL_BLOCK - 1) / COL_BLOCK;
+            policy.execute(blocks, (long) COL_BLOCK * width * width, new RangeTask() {
+                @Override
+                public void compute(int from, int to) {
+                    int col = panel + width + from * COL_BLOCK;
+                    int length = Math.min(n, panel + width + to * COL_BLOCK) - col;
+                    for (int i = panel + 1; i < panel + width; i++){
+                        for (int p = panel; p < i; p++){
+                            DenseKernels.axpy(-a[i * n + p], a, p * n + col, a, i * n + col, length);
+                        }
+                    }
+                }
+            });
+
+            // A22 -= L21 * U12, U12 is packed negated as GEMM kernel only adds product
+            packed = DoubleGemm.packB(a, panel * n + panel + width, n, 1, width, rest, packed);
+            for (int i = 0; i < packed.length; i++){
+                packed[i] = -packed[i];
+            }
+            DoubleGemm.multiply(a, (panel + width) * n + panel, n, 1, packed, a, (panel + width) * (n + 1), n,
+                    rest, width, rest, policy);
+        }
+        return sign;
+    }
+
+    private static int factorPanel(double[] a, int n, int panel, int width, int[] pivots) {
+        int sign = 1;
+        for (int j = panel; j < panel + width; j++){
+            int pivot = j;
+            double max = Math.abs(a[j * n + j]);
+            for (int i = j + 1; i < n; i++){
+                double value = Math.abs(a[i * n + j]);
+                if (value > max){
+                    max = value;
+                    pivot = i;
+                }
+            }
+            pivots[j] = pivot;
+            if (pivot != j){
+                swapRows(a, n, j, pivot);
+                sign = -sign;
+            }
+            double diagonal = a[j * n + j];
+            if (diagonal == 0)
+                continue;
+
+            for (int i = j + 1; i < n; i++){
+                double factor = a[i * n + j] / diagonal;
+                a[i * n + j] = factor;
+                if (factor != 0)
+                    DenseKernels.axpy(-factor, a, j * n + j + 1, a, i * n + j + 1, panel + width - j - 1);
+            }
+        }
+        return sign;
+    }
+
+    private static void swapRows(double[] a, int colCount, int first, int second) {
+        for (int j = 0, x = first * colCount, y = second * colCount; j < colCount; j++, x++, y++){
+            double value = a[x];
+            a[x] = a[y];
+            a[y] = value;
+        }
+    }
+
+    /**
+     * Solves system with factorized matrix in place of right-hand sides (A * X = B)
+     * @param lu matrix factorized by {@link #factor}, should have non-zero diagonal
+     * @param n count of rows and columns of matrix
+     * @param pivots pivots from factorization
+     * @param b right-hand sides, n x colCount row-major, overwritten by solution
+     * @param colCount count of right-hand sides
+     * @param policy execution policy
+     */
+    public static void solve(final double[] lu, final int n, int[] pivots, final double[] b, final int colCount,
+                             ExecutionPolicy policy) {
+        for (int i = 0; i < n; i++){
+            if (pivots[i] != i)
+                swapRows(b, colCount, i, pivots[i]);
+        }
+
+        if (colCount == 1){
+            for (int i = 1; i < n; i++){
+                b[i] -= DenseKernels.dot(lu, i * n, 1, b, 0, 1, i);
+            }
+            for (int i = n - 1; i >= 0; i--){
+                b[i] = (b[i] - DenseKernels.dot(lu, i * n + i + 1, 1, b, i + 1, 1, n - i - 1)) / lu[i * n + i];
+            }
+            return;
+        }
+
+        // Right-hand sides are independent, every task substitutes its block of columns
+        int blocks = (colCount + COL_BLOCK - 1) / COL_BLOCK;
+        policy.execute(blocks, (long) COL_BLOCK * n * n, new RangeTask() {
+            @Override
+            public void compute(int from, int to) {
+                int col = from * COL_BLOCK;
+                int length = Math.min(colCount, to * COL_BLOCK) - col;
+                for (int i = 1; i < n; i++){
+                    for (int p = 0; p < i; p++){
+                        DenseKernels.axpy(-lu[i * n + p], b, p * colCount + col, b, i * colCount + col, length);
+                    }
+                }
+                for (int i = n - 1; i >= 0; i--){
+                    for (int p = i + 1; p < n; p++){
+                        DenseKernels.axpy(-lu[i * n + p], b, p * colCount + col, b, i * colCount + col, length);
+                    }
+                    DenseKernels.scale(b, i * colCount + col, 1 / lu[i * n + i], b, i * colCount + col, length);
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,127 @@
+package org.markvarabyou.math.common.kernels;
+
+import org.markvarabyou.math.common.Calculator;
+import org.markvarabyou.math.common.ExecutionPolicy;
+import org.markvarabyou.math.common.RangeTask;
+
+/**
+ * Element-wise kernels for matrix storages, split between threads by execution policy.
+ * Author: Mark Vorobyov
+ * Date: 10/18/26
+ * Time: 2:30 PM
+ */
+public final class ElementWise {
+
+    private ElementWise() {
+    }
+
+    /**
+     * Sums storages element by element
+     * @param calculator object to perform math operations with elements
+     * @param a first storage
+     * @param b second storage of the same length
+     * @param policy execution policy
+     * @return new storage with sums
+     */
+    public static <T> Object[] add(final Calculator<T> calculator, final Object[] a, final Object[] b,
+                                   ExecutionPolicy policy) {
+        final Object[] c = new Object[a.length];
+        policy.execute(a.length, 1, new RangeTask() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public void compute(int from, int to) {
+                for (int i = from; i < to; i++){
+                    c[i] = calculator.sum((T) a[i], (T) b[i]);
+                }
+            }
+        });
+        return c;
+    }
+
+    /**
+     * Multiplies every element of storage to single value
+     * @param calculator object to perform math operations with elements
+     * @param a storage
+     * @param value value to be multiplied
+     * @param policy execution policy
+     * @return new storage with products
+     */
+    public static <T> Object[] multiply(final Calculator<T> calculator, final Object[] a, final T value,
+                                        ExecutionPolicy policy) {
+        final Object[] c = new Object[a.length];
+        policy.execute(a.length, 1, new RangeTask() {
+            @SuppressWarnings("unchecked")
+            @Override
+            public void compute(int from, int to) {
+                for (int i = from; i < to; i++){
+                    c[i] = calculator.mul((T) a[i], value);
+                }
+            }
+        });
+        return c;
+    }
+
+    /**
+     * Sums arrays element by element (c = a + b)
+     * @param a first array
+     * @param b second array of the same length
+     * @param c array for result, may be the same as a or b
+     * @param policy execution policy
+     */
+    public static void add(final double[] a, final double[] b, final double[] c, ExecutionPolicy policy) {
+        policy.execute(c.length, 1, new RangeTask() {
+            @Override
+            public void compute(int from, int to) {
+                DenseKernels.add(a, from, b, from, c, from, to - from);
+            }
+        });
+    }
+
+    /**
+     * Multiplies every element of array to single value (c = a * value)
+     * @param a array
+     * @param value value to be multiplied
+     * @param c array for result, may be the same as a
+     * @param policy execution policy
+     */
+    public static void multiply(final double[] a, final double value, final double[] c, ExecutionPolicy policy) {
+        policy.execute(c.length, 1, new RangeTask() {
+            @Override
+            public void compute(int from, int to) {
+                DenseKernels.scale(a, from, value, c, from, to - from);
+            }
+        });
+    }
+
+    /**
+     * Sums float arrays element by element (c = a + b)
+     * @param a first array
+     * @param b second array of the same length
+     * @param c array for result, may be the same as a or b
+     * @param policy execution policy
+     */
+    public static void add(final float[] a, final float[] b, final float[] c, ExecutionPolicy policy) {
+        policy.execute(c.length, 1, new RangeTask() {
+            @Override
+            public void compute(int from, int to) {
+                DenseKernels.add(a, from, b, from, c, from, to - from);
+            }
+        });
+    }
+
+    /**
+     * Multiplies every element of float array to single value (c = a * value)
+     * @param a array
+     * @param value value to be multiplied
+     * @param c array for result, may be the same as a
+     * @param policy execution policy
+     */
+    public static void multiply(final float[] a, final float value, final float[] c, ExecutionPolicy policy) {
+        policy.execute(c.length, 1, new RangeTask() {
+            @Override
+            public void compute(int from, int to) {
+                DenseKernels.scale(a, from, value, c, from, to - from);
+            }
+        });
+    }
+}
@@ -0,0 +1,235 @@
+package org.markvarabyou.math.common.kernels;
+
+import org.markvarabyou.math.common.Accumulation;
+import org.markvarabyou.math.common.ExecutionPolicy;
+import org.markvarabyou.math.common.RangeTask;
+
+/**
+ * Cache-blocked matrix multiplication kernel for float elements with selectable accumulation precision.
+ * Operands are packed as floats like in {@link DoubleGemm}, result is computed by MC x TILE_COLS tiles:
+ * partial sums of tile stay in tile buffer of accumulation precision for whole inner dimension
+ * and are rounded to float once, when tile is added to result.
+ * Author: Mark Vorobyov
+ * Date: 10/21/26
+ * Time: 8:15 PM
+ */
+public final class FloatGemm {
+    static final int MR = 4;
+    static final int NR = 4;
+    static final int MC = 96;
+    static final int KC = 256;
+    static final int TILE_COLS = 256;
+
+    // Packed block of first operand, double tile, float tile and Kahan compensations of current thread
+    private static final ThreadLocal<Object[]> BUFFERS = new ThreadLocal<Object[]>() {
+        @Override
+        protected Object[] initialValue() {
+            return new Object[]{new float[MC * KC], new double[MC * TILE_COLS], new float[MC * TILE_COLS],
+                    new float[MC * TILE_COLS]};
+        }
+    };
+
+    private FloatGemm() {
+    }
+
+    /**
+     * Packs second operand into NR-wide column slivers, zero padded to multiple of NR
+     * @param b second operand storage
+     * @param offset index of first element
+     * @param rowStride distance between rows
+     * @param colStride distance between columns
+     * @param innerCount count of rows in second operand
+     * @param colCount count of columns in second operand
+     * @return packed copy which can be reused for many multiplications
+     */
+    public static float[] packB(float[] b, int offset, int rowStride, int colStride, int innerCount, int colCount) {
+        int slivers = (colCount + NR - 1) / NR;
+        float[] packed = new float[slivers * innerCount * NR];
+        int index = 0;
+        for (int s = 0; s < slivers; s++){
+            int col = s * NR;
+            int width = Math.min(NR, colCount - col);
+            for (int p = 0; p < innerCount; p++){
+                int source = offset + p * rowStride + col * colStride;
+                for (int j = 0; j < width; j++){
+                    packed[index + j] = b[source + j * colStride];
+                }
+                index += NR;
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Adds product of first operand and packed second operand to result (c += a * b)
+     * @param a first operand storage
+     * @param aOffset index of first element of first operand
+     * @param aRowStride distance between rows of first operand
+     * @param aColStride distance between columns of first operand
+     * @param packedB second operand packed with {@link #packB}
+     * @param c result storage
+     * @param cOffset index of first element of result
+     * @param ldc distance between rows of result
+     * @param rowCount count of rows in first operand
+     * @param innerCount count of columns in first operand
+     * @param colCount count of columns in second operand
+     * @param accumulation precision of partial sums
+     * @param policy execution policy
+     */
+    public static void multiply(final float[] a, final int aOffset, final int aRowStride, final int aColStride,
+                                final float[] packedB, final float[] c, final int cOffset, final int ldc,
+                                final int rowCount, final int innerCount, final int colCount,
+                                final Accumulation accumulation, ExecutionPolicy policy) {
+        final int colTiles = (colCount + TILE_COLS - 1) / TILE_COLS;
+        int rowTiles = (rowCount + MC - 1) / MC;
+        policy.execute(rowTiles * colTiles, (long) MC * TILE_COLS * innerCount, new RangeTask() {
+            @Override
+            public void compute(int from, int to) {
+                Object[] buffers = BUFFERS.get();
+                for (int tile = from; tile < to; tile++){
+                    int row = tile / colTiles * MC;
+                    int col = tile % colTiles * TILE_COLS;
+                    tile(a, aOffset, aRowStride, aColStride, packedB, c, cOffset, ldc, innerCount,
+                            row, Math.min(MC, rowCount - row), col, Math.min(TILE_COLS, colCount - col),
+                            accumulation, buffers);
+                }
+            }
+        });
+    }
+
+    private static void tile(float[] a, int aOffset, int aRowStride, int aColStride, float[] packedB,
+                             float[] c, int cOffset, int ldc, int innerCount,
+                             int row, int rows, int col, int cols, Accumulation accumulation, Object[] buffers) {
+        float[] packedA = (float[]) buffers[0];
+        double[] doubles = (double[]) buffers[1];
+        float[] floats = (float[]) buffers[2];
+        float[] compensations = (float[]) buffers[3];
+        int size = ((rows + MR - 1) / MR * MR) * TILE_COLS;
+        if (accumulation == Accumulation.DOUBLE){
+            java.util.Arrays.fill(doubles, 0, size, 0);
+        } else {
+            java.util.Arrays.fill(floats, 0, size, 0);
+            java.util.Arrays.fill(compensations, 0, size, 0);
+        }
+
+        for (int pc = 0; pc < innerCount; pc += KC){
+            int kc = Math.min(KC, innerCount - pc);
+            packA(a, aOffset, aRowStride, aColStride, row, pc, rows, kc, packedA);
+            for (int jr = 0; jr < cols; jr += NR){
+                int bIndex = (((col + jr) / NR) * innerCount + pc) * NR;
+                for (int ir = 0; ir < rows; ir += MR){
+                    int tIndex = ir * TILE_COLS + jr;
+                    if (accumulation == Accumulation.DOUBLE)
+                        kernel(kc, packedA, ir * kc, packedB, bIndex, doubles, tIndex);
+                    else if (accumulation == Accumulation.FLOAT)
+                        kernel(kc, packedA, ir * kc, packedB, bIndex, floats, tIndex);
+                    else
+                        kahanKernel(kc, packedA, ir * kc, packedB, bIndex, floats, compensations, tIndex);
+                }
+            }
+        }
+
+        for (int i = 0; i < rows; i++){
+            int target = cOffset + (row + i) * ldc + col;
+            for (int j = 0, t = i * TILE_COLS; j < cols; j++, t++){
+                if (accumulation == Accumulation.DOUBLE)
+                    c[target + j] = (float) (c[target + j] + doubles[t]);
+                else
+                    c[target + j] += floats[t] - compensations[t];
+            }
+        }
+    }
+
+    private static void packA(float[] a, int offset, int rowStride, int colStride,
+                              int row, int inner, int mc, int kc, float[] packed) {
+        int index = 0;
+        for (int ir = 0; ir < mc; ir += MR){
+            int height = Math.min(MR, mc - ir);
+            for (int p = 0; p < kc; p++){
+                int source = offset + (row + ir) * rowStride + (inner + p) * colStride;
+                for (int i = 0; i < height; i++){
+                    packed[index + i] = a[source + i * rowStride];
+                }
+                for (int i = height; i < MR; i++){
+                    packed[index + i] = 0;
+                }
+                index += MR;
+            }
+        }
+    }
+
+    private static void kernel(int kc, float[] a, int aIndex, float[] b, int bIndex, double[] t, int tIndex) {
+        int t1 = tIndex + TILE_COLS, t2 = t1 + TILE_COLS, t3 = t2 + TILE_COLS;
+        double c00 = t[tIndex], c01 = t[tIndex + 1], c02 = t[tIndex + 2], c03 = t[tIndex + 3];
+        double c10 = t[t1], c11 = t[t1 + 1], c12 = t[t1 + 2], c13 = t[t1 + 3];
+        double c20 = t[t2], c21 = t[t2 + 1], c22 = t[t2 + 2], c23 = t[t2 + 3];
+        double c30 = t[t3], c31 = t[t3 + 1], c32 = t[t3 + 2], c33 = t[t3 + 3];
+
+        for (int p = 0; p < kc; p++){
+            double b0 = b[bIndex], b1 = b[bIndex + 1], b2 = b[bIndex + 2], b3 = b[bIndex + 3];
+            double a0 = a[aIndex];
+            c00 += a0 * b0; c01 += a0 * b1; c02 += a0 * b2; c03 += a0 * b3;
+            double a1 = a[aIndex + 1];
+            c10 += a1 * b0; c11 += a1 * b1; c12 += a1 * b2; c13 += a1 * b3;
+            double a2 = a[aIndex + 2];
+            c20 += a2 * b0; c21 += a2 * b1; c22 += a2 * b2; c23 += a2 * b3;
+            double a3 = a[aIndex + 3];
+            c30 += a3 * b0; c31 += a3 * b1; c32 += a3 * b2; c33 += a3 * b3;
+            aIndex += MR;
+            bIndex += NR;
+        }
+
+        t[tIndex] = c00; t[tIndex + 1] = c01; t[tIndex + 2] = c02; t[tIndex + 3] = c03;
+        t[t1] = c10; t[t1 + 1] = c11; t[t1 + 2] = c12; t[t1 + 3] = c13;
+        t[t2] = c20; t[t2 + 1] = c21; t[t2 + 2] = c22; t[t2 + 3] = c23;
+        t[t3] = c30; t[t3 + 1] = c31; t[t3 + 2] = c32; t[t3 + 3] = c33;
+    }
+
+    private static void kernel(int kc, float[] a, int aIndex, float[] b, int bIndex, float[] t, int tIndex) {
+        int t1 = tIndex + TILE_COLS, t2 = t1 + TILE_COLS, t3 = t2 + TILE_COLS;
+        float c00 = t[tIndex], c01 = t[tIndex + 1], c02 = t[tIndex + 2], c03 = t[tIndex + 3];
+        float c10 = t[t1], c11 = t[t1 + 1], c12 = t[t1 + 2], c13 = t[t1 + 3];
+        float c20 = t[t2], c21 = t[t2 + 1], c22 = t[t2 + 2], c23 = t[t2 + 3];
+        float c30 = t[t3], c31 = t[t3 + 1], c32 = t[t3 + 2], c33 = t[t3 + 3];
+
+        for (int p = 0; p < kc; p++){
+            float b0 = b[bIndex], b1 = b[bIndex + 1], b2 = b[bIndex + 2], b3 = b[bIndex + 3];
+            float a0 = a[aIndex];
+            c00 += a0 * b0; c01 += a0 * b1; c02 += a0 * b2; c03 += a0 * b3;
+            float a1 = a[aIndex + 1];
+            c10 += a1 * b0; c11 += a1 * b1; c12 += a1 * b2; c13 += a1 * b3;
+            float a2 = a[aIndex + 2];
+            c20 += a2 * b0; c21 += a2 * b1; c22 += a2 * b2; c23 += a2 * b3;
+            float a3 = a[aIndex + 3];
+            c30 += a3 * b0; c31 += a3 * b1; c32 += a3 * b2; c33 += a3 * b3;
+            aIndex += MR;
+            bIndex += NR;
+        }
+
+        t[tIndex] = c00; t[tIndex + 1] = c01; t[tIndex + 2] = c02; t[tIndex + 3] = c03;
+        t[t1] = c10; t[t1 + 1] = c11; t[t1 + 2] = c12; t[t1 + 3] = c13;
+        t[t2] = c20; t[t2 + 1] = c21; t[t2 + 2] = c22; t[t2 + 3] = c23;
+        t[t3] = c30; t[t3 + 1] = c31; t[t3 + 2] = c32; t[t3 + 3] = c33;
+    }
+
+    /**
+     * Row by row compensated kernel, every sum keeps rounding error lost by previous additions
+     */
+    private static void kahanKernel(int kc, float[] a, int aIndex, float[] b, int bIndex,
+                                    float[] t, float[] e, int tIndex) {
+        for (int i = 0; i < MR; i++, tIndex += TILE_COLS){
+            float s0 = t[tIndex], s1 = t[tIndex + 1], s2 = t[tIndex + 2], s3 = t[tIndex + 3];
+            float e0 = e[tIndex], e1 = e[tIndex + 1], e2 = e[tIndex + 2], e3 = e[tIndex + 3];
+            for (int p = 0, ai = aIndex + i, bi = bIndex; p < kc; p++, ai += MR, bi += NR){
+                float ap = a[ai];
+                float y0 = ap * b[bi] - e0, y1 = ap * b[bi + 1] - e1;
+                float y2 = ap * b[bi + 2] - e2, y3 = ap * b[bi + 3] - e3;
+                float r0 = s0 + y0, r1 = s1 + y1, r2 = s2 + y2, r3 = s3 + y3;
+                e0 = (r0 - s0) - y0; e1 = (r1 - s1) - y1; e2 = (r2 - s2) - y2; e3 = (r3 - s3) - y3;
+                s0 = r0; s1 = r1; s2 = r2; s3 = r3;
+            }
+            t[tIndex] = s0; t[tIndex + 1] = s1; t[tIndex + 2] = s2; t[tIndex + 3] = s3;
+            e[tIndex] = e0; e[tIndex + 1] = e1; e[tIndex + 2] = e2; e[tIndex + 3] = e3;
+        }
+    }
+}
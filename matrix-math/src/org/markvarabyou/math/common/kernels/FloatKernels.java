@@ -0,0 +1,138 @@
+package org.markvarabyou.math.common.kernels;
+
+import org.markvarabyou.math.common.Accumulation;
+import org.markvarabyou.math.common.ExecutionPolicy;
+import org.markvarabyou.math.common.RangeTask;
+
+/**
+ * Reductions over float elements with selectable accumulation precision.
+ * Elements are read as floats, so memory traffic is half of double kernels, while
+ * {@link Accumulation#DOUBLE} and {@link Accumulation#KAHAN} keep error of long sums close to one rounding.
+ * Author: Mark Vorobyov
+ * Date: 10/21/26
+ * Time: 7:40 PM
+ */
+public final class FloatKernels {
+
+    private FloatKernels() {
+    }
+
+    /**
+     * Computes dot product of two strided sequences
+     * @param a first storage
+     * @param aOffset index of first element of first sequence
+     * @param aStride distance between elements of first sequence
+     * @param b second storage
+     * @param bOffset index of first element of second sequence
+     * @param bStride distance between elements of second sequence
+     * @param length count of elements
+     * @param accumulation precision of partial sums
+     * @return sum of products
+     */
+    public static float dot(float[] a, int aOffset, int aStride, float[] b, int bOffset, int bStride, int length,
+                            Accumulation accumulation) {
+        if (accumulation == Accumulation.FLOAT)
+            return DenseKernels.dot(a, aOffset, aStride, b, bOffset, bStride, length);
+
+        if (accumulation == Accumulation.KAHAN){
+            float sum = 0, compensation = 0;
+            for (int i = 0; i < length; i++, aOffset += aStride, bOffset += bStride){
+                float y = a[aOffset] * b[bOffset] - compensation;
+                float t = sum + y;
+                compensation = (t - sum) - y;
+                sum = t;
+            }
+            return sum;
+        }
+
+        double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+        int i = 0;
+        if (aStride == 1 && bStride == 1){
+            // Single induction variable lets JIT compiler drop range checks of both arrays
+            int shift = bOffset - aOffset;
+            int end = aOffset + length;
+            for (i = aOffset; i < end - 3; i += 4){
+                s0 += (double) a[i] * b[i + shift];
+                s1 += (double) a[i + 1] * b[i + 1 + shift];
+                s2 += (double) a[i + 2] * b[i + 2 + shift];
+                s3 += (double) a[i + 3] * b[i + 3 + shift];
+            }
+            for (; i < end; i++){
+                s0 += (double) a[i] * b[i + shift];
+            }
+            return (float) ((s0 + s1) + (s2 + s3));
+        }
+        for (; i + 3 < length; i += 4, aOffset += 4 * aStride, bOffset += 4 * bStride){
+            s0 += (double) a[aOffset] * b[bOffset];
+            s1 += (double) a[aOffset + aStride] * b[bOffset + bStride];
+            s2 += (double) a[aOffset + 2 * aStride] * b[bOffset + 2 * bStride];
+            s3 += (double) a[aOffset + 3 * aStride] * b[bOffset + 3 * bStride];
+        }
+        for (; i < length; i++, aOffset += aStride, bOffset += bStride){
+            s0 += (double) a[aOffset] * b[bOffset];
+        }
+        return (float) ((s0 + s1) + (s2 + s3));
+    }
+
+    /**
+     * Sums strided elements
+     * @param a storage
+     * @param offset index of first element
+     * @param stride distance between elements
+     * @param length count of elements
+     * @param accumulation precision of partial sums
+     * @return sum of elements
+     */
+    public static float sum(float[] a, int offset, int stride, int length, Accumulation accumulation) {
+        if (accumulation == Accumulation.FLOAT && stride == 1)
+            return DenseKernels.sum(a, offset, length);
+
+        if (accumulation == Accumulation.KAHAN){
+            float sum = 0, compensation = 0;
+            for (int i = 0; i < length; i++, offset += stride){
+                float y = a[offset] - compensation;
+                float t = sum + y;
+                compensation = (t - sum) - y;
+                sum = t;
+            }
+            return sum;
+        }
+
+        double sum = 0;
+        for (int i = 0; i < length; i++, offset += stride){
+            sum += a[offset];
+        }
+        return (float) sum;
+    }
+
+    /**
+     * Writes product of matrix and vector to result (y = A * x), every element is one dot product
+     * @param a matrix storage
+     * @param offset index of first element of matrix
+     * @param rowStride distance between rows of matrix
+     * @param colStride distance between columns of matrix
+     * @param rowCount count of rows in matrix
+     * @param colCount count of columns in matrix
+     * @param x vector storage
+     * @param xOffset index of first element of vector
+     * @param xStride distance between elements of vector
+     * @param y result storage for rowCount elements
+     * @param yOffset index of first element of result
+     * @param accumulation precision of partial sums
+     * @param policy execution policy
+     */
+    public static void multiply(final float[] a, final int offset, final int rowStride, final int colStride,
+                                int rowCount, final int colCount, final float[] x, final int xOffset,
+                                final int xStride, final float[] y, final int yOffset,
+                                final Accumulation accumulation, ExecutionPolicy policy) {
+        policy.execute(rowCount, colCount, new RangeTask() {
+            @Override
+            public void compute(int from, int to) {
+                for (int i = from; i < to; i++){
+                    y[yOffset + i] = dot(a, offset + i * rowStride, colStride, x, xOffset, xStride, colCount,
+                            accumulation);
+                }
+            }
+        });
+    }
+}
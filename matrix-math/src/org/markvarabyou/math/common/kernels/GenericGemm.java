@@ -0,0 +1,299 @@
+package org.markvarabyou.math.common.kernels;
+
+import org.markvarabyou.math.common.Calculator;
+import org.markvarabyou.math.common.ExecutionPolicy;
+import org.markvarabyou.math.common.RangeTask;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cache-blocked matrix multiplication kernel for elements handled by calculator.
+ * Uses the same packing scheme as {@link DoubleGemm} with smaller register block,
+ * so no intermediate vectors are created and second operand is read contiguously.
+ * Author: Mark Vorobyov
+ * Date: 10/18/26
+ * Time: 12:40 PM
+ */
+public final class GenericGemm {
+    static final int MR = 2;
+    static final int NR = 2;
+    static final int MC = 64;
+    static final int KC = 128;
+    static final int NC = 2048;
+    static final int TILE_COLS = 128;
+
+    private GenericGemm() {
+    }
+
+    /**
+     * Multiplies two row-major matrices
+     * @param calculator object to perform math operations with elements
+     * @param a first matrix rowCount x innerCount
+     * @param b second matrix innerCount x colCount
+     * @param rowCount count of rows in first matrix
+     * @param innerCount count of columns in first matrix
+     * @param colCount count of columns in second matrix
+     * @return row-major product rowCount x colCount
+     */
+    public static <T> Object[] multiply(Calculator<T> calculator, Object[] a, Object[] b,
+                                        int rowCount, int innerCount, int colCount) {
+        return multiply(calculator, a, b, rowCount, innerCount, colCount, ExecutionPolicy.SEQUENTIAL);
+    }
+
+    /**
+     * Multiplies two row-major matrices
+     * @param calculator object to perform math operations with elements
+     * @param a first matrix rowCount x innerCount
+     * @param b second matrix innerCount x colCount
+     * @param rowCount count of rows in first matrix
+     * @param innerCount count of columns in first matrix
+     * @param colCount count of columns in second matrix
+     * @param policy execution policy
+     * @return row-major product rowCount x colCount
+     */
+    public static <T> Object[] multiply(Calculator<T> calculator, Object[] a, Object[] b,
+                                        int rowCount, int innerCount, int colCount, ExecutionPolicy policy) {
+        return multiply(calculator, a, 0, innerCount, 1, b, 0, colCount, 1, rowCount, innerCount, colCount, policy);
+    }
+
+    /**
+     * Multiplies two strided matrices, so transposed operands are read in place
+     * @param calculator object to perform math operations with elements
+     * @param a first operand storage
+     * @param aOffset index of first element of first operand
+     * @param aRowStride distance between rows of first operand
+     * @param aColStride distance between columns of first operand
+     * @param b second operand storage
+     * @param bOffset index of first element of second operand
+     * @param bRowStride distance between rows of second operand
+     * @param bColStride distance between columns of second operand
+     * @param rowCount count of rows in first matrix
+     * @param innerCount count of columns in first matrix
+     * @param colCount count of columns in second matrix
+     * @param policy execution policy
+     * @return row-major product rowCount x colCount
+     */
+    public static <T> Object[] multiply(Calculator<T> calculator, Object[] a, int aOffset, int aRowStride,
+                                        int aColStride, Object[] b, int bOffset, int bRowStride, int bColStride,
+                                        int rowCount, int innerCount, int colCount, ExecutionPolicy policy) {
+        Object[] c = newResult(calculator, rowCount * colCount);
+        Object[] packedB = packB(calculator, b, bOffset, bRowStride, bColStride, innerCount, colCount);
+        multiply(calculator, a, aOffset, aRowStride, aColStride, packedB, c, 0, colCount,
+                rowCount, innerCount, colCount, policy);
+        return c;
+    }
+
+    /**
+     * Multiplies every matrix of batch by shared second operand (batch[i] * b), packing second operand once
+     * @param calculator object to perform math operations with elements
+     * @param batch row-major first operands with innerCount columns
+     * @param rowCounts count of rows in every first operand
+     * @param innerCount count of columns in first operands
+     * @param b second operand storage
+     * @param bOffset index of first element of second operand
+     * @param bRowStride distance between rows of second operand
+     * @param bColStride distance between columns of second operand
+     * @param colCount count of columns in second operand
+     * @param policy execution policy
+     * @return row-major products
+     */
+    public static <T> List<Object[]> multiplyBatch(Calculator<T> calculator, List<Object[]> batch, int[] rowCounts,
+                                                   int innerCount, Object[] b, int bOffset, int bRowStride,
+                                                   int bColStride, int colCount, ExecutionPolicy policy) {
+        Object[] packedB = packB(calculator, b, bOffset, bRowStride, bColStride, innerCount, colCount);
+        List<Object[]> result = new ArrayList<Object[]>(batch.size());
+        for (int m = 0; m < batch.size(); m++){
+            Object[] c = newResult(calculator, rowCounts[m] * colCount);
+            multiply(calculator, batch.get(m), 0, innerCount, 1, packedB, c, 0, colCount,
+                    rowCounts[m], innerCount, colCount, policy);
+            result.add(c);
+        }
+        return result;
+    }
+
+    /**
+     * Adds product of first operand and packed second operand to result,
+     * splitting result into MC x TILE_COLS tiles when policy is parallel
+     * @param calculator object to perform math operations with elements
+     * @param a first operand storage
+     * @param aOffset index of first element of first operand
+     * @param aRowStride distance between rows of first operand
+     * @param aColStride distance between columns of first operand
+     * @param packedB second operand packed with {@link #packB}
+     * @param c result storage
+     * @param cOffset index of first element of result
+     * @param ldc distance between rows of result
+     * @param rowCount count of rows in first operand
+     * @param innerCount count of columns in first operand
+     * @param colCount count of columns in second operand
+     * @param policy execution policy
+     */
+    public static <T> void multiply(final Calculator<T> calculator, final Object[] a, final int aOffset,
+                                    final int aRowStride, final int aColStride, final Object[] packedB,
+                                    final Object[] c, final int cOffset, final int ldc,
+                                    final int rowCount, final int innerCount, final int colCount,
+                                    ExecutionPolicy policy) {
+        long work = (long) rowCount * innerCount * colCount;
+        if (!policy.isParallel(work)){
+            multiply(calculator, a, aOffset, aRowStride, aColStride, packedB, c, cOffset, ldc, innerCount,
+                    0, rowCount, 0, colCount);
+            return;
+        }
+
+        final int colTiles = (colCount + TILE_COLS - 1) / TILE_COLS;
+        int rowTiles = (rowCount + MC - 1) / MC;
+        policy.execute(rowTiles * colTiles, (long) MC * TILE_COLS * innerCount, new RangeTask() {
+            @Override
+            public void compute(int from, int to) {
+                Object[] packedA = new Object[MC * KC];
+                for (int tile = from; tile < to; tile++){
+                    int row = (tile / colTiles) * MC;
+                    int col = (tile % colTiles) * TILE_COLS;
+                    multiply(calculator, a, aOffset, aRowStride, aColStride, packedB, c, cOffset, ldc, innerCount,
+                            row, Math.min(rowCount, row + MC), col, Math.min(colCount, col + TILE_COLS), packedA);
+                }
+            }
+        });
+    }
+
+    /**
+     * Creates storage filled with initial values of calculator
+     * @param calculator object to perform math operations with elements
+     * @param length count of elements
+     * @return new storage
+     */
+    public static <T> Object[] newResult(Calculator<T> calculator, int length) {
+        Object[] result = new Object[length];
+        for (int i = 0; i < length; i++){
+            result[i] = calculator.getNew();
+        }
+        return result;
+    }
+
+    /**
+     * Packs second operand into NR-wide column slivers, padded with initial values
+     * @param calculator object to perform math operations with elements
+     * @param b second operand storage
+     * @param offset index of first element
+     * @param rowStride distance between rows
+     * @param colStride distance between columns
+     * @param innerCount count of rows in second operand
+     * @param colCount count of columns in second operand
+     * @return packed copy which can be reused for many multiplications
+     */
+    public static <T> Object[] packB(Calculator<T> calculator, Object[] b, int offset, int rowStride, int colStride,
+                                     int innerCount, int colCount) {
+        int slivers = (colCount + NR - 1) / NR;
+        Object[] packed = new Object[slivers * innerCount * NR];
+        T zero = calculator.getNew();
+        int index = 0;
+        for (int s = 0; s < slivers; s++){
+            int col = s * NR;
+            int width = Math.min(NR, colCount - col);
+            for (int p = 0; p < innerCount; p++){
+                int source = offset + p * rowStride + col * colStride;
+                for (int j = 0; j < NR; j++){
+                    packed[index + j] = j < width ? b[source + j * colStride] : zero;
+                }
+                index += NR;
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Adds product of first operand block and packed second operand to result block
+     * rows [rowFrom, rowTo) x columns [colFrom, colTo)
+     * @param calculator object to perform math operations with elements
+     * @param a first operand storage
+     * @param aOffset index of first element of first operand
+     * @param aRowStride distance between rows of first operand
+     * @param aColStride distance between columns of first operand
+     * @param packedB second operand packed with {@link #packB}
+     * @param c result storage
+     * @param cOffset index of first element of result
+     * @param ldc distance between rows of result
+     * @param innerCount count of columns in first operand
+     * @param rowFrom first row to compute
+     * @param rowTo row after the last one to compute
+     * @param colFrom first column to compute, should be multiple of NR
+     * @param colTo column after the last one to compute
+     */
+    public static <T> void multiply(Calculator<T> calculator, Object[] a, int aOffset, int aRowStride, int aColStride,
+                                    Object[] packedB, Object[] c, int cOffset, int ldc, int innerCount,
+                                    int rowFrom, int rowTo, int colFrom, int colTo) {
+        multiply(calculator, a, aOffset, aRowStride, aColStride, packedB, c, cOffset, ldc, innerCount,
+                rowFrom, rowTo, colFrom, colTo, new Object[MC * KC]);
+    }
+
+    private static <T> void multiply(Calculator<T> calculator, Object[] a, int aOffset, int aRowStride,
+                                     int aColStride, Object[] packedB, Object[] c, int cOffset, int ldc,
+                                     int innerCount, int rowFrom, int rowTo, int colFrom, int colTo,
+                                     Object[] packedA) {
+        T zero = calculator.getNew();
+
+        for (int jc = colFrom; jc < colTo; jc += NC){
+            int nc = Math.min(NC, colTo - jc);
+            for (int pc = 0; pc < innerCount; pc += KC){
+                int kc = Math.min(KC, innerCount - pc);
+                for (int ic = rowFrom; ic < rowTo; ic += MC){
+                    int mc = Math.min(MC, rowTo - ic);
+                    packA(a, aOffset, aRowStride, aColStride, ic, pc, mc, kc, packedA, zero);
+                    for (int jr = 0; jr < nc; jr += NR){
+                        int nr = Math.min(NR, nc - jr);
+                        int bIndex = (((jc + jr) / NR) * innerCount + pc) * NR;
+                        for (int ir = 0; ir < mc; ir += MR){
+                            int mr = Math.min(MR, mc - ir);
+                            kernel(calculator, kc, packedA, ir * kc, packedB, bIndex,
+                                    c, cOffset + (ic + ir) * ldc + jc + jr, ldc, mr, nr, zero);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private static void packA(Object[] a, int offset, int rowStride, int colStride,
+                              int row, int inner, int mc, int kc, Object[] packed, Object zero) {
+        int index = 0;
+        for (int ir = 0; ir < mc; ir += MR){
+            int height = Math.min(MR, mc - ir);
+            for (int p = 0; p < kc; p++){
+                int source = offset + (row + ir) * rowStride + (inner + p) * colStride;
+                for (int i = 0; i < MR; i++){
+                    packed[index + i] = i < height ? a[source + i * rowStride] : zero;
+                }
+                index += MR;
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void kernel(Calculator<T> calculator, int kc, Object[] a, int aIndex, Object[] b, int bIndex,
+                                   Object[] c, int cIndex, int ldc, int mr, int nr, T zero) {
+        T c00 = zero, c01 = zero;
+        T c10 = zero, c11 = zero;
+
+        for (int p = 0; p < kc; p++){
+            T a0 = (T) a[aIndex], a1 = (T) a[aIndex + 1];
+            T b0 = (T) b[bIndex], b1 = (T) b[bIndex + 1];
+            c00 = calculator.fma(a0, b0, c00);
+            c01 = calculator.fma(a0, b1, c01);
+            c10 = calculator.fma(a1, b0, c10);
+            c11 = calculator.fma(a1, b1, c11);
+            aIndex += MR;
+            bIndex += NR;
+        }
+
+        c[cIndex] = calculator.sum((T) c[cIndex], c00);
+        if (nr > 1)
+            c[cIndex + 1] = calculator.sum((T) c[cIndex + 1], c01);
+        if (mr > 1){
+            cIndex += ldc;
+            c[cIndex] = calculator.sum((T) c[cIndex], c10);
+            if (nr > 1)
+                c[cIndex + 1] = calculator.sum((T) c[cIndex + 1], c11);
+        }
+    }
+}
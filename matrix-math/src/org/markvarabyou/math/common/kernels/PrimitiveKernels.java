@@ -0,0 +1,1106 @@
+package org.markvarabyou.math.common.kernels;
+
+import org.markvarabyou.math.common.Calculator;
+import org.markvarabyou.math.common.Calculators.DoubleCalculator;
+import org.markvarabyou.math.common.DoubleArithmetic;
+import org.markvarabyou.math.common.ExecutionPolicy;
+import org.markvarabyou.math.common.FloatArithmetic;
+import org.markvarabyou.math.common.IntArithmetic;
+import org.markvarabyou.math.common.LongArithmetic;
+import org.markvarabyou.math.common.RangeTask;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * Kernels for boxed storages of primitive-backed calculators (see {@link IntArithmetic}, {@link LongArithmetic},
+ * {@link FloatArithmetic}, {@link DoubleArithmetic}). Elements are unboxed once, inner loops call primitive
+ * operations of calculator and results are boxed once, so no boxing happens per multiply-add.
+ * Author: Mark Vorobyov
+ * Date: 10/20/26
+ * Time: 10:05 AM
+ */
+public final class PrimitiveKernels {
+    // Product is split into MC x TILE_COLS tiles, second operand is packed into panels of KC rows,
+    // so panel columns of tile stay in cache while all rows of tile are computed
+    static final int MC = 64;
+    static final int KC = 256;
+    static final int TILE_COLS = 128;
+
+    private PrimitiveKernels() {
+    }
+
+    /**
+     * @param calculator calculator of elements
+     * @return true if calculator has primitive contract and kernels of this class can be used
+     */
+    public static boolean supports(Calculator<?> calculator) {
+        return calculator instanceof IntArithmetic || calculator instanceof LongArithmetic
+                || calculator instanceof FloatArithmetic || calculator instanceof DoubleArithmetic;
+    }
+
+    /**
+     * Multiplies two row-major matrices. Standard {@link DoubleCalculator} uses {@link DoubleGemm},
+     * other calculators add dot-product hooks over KC-deep panels to every element of cache-blocked tiles
+     * @param calculator primitive-backed calculator
+     * @param a first matrix rowCount x innerCount
+     * @param b second matrix innerCount x colCount
+     * @param rowCount count of rows in first matrix
+     * @param innerCount count of columns in first matrix
+     * @param colCount count of columns in second matrix
+     * @param policy execution policy
+     * @return row-major product rowCount x colCount
+     */
+    public static Object[] multiply(Calculator<?> calculator, Object[] a, Object[] b,
+                                    int rowCount, int innerCount, int colCount, ExecutionPolicy policy) {
+        return multiply(calculator, a, 0, innerCount, 1, b, 0, colCount, 1, rowCount, innerCount, colCount, policy);
+    }
+
+    /**
+     * Multiplies two strided matrices, so transposed operands are read in place.
+     * Second operand is unboxed once into panels whose columns are contiguous for dot-product hook
+     * @param calculator primitive-backed calculator
+     * @param a first operand storage
+     * @param aOffset index of first element of first operand
+     * @param aRowStride distance between rows of first operand
+     * @param aColStride distance between columns of first operand
+     * @param b second operand storage
+     * @param bOffset index of first element of second operand
+     * @param bRowStride distance between rows of second operand
+     * @param bColStride distance between columns of second operand
+     * @param rowCount count of rows in first matrix
+     * @param innerCount count of columns in first matrix
+     * @param colCount count of columns in second matrix
+     * @param policy execution policy
+     * @return row-major product rowCount x colCount
+     */
+    public static Object[] multiply(Calculator<?> calculator, Object[] a, int aOffset, int aRowStride, int aColStride,
+                                    Object[] b, int bOffset, int bRowStride, int bColStride,
+                                    int rowCount, int innerCount, int colCount, ExecutionPolicy policy) {
+        if (calculator.getClass() == DoubleCalculator.class && colCount == 1){
+            double[] c = new double[rowCount];
+            DoubleGemv.multiply(toDoubles(a, aOffset, aRowStride, aColStride, rowCount, innerCount),
+                    0, innerCount, 1, rowCount, innerCount,
+                    toDoubles(b, bOffset, bRowStride, bColStride, innerCount, 1), 0, 1, c, 0, policy);
+            return box(c);
+        }
+        if (calculator.getClass() == DoubleCalculator.class){
+            double[] c = new double[rowCount * colCount];
+            DoubleGemm.multiply(toDoubles(a, aOffset, aRowStride, aColStride, rowCount, innerCount),
+                    toDoubles(b, bOffset, bRowStride, bColStride, innerCount, colCount),
+                    c, rowCount, innerCount, colCount, policy);
+            return box(c);
+        }
+        if (calculator instanceof IntArithmetic){
+            int[] c = new int[rowCount * colCount];
+            multiply((IntArithmetic) calculator, toInts(a, aOffset, aRowStride, aColStride, rowCount, innerCount),
+                    packInts(b, bOffset, bRowStride, bColStride, innerCount, colCount),
+                    c, rowCount, innerCount, colCount, policy);
+            return box(c);
+        }
+        if (calculator instanceof LongArithmetic){
+            long[] c = new long[rowCount * colCount];
+            multiply((LongArithmetic) calculator, toLongs(a, aOffset, aRowStride, aColStride, rowCount, innerCount),
+                    packLongs(b, bOffset, bRowStride, bColStride, innerCount, colCount),
+                    c, rowCount, innerCount, colCount, policy);
+            return box(c);
+        }
+        if (calculator instanceof FloatArithmetic){
+            float[] c = new float[rowCount * colCount];
+            multiply((FloatArithmetic) calculator, toFloats(a, aOffset, aRowStride, aColStride, rowCount, innerCount),
+                    packFloats(b, bOffset, bRowStride, bColStride, innerCount, colCount),
+                    c, rowCount, innerCount, colCount, policy);
+            return box(c);
+        }
+        if (calculator instanceof DoubleArithmetic){
+            double[] c = new double[rowCount * colCount];
+            multiply((DoubleArithmetic) calculator, toDoubles(a, aOffset, aRowStride, aColStride, rowCount, innerCount),
+                    packDoubles(b, bOffset, bRowStride, bColStride, innerCount, colCount),
+                    c, rowCount, innerCount, colCount, policy);
+            return box(c);
+        }
+        throw new IllegalArgumentException("Calculator has no primitive element type");
+    }
+
+    /**
+     * Multiplies every matrix of batch by shared second operand (batch[i] * b).
+     * Second operand is unboxed and packed once for whole batch
+     * @param calculator primitive-backed calculator
+     * @param batch row-major first operands with innerCount columns
+     * @param rowCounts count of rows in every first operand
+     * @param innerCount count of columns in first operands
+     * @param b second operand storage
+     * @param bOffset index of first element of second operand
+     * @param bRowStride distance between rows of second operand
+     * @param bColStride distance between columns of second operand
+     * @param colCount count of columns in second operand
+     * @param policy execution policy
+     * @return row-major products
+     */
+    public static List<Object[]> multiplyBatch(Calculator<?> calculator, List<Object[]> batch, int[] rowCounts,
+                                               int innerCount, Object[] b, int bOffset, int bRowStride, int bColStride,
+                                               int colCount, ExecutionPolicy policy) {
+        List<Object[]> result = new ArrayList<Object[]>(batch.size());
+        if (calculator.getClass() == DoubleCalculator.class){
+            double[] packedB = DoubleGemm.packB(toDoubles(b, bOffset, bRowStride, bColStride, innerCount, colCount),
+                    0, colCount, 1, innerCount, colCount);
+            for (int m = 0; m < batch.size(); m++){
+                Object[] a = batch.get(m);
+                int rowCount = rowCounts[m];
+                double[] c = new double[rowCount * colCount];
+                DoubleGemm.multiply(toDoubles(a, 0, innerCount, 1, rowCount, innerCount), 0, innerCount, 1,
+                        packedB, c, 0, colCount, rowCount, innerCount, colCount, policy);
+                result.add(box(c));
+            }
+        } else if (calculator instanceof IntArithmetic){
+            int[] packedB = packInts(b, bOffset, bRowStride, bColStride, innerCount, colCount);
+            for (int m = 0; m < batch.size(); m++){
+                Object[] a = batch.get(m);
+                int rowCount = rowCounts[m];
+                int[] c = new int[rowCount * colCount];
+                multiply((IntArithmetic) calculator, toInts(a, 0, innerCount, 1, rowCount, innerCount),
+                        packedB, c, rowCount, innerCount, colCount, policy);
+                result.add(box(c));
+            }
+        } else if (calculator instanceof LongArithmetic){
+            long[] packedB = packLongs(b, bOffset, bRowStride, bColStride, innerCount, colCount);
+            for (int m = 0; m < batch.size(); m++){
+                Object[] a = batch.get(m);
+                int rowCount = rowCounts[m];
+                long[] c = new long[rowCount * colCount];
+                multiply((LongArithmetic) calculator, toLongs(a, 0, innerCount, 1, rowCount, innerCount),
+                        packedB, c, rowCount, innerCount, colCount, policy);
+                result.add(box(c));
+            }
+        } else if (calculator instanceof FloatArithmetic){
+            float[] packedB = packFloats(b, bOffset, bRowStride, bColStride, innerCount, colCount);
+            for (int m = 0; m < batch.size(); m++){
+                Object[] a = batch.get(m);
+                int rowCount = rowCounts[m];
+                float[] c = new float[rowCount * colCount];
+                multiply((FloatArithmetic) calculator, toFloats(a, 0, innerCount, 1, rowCount, innerCount),
+                        packedB, c, rowCount, innerCount, colCount, policy);
+                result.add(box(c));
+            }
+        } else if (calculator instanceof DoubleArithmetic){
+            double[] packedB = packDoubles(b, bOffset, bRowStride, bColStride, innerCount, colCount);
+            for (int m = 0; m < batch.size(); m++){
+                Object[] a = batch.get(m);
+                int rowCount = rowCounts[m];
+                double[] c = new double[rowCount * colCount];
+                multiply((DoubleArithmetic) calculator, toDoubles(a, 0, innerCount, 1, rowCount, innerCount),
+                        packedB, c, rowCount, innerCount, colCount, policy);
+                result.add(box(c));
+            }
+        } else {
+            throw new IllegalArgumentException("Calculator has no primitive element type");
+        }
+        return result;
+    }
+
+    /**
+     * Primitive copies of operands and product kept between calls of {@link #multiplyInto}
+     */
+    public static final class Workspace {
+        private Object a;
+        private Object b;
+        private Object packedB;
+        private Object c;
+    }
+
+    /**
+     * Multiplies two strided boxed matrices and stores product to strided boxed destination (c = a * b),
+     * or adds it (c += a * b). Operands and destination are read through strides, so views are not copied,
+     * and primitive copies are kept in workspace, so repeated calls allocate only boxes of result elements
+     * @param calculator primitive-backed calculator
+     * @param a first operand storage
+     * @param aOffset index of first element of first operand
+     * @param aRowStride distance between rows of first operand
+     * @param aColStride distance between columns of first operand
+     * @param b second operand storage
+     * @param bOffset index of first element of second operand
+     * @param bRowStride distance between rows of second operand
+     * @param bColStride distance between columns of second operand
+     * @param c destination storage
+     * @param cOffset index of first element of destination
+     * @param cRowStride distance between rows of destination
+     * @param cColStride distance between columns of destination
+     * @param rowCount count of rows in first matrix
+     * @param innerCount count of columns in first matrix
+     * @param colCount count of columns in second matrix
+     * @param accumulate true to add product to destination, false to overwrite destination
+     * @param policy execution policy
+     * @param workspace workspace reused by calls with the same destination
+     */
+    @SuppressWarnings("unchecked")
+    public static void multiplyInto(Calculator<?> calculator, List<?> a, int aOffset, int aRowStride, int aColStride,
+                                    List<?> b, int bOffset, int bRowStride, int bColStride,
+                                    List<?> c, int cOffset, int cRowStride, int cColStride,
+                                    int rowCount, int innerCount, int colCount, boolean accumulate,
+                                    ExecutionPolicy policy, Workspace workspace) {
+        List<Object> dest = (List<Object>) c;
+        if (calculator.getClass() == DoubleCalculator.class){
+            double[] aValues = toDoubles(a, aOffset, aRowStride, aColStride, rowCount, innerCount,
+                    workspace.a instanceof double[] ? (double[]) workspace.a : null);
+            double[] bValues = toDoubles(b, bOffset, bRowStride, bColStride, innerCount, colCount,
+                    workspace.b instanceof double[] ? (double[]) workspace.b : null);
+            double[] packedB = DoubleGemm.packB(bValues, 0, colCount, 1, innerCount, colCount,
+                    workspace.packedB instanceof double[] ? (double[]) workspace.packedB : null);
+            double[] product = workspace.c instanceof double[] ? (double[]) workspace.c : null;
+            if (product == null || product.length < rowCount * colCount)
+                product = new double[rowCount * colCount];
+            Arrays.fill(product, 0, rowCount * colCount, 0.0);
+            DoubleGemm.multiply(aValues, 0, innerCount, 1, packedB, product, 0, colCount,
+                    rowCount, innerCount, colCount, policy);
+            store((DoubleArithmetic) calculator, product, dest, cOffset, cRowStride, cColStride,
+                    rowCount, colCount, accumulate);
+            workspace.a = aValues;
+            workspace.b = bValues;
+            workspace.packedB = packedB;
+            workspace.c = product;
+        } else if (calculator instanceof IntArithmetic){
+            int[] aValues = toInts(a, aOffset, aRowStride, aColStride, rowCount, innerCount,
+                    workspace.a instanceof int[] ? (int[]) workspace.a : null);
+            int[] packedB = packInts(b, bOffset, bRowStride, bColStride, innerCount, colCount,
+                    workspace.packedB instanceof int[] ? (int[]) workspace.packedB : null);
+            int[] product = workspace.c instanceof int[] ? (int[]) workspace.c : null;
+            if (product == null || product.length < rowCount * colCount)
+                product = new int[rowCount * colCount];
+            multiply((IntArithmetic) calculator, aValues, packedB, product, rowCount, innerCount, colCount, policy);
+            store((IntArithmetic) calculator, product, dest, cOffset, cRowStride, cColStride,
+                    rowCount, colCount, accumulate);
+            workspace.a = aValues;
+            workspace.packedB = packedB;
+            workspace.c = product;
+        } else if (calculator instanceof LongArithmetic){
+            long[] aValues = toLongs(a, aOffset, aRowStride, aColStride, rowCount, innerCount,
+                    workspace.a instanceof long[] ? (long[]) workspace.a : null);
+            long[] packedB = packLongs(b, bOffset, bRowStride, bColStride, innerCount, colCount,
+                    workspace.packedB instanceof long[] ? (long[]) workspace.packedB : null);
+            long[] product = workspace.c instanceof long[] ? (long[]) workspace.c : null;
+            if (product == null || product.length < rowCount * colCount)
+                product = new long[rowCount * colCount];
+            multiply((LongArithmetic) calculator, aValues, packedB, product, rowCount, innerCount, colCount, policy);
+            store((LongArithmetic) calculator, product, dest, cOffset, cRowStride, cColStride,
+                    rowCount, colCount, accumulate);
+            workspace.a = aValues;
+            workspace.packedB = packedB;
+            workspace.c = product;
+        } else if (calculator instanceof FloatArithmetic){
+            float[] aValues = toFloats(a, aOffset, aRowStride, aColStride, rowCount, innerCount,
+                    workspace.a instanceof float[] ? (float[]) workspace.a : null);
+            float[] packedB = packFloats(b, bOffset, bRowStride, bColStride, innerCount, colCount,
+                    workspace.packedB instanceof float[] ? (float[]) workspace.packedB : null);
+            float[] product = workspace.c instanceof float[] ? (float[]) workspace.c : null;
+            if (product == null || product.length < rowCount * colCount)
+                product = new float[rowCount * colCount];
+            multiply((FloatArithmetic) calculator, aValues, packedB, product, rowCount, innerCount, colCount, policy);
+            store((FloatArithmetic) calculator, product, dest, cOffset, cRowStride, cColStride,
+                    rowCount, colCount, accumulate);
+            workspace.a = aValues;
+            workspace.packedB = packedB;
+            workspace.c = product;
+        } else if (calculator instanceof DoubleArithmetic){
+            double[] aValues = toDoubles(a, aOffset, aRowStride, aColStride, rowCount, innerCount,
+                    workspace.a instanceof double[] ? (double[]) workspace.a : null);
+            double[] packedB = packDoubles(b, bOffset, bRowStride, bColStride, innerCount, colCount,
+                    workspace.packedB instanceof double[] ? (double[]) workspace.packedB : null);
+            double[] product = workspace.c instanceof double[] ? (double[]) workspace.c : null;
+            if (product == null || product.length < rowCount * colCount)
+                product = new double[rowCount * colCount];
+            multiply((DoubleArithmetic) calculator, aValues, packedB, product,
+                    rowCount, innerCount, colCount, policy);
+            store((DoubleArithmetic) calculator, product, dest, cOffset, cRowStride, cColStride,
+                    rowCount, colCount, accumulate);
+            workspace.a = aValues;
+            workspace.packedB = packedB;
+            workspace.c = product;
+        } else {
+            throw new IllegalArgumentException("Calculator has no primitive element type");
+        }
+    }
+
+    /**
+     * Multiplies two row-major boxed matrices and stores product to row-major boxed destination (c = a * b),
+     * or adds it (c += a * b). Operands are read and destination is written by iterators, so sequential storage
+     * such as linked list is walked once, second operand is packed while it is read
+     * @param calculator primitive-backed calculator
+     * @param a first operand elements
+     * @param b second operand elements
+     * @param c destination elements
+     * @param rowCount count of rows in first matrix
+     * @param innerCount count of columns in first matrix
+     * @param colCount count of columns in second matrix
+     * @param accumulate true to add product to destination, false to overwrite destination
+     * @param policy execution policy
+     * @param workspace workspace reused by calls with the same destination
+     */
+    @SuppressWarnings("unchecked")
+    public static void multiplyInto(Calculator<?> calculator, Iterable<?> a, Iterable<?> b, List<?> c,
+                                    int rowCount, int innerCount, int colCount, boolean accumulate,
+                                    ExecutionPolicy policy, Workspace workspace) {
+        ListIterator<Object> dest = ((List<Object>) c).listIterator();
+        if (calculator.getClass() == DoubleCalculator.class){
+            double[] aValues = toDoubles(a.iterator(), rowCount * innerCount,
+                    workspace.a instanceof double[] ? (double[]) workspace.a : null);
+            double[] bValues = toDoubles(b.iterator(), innerCount * colCount,
+                    workspace.b instanceof double[] ? (double[]) workspace.b : null);
+            double[] packedB = DoubleGemm.packB(bValues, 0, colCount, 1, innerCount, colCount,
+                    workspace.packedB instanceof double[] ? (double[]) workspace.packedB : null);
+            double[] product = workspace.c instanceof double[] ? (double[]) workspace.c : null;
+            if (product == null || product.length < rowCount * colCount)
+                product = new double[rowCount * colCount];
+            Arrays.fill(product, 0, rowCount * colCount, 0.0);
+            DoubleGemm.multiply(aValues, 0, innerCount, 1, packedB, product, 0, colCount,
+                    rowCount, innerCount, colCount, policy);
+            store((DoubleArithmetic) calculator, product, dest, rowCount * colCount, accumulate);
+            workspace.a = aValues;
+            workspace.b = bValues;
+            workspace.packedB = packedB;
+            workspace.c = product;
+        } else if (calculator instanceof IntArithmetic){
+            int[] aValues = toInts(a.iterator(), rowCount * innerCount,
+                    workspace.a instanceof int[] ? (int[]) workspace.a : null);
+            int[] packedB = packInts(b.iterator(), innerCount, colCount,
+                    workspace.packedB instanceof int[] ? (int[]) workspace.packedB : null);
+            int[] product = workspace.c instanceof int[] ? (int[]) workspace.c : null;
+            if (product == null || product.length < rowCount * colCount)
+                product = new int[rowCount * colCount];
+            multiply((IntArithmetic) calculator, aValues, packedB, product, rowCount, innerCount, colCount, policy);
+            store((IntArithmetic) calculator, product, dest, rowCount * colCount, accumulate);
+            workspace.a = aValues;
+            workspace.packedB = packedB;
+            workspace.c = product;
+        } else if (calculator instanceof LongArithmetic){
+            long[] aValues = toLongs(a.iterator(), rowCount * innerCount,
+                    workspace.a instanceof long[] ? (long[]) workspace.a : null);
+            long[] packedB = packLongs(b.iterator(), innerCount, colCount,
+                    workspace.packedB instanceof long[] ? (long[]) workspace.packedB : null);
+            long[] product = workspace.c instanceof long[] ? (long[]) workspace.c : null;
+            if (product == null || product.length < rowCount * colCount)
+                product = new long[rowCount * colCount];
+            multiply((LongArithmetic) calculator, aValues, packedB, product, rowCount, innerCount, colCount, policy);
+            store((LongArithmetic) calculator, product, dest, rowCount * colCount, accumulate);
+            workspace.a = aValues;
+            workspace.packedB = packedB;
+            workspace.c = product;
+        } else if (calculator instanceof FloatArithmetic){
+            float[] aValues = toFloats(a.iterator(), rowCount * innerCount,
+                    workspace.a instanceof float[] ? (float[]) workspace.a : null);
+            float[] packedB = packFloats(b.iterator(), innerCount, colCount,
+                    workspace.packedB instanceof float[] ? (float[]) workspace.packedB : null);
+            float[] product = workspace.c instanceof float[] ? (float[]) workspace.c : null;
+            if (product == null || product.length < rowCount * colCount)
+                product = new float[rowCount * colCount];
+            multiply((FloatArithmetic) calculator, aValues, packedB, product, rowCount, innerCount, colCount, policy);
+            store((FloatArithmetic) calculator, product, dest, rowCount * colCount, accumulate);
+            workspace.a = aValues;
+            workspace.packedB = packedB;
+            workspace.c = product;
+        } else if (calculator instanceof DoubleArithmetic){
+            double[] aValues = toDoubles(a.iterator(), rowCount * innerCount,
+                    workspace.a instanceof double[] ? (double[]) workspace.a : null);
+            double[] packedB = packDoubles(b.iterator(), innerCount, colCount,
+                    workspace.packedB instanceof double[] ? (double[]) workspace.packedB : null);
+            double[] product = workspace.c instanceof double[] ? (double[]) workspace.c : null;
+            if (product == null || product.length < rowCount * colCount)
+                product = new double[rowCount * colCount];
+            multiply((DoubleArithmetic) calculator, aValues, packedB, product, rowCount, innerCount, colCount, policy);
+            store((DoubleArithmetic) calculator, product, dest, rowCount * colCount, accumulate);
+            workspace.a = aValues;
+            workspace.packedB = packedB;
+            workspace.c = product;
+        } else {
+            throw new IllegalArgumentException("Calculator has no primitive element type");
+        }
+    }
+
+    /**
+     * Sums all elements
+     * @param calculator primitive-backed calculator
+     * @param values boxed elements
+     * @return boxed sum
+     */
+    public static Object sum(Calculator<?> calculator, Object[] values) {
+        if (calculator instanceof IntArithmetic){
+            IntArithmetic arithmetic = (IntArithmetic) calculator;
+            int result = arithmetic.getNew();
+            for (Object value : values){
+                result = arithmetic.sum(result, ((Integer) value).intValue());
+            }
+            return result;
+        }
+        if (calculator instanceof LongArithmetic){
+            LongArithmetic arithmetic = (LongArithmetic) calculator;
+            long result = arithmetic.getNew();
+            for (Object value : values){
+                result = arithmetic.sum(result, ((Long) value).longValue());
+            }
+            return result;
+        }
+        if (calculator instanceof FloatArithmetic){
+            FloatArithmetic arithmetic = (FloatArithmetic) calculator;
+            float result = arithmetic.getNew();
+            for (Object value : values){
+                result = arithmetic.sum(result, ((Float) value).floatValue());
+            }
+            return result;
+        }
+        if (calculator instanceof DoubleArithmetic){
+            DoubleArithmetic arithmetic = (DoubleArithmetic) calculator;
+            double result = arithmetic.getNew();
+            for (Object value : values){
+                result = arithmetic.sum(result, ((Double) value).doubleValue());
+            }
+            return result;
+        }
+        throw new IllegalArgumentException("Calculator has no primitive element type");
+    }
+
+    private static void multiply(final IntArithmetic arithmetic, final int[] a, final int[] packedB,
+                                 final int[] c, final int rowCount, final int innerCount, final int colCount,
+                                 ExecutionPolicy policy) {
+        if (!policy.isParallel((long) rowCount * innerCount * colCount)){
+            multiply(arithmetic, a, packedB, c, innerCount, colCount, 0, rowCount, 0, colCount);
+            return;
+        }
+
+        final int colTiles = (colCount + TILE_COLS - 1) / TILE_COLS;
+        int rowTiles = (rowCount + MC - 1) / MC;
+        policy.execute(rowTiles * colTiles, (long) MC * TILE_COLS * innerCount, new RangeTask() {
+            @Override
+            public void compute(int from, int to) {
+                for (int tile = from; tile < to; tile++){
+                    int row = (tile / colTiles) * MC;
+                    int col = (tile % colTiles) * TILE_COLS;
+                    multiply(arithmetic, a, packedB, c, innerCount, colCount,
+                            row, Math.min(rowCount, row + MC), col, Math.min(colCount, col + TILE_COLS));
+                }
+            }
+        });
+    }
+
+    private static void multiply(IntArithmetic arithmetic, int[] a, int[] packedB, int[] c, int innerCount,
+                                 int colCount, int rowFrom, int rowTo, int colFrom, int colTo) {
+        for (int jc = colFrom; jc < colTo; jc += TILE_COLS){
+            int nc = Math.min(TILE_COLS, colTo - jc);
+            // Empty inner dimension still assigns dot products of length 0
+            for (int pc = 0; pc == 0 || pc < innerCount; pc += KC){
+                int kc = Math.min(KC, innerCount - pc);
+                int panel = pc * colCount;
+                for (int i = rowFrom; i < rowTo; i++){
+                    int aIndex = i * innerCount + pc;
+                    for (int j = jc, cIndex = i * colCount + jc; j < jc + nc; j++, cIndex++){
+                        int dot = arithmetic.dot(a, aIndex, 1, packedB, panel + j * kc, 1, kc);
+                        c[cIndex] = pc == 0 ? dot : arithmetic.sum(c[cIndex], dot);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void multiply(final LongArithmetic arithmetic, final long[] a, final long[] packedB,
+                                 final long[] c, final int rowCount, final int innerCount, final int colCount,
+                                 ExecutionPolicy policy) {
+        if (!policy.isParallel((long) rowCount * innerCount * colCount)){
+            multiply(arithmetic, a, packedB, c, innerCount, colCount, 0, rowCount, 0, colCount);
+            return;
+        }
+
+        final int colTiles = (colCount + TILE_COLS - 1) / TILE_COLS;
+        int rowTiles = (rowCount + MC - 1) / MC;
+        policy.execute(rowTiles * colTiles, (long) MC * TILE_COLS * innerCount, new RangeTask() {
+            @Override
+            public void compute(int from, int to) {
+                for (int tile = from; tile < to; tile++){
+                    int row = (tile / colTiles) * MC;
+                    int col = (tile % colTiles) * TILE_COLS;
+                    multiply(arithmetic, a, packedB, c, innerCount, colCount,
+                            row, Math.min(rowCount, row + MC), col, Math.min(colCount, col + TILE_COLS));
+                }
+            }
+        });
+    }
+
+    private static void multiply(LongArithmetic arithmetic, long[] a, long[] packedB, long[] c, int innerCount,
+                                 int colCount, int rowFrom, int rowTo, int colFrom, int colTo) {
+        for (int jc = colFrom; jc < colTo; jc += TILE_COLS){
+            int nc = Math.min(TILE_COLS, colTo - jc);
+            // Empty inner dimension still assigns dot products of length 0
+            for (int pc = 0; pc == 0 || pc < innerCount; pc += KC){
+                int kc = Math.min(KC, innerCount - pc);
+                int panel = pc * colCount;
+                for (int i = rowFrom; i < rowTo; i++){
+                    int aIndex = i * innerCount + pc;
+                    for (int j = jc, cIndex = i * colCount + jc; j < jc + nc; j++, cIndex++){
+                        long dot = arithmetic.dot(a, aIndex, 1, packedB, panel + j * kc, 1, kc);
+                        c[cIndex] = pc == 0 ? dot : arithmetic.sum(c[cIndex], dot);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void multiply(final FloatArithmetic arithmetic, final float[] a, final float[] packedB,
+                                 final float[] c, final int rowCount, final int innerCount, final int colCount,
+                                 ExecutionPolicy policy) {
+        if (!policy.isParallel((long) rowCount * innerCount * colCount)){
+            multiply(arithmetic, a, packedB, c, innerCount, colCount, 0, rowCount, 0, colCount);
+            return;
+        }
+
+        final int colTiles = (colCount + TILE_COLS - 1) / TILE_COLS;
+        int rowTiles = (rowCount + MC - 1) / MC;
+        policy.execute(rowTiles * colTiles, (long) MC * TILE_COLS * innerCount, new RangeTask() {
+            @Override
+            public void compute(int from, int to) {
+                for (int tile = from; tile < to; tile++){
+                    int row = (tile / colTiles) * MC;
+                    int col = (tile % colTiles) * TILE_COLS;
+                    multiply(arithmetic, a, packedB, c, innerCount, colCount,
+                            row, Math.min(rowCount, row + MC), col, Math.min(colCount, col + TILE_COLS));
+                }
+            }
+        });
+    }
+
+    private static void multiply(FloatArithmetic arithmetic, float[] a, float[] packedB, float[] c, int innerCount,
+                                 int colCount, int rowFrom, int rowTo, int colFrom, int colTo) {
+        for (int jc = colFrom; jc < colTo; jc += TILE_COLS){
+            int nc = Math.min(TILE_COLS, colTo - jc);
+            // Empty inner dimension still assigns dot products of length 0
+            for (int pc = 0; pc == 0 || pc < innerCount; pc += KC){
+                int kc = Math.min(KC, innerCount - pc);
+                int panel = pc * colCount;
+                for (int i = rowFrom; i < rowTo; i++){
+                    int aIndex = i * innerCount + pc;
+                    for (int j = jc, cIndex = i * colCount + jc; j < jc + nc; j++, cIndex++){
+                        float dot = arithmetic.dot(a, aIndex, 1, packedB, panel + j * kc, 1, kc);
+                        c[cIndex] = pc == 0 ? dot : arithmetic.sum(c[cIndex], dot);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void multiply(final DoubleArithmetic arithmetic, final double[] a, final double[] packedB,
+                                 final double[] c, final int rowCount, final int innerCount, final int colCount,
+                                 ExecutionPolicy policy) {
+        if (!policy.isParallel((long) rowCount * innerCount * colCount)){
+            multiply(arithmetic, a, packedB, c, innerCount, colCount, 0, rowCount, 0, colCount);
+            return;
+        }
+
+        final int colTiles = (colCount + TILE_COLS - 1) / TILE_COLS;
+        int rowTiles = (rowCount + MC - 1) / MC;
+        policy.execute(rowTiles * colTiles, (long) MC * TILE_COLS * innerCount, new RangeTask() {
+            @Override
+            public void compute(int from, int to) {
+                for (int tile = from; tile < to; tile++){
+                    int row = (tile / colTiles) * MC;
+                    int col = (tile % colTiles) * TILE_COLS;
+                    multiply(arithmetic, a, packedB, c, innerCount, colCount,
+                            row, Math.min(rowCount, row + MC), col, Math.min(colCount, col + TILE_COLS));
+                }
+            }
+        });
+    }
+
+    private static void multiply(DoubleArithmetic arithmetic, double[] a, double[] packedB, double[] c, int innerCount,
+                                 int colCount, int rowFrom, int rowTo, int colFrom, int colTo) {
+        for (int jc = colFrom; jc < colTo; jc += TILE_COLS){
+            int nc = Math.min(TILE_COLS, colTo - jc);
+            // Empty inner dimension still assigns dot products of length 0
+            for (int pc = 0; pc == 0 || pc < innerCount; pc += KC){
+                int kc = Math.min(KC, innerCount - pc);
+                int panel = pc * colCount;
+                for (int i = rowFrom; i < rowTo; i++){
+                    int aIndex = i * innerCount + pc;
+                    for (int j = jc, cIndex = i * colCount + jc; j < jc + nc; j++, cIndex++){
+                        double dot = arithmetic.dot(a, aIndex, 1, packedB, panel + j * kc, 1, kc);
+                        c[cIndex] = pc == 0 ? dot : arithmetic.sum(c[cIndex], dot);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Unboxes elements into new row-major array
+     * @param values boxed storage
+     * @param offset index of first element
+     * @param rowStride distance between rows in storage
+     * @param colStride distance between columns in storage
+     * @param rowCount count of rows
+     * @param colCount count of columns
+     * @return primitive elements
+     */
+    public static int[] toInts(Object[] values, int offset, int rowStride, int colStride,
+                               int rowCount, int colCount) {
+        return toInts(Arrays.asList(values), offset, rowStride, colStride, rowCount, colCount, null);
+    }
+
+    private static int[] toInts(List<?> values, int offset, int rowStride, int colStride,
+                                int rowCount, int colCount, int[] result) {
+        if (result == null || result.length < rowCount * colCount)
+            result = new int[rowCount * colCount];
+        for (int i = 0, index = 0; i < rowCount; i++){
+            for (int j = 0; j < colCount; j++){
+                result[index++] = ((Integer) values.get(offset + i * rowStride + j * colStride)).intValue();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Unboxes elements into new row-major array
+     * @param values boxed storage
+     * @param offset index of first element
+     * @param rowStride distance between rows in storage
+     * @param colStride distance between columns in storage
+     * @param rowCount count of rows
+     * @param colCount count of columns
+     * @return primitive elements
+     */
+    public static long[] toLongs(Object[] values, int offset, int rowStride, int colStride,
+                                 int rowCount, int colCount) {
+        return toLongs(Arrays.asList(values), offset, rowStride, colStride, rowCount, colCount, null);
+    }
+
+    private static long[] toLongs(List<?> values, int offset, int rowStride, int colStride,
+                                  int rowCount, int colCount, long[] result) {
+        if (result == null || result.length < rowCount * colCount)
+            result = new long[rowCount * colCount];
+        for (int i = 0, index = 0; i < rowCount; i++){
+            for (int j = 0; j < colCount; j++){
+                result[index++] = ((Long) values.get(offset + i * rowStride + j * colStride)).longValue();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Unboxes elements into new row-major array
+     * @param values boxed storage
+     * @param offset index of first element
+     * @param rowStride distance between rows in storage
+     * @param colStride distance between columns in storage
+     * @param rowCount count of rows
+     * @param colCount count of columns
+     * @return primitive elements
+     */
+    public static float[] toFloats(Object[] values, int offset, int rowStride, int colStride,
+                                   int rowCount, int colCount) {
+        return toFloats(Arrays.asList(values), offset, rowStride, colStride, rowCount, colCount, null);
+    }
+
+    private static float[] toFloats(List<?> values, int offset, int rowStride, int colStride,
+                                    int rowCount, int colCount, float[] result) {
+        if (result == null || result.length < rowCount * colCount)
+            result = new float[rowCount * colCount];
+        for (int i = 0, index = 0; i < rowCount; i++){
+            for (int j = 0; j < colCount; j++){
+                result[index++] = ((Float) values.get(offset + i * rowStride + j * colStride)).floatValue();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Unboxes elements into new row-major array
+     * @param values boxed storage
+     * @param offset index of first element
+     * @param rowStride distance between rows in storage
+     * @param colStride distance between columns in storage
+     * @param rowCount count of rows
+     * @param colCount count of columns
+     * @return primitive elements
+     */
+    public static double[] toDoubles(Object[] values, int offset, int rowStride, int colStride,
+                                     int rowCount, int colCount) {
+        return toDoubles(Arrays.asList(values), offset, rowStride, colStride, rowCount, colCount, null);
+    }
+
+    private static double[] toDoubles(List<?> values, int offset, int rowStride, int colStride,
+                                      int rowCount, int colCount, double[] result) {
+        if (result == null || result.length < rowCount * colCount)
+            result = new double[rowCount * colCount];
+        for (int i = 0, index = 0; i < rowCount; i++){
+            for (int j = 0; j < colCount; j++){
+                result[index++] = ((Double) values.get(offset + i * rowStride + j * colStride)).doubleValue();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Unboxes second operand into panels of KC rows, every column of panel is stored contiguously
+     * @param b second operand storage
+     * @param offset index of first element
+     * @param rowStride distance between rows
+     * @param colStride distance between columns
+     * @param innerCount count of rows in second operand
+     * @param colCount count of columns in second operand
+     * @return packed elements, panel starting at row pc is stored from index pc * colCount
+     */
+    public static int[] packInts(Object[] b, int offset, int rowStride, int colStride,
+                                 int innerCount, int colCount) {
+        return packInts(Arrays.asList(b), offset, rowStride, colStride, innerCount, colCount, null);
+    }
+
+    private static int[] packInts(List<?> b, int offset, int rowStride, int colStride,
+                                  int innerCount, int colCount, int[] packed) {
+        if (packed == null || packed.length < innerCount * colCount)
+            packed = new int[innerCount * colCount];
+        for (int pc = 0, index = 0; pc < innerCount; pc += KC){
+            int kc = Math.min(KC, innerCount - pc);
+            for (int j = 0; j < colCount; j++){
+                for (int p = 0, source = offset + pc * rowStride + j * colStride; p < kc; p++, source += rowStride){
+                    packed[index++] = ((Integer) b.get(source)).intValue();
+                }
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Unboxes second operand into panels of KC rows, every column of panel is stored contiguously
+     * @param b second operand storage
+     * @param offset index of first element
+     * @param rowStride distance between rows
+     * @param colStride distance between columns
+     * @param innerCount count of rows in second operand
+     * @param colCount count of columns in second operand
+     * @return packed elements, panel starting at row pc is stored from index pc * colCount
+     */
+    public static long[] packLongs(Object[] b, int offset, int rowStride, int colStride,
+                                   int innerCount, int colCount) {
+        return packLongs(Arrays.asList(b), offset, rowStride, colStride, innerCount, colCount, null);
+    }
+
+    private static long[] packLongs(List<?> b, int offset, int rowStride, int colStride,
+                                    int innerCount, int colCount, long[] packed) {
+        if (packed == null || packed.length < innerCount * colCount)
+            packed = new long[innerCount * colCount];
+        for (int pc = 0, index = 0; pc < innerCount; pc += KC){
+            int kc = Math.min(KC, innerCount - pc);
+            for (int j = 0; j < colCount; j++){
+                for (int p = 0, source = offset + pc * rowStride + j * colStride; p < kc; p++, source += rowStride){
+                    packed[index++] = ((Long) b.get(source)).longValue();
+                }
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Unboxes second operand into panels of KC rows, every column of panel is stored contiguously
+     * @param b second operand storage
+     * @param offset index of first element
+     * @param rowStride distance between rows
+     * @param colStride distance between columns
+     * @param innerCount count of rows in second operand
+     * @param colCount count of columns in second operand
+     * @return packed elements, panel starting at row pc is stored from index pc * colCount
+     */
+    public static float[] packFloats(Object[] b, int offset, int rowStride, int colStride,
+                                     int innerCount, int colCount) {
+        return packFloats(Arrays.asList(b), offset, rowStride, colStride, innerCount, colCount, null);
+    }
+
+    private static float[] packFloats(List<?> b, int offset, int rowStride, int colStride,
+                                      int innerCount, int colCount, float[] packed) {
+        if (packed == null || packed.length < innerCount * colCount)
+            packed = new float[innerCount * colCount];
+        for (int pc = 0, index = 0; pc < innerCount; pc += KC){
+            int kc = Math.min(KC, innerCount - pc);
+            for (int j = 0; j < colCount; j++){
+                for (int p = 0, source = offset + pc * rowStride + j * colStride; p < kc; p++, source += rowStride){
+                    packed[index++] = ((Float) b.get(source)).floatValue();
+                }
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Unboxes second operand into panels of KC rows, every column of panel is stored contiguously
+     * @param b second operand storage
+     * @param offset index of first element
+     * @param rowStride distance between rows
+     * @param colStride distance between columns
+     * @param innerCount count of rows in second operand
+     * @param colCount count of columns in second operand
+     * @return packed elements, panel starting at row pc is stored from index pc * colCount
+     */
+    public static double[] packDoubles(Object[] b, int offset, int rowStride, int colStride,
+                                       int innerCount, int colCount) {
+        return packDoubles(Arrays.asList(b), offset, rowStride, colStride, innerCount, colCount, null);
+    }
+
+    private static double[] packDoubles(List<?> b, int offset, int rowStride, int colStride,
+                                        int innerCount, int colCount, double[] packed) {
+        if (packed == null || packed.length < innerCount * colCount)
+            packed = new double[innerCount * colCount];
+        for (int pc = 0, index = 0; pc < innerCount; pc += KC){
+            int kc = Math.min(KC, innerCount - pc);
+            for (int j = 0; j < colCount; j++){
+                for (int p = 0, source = offset + pc * rowStride + j * colStride; p < kc; p++, source += rowStride){
+                    packed[index++] = ((Double) b.get(source)).doubleValue();
+                }
+            }
+        }
+        return packed;
+    }
+
+    private static void store(IntArithmetic arithmetic, int[] values, List<Object> c, int offset, int rowStride,
+                              int colStride, int rowCount, int colCount, boolean accumulate) {
+        for (int i = 0, index = 0; i < rowCount; i++){
+            for (int j = 0; j < colCount; j++, index++){
+                int target = offset + i * rowStride + j * colStride;
+                int value = values[index];
+                if (accumulate)
+                    value = arithmetic.sum(((Integer) c.get(target)).intValue(), value);
+                c.set(target, value);
+            }
+        }
+    }
+
+    private static void store(LongArithmetic arithmetic, long[] values, List<Object> c, int offset, int rowStride,
+                              int colStride, int rowCount, int colCount, boolean accumulate) {
+        for (int i = 0, index = 0; i < rowCount; i++){
+            for (int j = 0; j < colCount; j++, index++){
+                int target = offset + i * rowStride + j * colStride;
+                long value = values[index];
+                if (accumulate)
+                    value = arithmetic.sum(((Long) c.get(target)).longValue(), value);
+                c.set(target, value);
+            }
+        }
+    }
+
+    private static void store(FloatArithmetic arithmetic, float[] values, List<Object> c, int offset, int rowStride,
+                              int colStride, int rowCount, int colCount, boolean accumulate) {
+        for (int i = 0, index = 0; i < rowCount; i++){
+            for (int j = 0; j < colCount; j++, index++){
+                int target = offset + i * rowStride + j * colStride;
+                float value = values[index];
+                if (accumulate)
+                    value = arithmetic.sum(((Float) c.get(target)).floatValue(), value);
+                c.set(target, value);
+            }
+        }
+    }
+
+    private static void store(DoubleArithmetic arithmetic, double[] values, List<Object> c, int offset, int rowStride,
+                              int colStride, int rowCount, int colCount, boolean accumulate) {
+        for (int i = 0, index = 0; i < rowCount; i++){
+            for (int j = 0; j < colCount; j++, index++){
+                int target = offset + i * rowStride + j * colStride;
+                double value = values[index];
+                if (accumulate)
+                    value = arithmetic.sum(((Double) c.get(target)).doubleValue(), value);
+                c.set(target, value);
+            }
+        }
+    }
+
+    private static int[] toInts(Iterator<?> values, int count, int[] result) {
+        if (result == null || result.length < count)
+            result = new int[count];
+        for (int i = 0; i < count; i++){
+            result[i] = ((Integer) values.next()).intValue();
+        }
+        return result;
+    }
+
+    private static long[] toLongs(Iterator<?> values, int count, long[] result) {
+        if (result == null || result.length < count)
+            result = new long[count];
+        for (int i = 0; i < count; i++){
+            result[i] = ((Long) values.next()).longValue();
+        }
+        return result;
+    }
+
+    private static float[] toFloats(Iterator<?> values, int count, float[] result) {
+        if (result == null || result.length < count)
+            result = new float[count];
+        for (int i = 0; i < count; i++){
+            result[i] = ((Float) values.next()).floatValue();
+        }
+        return result;
+    }
+
+    private static double[] toDoubles(Iterator<?> values, int count, double[] result) {
+        if (result == null || result.length < count)
+            result = new double[count];
+        for (int i = 0; i < count; i++){
+            result[i] = ((Double) values.next()).doubleValue();
+        }
+        return result;
+    }
+
+    /**
+     * Packs row-major second operand as {@link #packInts(Object[], int, int, int, int, int)} while reading it once
+     */
+    private static int[] packInts(Iterator<?> b, int innerCount, int colCount, int[] packed) {
+        if (packed == null || packed.length < innerCount * colCount)
+            packed = new int[innerCount * colCount];
+        for (int p = 0; p < innerCount; p++){
+            int pc = p - p % KC;
+            int kc = Math.min(KC, innerCount - pc);
+            for (int j = 0, index = pc * colCount + p - pc; j < colCount; j++, index += kc){
+                packed[index] = ((Integer) b.next()).intValue();
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Packs row-major second operand as {@link #packLongs(Object[], int, int, int, int, int)} while reading it once
+     */
+    private static long[] packLongs(Iterator<?> b, int innerCount, int colCount, long[] packed) {
+        if (packed == null || packed.length < innerCount * colCount)
+            packed = new long[innerCount * colCount];
+        for (int p = 0; p < innerCount; p++){
+            int pc = p - p % KC;
+            int kc = Math.min(KC, innerCount - pc);
+            for (int j = 0, index = pc * colCount + p - pc; j < colCount; j++, index += kc){
+                packed[index] = ((Long) b.next()).longValue();
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Packs row-major second operand as {@link #packFloats(Object[], int, int, int, int, int)} while reading it once
+     */
+    private static float[] packFloats(Iterator<?> b, int innerCount, int colCount, float[] packed) {
+        if (packed == null || packed.length < innerCount * colCount)
+            packed = new float[innerCount * colCount];
+        for (int p = 0; p < innerCount; p++){
+            int pc = p - p % KC;
+            int kc = Math.min(KC, innerCount - pc);
+            for (int j = 0, index = pc * colCount + p - pc; j < colCount; j++, index += kc){
+                packed[index] = ((Float) b.next()).floatValue();
+            }
+        }
+        return packed;
+    }
+
+    /**
+     * Packs row-major second operand as {@link #packDoubles(Object[], int, int, int, int, int)} while reading it once
+     */
+    private static double[] packDoubles(Iterator<?> b, int innerCount, int colCount, double[] packed) {
+        if (packed == null || packed.length < innerCount * colCount)
+            packed = new double[innerCount * colCount];
+        for (int p = 0; p < innerCount; p++){
+            int pc = p - p % KC;
+            int kc = Math.min(KC, innerCount - pc);
+            for (int j = 0, index = pc * colCount + p - pc; j < colCount; j++, index += kc){
+                packed[index] = ((Double) b.next()).doubleValue();
+            }
+        }
+        return packed;
+    }
+
+    private static void store(IntArithmetic arithmetic, int[] values, ListIterator<Object> c, int count,
+                              boolean accumulate) {
+        for (int i = 0; i < count; i++){
+            int value = values[i];
+            Object current = c.next();
+            if (accumulate)
+                value = arithmetic.sum(((Integer) current).intValue(), value);
+            c.set(value);
+        }
+    }
+
+    private static void store(LongArithmetic arithmetic, long[] values, ListIterator<Object> c, int count,
+                              boolean accumulate) {
+        for (int i = 0; i < count; i++){
+            long value = values[i];
+            Object current = c.next();
+            if (accumulate)
+                value = arithmetic.sum(((Long) current).longValue(), value);
+            c.set(value);
+        }
+    }
+
+    private static void store(FloatArithmetic arithmetic, float[] values, ListIterator<Object> c, int count,
+                              boolean accumulate) {
+        for (int i = 0; i < count; i++){
+            float value = values[i];
+            Object current = c.next();
+            if (accumulate)
+                value = arithmetic.sum(((Float) current).floatValue(), value);
+            c.set(value);
+        }
+    }
+
+    private static void store(DoubleArithmetic arithmetic, double[] values, ListIterator<Object> c, int count,
+                              boolean accumulate) {
+        for (int i = 0; i < count; i++){
+            double value = values[i];
+            Object current = c.next();
+            if (accumulate)
+                value = arithmetic.sum(((Double) current).doubleValue(), value);
+            c.set(value);
+        }
+    }
+
+    /**
+     * Boxes primitive elements
+     * @param values primitive elements
+     * @return boxed storage
+     */
+    public static Object[] box(int[] values) {
+        Object[] result = new Object[values.length];
+        for (int i = 0; i < values.length; i++){
+            result[i] = values[i];
+        }
+        return result;
+    }
+
+    /**
+     * Boxes primitive elements
+     * @param values primitive elements
+     * @return boxed storage
+     */
+    public static Object[] box(long[] values) {
+        Object[] result = new Object[values.length];
+        for (int i = 0; i < values.length; i++){
+            result[i] = values[i];
+        }
+        return result;
+    }
+
+    /**
+     * Boxes primitive elements
+     * @param values primitive elements
+     * @return boxed storage
+     */
+    public static Object[] box(float[] values) {
+        Object[] result = new Object[values.length];
+        for (int i = 0; i < values.length; i++){
+            result[i] = values[i];
+        }
+        return result;
+    }
+
+    /**
+     * Boxes primitive elements
+     * @param values primitive elements
+     * @return boxed storage
+     */
+    public static Object[] box(double[] values) {
+        Object[] result = new Object[values.length];
+        for (int i = 0; i < values.length; i++){
+            result[i] = values[i];
+        }
+        return result;
+    }
+}
@@ -0,0 +1,283 @@
+package org.markvarabyou.math.common.kernels;
+
+import org.markvarabyou.math.common.ExecutionPolicy;
+
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Strassen-Winograd multiplication of double matrices: 7 half-size products and 15 block additions per level,
+ * recursion stops when any dimension reaches cutoff and {@link DoubleGemm} multiplies the blocks.
+ * Operands are zero padded, so every dimension is divisible by 2^levels.
+ * While pool of execution policy has idle threads the 7 products are forked as separate tasks
+ * (this level keeps 11 quarter-size temporaries), deeper levels use sequential schedule of Boyer et al.
+ * with 2 temporaries. Results differ from classic product by rounding, error grows with count of levels.
+ * Author: Mark Vorobyov
+ * Date: 10/20/26
+ * Time: 9:40 PM
+ */
+public final class StrassenWinograd {
+    /**
+     * Crossover size measured by StrassenBenchmark: one level of recursion pays off from 512x512 matrices
+     */
+    public static final int DEFAULT_CUTOFF = 256;
+
+    private StrassenWinograd() {
+    }
+
+    /**
+     * Writes product of matrices to result (c = a * b)
+     * @param a first operand storage
+     * @param aOffset index of first element of first operand
+     * @param aRowStride distance between rows of first operand
+     * @param aColStride distance between columns of first operand
+     * @param b second operand storage
+     * @param bOffset index of first element of second operand
+     * @param bRowStride distance between rows of second operand
+     * @param bColStride distance between columns of second operand
+     * @param c result storage
+     * @param cOffset index of first element of result
+     * @param ldc distance between rows of result
+     * @param rowCount count of rows in first operand
+     * @param innerCount count of columns in first operand
+     * @param colCount count of columns in second operand
+     * @param cutoff dimension below which blocked kernel is used
+     * @param policy execution policy
+     */
+    public static void multiply(double[] a, int aOffset, int aRowStride, int aColStride,
+                                double[] b, int bOffset, int bRowStride, int bColStride,
+                                double[] c, int cOffset, int ldc, int rowCount, int innerCount, int colCount,
+                                int cutoff, ExecutionPolicy policy) {
+        if (cutoff < 1)
+            throw new IllegalArgumentException("Invalid cutoff");
+
+        int levels = 0;
+        for (int m = rowCount, k = innerCount, n = colCount; m > cutoff && k > cutoff && n > cutoff; levels++){
+            m = (m + 1) / 2;
+            k = (k + 1) / 2;
+            n = (n + 1) / 2;
+        }
+        int m = padded(rowCount, levels);
+        int k = padded(innerCount, levels);
+        int n = padded(colCount, levels);
+
+        double[] paddedA = copy(a, aOffset, aRowStride, aColStride, rowCount, innerCount, m, k);
+        double[] paddedB = copy(b, bOffset, bRowStride, bColStride, innerCount, colCount, k, n);
+        if (m == rowCount && n == colCount){
+            multiply(paddedA, 0, k, paddedB, 0, n, c, cOffset, ldc, m, k, n, levels, 1, policy);
+            return;
+        }
+        double[] paddedC = new double[m * n];
+        multiply(paddedA, 0, k, paddedB, 0, n, paddedC, 0, n, m, k, n, levels, 1, policy);
+        for (int i = 0; i < rowCount; i++){
+            System.arraycopy(paddedC, i * n, c, cOffset + i * ldc, colCount);
+        }
+    }
+
+    private static int padded(int size, int levels) {
+        int step = 1 << levels;
+        return (size + step - 1) / step * step;
+    }
+
+    private static double[] copy(double[] a, int offset, int rowStride, int colStride, int rowCount, int colCount,
+                                 int paddedRows, int paddedCols) {
+        double[] result = new double[paddedRows * paddedCols];
+        for (int i = 0; i < rowCount; i++){
+            int source = offset + i * rowStride;
+            if (colStride == 1){
+                System.arraycopy(a, source, result, i * paddedCols, colCount);
+                continue;
+            }
+            for (int j = 0; j < colCount; j++){
+                result[i * paddedCols + j] = a[source + j * colStride];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Writes product of row-major blocks with even dimensions on every remaining level to c
+     * @param tasks count of tasks running on this level, products are forked while it is below parallelism
+     */
+    private static void multiply(final double[] a, final int aOff, final int lda,
+                                 final double[] b, final int bOff, final int ldb,
+                                 final double[] c, final int cOff, final int ldc,
+                                 int m, int k, int n, final int levels, int tasks, final ExecutionPolicy policy) {
+        if (levels == 0){
+            for (int i = 0; i < m; i++){
+                Arrays.fill(c, cOff + i * ldc, cOff + i * ldc + n, 0);
+            }
+            double[] packedB = DoubleGemm.packB(b, bOff, ldb, 1, k, n);
+            DoubleGemm.multiply(a, aOff, lda, 1, packedB, c, cOff, ldc, m, k, n, ExecutionPolicy.SEQUENTIAL);
+            return;
+        }
+
+        ForkJoinPool pool = policy.getPool();
+        if (policy.isParallel((long) m * k * n) && tasks < pool.getParallelism()){
+            multiplyParallel(a, aOff, lda, b, bOff, ldb, c, cOff, ldc, m, k, n, levels, tasks * 7, policy);
+            return;
+        }
+
+        final int hm = m / 2;
+        final int hk = k / 2;
+        final int hn = n / 2;
+        int a11 = aOff, a12 = aOff + hk, a21 = aOff + hm * lda, a22 = a21 + hk;
+        int b11 = bOff, b12 = bOff + hn, b21 = bOff + hk * ldb, b22 = b21 + hn;
+        int c11 = cOff, c12 = cOff + hn, c21 = cOff + hm * ldc, c22 = c21 + hn;
+        int ldx = Math.max(hk, hn);
+        double[] x = new double[hm * ldx];
+        double[] y = new double[hk * hn];
+
+        combine(a, a11, lda, a, a21, lda, -1, x, 0, ldx, hm, hk);                    // S3 = A11 - A21
+        combine(b, b22, ldb, b, b12, ldb, -1, y, 0, hn, hk, hn);                    // T3 = B22 - B12
+        multiply(x, 0, ldx, y, 0, hn, c, c21, ldc, hm, hk, hn, levels - 1, tasks, policy);   // P7 -> C21
+        combine(a, a21, lda, a, a22, lda, 1, x, 0, ldx, hm, hk);                     // S1 = A21 + A22
+        combine(b, b12, ldb, b, b11, ldb, -1, y, 0, hn, hk, hn);                    // T1 = B12 - B11
+        multiply(x, 0, ldx, y, 0, hn, c, c22, ldc, hm, hk, hn, levels - 1, tasks, policy);   // P5 -> C22
+        combine(x, 0, ldx, a, a11, lda, -1, x, 0, ldx, hm, hk);                      // S2 = S1 - A11
+        combine(b, b22, ldb, y, 0, hn, -1, y, 0, hn, hk, hn);                       // T2 = B22 - T1
+        multiply(x, 0, ldx, y, 0, hn, c, c12, ldc, hm, hk, hn, levels - 1, tasks, policy);   // P6 -> C12
+        combine(a, a12, lda, x, 0, ldx, -1, x, 0, ldx, hm, hk);                      // S4 = A12 - S2
+        multiply(x, 0, ldx, b, b22, ldb, c, c11, ldc, hm, hk, hn, levels - 1, tasks, policy); // P3 -> C11
+        multiply(a, a11, lda, b, b11, ldb, x, 0, ldx, hm, hk, hn, levels - 1, tasks, policy); // P1 -> X
+        combine(x, 0, ldx, c, c12, ldc, 1, c, c12, ldc, hm, hn);                     // U2 = P1 + P6 -> C12
+        combine(c, c12, ldc, c, c21, ldc, 1, c, c21, ldc, hm, hn);                   // U3 = U2 + P7 -> C21
+        combine(c, c12, ldc, c, c22, ldc, 1, c, c12, ldc, hm, hn);                   // U4 = U2 + P5 -> C12
+        combine(c, c21, ldc, c, c22, ldc, 1, c, c22, ldc, hm, hn);                   // U7 = U3 + P5 -> C22
+        combine(c, c12, ldc, c, c11, ldc, 1, c, c12, ldc, hm, hn);                   // U5 = U4 + P3 -> C12
+        combine(y, 0, hn, b, b21, ldb, -1, y, 0, hn, hk, hn);                       // T4 = T2 - B21
+        multiply(a, a22, lda, y, 0, hn, c, c11, ldc, hm, hk, hn, levels - 1, tasks, policy); // P4 -> C11
+        combine(c, c21, ldc, c, c11, ldc, -1, c, c21, ldc, hm, hn);                  // U6 = U3 - P4 -> C21
+        multiply(a, a12, lda, b, b21, ldb, c, c11, ldc, hm, hk, hn, levels - 1, tasks, policy); // P2 -> C11
+        combine(x, 0, ldx, c, c11, ldc, 1, c, c11, ldc, hm, hn);                     // U1 = P1 + P2 -> C11
+    }
+
+    private static void multiplyParallel(double[] a, int aOff, int lda, double[] b, int bOff, int ldb,
+                                         double[] c, int cOff, int ldc, int m, int k, int n,
+                                         int levels, int tasks, ExecutionPolicy policy) {
+        int hm = m / 2;
+        int hk = k / 2;
+        int hn = n / 2;
+        int a11 = aOff, a12 = aOff + hk, a21 = aOff + hm * lda, a22 = a21 + hk;
+        int b11 = bOff, b12 = bOff + hn, b21 = bOff + hk * ldb, b22 = b21 + hn;
+        int c11 = cOff, c12 = cOff + hn, c21 = cOff + hm * ldc, c22 = c21 + hn;
+        double[] s1 = new double[hm * hk], s2 = new double[hm * hk], s3 = new double[hm * hk];
+        double[] s4 = new double[hm * hk];
+        double[] t1 = new double[hk * hn], t2 = new double[hk * hn], t3 = new double[hk * hn];
+        double[] t4 = new double[hk * hn];
+        double[] p1 = new double[hm * hn], p5 = new double[hm * hn], p6 = new double[hm * hn];
+
+        combine(a, a21, lda, a, a22, lda, 1, s1, 0, hk, hm, hk);                    // S1 = A21 + A22
+        combine(s1, 0, hk, a, a11, lda, -1, s2, 0, hk, hm, hk);                     // S2 = S1 - A11
+        combine(a, a11, lda, a, a21, lda, -1, s3, 0, hk, hm, hk);                   // S3 = A11 - A21
+        combine(a, a12, lda, s2, 0, hk, -1, s4, 0, hk, hm, hk);                     // S4 = A12 - S2
+        combine(b, b12, ldb, b, b11, ldb, -1, t1, 0, hn, hk, hn);                   // T1 = B12 - B11
+        combine(b, b22, ldb, t1, 0, hn, -1, t2, 0, hn, hk, hn);                     // T2 = B22 - T1
+        combine(b, b22, ldb, b, b12, ldb, -1, t3, 0, hn, hk, hn);                   // T3 = B22 - B12
+        combine(t2, 0, hn, b, b21, ldb, -1, t4, 0, hn, hk, hn);                     // T4 = T2 - B21
+
+        Product[] products = {
+                new Product(a, a11, lda, b, b11, ldb, p1, 0, hn, hm, hk, hn, levels - 1, tasks, policy),
+                new Product(a, a12, lda, b, b21, ldb, c, c11, ldc, hm, hk, hn, levels - 1, tasks, policy),
+                new Product(s4, 0, hk, b, b22, ldb, c, c12, ldc, hm, hk, hn, levels - 1, tasks, policy),
+                new Product(a, a22, lda, t4, 0, hn, c, c21, ldc, hm, hk, hn, levels - 1, tasks, policy),
+                new Product(s1, 0, hk, t1, 0, hn, p5, 0, hn, hm, hk, hn, levels - 1, tasks, policy),
+                new Product(s2, 0, hk, t2, 0, hn, p6, 0, hn, hm, hk, hn, levels - 1, tasks, policy),
+                new Product(s3, 0, hk, t3, 0, hn, c, c22, ldc, hm, hk, hn, levels - 1, tasks, policy)
+        };
+        if (ForkJoinTask.inForkJoinPool())
+            ForkJoinTask.invokeAll(products);
+        else
+            policy.getPool().invoke(new Products(products));
+
+        combine(c, c11, ldc, p1, 0, hn, 1, c, c11, ldc, hm, hn);                     // U1 = P1 + P2 -> C11
+        combine(p6, 0, hn, p1, 0, hn, 1, p6, 0, hn, hm, hn);                         // U2 = P1 + P6
+        combine(c, c22, ldc, p6, 0, hn, 1, c, c22, ldc, hm, hn);                     // U3 = U2 + P7 -> C22
+        combine(c, c22, ldc, c, c21, ldc, -1, c, c21, ldc, hm, hn);                  // U6 = U3 - P4 -> C21
+        combine(c, c22, ldc, p5, 0, hn, 1, c, c22, ldc, hm, hn);                     // U7 = U3 + P5 -> C22
+        combine(p6, 0, hn, p5, 0, hn, 1, p6, 0, hn, hm, hn);                         // U4 = U2 + P5
+        combine(c, c12, ldc, p6, 0, hn, 1, c, c12, ldc, hm, hn);                     // U5 = U4 + P3 -> C12
+    }
+
+    /**
+     * Writes sum of blocks to result block (z = x + sign * y), result may be the same block as x or y
+     */
+    private static void combine(double[] x, int xOff, int ldx, double[] y, int yOff, int ldy, int sign,
+                                double[] z, int zOff, int ldz, int rows, int cols) {
+        for (int i = 0; i < rows; i++){
+            int xi = xOff + i * ldx;
+            int yi = yOff + i * ldy;
+            int zi = zOff + i * ldz;
+            if (sign > 0){
+                for (int j = 0; j < cols; j++){
+                    z[zi + j] = x[xi + j] + y[yi + j];
+                }
+            } else {
+                for (int j = 0; j < cols; j++){
+                    z[zi + j] = x[xi + j] - y[yi + j];
+                }
+            }
+        }
+    }
+
+    private static class Product extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final double[] a;
+        private final int aOff;
+        private final int lda;
+        private final double[] b;
+        private final int bOff;
+        private final int ldb;
+        private final double[] c;
+        private final int cOff;
+        private final int ldc;
+        private final int m;
+        private final int k;
+        private final int n;
+        private final int levels;
+        private final int tasks;
+        private final ExecutionPolicy policy;
+
+        Product(double[] a, int aOff, int lda, double[] b, int bOff, int ldb, double[] c, int cOff, int ldc,
+                int m, int k, int n, int levels, int tasks, ExecutionPolicy policy) {
+            this.a = a;
+            this.aOff = aOff;
+            this.lda = lda;
+            this.b = b;
+            this.bOff = bOff;
+            this.ldb = ldb;
+            this.c = c;
+            this.cOff = cOff;
+            this.ldc = ldc;
+            this.m = m;
+            this.k = k;
+            this.n = n;
+            this.levels = levels;
+            this.tasks = tasks;
+            this.policy = policy;
+        }
+
+        @Override
+        protected void compute() {
+            multiply(a, aOff, lda, b, bOff, ldb, c, cOff, ldc, m, k, n, levels, tasks, policy);
+        }
+    }
+
+    private static class Products extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final Product[] products;
+
+        Products(Product[] products) {
+            this.products = products;
+        }
+
+        @Override
+        protected void compute() {
+            invokeAll(products);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package org.markvarabyou.math.common.kernels;
+
+/**
+ * Cache-oblivious out-of-place transposition. Longer side of block is halved recursively
+ * until block fits into BLOCK x BLOCK, so at every cache level both source and result
+ * are read and written by tiles which fit into that cache, without tuning for its size.
+ * Author: Mark Vorobyov
+ * Date: 10/20/26
+ * Time: 5:30 PM
+ */
+public final class Transpose {
+    static final int BLOCK = 16;
+
+    private Transpose() {
+    }
+
+    /**
+     * Writes transposed matrix into result (c[j][i] = a[i][j])
+     * @param a source storage
+     * @param offset index of first element of source
+     * @param rowStride distance between rows of source
+     * @param colStride distance between columns of source
+     * @param rowCount count of rows in source
+     * @param colCount count of columns in source
+     * @param c result storage for colCount x rowCount matrix
+     * @param cOffset index of first element of result
+     * @param ldc distance between rows of result
+     */
+    public static void transpose(double[] a, int offset, int rowStride, int colStride, int rowCount, int colCount,
+                                 double[] c, int cOffset, int ldc) {
+        transpose(a, offset, rowStride, colStride, c, cOffset, ldc, 0, rowCount, 0, colCount);
+    }
+
+    /**
+     * Writes transposed matrix into result (c[j][i] = a[i][j])
+     * @param a source storage
+     * @param offset index of first element of source
+     * @param rowStride distance between rows of source
+     * @param colStride distance between columns of source
+     * @param rowCount count of rows in source
+     * @param colCount count of columns in source
+     * @param c result storage for colCount x rowCount matrix
+     * @param cOffset index of first element of result
+     * @param ldc distance between rows of result
+     */
+    public static void transpose(Object[] a, int offset, int rowStride, int colStride, int rowCount, int colCount,
+                                 Object[] c, int cOffset, int ldc) {
+        transpose(a, offset, rowStride, colStride, c, cOffset, ldc, 0, rowCount, 0, colCount);
+    }
+
+    private static void transpose(double[] a, int offset, int rowStride, int colStride, double[] c, int cOffset,
+                                  int ldc, int rowFrom, int rowTo, int colFrom, int colTo) {
+        int height = rowTo - rowFrom;
+        int width = colTo - colFrom;
+        if (height <= BLOCK && width <= BLOCK){
+            for (int i = rowFrom; i < rowTo; i++){
+                int source = offset + i * rowStride;
+                for (int j = colFrom; j < colTo; j++){
+                    c[cOffset + j * ldc + i] = a[source + j * colStride];
+                }
+            }
+        } else if (height >= width){
+            int middle = rowFrom + height / 2;
+            transpose(a, offset, rowStride, colStride, c, cOffset, ldc, rowFrom, middle, colFrom, colTo);
+            transpose(a, offset, rowStride, colStride, c, cOffset, ldc, middle, rowTo, colFrom, colTo);
+        } else {
+            int middle = colFrom + width / 2;
+            transpose(a, offset, rowStride, colStride, c, cOffset, ldc, rowFrom, rowTo, colFrom, middle);
+            transpose(a, offset, rowStride, colStride, c, cOffset, ldc, rowFrom, rowTo, middle, colTo);
+        }
+    }
+
+    private static void transpose(Object[] a, int offset, int rowStride, int colStride, Object[] c, int cOffset,
+                                  int ldc, int rowFrom, int rowTo, int colFrom, int colTo) {
+        int height = rowTo - rowFrom;
+        int width = colTo - colFrom;
+        if (height <= BLOCK && width <= BLOCK){
+            for (int i = rowFrom; i < rowTo; i++){
+                int source = offset + i * rowStride;
+                for (int j = colFrom; j < colTo; j++){
+                    c[cOffset + j * ldc + i] = a[source + j * colStride];
+                }
+            }
+        } else if (height >= width){
+            int middle = rowFrom + height / 2;
+            transpose(a, offset, rowStride, colStride, c, cOffset, ldc, rowFrom, middle, colFrom, colTo);
+            transpose(a, offset, rowStride, colStride, c, cOffset, ldc, middle, rowTo, colFrom, colTo);
+        } else {
+            int middle = colFrom + width / 2;
+            transpose(a, offset, rowStride, colStride, c, cOffset, ldc, rowFrom, rowTo, colFrom, middle);
+            transpose(a, offset, rowStride, colStride, c, cOffset, ldc, rowFrom, rowTo, middle, colTo);
+        }
+    }
+}
@@ -0,0 +1,307 @@
+package org.markvarabyou.math.io;
+
+import org.markvarabyou.math.common.ElementType;
+
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+
+/**
+ * Binary matrix file: {@link MatrixFileHeader} followed by raw row-major primitives.
+ * Payload is transferred through FileChannel with large direct buffer and bulk copied into primitive array,
+ * so reading and writing are limited by disk instead of parsing.
+ * Author: Mark Vorobyov
+ * Date: 10/19/26
+ * Time: 2:10 PM
+ */
+public class BinaryMatrixFile {
+    static final int BUFFER_SIZE = 1 << 20;
+
+    private final MatrixFileHeader header;
+    private final Object values;
+
+    /**
+     * Initializes file contents
+     * @param header header of file
+     * @param values int[], long[], float[] or double[] array with row-major elements, according to header element type
+     */
+    public BinaryMatrixFile(MatrixFileHeader header, Object values) {
+        if (arrayLength(header.getElementType(), values) != header.getElementCount())
+            throw new IllegalArgumentException("Invalid values length");
+
+        this.header = header;
+        this.values = values;
+    }
+
+    /**
+     * Initializes file contents from boxed elements
+     * @param rowCount count of rows
+     * @param colCount count of columns
+     * @param elementType type of elements
+     * @param boxed row-major boxed elements (Integer, Long, Float or Double)
+     * @return file contents
+     */
+    public static BinaryMatrixFile fromBoxed(int rowCount, int colCount, ElementType elementType, Object[] boxed) {
+        Object values;
+        switch (elementType){
+            case INT:
+                int[] ints = new int[boxed.length];
+                for (int i = 0; i < ints.length; i++){
+                    ints[i] = (Integer) boxed[i];
+                }
+                values = ints;
+                break;
+            case LONG:
+                long[] longs = new long[boxed.length];
+                for (int i = 0; i < longs.length; i++){
+                    longs[i] = (Long) boxed[i];
+                }
+                values = longs;
+                break;
+            case FLOAT:
+                float[] floats = new float[boxed.length];
+                for (int i = 0; i < floats.length; i++){
+                    floats[i] = (Float) boxed[i];
+                }
+                values = floats;
+                break;
+            default:
+                double[] doubles = new double[boxed.length];
+                for (int i = 0; i < doubles.length; i++){
+                    doubles[i] = (Double) boxed[i];
+                }
+                values = doubles;
+        }
+        return new BinaryMatrixFile(new MatrixFileHeader(elementType, rowCount, colCount), values);
+    }
+
+    /**
+     * Checks if file starts with binary matrix header magic
+     * @param fileName file to check
+     * @return true for binary matrix file, false for text or other file
+     * @throws IOException if file cannot be read
+     */
+    public static boolean isBinary(String fileName) throws IOException {
+        FileInputStream stream = new FileInputStream(fileName);
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+            readFully(stream.getChannel(), buffer);
+            return buffer.position() == 4 && buffer.getInt(0) == MatrixFileHeader.MAGIC;
+        } finally {
+            stream.close();
+        }
+    }
+
+    /**
+     * Reads binary matrix file
+     * @param fileName file to read
+     * @return file contents
+     * @throws IOException if file cannot be read or has wrong format
+     */
+    public static BinaryMatrixFile read(String fileName) throws IOException {
+        FileInputStream stream = new FileInputStream(fileName);
+        try {
+            FileChannel channel = stream.getChannel();
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+            buffer.limit(MatrixFileHeader.SIZE);
+            readFully(channel, buffer);
+            buffer.flip();
+            MatrixFileHeader header = MatrixFileHeader.read(buffer);
+            if (channel.size() < MatrixFileHeader.SIZE + header.getPayloadSize())
+                throw new IOException("Matrix file is truncated");
+            if (header.getElementCount() > Integer.MAX_VALUE)
+                throw new IOException("Matrix is too large for heap storage");
+
+            ElementType type = header.getElementType();
+            int count = (int) header.getElementCount();
+            int size = type.getSize();
+            Object values = newArray(type, count);
+            buffer.order(header.getByteOrder());
+            int index = 0;
+            while (index < count){
+                int chunk = Math.min(count - index, BUFFER_SIZE / size);
+                buffer.clear();
+                buffer.limit(chunk * size);
+                readFully(channel, buffer);
+                buffer.flip();
+                switch (type){
+                    case INT:
+                        buffer.asIntBuffer().get((int[]) values, index, chunk);
+                        break;
+                    case LONG:
+                        buffer.asLongBuffer().get((long[]) values, index, chunk);
+                        break;
+                    case FLOAT:
+                        buffer.asFloatBuffer().get((float[]) values, index, chunk);
+                        break;
+                    default:
+                        buffer.asDoubleBuffer().get((double[]) values, index, chunk);
+                }
+                index += chunk;
+            }
+            return new BinaryMatrixFile(header, values);
+        } finally {
+            stream.close();
+        }
+    }
+
+    /**
+     * Writes contents to binary matrix file
+     * @param fileName file to write, existing file is overwritten
+     * @throws IOException if file cannot be written
+     */
+    public void write(String fileName) throws IOException {
+        FileOutputStream stream = new FileOutputStream(fileName);
+        try {
+            FileChannel channel = stream.getChannel();
+            ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(header.getByteOrder());
+            header.write(buffer);
+
+            ElementType type = header.getElementType();
+            int count = (int) header.getElementCount();
+            int size = type.getSize();
+            int index = 0;
+            while (true){
+                int chunk = Math.min(count - index, buffer.remaining() / size);
+                switch (type){
+                    case INT:
+                        buffer.asIntBuffer().put((int[]) values, index, chunk);
+                        break;
+                    case LONG:
+                        buffer.asLongBuffer().put((long[]) values, index, chunk);
+                        break;
+                    case FLOAT:
+                        buffer.asFloatBuffer().put((float[]) values, index, chunk);
+                        break;
+                    default:
+                        buffer.asDoubleBuffer().put((double[]) values, index, chunk);
+                }
+                buffer.position(buffer.position() + chunk * size);
+                index += chunk;
+                buffer.flip();
+                while (buffer.hasRemaining()){
+                    channel.write(buffer);
+                }
+                buffer.clear();
+                if (index == count)
+                    break;
+            }
+        } finally {
+            stream.close();
+        }
+    }
+
+    public MatrixFileHeader getHeader() {
+        return header;
+    }
+
+    /**
+     * @return int[], long[], float[] or double[] array with row-major elements
+     */
+    public Object getValues() {
+        return values;
+    }
+
+    /**
+     * @return elements converted to doubles
+     */
+    public double[] toDoubles() {
+        switch (header.getElementType()){
+            case INT:
+                int[] ints = (int[]) values;
+                double[] fromInts = new double[ints.length];
+                for (int i = 0; i < ints.length; i++){
+                    fromInts[i] = ints[i];
+                }
+                return fromInts;
+            case LONG:
+                long[] longs = (long[]) values;
+                double[] fromLongs = new double[longs.length];
+                for (int i = 0; i < longs.length; i++){
+                    fromLongs[i] = longs[i];
+                }
+                return fromLongs;
+            case FLOAT:
+                float[] floats = (float[]) values;
+                double[] fromFloats = new double[floats.length];
+                for (int i = 0; i < floats.length; i++){
+                    fromFloats[i] = floats[i];
+                }
+                return fromFloats;
+            default:
+                return (double[]) values;
+        }
+    }
+
+    /**
+     * @return elements boxed to Integer, Long, Float or Double
+     */
+    public Object[] toBoxed() {
+        switch (header.getElementType()){
+            case INT:
+                int[] ints = (int[]) values;
+                Object[] fromInts = new Object[ints.length];
+                for (int i = 0; i < ints.length; i++){
+                    fromInts[i] = ints[i];
+                }
+                return fromInts;
+            case LONG:
+                long[] longs = (long[]) values;
+                Object[] fromLongs = new Object[longs.length];
+                for (int i = 0; i < longs.length; i++){
+                    fromLongs[i] = longs[i];
+                }
+                return fromLongs;
+            case FLOAT:
+                float[] floats = (float[]) values;
+                Object[] fromFloats = new Object[floats.length];
+                for (int i = 0; i < floats.length; i++){
+                    fromFloats[i] = floats[i];
+                }
+                return fromFloats;
+            default:
+                double[] doubles = (double[]) values;
+                Object[] fromDoubles = new Object[doubles.length];
+                for (int i = 0; i < doubles.length; i++){
+                    fromDoubles[i] = doubles[i];
+                }
+                return fromDoubles;
+        }
+    }
+
+    private static Object newArray(ElementType type, int length) {
+        switch (type){
+            case INT:
+                return new int[length];
+            case LONG:
+                return new long[length];
+            case FLOAT:
+                return new float[length];
+            default:
+                return new double[length];
+        }
+    }
+
+    private static int arrayLength(ElementType type, Object values) {
+        switch (type){
+            case INT:
+                return ((int[]) values).length;
+            case LONG:
+                return ((long[]) values).length;
+            case FLOAT:
+                return ((float[]) values).length;
+            default:
+                return ((double[]) values).length;
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()){
+            if (channel.read(buffer) < 0)
+                break;
+        }
+    }
+}
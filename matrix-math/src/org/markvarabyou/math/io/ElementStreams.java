@@ -0,0 +1,106 @@
+package org.markvarabyou.math.io;
+
+import org.markvarabyou.math.common.ElementType;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+/**
+ * Codec of boxed matrix elements as primitive big-endian payload of data streams.
+ * Elements are transferred through small reusable byte buffer, so no per-element stream records are written.
+ * Author: Mark Vorobyov
+ * Date: 10/19/26
+ * Time: 6:10 PM
+ */
+public final class ElementStreams {
+    static final int BUFFER_SIZE = 1 << 13;
+
+    private ElementStreams() {
+    }
+
+    /**
+     * Writes elements as primitives of specified type
+     * @param out stream to write
+     * @param type type of elements
+     * @param elements boxed elements (Integer, Long, Float or Double)
+     * @throws IOException if elements cannot be written
+     */
+    public static void write(DataOutput out, ElementType type, List<?> elements) throws IOException {
+        int size = type.getSize();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        byte[] bytes = buffer.array();
+        int count = elements.size();
+        for (int index = 0; index < count; ){
+            int chunk = Math.min(count - index, BUFFER_SIZE / size);
+            buffer.clear();
+            switch (type){
+                case INT:
+                    for (int i = 0; i < chunk; i++){
+                        buffer.putInt((Integer) elements.get(index + i));
+                    }
+                    break;
+                case LONG:
+                    for (int i = 0; i < chunk; i++){
+                        buffer.putLong((Long) elements.get(index + i));
+                    }
+                    break;
+                case FLOAT:
+                    for (int i = 0; i < chunk; i++){
+                        buffer.putFloat((Float) elements.get(index + i));
+                    }
+                    break;
+                default:
+                    for (int i = 0; i < chunk; i++){
+                        buffer.putDouble((Double) elements.get(index + i));
+                    }
+            }
+            out.write(bytes, 0, chunk * size);
+            index += chunk;
+        }
+    }
+
+    /**
+     * Reads primitives of specified type and adds them boxed to target list
+     * @param in stream to read
+     * @param type type of elements
+     * @param count count of elements
+     * @param target list for elements
+     * @throws IOException if elements cannot be read
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> void read(DataInput in, ElementType type, int count, List<T> target) throws IOException {
+        int size = type.getSize();
+        ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        byte[] bytes = buffer.array();
+        for (int index = 0; index < count; ){
+            int chunk = Math.min(count - index, BUFFER_SIZE / size);
+            in.readFully(bytes, 0, chunk * size);
+            buffer.clear();
+            switch (type){
+                case INT:
+                    for (int i = 0; i < chunk; i++){
+                        target.add((T) Integer.valueOf(buffer.getInt()));
+                    }
+                    break;
+                case LONG:
+                    for (int i = 0; i < chunk; i++){
+                        target.add((T) Long.valueOf(buffer.getLong()));
+                    }
+                    break;
+                case FLOAT:
+                    for (int i = 0; i < chunk; i++){
+                        target.add((T) Float.valueOf(buffer.getFloat()));
+                    }
+                    break;
+                default:
+                    for (int i = 0; i < chunk; i++){
+                        target.add((T) Double.valueOf(buffer.getDouble()));
+                    }
+            }
+            index += chunk;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package org.markvarabyou.math.io;
+
+import org.markvarabyou.math.common.ElementType;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Header of binary matrix file. Layout (32 bytes, little-endian):
+ * magic "MTRX" (int), version (short), element type code (byte), payload byte order (byte, 0 - little-endian),
+ * row count (int), column count (int), 16 reserved bytes. Payload of row-major elements starts right after header.
+ * Author: Mark Vorobyov
+ * Date: 10/19/26
+ * Time: 10:15 AM
+ */
+public class MatrixFileHeader {
+    public static final int SIZE = 32;
+    public static final int MAGIC = 0x5852544D;
+    public static final short VERSION = 1;
+
+    private final ElementType elementType;
+    private final ByteOrder byteOrder;
+    private final int rowCount;
+    private final int colCount;
+
+    /**
+     * Initializes header of little-endian payload
+     * @param elementType type of elements
+     * @param rowCount count of rows
+     * @param colCount count of columns
+     */
+    public MatrixFileHeader(ElementType elementType, int rowCount, int colCount) {
+        this(elementType, ByteOrder.LITTLE_ENDIAN, rowCount, colCount);
+    }
+
+    /**
+     * Initializes header
+     * @param elementType type of elements
+     * @param byteOrder byte order of payload
+     * @param rowCount count of rows
+     * @param colCount count of columns
+     */
+    public MatrixFileHeader(ElementType elementType, ByteOrder byteOrder, int rowCount, int colCount) {
+        if (rowCount < 0 || colCount < 0)
+            throw new IllegalArgumentException("Invalid matrix size");
+
+        this.elementType = elementType;
+        this.byteOrder = byteOrder;
+        this.rowCount = rowCount;
+        this.colCount = colCount;
+    }
+
+    /**
+     * Reads header from buffer at its current position
+     * @param buffer buffer with at least SIZE remaining bytes
+     * @return header
+     * @throws IOException if buffer does not contain supported header
+     */
+    public static MatrixFileHeader read(ByteBuffer buffer) throws IOException {
+        if (buffer.remaining() < SIZE)
+            throw new IOException("Matrix file header is truncated");
+
+        ByteOrder previousOrder = buffer.order();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            int start = buffer.position();
+            if (buffer.getInt() != MAGIC)
+                throw new IOException("Not a binary matrix file");
+            short version = buffer.getShort();
+            if (version != VERSION)
+                throw new IOException("Unsupported matrix file version " + version);
+            ElementType elementType;
+            try {
+                elementType = ElementType.fromCode(buffer.get());
+            } catch (IllegalArgumentException e) {
+                throw new IOException(e.getMessage());
+            }
+            ByteOrder byteOrder = buffer.get() == 0 ? ByteOrder.LITTLE_ENDIAN : ByteOrder.BIG_ENDIAN;
+            int rowCount = buffer.getInt();
+            int colCount = buffer.getInt();
+            buffer.position(start + SIZE);
+            if (rowCount < 0 || colCount < 0)
+                throw new IOException("Invalid matrix size");
+            return new MatrixFileHeader(elementType, byteOrder, rowCount, colCount);
+        } finally {
+            buffer.order(previousOrder);
+        }
+    }
+
+    /**
+     * Writes header to buffer at its current position
+     * @param buffer buffer with at least SIZE remaining bytes
+     */
+    public void write(ByteBuffer buffer) {
+        ByteOrder previousOrder = buffer.order();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        int start = buffer.position();
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.put((byte) elementType.getCode());
+        buffer.put((byte) (byteOrder == ByteOrder.LITTLE_ENDIAN ? 0 : 1));
+        buffer.putInt(rowCount);
+        buffer.putInt(colCount);
+        while (buffer.position() < start + SIZE){
+            buffer.put((byte) 0);
+        }
+        buffer.order(previousOrder);
+    }
+
+    /**
+     * @return count of elements in payload
+     */
+    public long getElementCount() {
+        return (long) rowCount * colCount;
+    }
+
+    /**
+     * @return size of payload in bytes
+     */
+    public long getPayloadSize() {
+        return getElementCount() * elementType.getSize();
+    }
+
+    public ElementType getElementType() {
+        return elementType;
+    }
+
+    public ByteOrder getByteOrder() {
+        return byteOrder;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getColCount() {
+        return colCount;
+    }
+}
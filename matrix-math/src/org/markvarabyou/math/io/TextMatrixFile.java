@@ -0,0 +1,365 @@
+package org.markvarabyou.math.io;
+
+import org.markvarabyou.math.common.ExecutionPolicy;
+import org.markvarabyou.math.common.RangeTask;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+
+/**
+ * Parallel importer of text matrix files with double elements.
+ * Input is memory-mapped by chunks split at line boundaries. First pass counts elements of every chunk,
+ * prefix sums give index of first element of chunk, and second pass parses chunks straight into row-major array.
+ * Both passes are split between threads by execution policy.
+ * Elements may be separated by commas, semicolons, spaces, tabs and line breaks.
+ * Author: Mark Vorobyov
+ * Date: 10/19/26
+ * Time: 4:20 PM
+ */
+public class TextMatrixFile {
+    static final int CHUNK_SIZE = 1 << 24;
+    private static final int SCAN_SIZE = 1 << 12;
+    private static final long MAX_EXACT_MANTISSA = 1L << 53;
+    private static final double[] POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final int rowCount;
+    private final int colCount;
+    private final double[] values;
+
+    /**
+     * Initializes file contents
+     * @param rowCount count of rows
+     * @param colCount count of columns
+     * @param values row-major elements
+     */
+    public TextMatrixFile(int rowCount, int colCount, double[] values) {
+        if ((long) rowCount * colCount != values.length)
+            throw new IllegalArgumentException("Invalid values length");
+
+        this.rowCount = rowCount;
+        this.colCount = colCount;
+        this.values = values;
+    }
+
+    /**
+     * Reads file of matrix text format: count of rows and count of columns on first two lines,
+     * then row-major elements
+     * @param fileName file to read
+     * @param policy execution policy of parsing
+     * @return file contents
+     * @throws IOException if file cannot be read or has wrong format
+     */
+    public static TextMatrixFile read(String fileName, ExecutionPolicy policy) throws IOException {
+        RandomAccessFile file = new RandomAccessFile(fileName, "r");
+        try {
+            FileChannel channel = file.getChannel();
+            ByteBuffer header = ByteBuffer.allocate((int) Math.min(SCAN_SIZE, channel.size()));
+            readFully(channel, header, 0);
+            int first = indexOf(header, 0, (byte) '\n');
+            int second = first < 0 ? -1 : indexOf(header, first + 1, (byte) '\n');
+            if (second < 0)
+                throw new IOException("Invalid matrix file header");
+            int rowCount = parseInt(header, 0, first);
+            int colCount = parseInt(header, first + 1, second);
+            if (rowCount < 0 || colCount < 0)
+                throw new IOException("Invalid matrix file header");
+
+            double[] values = parse(channel, second + 1, 0, policy);
+            if (values.length != (long) rowCount * colCount)
+                throw new IOException("Invalid count of matrix elements");
+            return new TextMatrixFile(rowCount, colCount, values);
+        } finally {
+            file.close();
+        }
+    }
+
+    /**
+     * Reads CSV file with one matrix row per line
+     * @param fileName file to read
+     * @param policy execution policy of parsing
+     * @return file contents
+     * @throws IOException if file cannot be read or has rows of different length
+     */
+    public static TextMatrixFile readCsv(String fileName, ExecutionPolicy policy) throws IOException {
+        RandomAccessFile file = new RandomAccessFile(fileName, "r");
+        try {
+            FileChannel channel = file.getChannel();
+            int colCount = countFirstLine(channel);
+            if (colCount == 0)
+                return new TextMatrixFile(0, 0, new double[0]);
+
+            double[] values = parse(channel, 0, colCount, policy);
+            return new TextMatrixFile(values.length / colCount, colCount, values);
+        } finally {
+            file.close();
+        }
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getColCount() {
+        return colCount;
+    }
+
+    /**
+     * @return row-major elements
+     */
+    public double[] getValues() {
+        return values;
+    }
+
+    private static double[] parse(FileChannel channel, long start, final int colCount, ExecutionPolicy policy)
+            throws IOException {
+        long[] bounds = split(channel, start);
+        final int chunkCount = bounds.length - 1;
+        final MappedByteBuffer[] chunks = new MappedByteBuffer[chunkCount];
+        for (int c = 0; c < chunkCount; c++){
+            chunks[c] = channel.map(FileChannel.MapMode.READ_ONLY, bounds[c], bounds[c + 1] - bounds[c]);
+        }
+
+        final int[] counts = new int[chunkCount];
+        policy.execute(chunkCount, CHUNK_SIZE, new RangeTask() {
+            @Override
+            public void compute(int from, int to) {
+                for (int c = from; c < to; c++){
+                    counts[c] = count(chunks[c], colCount);
+                }
+            }
+        });
+
+        final int[] offsets = new int[chunkCount];
+        long total = 0;
+        for (int c = 0; c < chunkCount; c++){
+            if (counts[c] < 0)
+                throw new IOException("Rows of matrix file have different length");
+            offsets[c] = (int) total;
+            total += counts[c];
+            if (total > Integer.MAX_VALUE)
+                throw new IOException("Matrix is too large for heap storage");
+        }
+
+        final double[] values = new double[(int) total];
+        policy.execute(chunkCount, CHUNK_SIZE, new RangeTask() {
+            @Override
+            public void compute(int from, int to) {
+                for (int c = from; c < to; c++){
+                    parse(chunks[c], values, offsets[c]);
+                }
+            }
+        });
+        return values;
+    }
+
+    private static long[] split(FileChannel channel, long start) throws IOException {
+        long size = channel.size();
+        ArrayList<Long> bounds = new ArrayList<Long>();
+        bounds.add(start);
+        long bound = start;
+        while (size - bound > CHUNK_SIZE){
+            bound = nextLine(channel, bound + CHUNK_SIZE);
+            bounds.add(bound);
+        }
+        if (bound < size)
+            bounds.add(size);
+
+        long[] result = new long[bounds.size()];
+        for (int i = 0; i < result.length; i++){
+            result[i] = bounds.get(i);
+        }
+        return result;
+    }
+
+    private static long nextLine(FileChannel channel, long position) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_SIZE);
+        long size = channel.size();
+        while (position < size){
+            buffer.clear();
+            readFully(channel, buffer, position);
+            int index = indexOf(buffer, 0, (byte) '\n');
+            if (index >= 0)
+                return position + index + 1;
+            position += buffer.position();
+        }
+        return size;
+    }
+
+    private static int countFirstLine(FileChannel channel) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_SIZE);
+        long position = 0;
+        long size = channel.size();
+        int tokens = 0;
+        boolean inToken = false;
+        while (position < size){
+            buffer.clear();
+            readFully(channel, buffer, position);
+            for (int i = 0; i < buffer.position(); i++){
+                byte b = buffer.get(i);
+                if (b == '\n' && tokens > 0)
+                    return tokens;
+                boolean separator = isSeparator(b);
+                if (!separator && !inToken)
+                    tokens++;
+                inToken = !separator;
+            }
+            position += buffer.position();
+        }
+        return tokens;
+    }
+
+    /**
+     * Counts elements of chunk
+     * @return count of elements or -1 if some non empty line has count of elements other than colCount
+     */
+    private static int count(ByteBuffer chunk, int colCount) {
+        int limit = chunk.limit();
+        int count = 0;
+        int lineCount = 0;
+        boolean inToken = false;
+        for (int i = 0; i < limit; i++){
+            byte b = chunk.get(i);
+            boolean separator = isSeparator(b);
+            if (!separator && !inToken){
+                count++;
+                lineCount++;
+            }
+            inToken = !separator;
+            if (b == '\n'){
+                if (colCount > 0 && lineCount != 0 && lineCount != colCount)
+                    return -1;
+                lineCount = 0;
+            }
+        }
+        if (colCount > 0 && lineCount != 0 && lineCount != colCount)
+            return -1;
+        return count;
+    }
+
+    private static void parse(ByteBuffer chunk, double[] values, int index) {
+        int limit = chunk.limit();
+        int i = 0;
+        while (true){
+            while (i < limit && isSeparator(chunk.get(i))){
+                i++;
+            }
+            if (i == limit)
+                return;
+            int end = i + 1;
+            while (end < limit && !isSeparator(chunk.get(end))){
+                end++;
+            }
+            values[index++] = parseDouble(chunk, i, end);
+            i = end;
+        }
+    }
+
+    /**
+     * Parses decimal number without allocations when it is exactly representable by mantissa below 2^53
+     * and power of ten up to 22, other numbers are passed to Double.parseDouble
+     */
+    static double parseDouble(ByteBuffer buffer, int from, int to) {
+        int i = from;
+        byte b = buffer.get(i);
+        boolean negative = b == '-';
+        if (negative || b == '+')
+            i++;
+
+        long mantissa = 0;
+        int exponent = 0;
+        int digits = 0;
+        boolean any = false;
+        while (i < to && (b = buffer.get(i)) >= '0' && b <= '9'){
+            mantissa = mantissa * 10 + (b - '0');
+            if (mantissa != 0)
+                digits++;
+            any = true;
+            i++;
+        }
+        if (i < to && buffer.get(i) == '.'){
+            i++;
+            while (i < to && (b = buffer.get(i)) >= '0' && b <= '9'){
+                mantissa = mantissa * 10 + (b - '0');
+                if (mantissa != 0)
+                    digits++;
+                exponent--;
+                any = true;
+                i++;
+            }
+        }
+        if (i < to && ((b = buffer.get(i)) == 'e' || b == 'E') && any){
+            i++;
+            boolean negativeExponent = false;
+            if (i < to && ((b = buffer.get(i)) == '-' || b == '+')){
+                negativeExponent = b == '-';
+                i++;
+            }
+            int value = 0;
+            boolean exponentDigits = false;
+            while (i < to && (b = buffer.get(i)) >= '0' && b <= '9'){
+                if (value < 10000)
+                    value = value * 10 + (b - '0');
+                exponentDigits = true;
+                i++;
+            }
+            if (!exponentDigits)
+                return parseSlow(buffer, from, to);
+            exponent += negativeExponent ? -value : value;
+        }
+        if (!any || i != to || digits > 18)
+            return parseSlow(buffer, from, to);
+
+        double result;
+        if (mantissa == 0)
+            result = 0;
+        else if (mantissa <= MAX_EXACT_MANTISSA && exponent >= -22 && exponent <= 22)
+            result = exponent < 0 ? mantissa / POWERS_OF_TEN[-exponent] : mantissa * POWERS_OF_TEN[exponent];
+        else
+            return parseSlow(buffer, from, to);
+        return negative ? -result : result;
+    }
+
+    private static double parseSlow(ByteBuffer buffer, int from, int to) {
+        char[] chars = new char[to - from];
+        for (int i = from; i < to; i++){
+            chars[i - from] = (char) buffer.get(i);
+        }
+        return Double.parseDouble(new String(chars));
+    }
+
+    private static int parseInt(ByteBuffer buffer, int from, int to) throws IOException {
+        try {
+            return Integer.parseInt(new String(buffer.array(), from, to - from, "US-ASCII").trim());
+        } catch (NumberFormatException e) {
+            throw new IOException("Invalid matrix file header");
+        }
+    }
+
+    private static boolean isSeparator(byte b) {
+        return b == ',' || b == ';' || b == ' ' || b == '\t' || b == '\r' || b == '\n';
+    }
+
+    private static int indexOf(ByteBuffer buffer, int from, byte value) {
+        for (int i = from; i < buffer.position(); i++){
+            if (buffer.get(i) == value)
+                return i;
+        }
+        return -1;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()){
+            int read = channel.read(buffer, position);
+            if (read < 0)
+                break;
+            position += read;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.markvarabyou.math.iterative;
+
+import org.markvarabyou.math.common.kernels.DenseKernels;
+
+/**
+ * Preconditioned biconjugate gradient stabilized method (BiCGSTAB) for non-symmetric systems.
+ * Author: Mark Vorobyov
+ * Date: 10/21/26
+ * Time: 3:25 PM
+ */
+public class BiCgStab extends IterativeSolver {
+
+    /**
+     * Initializes solver for matrix of system
+     * @param operator non-singular matrix
+     */
+    public BiCgStab(LinearOperator operator) {
+        super(operator);
+    }
+
+    @Override
+    int iterate(double[] b, double[] x, double[] inverseDiagonal, double norm, Residuals residuals) {
+        int n = b.length;
+        double[] r = new double[n];
+        double[] shadow = new double[n];
+        double[] p = new double[n];
+        double[] v = new double[n];
+        double[] y = new double[n];
+        double[] s = new double[n];
+        double[] z = new double[n];
+        double[] t = new double[n];
+        LinearOperator operator = getOperator();
+
+        operator.apply(x, t);
+        for (int i = 0; i < n; i++){
+            r[i] = b[i] - t[i];
+        }
+        if (report(residuals, 0, norm(r) / norm))
+            return 0;
+        System.arraycopy(r, 0, shadow, 0, n);
+        double rho = 1;
+        double alpha = 1;
+        double omega = 1;
+
+        for (int iteration = 1; iteration <= getMaxIterations(); iteration++){
+            double next = dot(shadow, r);
+            // Breakdown, residual became orthogonal to shadow residual or stabilization step stalled
+            if (next == 0 || omega == 0)
+                return iteration - 1;
+
+            double beta = next / rho * (alpha / omega);
+            rho = next;
+            for (int i = 0; i < n; i++){
+                p[i] = r[i] + beta * (p[i] - omega * v[i]);
+            }
+            precondition(inverseDiagonal, p, y);
+            operator.apply(y, v);
+            double shadowV = dot(shadow, v);
+            if (shadowV == 0)
+                return iteration - 1;
+
+            alpha = rho / shadowV;
+            for (int i = 0; i < n; i++){
+                s[i] = r[i] - alpha * v[i];
+            }
+            DenseKernels.axpy(alpha, y, 0, x, 0, n);
+            // Half step may already converge, then s is the residual of x
+            double residual = norm(s) / norm;
+            if (residual <= getTolerance()){
+                report(residuals, iteration, residual);
+                return iteration;
+            }
+
+            precondition(inverseDiagonal, s, z);
+            operator.apply(z, t);
+            double tt = dot(t, t);
+            omega = tt == 0 ? 0 : dot(t, s) / tt;
+            DenseKernels.axpy(omega, z, 0, x, 0, n);
+            for (int i = 0; i < n; i++){
+                r[i] = s[i] - omega * t[i];
+            }
+            if (report(residuals, iteration, norm(r) / norm))
+                return iteration;
+        }
+        return getMaxIterations();
+    }
+}
@@ -0,0 +1,63 @@
+package org.markvarabyou.math.iterative;
+
+import org.markvarabyou.math.common.kernels.DenseKernels;
+
+/**
+ * Preconditioned conjugate gradient method for symmetric positive definite systems.
+ * Author: Mark Vorobyov
+ * Date: 10/21/26
+ * Time: 3:05 PM
+ */
+public class ConjugateGradient extends IterativeSolver {
+
+    /**
+     * Initializes solver for matrix of system
+     * @param operator symmetric positive definite matrix
+     */
+    public ConjugateGradient(LinearOperator operator) {
+        super(operator);
+    }
+
+    @Override
+    int iterate(double[] b, double[] x, double[] inverseDiagonal, double norm, Residuals residuals) {
+        int n = b.length;
+        double[] r = new double[n];
+        double[] z = new double[n];
+        double[] p = new double[n];
+        double[] q = new double[n];
+        LinearOperator operator = getOperator();
+
+        operator.apply(x, q);
+        for (int i = 0; i < n; i++){
+            r[i] = b[i] - q[i];
+        }
+        if (report(residuals, 0, norm(r) / norm))
+            return 0;
+        precondition(inverseDiagonal, r, z);
+        System.arraycopy(z, 0, p, 0, n);
+        double rz = dot(r, z);
+
+        for (int iteration = 1; iteration <= getMaxIterations(); iteration++){
+            operator.apply(p, q);
+            double pq = dot(p, q);
+            // Matrix is not positive definite or residual vanished in rounding
+            if (pq == 0)
+                return iteration - 1;
+
+            double alpha = rz / pq;
+            DenseKernels.axpy(alpha, p, 0, x, 0, n);
+            DenseKernels.axpy(-alpha, q, 0, r, 0, n);
+            if (report(residuals, iteration, norm(r) / norm))
+                return iteration;
+
+            precondition(inverseDiagonal, r, z);
+            double next = dot(r, z);
+            double beta = next / rz;
+            rz = next;
+            for (int i = 0; i < n; i++){
+                p[i] = z[i] + beta * p[i];
+            }
+        }
+        return getMaxIterations();
+    }
+}
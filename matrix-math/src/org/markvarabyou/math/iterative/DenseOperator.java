@@ -0,0 +1,66 @@
+package org.markvarabyou.math.iterative;
+
+import org.markvarabyou.math.common.ExecutionPolicy;
+import org.markvarabyou.math.common.kernels.DoubleGemv;
+
+/**
+ * Linear operator over strided dense double storage, product is computed by {@link DoubleGemv}.
+ * Storage is not copied, so changes of matrix are visible to operator.
+ * Author: Mark Vorobyov
+ * Date: 10/21/26
+ * Time: 2:20 PM
+ */
+public class DenseOperator implements LinearOperator {
+
+    private final double[] elements;
+    private final int offset;
+    private final int rowStride;
+    private final int colStride;
+    private final int rowCount;
+    private final int colCount;
+    private final ExecutionPolicy executionPolicy;
+
+    /**
+     * Initializes operator over matrix storage
+     * @param elements matrix storage
+     * @param offset index of first element
+     * @param rowStride distance between rows
+     * @param colStride distance between columns
+     * @param rowCount count of rows
+     * @param colCount count of columns
+     * @param executionPolicy execution policy of products
+     */
+    public DenseOperator(double[] elements, int offset, int rowStride, int colStride, int rowCount, int colCount,
+                         ExecutionPolicy executionPolicy) {
+        this.elements = elements;
+        this.offset = offset;
+        this.rowStride = rowStride;
+        this.colStride = colStride;
+        this.rowCount = rowCount;
+        this.colCount = colCount;
+        this.executionPolicy = executionPolicy;
+    }
+
+    @Override
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    @Override
+    public int getColCount() {
+        return colCount;
+    }
+
+    @Override
+    public void apply(double[] x, double[] y) {
+        DoubleGemv.multiply(elements, offset, rowStride, colStride, rowCount, colCount, x, 0, 1, y, 0,
+                executionPolicy);
+    }
+
+    @Override
+    public void getDiagonal(double[] diagonal) {
+        for (int i = 0, count = Math.min(rowCount, colCount); i < count; i++){
+            diagonal[i] = elements[offset + i * (rowStride + colStride)];
+        }
+    }
+}
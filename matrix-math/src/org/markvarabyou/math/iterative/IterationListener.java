@@ -0,0 +1,17 @@
+package org.markvarabyou.math.iterative;
+
+/**
+ * Receives residual of iterative solver after every iteration.
+ * Author: Mark Vorobyov
+ * Date: 10/21/26
+ * Time: 2:15 PM
+ */
+public interface IterationListener {
+
+    /**
+     * Called after iteration, should not keep solver busy
+     * @param iteration number of finished iteration, starting with 1
+     * @param residual norm of residual relative to norm of right-hand side
+     */
+    void iterationDone(int iteration, double residual);
+}
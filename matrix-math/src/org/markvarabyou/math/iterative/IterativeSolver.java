@@ -0,0 +1,218 @@
+package org.markvarabyou.math.iterative;
+
+import org.markvarabyou.math.arraybased.DoubleVector;
+import org.markvarabyou.math.common.kernels.DenseKernels;
+
+import java.util.Arrays;
+
+/**
+ * Base class of Krylov solvers of square systems A * x = b.
+ * Work vectors are allocated once per solve, iterations only call operator and vector kernels.
+ * Solvers use Jacobi preconditioning (division by diagonal of matrix) unless it is switched off.
+ * Iteration stops when norm of residual relative to norm of right-hand side reaches tolerance.
+ * Author: Mark Vorobyov
+ * Date: 10/21/26
+ * Time: 2:40 PM
+ */
+public abstract class IterativeSolver {
+    public static final double DEFAULT_TOLERANCE = 1e-10;
+    public static final int DEFAULT_MAX_ITERATIONS = 1000;
+
+    private final LinearOperator operator;
+    private double tolerance = DEFAULT_TOLERANCE;
+    private int maxIterations = DEFAULT_MAX_ITERATIONS;
+    private boolean preconditioned = true;
+    private IterationListener listener;
+
+    IterativeSolver(LinearOperator operator) {
+        // Validation
+        if (operator.getRowCount() != operator.getColCount())
+            throw new IllegalArgumentException("Matrix is not square");
+
+        this.operator = operator;
+    }
+
+    /**
+     * @return Matrix of system
+     */
+    public LinearOperator getOperator() {
+        return operator;
+    }
+
+    /**
+     * @return Relative residual at which iteration stops
+     */
+    public double getTolerance() {
+        return tolerance;
+    }
+
+    /**
+     * Sets relative residual at which iteration stops
+     * @param tolerance positive tolerance
+     */
+    public void setTolerance(double tolerance) {
+        if (!(tolerance > 0))
+            throw new IllegalArgumentException("Invalid tolerance");
+        this.tolerance = tolerance;
+    }
+
+    /**
+     * @return Maximal count of iterations
+     */
+    public int getMaxIterations() {
+        return maxIterations;
+    }
+
+    /**
+     * Sets maximal count of iterations
+     * @param maxIterations non-negative count
+     */
+    public void setMaxIterations(int maxIterations) {
+        if (maxIterations < 0)
+            throw new IllegalArgumentException("Invalid count of iterations");
+        this.maxIterations = maxIterations;
+    }
+
+    /**
+     * @return true if Jacobi preconditioning is used
+     */
+    public boolean isPreconditioned() {
+        return preconditioned;
+    }
+
+    /**
+     * Switches Jacobi preconditioning
+     * @param preconditioned true to divide residuals by diagonal of matrix
+     */
+    public void setPreconditioned(boolean preconditioned) {
+        this.preconditioned = preconditioned;
+    }
+
+    /**
+     * Sets listener which receives residual after every iteration
+     * @param listener listener or null
+     */
+    public void setListener(IterationListener listener) {
+        this.listener = listener;
+    }
+
+    /**
+     * Solves system starting from zero vector
+     * @param vector right-hand side
+     * @return solution and residuals
+     */
+    public SolverResult solve(DoubleVector vector){
+        return solve(vector, new DoubleVector(vector.getLength()));
+    }
+
+    /**
+     * Solves system starting from specified approximation
+     * @param vector right-hand side
+     * @param guess initial approximation of solution, is not changed
+     * @return solution and residuals
+     */
+    public SolverResult solve(DoubleVector vector, DoubleVector guess){
+        int n = operator.getRowCount();
+        // Validation
+        if (vector.getLength() != n || guess.getLength() != n)
+            throw new IllegalArgumentException("Invalid vector length");
+
+        double[] b = new double[n];
+        double[] x = new double[n];
+        for (int i = 0; i < n; i++){
+            b[i] = vector.get(i);
+            x[i] = guess.get(i);
+        }
+        // History grows as iterations run, so large limit of iterations costs nothing before the first one
+        Residuals residuals = new Residuals((int) Math.min(maxIterations + 1L, Residuals.INITIAL_CAPACITY));
+        int iterations = 0;
+        double norm = norm(b);
+        if (norm == 0){
+            Arrays.fill(x, 0);
+            residuals.set(0, 0);
+        } else {
+            iterations = iterate(b, x, preconditioned ? inverseDiagonal(n) : null, norm, residuals);
+        }
+        return new SolverResult(new DoubleVector(x), iterations, residuals.get(iterations) <= tolerance,
+                residuals.toArray(iterations + 1));
+    }
+
+    private double[] inverseDiagonal(int n){
+        double[] diagonal = new double[n];
+        operator.getDiagonal(diagonal);
+        for (int i = 0; i < n; i++){
+            diagonal[i] = diagonal[i] == 0 ? 1 : 1 / diagonal[i];
+        }
+        return diagonal;
+    }
+
+    /**
+     * Improves approximation of solution in place
+     * @param b right-hand side
+     * @param x initial approximation, overwritten by solution
+     * @param inverseDiagonal Jacobi preconditioner or null
+     * @param norm norm of right-hand side, not zero
+     * @param residuals relative residuals to fill, from initial approximation up to the last iteration
+     * @return count of performed iterations
+     */
+    abstract int iterate(double[] b, double[] x, double[] inverseDiagonal, double norm, Residuals residuals);
+
+    /**
+     * Stores relative residual of iteration and passes it to listener
+     * @return true if residual reached tolerance
+     */
+    boolean report(Residuals residuals, int iteration, double residual){
+        residuals.set(iteration, residual);
+        if (iteration > 0 && listener != null)
+            listener.iterationDone(iteration, residual);
+        return residual <= tolerance;
+    }
+
+    /**
+     * Applies preconditioner to vector (z = M^-1 * r)
+     */
+    static void precondition(double[] inverseDiagonal, double[] r, double[] z){
+        if (inverseDiagonal == null){
+            System.arraycopy(r, 0, z, 0, r.length);
+            return;
+        }
+        for (int i = 0; i < r.length; i++){
+            z[i] = r[i] * inverseDiagonal[i];
+        }
+    }
+
+    /**
+     * Relative residuals of iterations, storage is doubled when iteration does not fit
+     */
+    static final class Residuals {
+        static final int INITIAL_CAPACITY = 64;
+
+        private double[] values;
+
+        Residuals(int capacity) {
+            values = new double[capacity];
+        }
+
+        void set(int iteration, double residual){
+            if (iteration >= values.length)
+                values = Arrays.copyOf(values, (int) Math.min(2L * values.length, Integer.MAX_VALUE));
+            values[iteration] = residual;
+        }
+
+        double get(int iteration){
+            return values[iteration];
+        }
+
+        double[] toArray(int count){
+            return Arrays.copyOf(values, count);
+        }
+    }
+
+    static double dot(double[] a, double[] b){
+        return DenseKernels.dot(a, 0, 1, b, 0, 1, a.length);
+    }
+
+    static double norm(double[] a){
+        return Math.sqrt(dot(a, a));
+    }
+}
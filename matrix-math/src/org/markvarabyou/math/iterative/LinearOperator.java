@@ -0,0 +1,33 @@
+package org.markvarabyou.math.iterative;
+
+/**
+ * Matrix as seen by iterative solvers: product with vector written to preallocated array.
+ * Author: Mark Vorobyov
+ * Date: 10/21/26
+ * Time: 2:10 PM
+ */
+public interface LinearOperator {
+
+    /**
+     * @return Count of rows in matrix
+     */
+    int getRowCount();
+
+    /**
+     * @return Count of columns in matrix
+     */
+    int getColCount();
+
+    /**
+     * Writes product of matrix and vector to result without allocation (y = A * x)
+     * @param x vector of colCount elements
+     * @param y result of rowCount elements, should differ from x
+     */
+    void apply(double[] x, double[] y);
+
+    /**
+     * Writes main diagonal of matrix
+     * @param diagonal array of min(rowCount, colCount) elements to fill
+     */
+    void getDiagonal(double[] diagonal);
+}
@@ -0,0 +1,59 @@
+package org.markvarabyou.math.iterative;
+
+import org.markvarabyou.math.arraybased.DoubleVector;
+
+/**
+ * Solution found by iterative solver together with residuals of all iterations.
+ * Author: Mark Vorobyov
+ * Date: 10/21/26
+ * Time: 2:30 PM
+ */
+public class SolverResult {
+
+    private final DoubleVector solution;
+    private final int iterations;
+    private final boolean converged;
+    private final double[] residuals;
+
+    SolverResult(DoubleVector solution, int iterations, boolean converged, double[] residuals) {
+        this.solution = solution;
+        this.iterations = iterations;
+        this.converged = converged;
+        this.residuals = residuals;
+    }
+
+    /**
+     * @return Last approximation of solution
+     */
+    public DoubleVector getSolution() {
+        return solution;
+    }
+
+    /**
+     * @return Count of performed iterations
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * @return true if residual reached tolerance, false if iterations were exhausted or method broke down
+     */
+    public boolean isConverged() {
+        return converged;
+    }
+
+    /**
+     * @return Relative residual of initial guess and of every iteration, iterations + 1 elements
+     */
+    public double[] getResiduals() {
+        return residuals.clone();
+    }
+
+    /**
+     * @return Relative residual of solution
+     */
+    public double getResidual() {
+        return residuals[iterations];
+    }
+}
@@ -1,24 +1,31 @@
 package org.markvarabyou.math.linkedlistbased;
 
 import org.markvarabyou.math.common.Calculator;
+import org.markvarabyou.math.common.ExecutionPolicy;
 import org.markvarabyou.math.common.MatrixExceptionHelper;
+import org.markvarabyou.math.common.kernels.ElementWise;
+import org.markvarabyou.math.common.kernels.GenericGemm;
+import org.markvarabyou.math.common.kernels.PrimitiveKernels;
 
-import java.util.Collections;
-import java.util.LinkedList;
+import java.util.ListIterator;
 
 /**
- * Class for matrix math based on LinkedList.
+ * Class for matrix math based on unrolled linked list. Elements are stored row by row in chain of array chunks,
+ * so rows are appended, inserted and removed by relinking chunks, and operations iterate elements sequentially.
  * Author: Mark Vorobyov
  * Date: 9/9/13
  * Time: 3:44 PM
  */
 public class Matrix<T> {
 
-    private LinkedList<T> elements;
+    private UnrolledList<T> elements;
     private int rowCount;
     private int colCount;
     private Calculator<T> calculator;
     private MatrixExceptionHelper helper = new MatrixExceptionHelper();
+    private ExecutionPolicy executionPolicy = ExecutionPolicy.SEQUENTIAL;
+    // Primitive copies of operands and product reused by multiplyInto and multiplyAccumulate into this matrix
+    private PrimitiveKernels.Workspace productWorkspace;
 
     /**
      * Initializes new matrix rowCount x colCount with values from array and calculator
@@ -33,8 +40,7 @@ public class Matrix<T> {
         this.rowCount = rowCount;
         this.colCount = colCount;
         this.calculator = calculator;
-        elements = new LinkedList<T>();
-        Collections.addAll(elements, array);
+        elements = new UnrolledList<T>(array);
     }
 
     /**
@@ -47,7 +53,7 @@ public class Matrix<T> {
         this.rowCount = rowCount;
         this.colCount = colCount;
         this.calculator = calculator;
-        elements = new LinkedList<T>();
+        elements = new UnrolledList<T>();
         for (int i = 0; i < rowCount*colCount; i++){
             elements.add(calculator.getNew());
         }
@@ -67,13 +73,28 @@ public class Matrix<T> {
         return colCount;
     }
 
+    /**
+     * @return Execution policy of matrix operations
+     */
+    public ExecutionPolicy getExecutionPolicy() {
+        return executionPolicy;
+    }
+
+    /**
+     * Sets execution policy for operations of this matrix, results inherit it
+     * @param executionPolicy sequential or parallel policy
+     */
+    public void setExecutionPolicy(ExecutionPolicy executionPolicy) {
+        this.executionPolicy = executionPolicy;
+    }
+
     /**
      * @param row number of element row
      * @param col number of element column
      * @return value of element of matrix
      */
     public T get(int row, int col){
-        helper.checkRowAndColCount(row, col, rowCount, colCount);
+        helper.checkRowAndColCount(row, col, rowCount - 1, colCount - 1);
 
         return elements.get(row * colCount + col);
     }
@@ -86,25 +107,25 @@ public class Matrix<T> {
      * @return set value
      */
     public T set(int row, int col, T value){
-        helper.checkRowAndColCount(row, col, rowCount, colCount);
+        helper.checkRowAndColCount(row, col, rowCount - 1, colCount - 1);
 
         return elements.set(row * colCount + col, value);
     }
 
     /**
      * Convert specified row into vector an returns it
-     * @param row number of row          ArrayList
+     * @param row number of row
      * @return vector from specified matrix row
      */
     public Vector<T> getRow(int row){
-        helper.checkRange(row, rowCount);
+        helper.checkRange(row, rowCount - 1);
 
-        LinkedList<T> vector = new LinkedList<T>();
-        int startIndex = this.getColCount() * row;
-        for (int i = startIndex; i < startIndex + this.getColCount(); i++){
-            vector.add(elements.get(i));
+        Object[] values = new Object[colCount];
+        ListIterator<T> iterator = elements.listIterator(row * colCount);
+        for (int i = 0; i < colCount; i++){
+            values[i] = iterator.next();
         }
-        return new Vector<T>(vector, calculator);
+        return newVector(values);
     }
 
     /**
@@ -112,12 +133,15 @@ public class Matrix<T> {
      * @param row number of row
      * @param vector vector with new values for row
      */
+    @SuppressWarnings("unchecked")
     public void setRow(int row, Vector<T> vector){
-        helper.checkRange(row, rowCount);
+        helper.checkRange(row, rowCount - 1);
         helper.checkLength(vector.getLength(), colCount, "vector");
 
-        for (int i = 0; i < colCount; i++){
-            set(row, i, vector.get(i));
+        ListIterator<T> iterator = elements.listIterator(row * colCount);
+        for (Object value : vector.values()){
+            iterator.next();
+            iterator.set((T) value);
         }
     }
 
@@ -127,13 +151,14 @@ public class Matrix<T> {
      * @return vector from specified matrix column
      */
     public Vector<T> getCol(int col){
-        helper.checkRange(col, colCount);
+        helper.checkRange(col, colCount - 1);
 
-        LinkedList<T> vector = new LinkedList<T>();
-        for (int i = col; i < colCount * rowCount; i+=colCount){
-            vector.add(elements.get(i));
+        // Lookup walks colCount / CHUNK chunks from previous element instead of scanning whole rows
+        Object[] values = new Object[rowCount];
+        for (int i = 0; i < rowCount; i++){
+            values[i] = elements.get(i * colCount + col);
         }
-        return new Vector<T>(vector, calculator);
+        return newVector(values);
     }
 
     /**
@@ -141,34 +166,62 @@ public class Matrix<T> {
      * @param col number of column
      * @param vector vector with new values for column
      */
+    @SuppressWarnings("unchecked")
     public void setCol(int col, Vector<T> vector){
-        helper.checkRange(col, colCount);
+        helper.checkRange(col, colCount - 1);
         helper.checkLength(vector.getLength(), rowCount, "vector");
 
+        Object[] values = vector.values();
         for (int i = 0; i < rowCount; i++){
-            set(i, col, vector.get(i));
+            elements.set(i * colCount + col, (T) values[i]);
         }
     }
 
+    /**
+     * Appends row to the end of matrix
+     * @param vector vector with values of new row
+     */
+    public void addRow(Vector<T> vector){
+        insertRow(rowCount, vector);
+    }
+
+    /**
+     * Inserts row before specified one, rows below are shifted down
+     * @param row number of new row, equal to count of rows to append
+     * @param vector vector with values of new row
+     */
+    public void insertRow(int row, Vector<T> vector){
+        helper.checkRange(row, rowCount);
+        helper.checkLength(vector.getLength(), colCount, "vector");
+
+        elements.addAll(row * colCount, vector.values());
+        rowCount++;
+    }
+
+    /**
+     * Removes specified row, rows below are shifted up
+     * @param row number of row
+     */
+    public void removeRow(int row){
+        helper.checkRange(row, rowCount - 1);
+
+        elements.removeRange(row * colCount, (row + 1) * colCount);
+        rowCount--;
+    }
+
     /**
      * Adds specified matrix with this (only if sizes is equal)
      * @param matrix matrix to add
      * @return result of adding
      */
     public Matrix<T> add(Matrix<T> matrix){
-        Matrix<T> result = new Matrix<T>(rowCount, colCount, calculator);
-
         // Validation
         if (this.rowCount != matrix.getRowCount() || this.colCount != matrix.getColCount()){
             throw new IllegalArgumentException("Illegal size of matrix to add");
         }
 
-        for (int i = 0; i < getRowCount(); i++){
-            for (int j = 0; j < getColCount(); j++)
-                result.set(i, j, calculator.sum(this.get(i, j), matrix.get(i, j)));
-        }
-
-        return result;
+        Object[] sum = ElementWise.add(calculator, elements.toArray(), matrix.elements.toArray(), executionPolicy);
+        return newMatrix(rowCount, colCount, sum);
     }
 
     /**
@@ -177,13 +230,7 @@ public class Matrix<T> {
      * @return result matrix
      */
     public Matrix<T> multiply(T value){
-        Matrix<T> result = new Matrix<T>(rowCount, colCount, calculator);
-
-        for (int i = 0; i < getRowCount(); i++){
-            for (int j = 0; j < getColCount(); j++)
-                result.set(i, j, calculator.mul(this.get(i, j), value));
-        }
-        return result;
+        return newMatrix(rowCount, colCount, ElementWise.multiply(calculator, elements.toArray(), value, executionPolicy));
     }
 
     /**
@@ -192,17 +239,125 @@ public class Matrix<T> {
      * @return result matrix
      */
     public Matrix<T> multiply(Matrix<T> matrix){
-        Matrix<T> result =  new Matrix<T>(this.getRowCount(), matrix.getColCount(), calculator);
-
         // Validation
         if (this.getColCount() != matrix.getRowCount())
             throw new IllegalArgumentException("Matrices are not consistent");
 
-        for (int i = 0; i < this.getRowCount(); i++){
-            for (int j = 0; j < matrix.getColCount(); j++){
-                result.set(i, j, this.getRow(i).multiply(matrix.getCol(j)).sumElements());
-            }
+        return newMatrix(rowCount, matrix.getColCount(), product(matrix));
+    }
+
+    private Object[] product(Matrix<T> matrix){
+        Object[] a = elements.toArray();
+        Object[] b = matrix.elements.toArray();
+        return PrimitiveKernels.supports(calculator)
+                ? PrimitiveKernels.multiply(calculator, a, b, rowCount, colCount, matrix.getColCount(), executionPolicy)
+                : GenericGemm.multiply(calculator, a, b, rowCount, colCount, matrix.getColCount(), executionPolicy);
+    }
+
+    /**
+     * Adds specified matrix to this one without creating new matrix (only if sizes is equal)
+     * @param matrix matrix to add
+     * @return this matrix
+     */
+    public Matrix<T> addInPlace(Matrix<T> matrix){
+        // Validation
+        if (this.rowCount != matrix.getRowCount() || this.colCount != matrix.getColCount()){
+            throw new IllegalArgumentException("Illegal size of matrix to add");
+        }
+
+        ListIterator<T> iterator = elements.listIterator();
+        for (T element : matrix.elements){
+            iterator.set(calculator.sum(iterator.next(), element));
+        }
+        return this;
+    }
+
+    /**
+     * Multiplies every element of this matrix to single value without creating new matrix
+     * @param value value to be multiplied
+     * @return this matrix
+     */
+    public Matrix<T> scaleInPlace(T value){
+        ListIterator<T> iterator = elements.listIterator();
+        while (iterator.hasNext()){
+            iterator.set(calculator.mul(iterator.next(), value));
         }
+        return this;
+    }
+
+    /**
+     * Multiplies matrices and stores product to destination matrix (dest = a * b),
+     * without creating new matrix and filling it with initial values
+     * @param a first matrix
+     * @param b second matrix consistent with first one
+     * @param dest matrix of size a.getRowCount() x b.getColCount(), other than a and b
+     * @return destination matrix
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Matrix<T> multiplyInto(Matrix<T> a, Matrix<T> b, Matrix<T> dest){
+        checkDestination(a, b, dest);
+
+        if (PrimitiveKernels.supports(a.calculator))
+            return primitiveProduct(a, b, dest, false);
+        Object[] product = a.product(b);
+        ListIterator<T> iterator = dest.elements.listIterator();
+        for (Object value : product){
+            iterator.next();
+            iterator.set((T) value);
+        }
+        return dest;
+    }
+
+    /**
+     * Multiplies matrices and adds product to destination matrix (dest += a * b)
+     * @param a first matrix
+     * @param b second matrix consistent with first one
+     * @param dest matrix of size a.getRowCount() x b.getColCount(), other than a and b
+     * @return destination matrix
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Matrix<T> multiplyAccumulate(Matrix<T> a, Matrix<T> b, Matrix<T> dest){
+        checkDestination(a, b, dest);
+
+        if (PrimitiveKernels.supports(a.calculator))
+            return primitiveProduct(a, b, dest, true);
+        Object[] product = a.product(b);
+        ListIterator<T> iterator = dest.elements.listIterator();
+        for (Object value : product){
+            iterator.set(a.calculator.sum(iterator.next(), (T) value));
+        }
+        return dest;
+    }
+
+    private static <T> Matrix<T> primitiveProduct(Matrix<T> a, Matrix<T> b, Matrix<T> dest, boolean accumulate){
+        // Operands are walked by iterators and unboxed into workspace kept on destination,
+        // so steady-state calls allocate only boxes of result elements
+        if (dest.productWorkspace == null)
+            dest.productWorkspace = new PrimitiveKernels.Workspace();
+        PrimitiveKernels.multiplyInto(a.calculator, a.elements, b.elements, dest.elements,
+                a.rowCount, a.colCount, b.colCount, accumulate, a.executionPolicy, dest.productWorkspace);
+        return dest;
+    }
+
+    private static <T> void checkDestination(Matrix<T> a, Matrix<T> b, Matrix<T> dest){
+        // Validation
+        if (a.getColCount() != b.getRowCount())
+            throw new IllegalArgumentException("Matrices are not consistent");
+        if (dest.getRowCount() != a.getRowCount() || dest.getColCount() != b.getColCount())
+            throw new IllegalArgumentException("Illegal size of destination matrix");
+        if (dest == a || dest == b)
+            throw new IllegalArgumentException("Destination matrix should differ from operands");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Vector<T> newVector(Object[] values){
+        return new Vector<T>((T[]) values, calculator);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Matrix<T> newMatrix(int rowCount, int colCount, Object[] values){
+        Matrix<T> result = new Matrix<T>(rowCount, colCount, (T[]) values, calculator);
+        result.setExecutionPolicy(executionPolicy);
         return result;
     }
 }
@@ -0,0 +1,409 @@
+package org.markvarabyou.math.linkedlistbased;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+
+/**
+ * Unrolled linked list: doubly linked chain of array chunks holding up to CHUNK elements each.
+ * Index lookup walks chunks, not elements, starting from head, tail or finger (chunk of last lookup),
+ * so sequential and nearby access is O(1) and random access is O(n / CHUNK).
+ * Splicing a range of elements relinks whole chunks and copies at most one chunk at each end.
+ * Author: Mark Vorobyov
+ * Date: 10/21/26
+ * Time: 6:10 PM
+ */
+final class UnrolledList<T> extends AbstractList<T> {
+    static final int CHUNK = 64;
+
+    private static final class Chunk {
+        private final Object[] values = new Object[CHUNK];
+        private int size;
+        private Chunk prev;
+        private Chunk next;
+    }
+
+    // Chain never contains empty chunks
+    private Chunk head;
+    private Chunk tail;
+    private int size;
+    // Chunk of last index lookup and index of its first element
+    private Chunk finger;
+    private int fingerStart;
+
+    UnrolledList() {
+    }
+
+    UnrolledList(Object[] values) {
+        addAll(0, values);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T get(int index) {
+        checkIndex(index, size - 1);
+        Chunk chunk = find(index);
+        return (T) chunk.values[index - fingerStart];
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T set(int index, T element) {
+        checkIndex(index, size - 1);
+        Chunk chunk = find(index);
+        T previous = (T) chunk.values[index - fingerStart];
+        chunk.values[index - fingerStart] = element;
+        return previous;
+    }
+
+    @Override
+    public boolean add(T element) {
+        if (tail == null || tail.size == CHUNK)
+            link(new Chunk(), tail, null);
+        tail.values[tail.size++] = element;
+        size++;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    public void add(int index, T element) {
+        checkIndex(index, size);
+        if (index == size){
+            add(element);
+            return;
+        }
+
+        Chunk chunk = find(index);
+        if (chunk.size == CHUNK){
+            split(fingerStart + CHUNK / 2);
+            chunk = find(index);
+        }
+        int offset = index - fingerStart;
+        System.arraycopy(chunk.values, offset, chunk.values, offset + 1, chunk.size - offset);
+        chunk.values[offset] = element;
+        chunk.size++;
+        size++;
+        modCount++;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T remove(int index) {
+        checkIndex(index, size - 1);
+        Chunk chunk = find(index);
+        int offset = index - fingerStart;
+        T previous = (T) chunk.values[offset];
+        System.arraycopy(chunk.values, offset + 1, chunk.values, offset, chunk.size - offset - 1);
+        chunk.values[--chunk.size] = null;
+        if (chunk.size == 0)
+            unlink(chunk, chunk);
+        size--;
+        modCount++;
+        return previous;
+    }
+
+    @Override
+    public boolean addAll(Collection<? extends T> collection) {
+        return addAll(size, collection.toArray());
+    }
+
+    @Override
+    public boolean addAll(int index, Collection<? extends T> collection) {
+        checkIndex(index, size);
+        return addAll(index, collection.toArray());
+    }
+
+    /**
+     * Inserts values as chain of full chunks in place of index
+     * @param index position of first inserted value
+     * @param values values to insert
+     * @return true if list changed
+     */
+    boolean addAll(int index, Object[] values) {
+        if (values.length == 0)
+            return false;
+
+        Chunk next = split(index);
+        Chunk prev = next == null ? tail : next.prev;
+        Chunk first = null;
+        for (int from = 0; from < values.length; from += CHUNK){
+            Chunk chunk = new Chunk();
+            chunk.size = Math.min(CHUNK, values.length - from);
+            System.arraycopy(values, from, chunk.values, 0, chunk.size);
+            link(chunk, prev, next);
+            prev = chunk;
+            if (first == null)
+                first = chunk;
+        }
+        size += values.length;
+        finger = first;
+        fingerStart = index;
+        modCount++;
+        return true;
+    }
+
+    @Override
+    protected void removeRange(int fromIndex, int toIndex) {
+        if (fromIndex >= toIndex)
+            return;
+
+        Chunk end = split(toIndex);
+        Chunk start = split(fromIndex);
+        unlink(start, end == null ? tail : end.prev);
+        size -= toIndex - fromIndex;
+        if (end != null){
+            finger = end;
+            fingerStart = fromIndex;
+        }
+        modCount++;
+    }
+
+    @Override
+    public void clear() {
+        head = tail = finger = null;
+        size = 0;
+        modCount++;
+    }
+
+    @Override
+    public Object[] toArray() {
+        Object[] result = new Object[size];
+        int index = 0;
+        for (Chunk chunk = head; chunk != null; chunk = chunk.next){
+            System.arraycopy(chunk.values, 0, result, index, chunk.size);
+            index += chunk.size;
+        }
+        return result;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Cursor(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator() {
+        return new Cursor(0);
+    }
+
+    @Override
+    public ListIterator<T> listIterator(int index) {
+        checkIndex(index, size);
+        return new Cursor(index);
+    }
+
+    private static void checkIndex(int index, int max) {
+        if (index < 0 || index > max)
+            throw new IndexOutOfBoundsException("Index is out of range");
+    }
+
+    /**
+     * Finds chunk of element with index and moves finger to it
+     */
+    private Chunk find(int index) {
+        Chunk chunk;
+        int start;
+        if (finger != null && Math.abs(index - fingerStart) < Math.min(index, size - index)){
+            chunk = finger;
+            start = fingerStart;
+        } else if (index < size - index){
+            chunk = head;
+            start = 0;
+        } else {
+            chunk = tail;
+            start = size - tail.size;
+        }
+        while (index < start){
+            chunk = chunk.prev;
+            start -= chunk.size;
+        }
+        while (index >= start + chunk.size){
+            start += chunk.size;
+            chunk = chunk.next;
+        }
+        finger = chunk;
+        fingerStart = start;
+        return chunk;
+    }
+
+    /**
+     * Splits chunk so that element with index starts a chunk
+     * @return chunk starting with index, null for index equal to size
+     */
+    private Chunk split(int index) {
+        if (index == size)
+            return null;
+
+        Chunk chunk = find(index);
+        int offset = index - fingerStart;
+        if (offset == 0)
+            return chunk;
+
+        Chunk second = new Chunk();
+        second.size = chunk.size - offset;
+        System.arraycopy(chunk.values, offset, second.values, 0, second.size);
+        for (int i = offset; i < chunk.size; i++){
+            chunk.values[i] = null;
+        }
+        chunk.size = offset;
+        link(second, chunk, chunk.next);
+        finger = second;
+        fingerStart = index;
+        return second;
+    }
+
+    private void link(Chunk chunk, Chunk prev, Chunk next) {
+        chunk.prev = prev;
+        chunk.next = next;
+        if (prev == null)
+            head = chunk;
+        else
+            prev.next = chunk;
+        if (next == null)
+            tail = chunk;
+        else
+            next.prev = chunk;
+    }
+
+    /**
+     * Removes chunks from first to last inclusive from chain, finger is moved to head
+     */
+    private void unlink(Chunk first, Chunk last) {
+        if (first.prev == null)
+            head = last.next;
+        else
+            first.prev.next = last.next;
+        if (last.next == null)
+            tail = first.prev;
+        else
+            last.next.prev = first.prev;
+        finger = null;
+    }
+
+    /**
+     * List iterator which keeps its chunk, so iteration and set are O(1) per element
+     */
+    private final class Cursor implements ListIterator<T> {
+        // Chunk and offset of element with index, chunk is null at the end of list
+        private Chunk chunk;
+        private int offset;
+        private int index;
+        private Chunk lastChunk;
+        private int lastOffset;
+        private int lastIndex = -1;
+        private int expectedModCount = modCount;
+
+        Cursor(int index) {
+            this.index = index;
+            seek();
+        }
+
+        private void seek() {
+            chunk = index < size ? find(index) : null;
+            offset = index - fingerStart;
+        }
+
+        private void checkModification() {
+            if (modCount != expectedModCount)
+                throw new ConcurrentModificationException();
+        }
+
+        @Override
+        public boolean hasNext() {
+            return index < size;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T next() {
+            checkModification();
+            if (index >= size)
+                throw new NoSuchElementException();
+
+            lastChunk = chunk;
+            lastOffset = offset;
+            lastIndex = index++;
+            if (++offset == chunk.size){
+                chunk = chunk.next;
+                offset = 0;
+            }
+            return (T) lastChunk.values[lastOffset];
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return index > 0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T previous() {
+            checkModification();
+            if (index == 0)
+                throw new NoSuchElementException();
+
+            index--;
+            if (chunk != null && offset > 0){
+                offset--;
+            } else {
+                chunk = chunk == null ? tail : chunk.prev;
+                offset = chunk.size - 1;
+            }
+            lastChunk = chunk;
+            lastOffset = offset;
+            lastIndex = index;
+            return (T) chunk.values[offset];
+        }
+
+        @Override
+        public int nextIndex() {
+            return index;
+        }
+
+        @Override
+        public int previousIndex() {
+            return index - 1;
+        }
+
+        @Override
+        public void remove() {
+            if (lastIndex < 0)
+                throw new IllegalStateException();
+            checkModification();
+
+            UnrolledList.this.remove(lastIndex);
+            index = lastIndex;
+            lastIndex = -1;
+            expectedModCount = modCount;
+            seek();
+        }
+
+        @Override
+        public void set(T element) {
+            if (lastIndex < 0)
+                throw new IllegalStateException();
+            checkModification();
+
+            lastChunk.values[lastOffset] = element;
+        }
+
+        @Override
+        public void add(T element) {
+            checkModification();
+
+            UnrolledList.this.add(index++, element);
+            lastIndex = -1;
+            expectedModCount = modCount;
+            seek();
+        }
+    }
+}
@@ -1,20 +1,20 @@
 package org.markvarabyou.math.linkedlistbased;
 
 import org.markvarabyou.math.common.Calculator;
+import org.markvarabyou.math.common.kernels.PrimitiveKernels;
 
 import java.util.AbstractList;
-import java.util.Collections;
-import java.util.LinkedList;
+import java.util.ListIterator;
 
 /**
- * Class for mathematical vector based on LinkedList.
+ * Class for mathematical vector based on unrolled linked list.
  * Author: Mark Vorobyov
  * Date: 9/9/13
  * Time: 4:03 PM
  */
 public class Vector<T> {
 
-    private LinkedList<T> elements;
+    private UnrolledList<T> elements;
     private int length;
     private Calculator<T> calculator;
 
@@ -26,8 +26,7 @@ public class Vector<T> {
     public Vector(T[] elements, Calculator<T> calculator) {
         this.length = elements.length;
         this.calculator = calculator;
-        this.elements = new LinkedList<T>();
-        Collections.addAll(this.elements, elements);
+        this.elements = new UnrolledList<T>(elements);
     }
 
     /**
@@ -38,10 +37,7 @@ public class Vector<T> {
     public Vector(AbstractList<T> elements, Calculator<T> calculator) {
         this.length = elements.size();
         this.calculator = calculator;
-        this.elements = new LinkedList<T>();
-        for (T element : elements){
-            this.elements.add(element);
-        }
+        this.elements = new UnrolledList<T>(elements.toArray());
     }
 
     /**
@@ -52,7 +48,7 @@ public class Vector<T> {
     public Vector(int length, Calculator<T> calculator) {
         this.length = length;
         this.calculator = calculator;
-        this.elements = new LinkedList<T>();
+        this.elements = new UnrolledList<T>();
         for (int i = 0; i < length; i++){
             this.elements.add(calculator.getNew());
         }
@@ -76,6 +72,13 @@ public class Vector<T> {
         elements.set(index, value);
     }
 
+    /**
+     * @return elements in order
+     */
+    Object[] values(){
+        return elements.toArray();
+    }
+
     /**
      * Gets length of current vector
      * @return length of current vector
@@ -88,7 +91,11 @@ public class Vector<T> {
      * Sums elements values from vector
      * @return sum of elements
      */
+    @SuppressWarnings("unchecked")
     public T sumElements(){
+        if (PrimitiveKernels.supports(calculator))
+            return (T) PrimitiveKernels.sum(calculator, elements.toArray());
+
         T sum = calculator.getNew();
         for (T element : elements){
             sum = calculator.sum(sum, element);
@@ -101,11 +108,14 @@ public class Vector<T> {
      * @param vector vector to multiply by
      * @return result vector
      */
+    @SuppressWarnings("unchecked")
     public Vector<T> multiply(Vector<T> vector){
-        Vector<T> result = new Vector<T>(length, calculator);
+        Object[] product = new Object[length];
+        ListIterator<T> first = elements.listIterator();
+        ListIterator<T> second = vector.elements.listIterator();
         for (int i = 0; i < length; i++){
-            result.set(i, calculator.mul(get(i), vector.get(i)));
+            product[i] = calculator.mul(first.next(), second.next());
         }
-        return result;
+        return new Vector<T>((T[]) product, calculator);
     }
 }
@@ -0,0 +1,377 @@
+package org.markvarabyou.math.mapped;
+
+import org.markvarabyou.math.arraybased.DoubleMatrix;
+import org.markvarabyou.math.arraybased.DoubleVector;
+import org.markvarabyou.math.common.ElementType;
+import org.markvarabyou.math.common.ExecutionPolicy;
+import org.markvarabyou.math.common.MatrixExceptionHelper;
+import org.markvarabyou.math.common.RangeTask;
+import org.markvarabyou.math.common.kernels.DoubleGemm;
+import org.markvarabyou.math.io.MatrixFileHeader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
+
+/**
+ * Matrix of doubles stored in memory-mapped binary matrix file (see {@link MatrixFileHeader}).
+ * Payload is mapped by segments of 1 GB, so matrix size is limited by disk instead of heap,
+ * and paging is left to operating system page cache.
+ * Author: Mark Vorobyov
+ * Date: 10/19/26
+ * Time: 11:00 AM
+ */
+public class MappedDoubleMatrix implements Closeable {
+    static final int SEGMENT_SHIFT = 27;
+    static final int SEGMENT_ELEMENTS = 1 << SEGMENT_SHIFT;
+    static final int SEGMENT_MASK = SEGMENT_ELEMENTS - 1;
+    static final int TILE = 512;
+
+    private final RandomAccessFile file;
+    private final MappedByteBuffer[] mappings;
+    private final DoubleBuffer[] segments;
+    private final int rowCount;
+    private final int colCount;
+    private final boolean readOnly;
+    private MatrixExceptionHelper helper = new MatrixExceptionHelper();
+    private ExecutionPolicy executionPolicy = ExecutionPolicy.SEQUENTIAL;
+
+    /**
+     * Creates new file for matrix rowCount x colCount filled with zeros and maps it
+     * @param fileName file to create, existing file is overwritten
+     * @param rowCount Number of rows in new matrix
+     * @param colCount Number of columns in new matrix
+     * @throws IOException if file cannot be created or mapped
+     */
+    public MappedDoubleMatrix(String fileName, int rowCount, int colCount) throws IOException {
+        MatrixFileHeader header = new MatrixFileHeader(ElementType.DOUBLE, rowCount, colCount);
+        file = new RandomAccessFile(fileName, "rw");
+        boolean mapped = false;
+        try {
+            file.setLength(0);
+            file.setLength(MatrixFileHeader.SIZE + header.getPayloadSize());
+            ByteBuffer buffer = ByteBuffer.allocate(MatrixFileHeader.SIZE);
+            header.write(buffer);
+            buffer.flip();
+            file.getChannel().write(buffer, 0);
+
+            this.rowCount = rowCount;
+            this.colCount = colCount;
+            readOnly = false;
+            mappings = map(file.getChannel(), header, FileChannel.MapMode.READ_WRITE);
+            segments = views(mappings, header);
+            mapped = true;
+        } finally {
+            // File is closed whenever header or mapping fails, otherwise close() releases it
+            if (!mapped)
+                file.close();
+        }
+    }
+
+    /**
+     * Maps existing binary matrix file for reading and writing
+     * @param fileName file with matrix of doubles
+     * @throws IOException if file cannot be read or has wrong format
+     */
+    public MappedDoubleMatrix(String fileName) throws IOException {
+        this(fileName, false);
+    }
+
+    /**
+     * Maps existing binary matrix file
+     * @param fileName file with matrix of doubles
+     * @param readOnly true to open file only for reading, then matrix cannot be changed
+     * @throws IOException if file cannot be read or has wrong format
+     */
+    public MappedDoubleMatrix(String fileName, boolean readOnly) throws IOException {
+        file = new RandomAccessFile(fileName, readOnly ? "r" : "rw");
+        boolean mapped = false;
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(MatrixFileHeader.SIZE);
+            while (buffer.hasRemaining()){
+                if (file.getChannel().read(buffer, buffer.position()) < 0)
+                    throw new IOException("Matrix file header is truncated");
+            }
+            buffer.flip();
+            MatrixFileHeader header = MatrixFileHeader.read(buffer);
+            if (header.getElementType() != ElementType.DOUBLE)
+                throw new IOException("Matrix file does not contain double elements");
+            if (file.length() < MatrixFileHeader.SIZE + header.getPayloadSize())
+                throw new IOException("Matrix file is truncated");
+
+            this.rowCount = header.getRowCount();
+            this.colCount = header.getColCount();
+            this.readOnly = readOnly;
+            mappings = map(file.getChannel(), header,
+                    readOnly ? FileChannel.MapMode.READ_ONLY : FileChannel.MapMode.READ_WRITE);
+            segments = views(mappings, header);
+            mapped = true;
+        } finally {
+            if (!mapped)
+                file.close();
+        }
+    }
+
+    private static MappedByteBuffer[] map(FileChannel channel, MatrixFileHeader header, FileChannel.MapMode mode)
+            throws IOException {
+        long elementCount = header.getElementCount();
+        int segmentCount = (int) ((elementCount + SEGMENT_ELEMENTS - 1) >>> SEGMENT_SHIFT);
+        MappedByteBuffer[] mappings = new MappedByteBuffer[segmentCount];
+        for (int s = 0; s < segmentCount; s++){
+            long first = (long) s << SEGMENT_SHIFT;
+            long length = Math.min(SEGMENT_ELEMENTS, elementCount - first) * 8;
+            mappings[s] = channel.map(mode, MatrixFileHeader.SIZE + first * 8, length);
+        }
+        return mappings;
+    }
+
+    private static DoubleBuffer[] views(MappedByteBuffer[] mappings, MatrixFileHeader header) {
+        DoubleBuffer[] views = new DoubleBuffer[mappings.length];
+        for (int s = 0; s < mappings.length; s++){
+            views[s] = mappings[s].order(header.getByteOrder()).asDoubleBuffer();
+        }
+        return views;
+    }
+
+    /**
+     * @return Count of rows in matrix
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return Count of columns in matrix
+     */
+    public int getColCount() {
+        return colCount;
+    }
+
+    /**
+     * @return true if file is opened only for reading
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    /**
+     * @return Execution policy of matrix operations
+     */
+    public ExecutionPolicy getExecutionPolicy() {
+        return executionPolicy;
+    }
+
+    /**
+     * Sets execution policy for operations of this matrix, results inherit it
+     * @param executionPolicy sequential or parallel policy
+     */
+    public void setExecutionPolicy(ExecutionPolicy executionPolicy) {
+        this.executionPolicy = executionPolicy;
+    }
+
+    /**
+     * @param row number of element row
+     * @param col number of element column
+     * @return value of element of matrix
+     */
+    public double get(int row, int col){
+        helper.checkRowAndColCount(row, col, rowCount - 1, colCount - 1);
+
+        long index = (long) row * colCount + col;
+        return segments[(int) (index >>> SEGMENT_SHIFT)].get((int) (index & SEGMENT_MASK));
+    }
+
+    /**
+     * Sets the value to element in specified row and column
+     * @param row number of element row
+     * @param col number of element column
+     * @param value value of element to set
+     * @return previous value of element
+     */
+    public double set(int row, int col, double value){
+        helper.checkRowAndColCount(row, col, rowCount - 1, colCount - 1);
+        checkWritable();
+
+        long index = (long) row * colCount + col;
+        DoubleBuffer segment = segments[(int) (index >>> SEGMENT_SHIFT)];
+        int position = (int) (index & SEGMENT_MASK);
+        double previous = segment.get(position);
+        segment.put(position, value);
+        return previous;
+    }
+
+    /**
+     * Copies specified row into vector an returns it
+     * @param row number of row
+     * @return vector from specified matrix row
+     */
+    public DoubleVector getRow(int row){
+        helper.checkRange(row, rowCount - 1);
+
+        double[] vector = new double[colCount];
+        read((long) row * colCount, vector, 0, colCount);
+        return new DoubleVector(vector);
+    }
+
+    /**
+     * Sets the vector values to elements from specified row
+     * @param row number of row
+     * @param vector vector with new values for row
+     */
+    public void setRow(int row, DoubleVector vector){
+        helper.checkRange(row, rowCount - 1);
+        helper.checkLength(vector.getLength(), colCount, "vector");
+        checkWritable();
+
+        double[] values = new double[colCount];
+        for (int i = 0; i < colCount; i++){
+            values[i] = vector.get(i);
+        }
+        write((long) row * colCount, values, 0, colCount);
+    }
+
+    private void checkWritable() {
+        if (readOnly)
+            throw new UnsupportedOperationException("Matrix file is opened only for reading");
+    }
+
+    /**
+     * Copies specified column into vector an returns it
+     * @param col number of column
+     * @return vector from specified matrix column
+     */
+    public DoubleVector getCol(int col){
+        helper.checkRange(col, colCount - 1);
+
+        DoubleVector vector = new DoubleVector(rowCount);
+        for (int i = 0; i < rowCount; i++){
+            vector.set(i, get(i, col));
+        }
+        return vector;
+    }
+
+    /**
+     * Multiplies current matrix to specified (only if matrices is consistent) tile by tile,
+     * so only few TILE x TILE blocks are on heap at once
+     * @param matrix matrix to multiply by
+     * @param fileName file for result matrix
+     * @return mapped result matrix
+     * @throws IOException if result file cannot be created
+     */
+    public MappedDoubleMatrix multiply(final MappedDoubleMatrix matrix, String fileName) throws IOException {
+        // Validation
+        if (colCount != matrix.getRowCount())
+            throw new IllegalArgumentException("Matrices are not consistent");
+
+        final MappedDoubleMatrix result = new MappedDoubleMatrix(fileName, rowCount, matrix.getColCount());
+        result.setExecutionPolicy(executionPolicy);
+
+        final int colTiles = (matrix.getColCount() + TILE - 1) / TILE;
+        int rowTiles = (rowCount + TILE - 1) / TILE;
+        executionPolicy.execute(rowTiles * colTiles, (long) TILE * TILE * colCount, new RangeTask() {
+            @Override
+            public void compute(int from, int to) {
+                double[] tileA = new double[TILE * TILE];
+                double[] tileB = new double[TILE * TILE];
+                double[] tileC = new double[TILE * TILE];
+                for (int tile = from; tile < to; tile++){
+                    int row = (tile / colTiles) * TILE;
+                    int col = (tile % colTiles) * TILE;
+                    multiplyTile(matrix, result, row, Math.min(rowCount, row + TILE),
+                            col, Math.min(matrix.getColCount(), col + TILE), tileA, tileB, tileC);
+                }
+            }
+        });
+        return result;
+    }
+
+    private void multiplyTile(MappedDoubleMatrix matrix, MappedDoubleMatrix result, int rowFrom, int rowTo,
+                              int colFrom, int colTo, double[] tileA, double[] tileB, double[] tileC) {
+        int height = rowTo - rowFrom;
+        int width = colTo - colFrom;
+        Arrays.fill(tileC, 0, height * width, 0);
+        for (int inner = 0; inner < colCount; inner += TILE){
+            int depth = Math.min(TILE, colCount - inner);
+            readBlock(rowFrom, rowTo, inner, inner + depth, tileA);
+            matrix.readBlock(inner, inner + depth, colFrom, colTo, tileB);
+            DoubleGemm.multiply(tileA, tileB, tileC, height, depth, width);
+        }
+        for (int i = 0; i < height; i++){
+            result.write((long) (rowFrom + i) * result.colCount + colFrom, tileC, i * width, width);
+        }
+    }
+
+    private void readBlock(int rowFrom, int rowTo, int colFrom, int colTo, double[] target) {
+        int width = colTo - colFrom;
+        for (int i = rowFrom; i < rowTo; i++){
+            read((long) i * colCount + colFrom, target, (i - rowFrom) * width, width);
+        }
+    }
+
+    /**
+     * Copies whole matrix to heap
+     * @return matrix with the same elements
+     * @throws IllegalArgumentException if matrix has more elements than heap array can hold
+     */
+    public DoubleMatrix toDoubleMatrix(){
+        long size = (long) rowCount * colCount;
+        // Validation
+        if (size > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Matrix does not fit into heap array");
+
+        double[] values = new double[(int) size];
+        read(0, values, 0, values.length);
+        return new DoubleMatrix(rowCount, colCount, values);
+    }
+
+    private void read(long index, double[] target, int offset, int length) {
+        while (length > 0){
+            DoubleBuffer segment = segments[(int) (index >>> SEGMENT_SHIFT)].duplicate();
+            int position = (int) (index & SEGMENT_MASK);
+            int count = Math.min(length, segment.limit() - position);
+            segment.position(position);
+            segment.get(target, offset, count);
+            index += count;
+            offset += count;
+            length -= count;
+        }
+    }
+
+    private void write(long index, double[] source, int offset, int length) {
+        while (length > 0){
+            DoubleBuffer segment = segments[(int) (index >>> SEGMENT_SHIFT)].duplicate();
+            int position = (int) (index & SEGMENT_MASK);
+            int count = Math.min(length, segment.limit() - position);
+            segment.position(position);
+            segment.put(source, offset, count);
+            index += count;
+            offset += count;
+            length -= count;
+        }
+    }
+
+    /**
+     * Writes changed pages of matrix to disk
+     */
+    public void force() {
+        for (MappedByteBuffer mapping : mappings){
+            mapping.force();
+        }
+    }
+
+    /**
+     * Writes changes (unless file is read-only) and closes file. Mapped pages are released by garbage collector
+     * @throws IOException if file cannot be closed
+     */
+    @Override
+    public void close() throws IOException {
+        if (!readOnly)
+            force();
+        file.close();
+    }
+}
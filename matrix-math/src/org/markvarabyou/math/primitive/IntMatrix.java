@@ -0,0 +1,255 @@
+package org.markvarabyou.math.primitive;
+
+import org.markvarabyou.math.common.ExecutionPolicy;
+import org.markvarabyou.math.common.MatrixExceptionHelper;
+import org.markvarabyou.math.common.RangeTask;
+import org.markvarabyou.math.common.kernels.DenseKernels;
+
+/**
+ * Class for matrix math with int elements stored in flat row-major primitive array.
+ * Loops call int overloads of {@link DenseKernels} directly, so there is no boxing and no calculator call.
+ * Generated from template in matrix-math/templates with int.properties by generate-primitives profile
+ * of matrix-math-benchmarks, edit template instead of this file. Only int and long classes are generated,
+ * double and float elements are handled by arraybased DoubleMatrix and FloatMatrix.
+ * Author: Mark Vorobyov
+ * Date: 10/22/26
+ * Time: 3:00 PM
+ */
+public class IntMatrix {
+    // Rows of second operand added to row of product before next block, so block stays in cache
+    static final int INNER_BLOCK = 256;
+
+    private int[] elements;
+    private int rowCount;
+    private int colCount;
+    private MatrixExceptionHelper helper = new MatrixExceptionHelper();
+    private ExecutionPolicy executionPolicy = ExecutionPolicy.SEQUENTIAL;
+
+    /**
+     * Initializes new matrix rowCount x colCount with values from array
+     * @param rowCount Number of rows in new matrix
+     * @param colCount Number of columns in new matrix
+     * @param array Array with values to initialize matrix (row-major)
+     */
+    public IntMatrix(int rowCount, int colCount, int[] array) {
+        helper.checkLength(array.length, rowCount * colCount, "array");
+
+        this.rowCount = rowCount;
+        this.colCount = colCount;
+        elements = array.clone();
+    }
+
+    /**
+     * Initializes new matrix rowCount x colCount filled with zeros
+     * @param rowCount Number of rows in new matrix
+     * @param colCount Number of columns in new matrix
+     */
+    public IntMatrix(int rowCount, int colCount) {
+        this.rowCount = rowCount;
+        this.colCount = colCount;
+        elements = new int[rowCount * colCount];
+    }
+
+    /**
+     * Initializes new matrix without values
+     */
+    public IntMatrix(){
+        this(0, 0);
+    }
+
+    /**
+     * @return Count of rows in matrix
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return Count of columns in matrix
+     */
+    public int getColCount() {
+        return colCount;
+    }
+
+    /**
+     * @return Execution policy of matrix operations
+     */
+    public ExecutionPolicy getExecutionPolicy() {
+        return executionPolicy;
+    }
+
+    /**
+     * Sets execution policy for operations of this matrix, results inherit it
+     * @param executionPolicy sequential or parallel policy
+     */
+    public void setExecutionPolicy(ExecutionPolicy executionPolicy) {
+        this.executionPolicy = executionPolicy;
+    }
+
+    /**
+     * @param row number of element row
+     * @param col number of element column
+     * @return value of element of matrix
+     */
+    public int get(int row, int col){
+        helper.checkRowAndColCount(row, col, rowCount - 1, colCount - 1);
+
+        return elements[row * colCount + col];
+    }
+
+    /**
+     * Sets the value to element in specified row and column
+     * @param row number of element row
+     * @param col number of element column
+     * @param value value of element to set
+     * @return previous value of element
+     */
+    public int set(int row, int col, int value){
+        helper.checkRowAndColCount(row, col, rowCount - 1, colCount - 1);
+
+        int index = row * colCount + col;
+        int previous = elements[index];
+        elements[index] = value;
+        return previous;
+    }
+
+    /**
+     * @param row number of row
+     * @return copy of specified row
+     */
+    public IntVector getRow(int row){
+        helper.checkRange(row, rowCount - 1);
+
+        int[] values = new int[colCount];
+        System.arraycopy(elements, row * colCount, values, 0, colCount);
+        return new IntVector(values);
+    }
+
+    /**
+     * @param col number of column
+     * @return copy of specified column
+     */
+    public IntVector getCol(int col){
+        helper.checkRange(col, colCount - 1);
+
+        int[] values = new int[rowCount];
+        for (int i = 0; i < rowCount; i++){
+            values[i] = elements[i * colCount + col];
+        }
+        return new IntVector(values);
+    }
+
+    /**
+     * @return transposed copy of matrix
+     */
+    public IntMatrix transpose(){
+        IntMatrix result = newMatrix(colCount, rowCount);
+        for (int i = 0; i < rowCount; i++){
+            for (int j = 0; j < colCount; j++){
+                result.elements[j * rowCount + i] = elements[i * colCount + j];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds specified matrix with this (only if sizes is equal)
+     * @param matrix matrix to add
+     * @return result of adding
+     */
+    public IntMatrix add(IntMatrix matrix){
+        // Validation
+        if (this.rowCount != matrix.getRowCount() || this.colCount != matrix.getColCount()){
+            throw new IllegalArgumentException("Illegal size of matrix to add");
+        }
+
+        IntMatrix result = newMatrix(rowCount, colCount);
+        DenseKernels.add(elements, 0, matrix.elements, 0, result.elements, 0, elements.length);
+        return result;
+    }
+
+    /**
+     * Multiplies current matrix to single value
+     * @param value value to be multiplied
+     * @return result matrix
+     */
+    public IntMatrix multiply(int value){
+        IntMatrix result = newMatrix(rowCount, colCount);
+        DenseKernels.scale(elements, 0, value, result.elements, 0, elements.length);
+        return result;
+    }
+
+    /**
+     * Multiplies current matrix to specified (only if matrices is consistent).
+     * Every row of product accumulates rows of second operand scaled by elements of row of this matrix
+     * @param matrix matrix to multiply by
+     * @return result matrix
+     */
+    public IntMatrix multiply(IntMatrix matrix){
+        // Validation
+        if (this.getColCount() != matrix.getRowCount())
+            throw new IllegalArgumentException("Matrices are not consistent");
+
+        final int n = matrix.getColCount();
+        final int[] a = elements;
+        final int[] b = matrix.elements;
+        final IntMatrix result = newMatrix(rowCount, n);
+        final int[] c = result.elements;
+        executionPolicy.execute(rowCount, (long) colCount * n, new RangeTask() {
+            @Override
+            public void compute(int from, int to) {
+                for (int block = 0; block < colCount; block += INNER_BLOCK){
+                    int end = Math.min(colCount, block + INNER_BLOCK);
+                    for (int i = from; i < to; i++){
+                        for (int k = block; k < end; k++){
+                            DenseKernels.axpy(a[i * colCount + k], b, k * n, c, i * n, n);
+                        }
+                    }
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Multiplies current matrix to vector (only if vector length equals count of columns)
+     * @param vector vector to multiply by
+     * @return result vector with rowCount elements
+     */
+    public IntVector multiply(IntVector vector){
+        helper.checkLength(vector.getLength(), colCount, "vector");
+
+        final int[] x = vector.storage();
+        final int[] y = new int[rowCount];
+        executionPolicy.execute(rowCount, colCount, new RangeTask() {
+            @Override
+            public void compute(int from, int to) {
+                for (int i = from; i < to; i++){
+                    y[i] = DenseKernels.dot(elements, i * colCount, 1, x, 0, 1, colCount);
+                }
+            }
+        });
+        return new IntVector(y);
+    }
+
+    /**
+     * Sums all elements of matrix
+     * @return sum of elements
+     */
+    public int sumElements(){
+        return DenseKernels.sum(elements, 0, elements.length);
+    }
+
+    /**
+     * @return row-major copy of elements
+     */
+    public int[] toArray(){
+        return elements.clone();
+    }
+
+    private IntMatrix newMatrix(int rowCount, int colCount){
+        IntMatrix result = new IntMatrix(rowCount, colCount);
+        result.setExecutionPolicy(executionPolicy);
+        return result;
+    }
+}
@@ -0,0 +1,255 @@
+package org.markvarabyou.math.primitive;
+
+import org.markvarabyou.math.common.ExecutionPolicy;
+import org.markvarabyou.math.common.MatrixExceptionHelper;
+import org.markvarabyou.math.common.RangeTask;
+import org.markvarabyou.math.common.kernels.DenseKernels;
+
+/**
+ * Class for matrix math with long elements stored in flat row-major primitive array.
+ * Loops call long overloads of {@link DenseKernels} directly, so there is no boxing and no calculator call.
+ * Generated from template in matrix-math/templates with long.properties by generate-primitives profile
+ * of matrix-math-benchmarks, edit template instead of this file. Only int and long classes are generated,
+ * double and float elements are handled by arraybased DoubleMatrix and FloatMatrix.
+ * Author: Mark Vorobyov
+ * Date: 10/22/26
+ * Time: 3:00 PM
+ */
+public class LongMatrix {
+    // Rows of second operand added to row of product before next block, so block stays in cache
+    static final int INNER_BLOCK = 256;
+
+    private long[] elements;
+    private int rowCount;
+    private int colCount;
+    private MatrixExceptionHelper helper = new MatrixExceptionHelper();
+    private ExecutionPolicy executionPolicy = ExecutionPolicy.SEQUENTIAL;
+
+    /**
+     * Initializes new matrix rowCount x colCount with values from array
+     * @param rowCount Number of rows in new matrix
+     * @param colCount Number of columns in new matrix
+     * @param array Array with values to initialize matrix (row-major)
+     */
+    public LongMatrix(int rowCount, int colCount, long[] array) {
+        helper.checkLength(array.length, rowCount * colCount, "array");
+
+        this.rowCount = rowCount;
+        this.colCount = colCount;
+        elements = array.clone();
+    }
+
+    /**
+     * Initializes new matrix rowCount x colCount filled with zeros
+     * @param rowCount Number of rows in new matrix
+     * @param colCount Number of columns in new matrix
+     */
+    public LongMatrix(int rowCount, int colCount) {
+        this.rowCount = rowCount;
+        this.colCount = colCount;
+        elements = new long[rowCount * colCount];
+    }
+
+    /**
+     * Initializes new matrix without values
+     */
+    public LongMatrix(){
+        this(0, 0);
+    }
+
+    /**
+     * @return Count of rows in matrix
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return Count of columns in matrix
+     */
+    public int getColCount() {
+        return colCount;
+    }
+
+    /**
+     * @return Execution policy of matrix operations
+     */
+    public ExecutionPolicy getExecutionPolicy() {
+        return executionPolicy;
+    }
+
+    /**
+     * Sets execution policy for operations of this matrix, results inherit it
+     * @param executionPolicy sequential or parallel policy
+     */
+    public void setExecutionPolicy(ExecutionPolicy executionPolicy) {
+        this.executionPolicy = executionPolicy;
+    }
+
+    /**
+     * @param row number of element row
+     * @param col number of element column
+     * @return value of element of matrix
+     */
+    public long get(int row, int col){
+        helper.checkRowAndColCount(row, col, rowCount - 1, colCount - 1);
+
+        return elements[row * colCount + col];
+    }
+
+    /**
+     * Sets the value to element in specified row and column
+     * @param row number of element row
+     * @param col number of element column
+     * @param value value of element to set
+     * @return previous value of element
+     */
+    public long set(int row, int col, long value){
+        helper.checkRowAndColCount(row, col, rowCount - 1, colCount - 1);
+
+        int index = row * colCount + col;
+        long previous = elements[index];
+        elements[index] = value;
+        return previous;
+    }
+
+    /**
+     * @param row number of row
+     * @return copy of specified row
+     */
+    public LongVector getRow(int row){
+        helper.checkRange(row, rowCount - 1);
+
+        long[] values = new long[colCount];
+        System.arraycopy(elements, row * colCount, values, 0, colCount);
+        return new LongVector(values);
+    }
+
+    /**
+     * @param col number of column
+     * @return copy of specified column
+     */
+    public LongVector getCol(int col){
+        helper.checkRange(col, colCount - 1);
+
+        long[] values = new long[rowCount];
+        for (int i = 0; i < rowCount; i++){
+            values[i] = elements[i * colCount + col];
+        }
+        return new LongVector(values);
+    }
+
+    /**
+     * @return transposed copy of matrix
+     */
+    public LongMatrix transpose(){
+        LongMatrix result = newMatrix(colCount, rowCount);
+        for (int i = 0; i < rowCount; i++){
+            for (int j = 0; j < colCount; j++){
+                result.elements[j * rowCount + i] = elements[i * colCount + j];
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds specified matrix with this (only if sizes is equal)
+     * @param matrix matrix to add
+     * @return result of adding
+     */
+    public LongMatrix add(LongMatrix matrix){
+        // Validation
+        if (this.rowCount != matrix.getRowCount() || this.colCount != matrix.getColCount()){
+            throw new IllegalArgumentException("Illegal size of matrix to add");
+        }
+
+        LongMatrix result = newMatrix(rowCount, colCount);
+        DenseKernels.add(elements, 0, matrix.elements, 0, result.elements, 0, elements.length);
+        return result;
+    }
+
+    /**
+     * Multiplies current matrix to single value
+     * @param value value to be multiplied
+     * @return result matrix
+     */
+    public LongMatrix multiply(long value){
+        LongMatrix result = newMatrix(rowCount, colCount);
+        DenseKernels.scale(elements, 0, value, result.elements, 0, elements.length);
+        return result;
+    }
+
+    /**
+     * Multiplies current matrix to specified (only if matrices is consistent).
+     * Every row of product accumulates rows of second operand scaled by elements of row of this matrix
+     * @param matrix matrix to multiply by
+     * @return result matrix
+     */
+    public LongMatrix multiply(LongMatrix matrix){
+        // Validation
+        if (this.getColCount() != matrix.getRowCount())
+            throw new IllegalArgumentException("Matrices are not consistent");
+
+        final int n = matrix.getColCount();
+        final long[] a = elements;
+        final long[] b = matrix.elements;
+        final LongMatrix result = newMatrix(rowCount, n);
+        final long[] c = result.elements;
+        executionPolicy.execute(rowCount, (long) colCount * n, new RangeTask() {
+            @Override
+            public void compute(int from, int to) {
+                for (int block = 0; block < colCount; block += INNER_BLOCK){
+                    int end = Math.min(colCount, block + INNER_BLOCK);
+                    for (int i = from; i < to; i++){
+                        for (int k = block; k < end; k++){
+                            DenseKernels.axpy(a[i * colCount + k], b, k * n, c, i * n, n);
+                        }
+                    }
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Multiplies current matrix to vector (only if vector length equals count of columns)
+     * @param vector vector to multiply by
+     * @return result vector with rowCount elements
+     */
+    public LongVector multiply(LongVector vector){
+        helper.checkLength(vector.getLength(), colCount, "vector");
+
+        final long[] x = vector.storage();
+        final long[] y = new long[rowCount];
+        executionPolicy.execute(rowCount, colCount, new RangeTask() {
+            @Override
+            public void compute(int from, int to) {
+                for (int i = from; i < to; i++){
+                    y[i] = DenseKernels.dot(elements, i * colCount, 1, x, 0, 1, colCount);
+                }
+            }
+        });
+        return new LongVector(y);
+    }
+
+    /**
+     * Sums all elements of matrix
+     * @return sum of elements
+     */
+    public long sumElements(){
+        return DenseKernels.sum(elements, 0, elements.length);
+    }
+
+    /**
+     * @return row-major copy of elements
+     */
+    public long[] toArray(){
+        return elements.clone();
+    }
+
+    private LongMatrix newMatrix(int rowCount, int colCount){
+        LongMatrix result = new LongMatrix(rowCount, colCount);
+        result.setExecutionPolicy(executionPolicy);
+        return result;
+    }
+}
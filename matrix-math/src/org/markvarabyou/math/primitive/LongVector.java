@@ -0,0 +1,120 @@
+package org.markvarabyou.math.primitive;
+
+import org.markvarabyou.math.common.kernels.DenseKernels;
+
+/**
+ * Class for mathematical vector of long elements based on primitive array.
+ * Generated from template in matrix-math/templates with long.properties by generate-primitives profile
+ * of matrix-math-benchmarks, edit template instead of this file.
+ * Author: Mark Vorobyov
+ * Date: 10/22/26
+ * Time: 3:00 PM
+ */
+public class LongVector {
+
+    private long[] elements;
+
+    /**
+     * Initializes new vector object with values from array
+     * @param elements array of vector values
+     */
+    public LongVector(long[] elements) {
+        this.elements = elements.clone();
+    }
+
+    /**
+     * Initializes new vector object with specified length. Fills them with zeros
+     * @param length count of elements in vector
+     */
+    public LongVector(int length) {
+        this.elements = new long[length];
+    }
+
+    /**
+     * Gets value of element with specified index
+     * @param index index of element
+     * @return value of selected element
+     */
+    public long get(int index){
+        return elements[index(index)];
+    }
+
+    /**
+     * Sets value to element with specified index
+     * @param index index of element
+     * @param value value to set
+     */
+    public void set(int index, long value){
+        elements[index(index)] = value;
+    }
+
+    private int index(int index){
+        if (index < 0 || index >= elements.length)
+            throw new IndexOutOfBoundsException("Index is out of range");
+        return index;
+    }
+
+    /**
+     * Gets length of current vector
+     * @return length of current vector
+     */
+    public int getLength(){
+        return elements.length;
+    }
+
+    /**
+     * Sums elements values from vector
+     * @return sum of elements
+     */
+    public long sumElements(){
+        return DenseKernels.sum(elements, 0, elements.length);
+    }
+
+    /**
+     * Adds vector of the same length
+     * @param vector vector to add
+     * @return result vector
+     */
+    public LongVector add(LongVector vector){
+        if (vector.getLength() != elements.length)
+            throw new IllegalArgumentException("Invalid vector length");
+
+        long[] result = new long[elements.length];
+        DenseKernels.add(elements, 0, vector.elements, 0, result, 0, result.length);
+        return new LongVector(result);
+    }
+
+    /**
+     * Multiplies current vector to single value
+     * @param value value to be multiplied
+     * @return result vector
+     */
+    public LongVector multiply(long value){
+        long[] result = new long[elements.length];
+        DenseKernels.scale(elements, 0, value, result, 0, result.length);
+        return new LongVector(result);
+    }
+
+    /**
+     * Computes dot product of vectors
+     * @param vector vector of the same length
+     * @return sum of products of elements
+     */
+    public long dot(LongVector vector){
+        if (vector.getLength() != elements.length)
+            throw new IllegalArgumentException("Invalid vector length");
+
+        return DenseKernels.dot(elements, 0, 1, vector.elements, 0, 1, elements.length);
+    }
+
+    /**
+     * @return copy of elements
+     */
+    public long[] toArray(){
+        return elements.clone();
+    }
+
+    long[] storage(){
+        return elements;
+    }
+}
@@ -0,0 +1,72 @@
+package org.markvarabyou.math.sparse;
+
+import org.markvarabyou.math.iterative.LinearOperator;
+
+import java.util.Arrays;
+
+/**
+ * Linear operator over compressed storage with elements unboxed to doubles once,
+ * so products of iterative solvers read primitive arrays only.
+ * Author: Mark Vorobyov
+ * Date: 10/21/26
+ * Time: 3:50 PM
+ */
+final class CompressedOperator implements LinearOperator {
+    private final int majorCount;
+    private final int minorCount;
+    private final int[] pointers;
+    private final int[] indices;
+    private final double[] values;
+    private final boolean byRows;
+
+    CompressedOperator(CompressedStorage<?> storage, boolean byRows) {
+        this.majorCount = storage.majorCount;
+        this.minorCount = storage.minorCount;
+        this.pointers = storage.pointers;
+        this.indices = storage.indices;
+        this.byRows = byRows;
+        values = new double[storage.getNonZeroCount()];
+        for (int k = 0; k < values.length; k++){
+            values[k] = ((Number) storage.values[k]).doubleValue();
+        }
+    }
+
+    @Override
+    public int getRowCount() {
+        return byRows ? majorCount : minorCount;
+    }
+
+    @Override
+    public int getColCount() {
+        return byRows ? minorCount : majorCount;
+    }
+
+    @Override
+    public void apply(double[] x, double[] y) {
+        if (byRows){
+            for (int row = 0; row < majorCount; row++){
+                double sum = 0;
+                for (int k = pointers[row]; k < pointers[row + 1]; k++){
+                    sum += values[k] * x[indices[k]];
+                }
+                y[row] = sum;
+            }
+            return;
+        }
+        Arrays.fill(y, 0, minorCount, 0);
+        for (int col = 0; col < majorCount; col++){
+            double value = x[col];
+            for (int k = pointers[col]; k < pointers[col + 1]; k++){
+                y[indices[k]] += values[k] * value;
+            }
+        }
+    }
+
+    @Override
+    public void getDiagonal(double[] diagonal) {
+        for (int major = 0, count = Math.min(majorCount, minorCount); major < count; major++){
+            int position = Arrays.binarySearch(indices, pointers[major], pointers[major + 1], major);
+            diagonal[major] = position >= 0 ? values[position] : 0;
+        }
+    }
+}
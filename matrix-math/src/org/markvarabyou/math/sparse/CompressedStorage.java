@@ -0,0 +1,223 @@
+package org.markvarabyou.math.sparse;
+
+import org.markvarabyou.math.common.Calculator;
+
+import java.util.Arrays;
+
+/**
+ * Compressed sparse storage shared by CSR and CSC matrices.
+ * Elements are grouped by major index (row for CSR, column for CSC): pointers[major] .. pointers[major + 1]
+ * is the range of minor indices and values of this group, minor indices inside a group are sorted.
+ * Author: Mark Vorobyov
+ * Date: 10/18/26
+ * Time: 5:10 PM
+ */
+final class CompressedStorage<T> {
+    final int majorCount;
+    final int minorCount;
+    final int[] pointers;
+    final int[] indices;
+    final Object[] values;
+    final Calculator<T> calculator;
+
+    CompressedStorage(int majorCount, int minorCount, int[] pointers, int[] indices, Object[] values,
+                      Calculator<T> calculator) {
+        if (pointers.length != majorCount + 1 || pointers[0] != 0)
+            throw new IllegalArgumentException("Invalid pointers length");
+        if (indices.length < pointers[majorCount] || values.length < pointers[majorCount])
+            throw new IllegalArgumentException("Invalid indices length");
+        for (int major = 0; major < majorCount; major++){
+            if (pointers[major] > pointers[major + 1])
+                throw new IllegalArgumentException("Pointers should not decrease");
+            for (int k = pointers[major]; k < pointers[major + 1]; k++){
+                if (indices[k] < 0 || indices[k] >= minorCount
+                        || (k > pointers[major] && indices[k - 1] >= indices[k]))
+                    throw new IllegalArgumentException("Indices should be sorted and in range");
+            }
+        }
+
+        this.majorCount = majorCount;
+        this.minorCount = minorCount;
+        this.pointers = pointers;
+        this.indices = indices;
+        this.values = values;
+        this.calculator = calculator;
+    }
+
+    /**
+     * Compresses dense row-major values, skipping elements equal to initial value of calculator
+     */
+    static <T> CompressedStorage<T> compress(Object[] dense, int rowCount, int colCount, boolean byRows,
+                                             Calculator<T> calculator) {
+        T zero = calculator.getNew();
+        int majorCount = byRows ? rowCount : colCount;
+        int minorCount = byRows ? colCount : rowCount;
+        int majorStride = byRows ? colCount : 1;
+        int minorStride = byRows ? 1 : colCount;
+
+        int[] pointers = new int[majorCount + 1];
+        for (int major = 0; major < majorCount; major++){
+            int count = 0;
+            for (int minor = 0; minor < minorCount; minor++){
+                if (!zero.equals(dense[major * majorStride + minor * minorStride]))
+                    count++;
+            }
+            pointers[major + 1] = pointers[major] + count;
+        }
+
+        int[] indices = new int[pointers[majorCount]];
+        Object[] values = new Object[pointers[majorCount]];
+        int position = 0;
+        for (int major = 0; major < majorCount; major++){
+            for (int minor = 0; minor < minorCount; minor++){
+                Object value = dense[major * majorStride + minor * minorStride];
+                if (!zero.equals(value)){
+                    indices[position] = minor;
+                    values[position++] = value;
+                }
+            }
+        }
+        return new CompressedStorage<T>(majorCount, minorCount, pointers, indices, values, calculator);
+    }
+
+    int getNonZeroCount() {
+        return pointers[majorCount];
+    }
+
+    @SuppressWarnings("unchecked")
+    T get(int major, int minor) {
+        int position = Arrays.binarySearch(indices, pointers[major], pointers[major + 1], minor);
+        return position >= 0 ? (T) values[position] : calculator.getNew();
+    }
+
+    /**
+     * Regroups elements by minor index, i.e. CSR of matrix becomes CSC of the same matrix and vice versa
+     */
+    CompressedStorage<T> regroup() {
+        int count = getNonZeroCount();
+        int[] newPointers = new int[minorCount + 1];
+        for (int k = 0; k < count; k++){
+            newPointers[indices[k] + 1]++;
+        }
+        for (int minor = 0; minor < minorCount; minor++){
+            newPointers[minor + 1] += newPointers[minor];
+        }
+
+        int[] next = Arrays.copyOf(newPointers, minorCount);
+        int[] newIndices = new int[count];
+        Object[] newValues = new Object[count];
+        for (int major = 0; major < majorCount; major++){
+            for (int k = pointers[major]; k < pointers[major + 1]; k++){
+                int position = next[indices[k]]++;
+                newIndices[position] = major;
+                newValues[position] = values[k];
+            }
+        }
+        return new CompressedStorage<T>(minorCount, majorCount, newPointers, newIndices, newValues, calculator);
+    }
+
+    /**
+     * Expands storage into dense row-major values
+     */
+    Object[] toDense(boolean byRows) {
+        int colCount = byRows ? minorCount : majorCount;
+        Object[] dense = new Object[majorCount * minorCount];
+        T zero = calculator.getNew();
+        Arrays.fill(dense, zero);
+        for (int major = 0; major < majorCount; major++){
+            for (int k = pointers[major]; k < pointers[major + 1]; k++){
+                int row = byRows ? major : indices[k];
+                int col = byRows ? indices[k] : major;
+                dense[row * colCount + col] = values[k];
+            }
+        }
+        return dense;
+    }
+
+    /**
+     * Multiplies groups of this storage by groups of other one (Gustavson algorithm).
+     * For CSR operands it is row-by-row product this * other, for CSC operands call it as other * this.
+     * @param other storage which groups are indexed by minor indices of this
+     * @param reversed true if elements of other are left operands of multiplication
+     */
+    @SuppressWarnings("unchecked")
+    CompressedStorage<T> multiply(CompressedStorage<T> other, boolean reversed) {
+        int resultMinorCount = other.minorCount;
+        Object[] accumulator = new Object[resultMinorCount];
+        int[] marker = new int[resultMinorCount];
+        Arrays.fill(marker, -1);
+        int[] touched = new int[resultMinorCount];
+        T zero = calculator.getNew();
+
+        int[] resultPointers = new int[majorCount + 1];
+        int[] resultIndices = new int[Math.max(16, getNonZeroCount())];
+        Object[] resultValues = new Object[resultIndices.length];
+
+        for (int major = 0; major < majorCount; major++){
+            int touchedCount = 0;
+            for (int k = pointers[major]; k < pointers[major + 1]; k++){
+                T value = (T) values[k];
+                int inner = indices[k];
+                for (int q = other.pointers[inner]; q < other.pointers[inner + 1]; q++){
+                    int minor = other.indices[q];
+                    T otherValue = (T) other.values[q];
+                    T product = reversed ? calculator.mul(otherValue, value) : calculator.mul(value, otherValue);
+                    if (marker[minor] != major){
+                        marker[minor] = major;
+                        accumulator[minor] = product;
+                        touched[touchedCount++] = minor;
+                    } else {
+                        accumulator[minor] = calculator.sum((T) accumulator[minor], product);
+                    }
+                }
+            }
+
+            Arrays.sort(touched, 0, touchedCount);
+            int position = resultPointers[major];
+            if (position + touchedCount > resultIndices.length){
+                int capacity = Math.max(resultIndices.length * 2, position + touchedCount);
+                resultIndices = Arrays.copyOf(resultIndices, capacity);
+                resultValues = Arrays.copyOf(resultValues, capacity);
+            }
+            for (int t = 0; t < touchedCount; t++){
+                Object value = accumulator[touched[t]];
+                accumulator[touched[t]] = null;
+                if (!zero.equals(value)){
+                    resultIndices[position] = touched[t];
+                    resultValues[position++] = value;
+                }
+            }
+            resultPointers[major + 1] = position;
+        }
+        return new CompressedStorage<T>(majorCount, resultMinorCount, resultPointers,
+                resultIndices, resultValues, calculator);
+    }
+
+    /**
+     * Multiplies matrix kept in this storage by dense row-major matrix
+     * @param dense dense values innerCount x colCount
+     * @param colCount count of columns in dense matrix
+     * @param byRows true if this storage is grouped by rows
+     * @return dense row-major product
+     */
+    @SuppressWarnings("unchecked")
+    Object[] multiplyDense(Object[] dense, int colCount, boolean byRows) {
+        int rowCount = byRows ? majorCount : minorCount;
+        Object[] result = new Object[rowCount * colCount];
+        Arrays.fill(result, calculator.getNew());
+        for (int major = 0; major < majorCount; major++){
+            for (int k = pointers[major]; k < pointers[major + 1]; k++){
+                T value = (T) values[k];
+                int row = byRows ? major : indices[k];
+                int inner = byRows ? indices[k] : major;
+                int resultOffset = row * colCount;
+                int denseOffset = inner * colCount;
+                for (int j = 0; j < colCount; j++){
+                    result[resultOffset + j] = calculator.sum((T) result[resultOffset + j],
+                            calculator.mul(value, (T) dense[denseOffset + j]));
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,144 @@
+package org.markvarabyou.math.sparse;
+
+import org.markvarabyou.math.arraylistbased.Matrix;
+import org.markvarabyou.math.arraylistbased.Vector;
+import org.markvarabyou.math.common.Calculator;
+import org.markvarabyou.math.common.MatrixExceptionHelper;
+import org.markvarabyou.math.iterative.LinearOperator;
+
+/**
+ * Sparse matrix in compressed sparse column (CSC) format.
+ * Only elements not equal to initial value of calculator are stored, so memory and time
+ * of operations depend on count of non-zero elements.
+ * Author: Mark Vorobyov
+ * Date: 10/18/26
+ * Time: 6:05 PM
+ */
+public class CscMatrix<T> {
+
+    private CompressedStorage<T> storage;
+    private MatrixExceptionHelper helper = new MatrixExceptionHelper();
+
+    /**
+     * Initializes new matrix from CSC arrays
+     * @param rowCount Number of rows in new matrix
+     * @param colCount Number of columns in new matrix
+     * @param colPointers colCount + 1 offsets of columns in rowIndices and values
+     * @param rowIndices row indices of non-zero elements, sorted inside every column
+     * @param values values of non-zero elements
+     * @param calculator Object-calculator for matrix elements
+     */
+    public CscMatrix(int rowCount, int colCount, int[] colPointers, int[] rowIndices, T[] values,
+                     Calculator<T> calculator) {
+        this(new CompressedStorage<T>(colCount, rowCount, colPointers.clone(), rowIndices.clone(),
+                values.clone(), calculator));
+    }
+
+    /**
+     * Initializes new matrix with non-zero elements of dense matrix
+     * @param matrix dense matrix
+     * @param calculator Object-calculator for matrix elements
+     */
+    public CscMatrix(Matrix<T> matrix, Calculator<T> calculator) {
+        this(CompressedStorage.compress(SparseHelper.toArray(matrix), matrix.getRowCount(), matrix.getColCount(),
+                false, calculator));
+    }
+
+    CscMatrix(CompressedStorage<T> storage) {
+        this.storage = storage;
+    }
+
+    /**
+     * @return Count of rows in matrix
+     */
+    public int getRowCount() {
+        return storage.minorCount;
+    }
+
+    /**
+     * @return Count of columns in matrix
+     */
+    public int getColCount() {
+        return storage.majorCount;
+    }
+
+    /**
+     * @return Count of stored non-zero elements
+     */
+    public int getNonZeroCount() {
+        return storage.getNonZeroCount();
+    }
+
+    /**
+     * @param row number of element row
+     * @param col number of element column
+     * @return value of element of matrix
+     */
+    public T get(int row, int col){
+        helper.checkRowAndColCount(row, col, getRowCount() - 1, getColCount() - 1);
+
+        return storage.get(col, row);
+    }
+
+    /**
+     * Multiplies current matrix to specified sparse one (only if matrices is consistent)
+     * @param matrix matrix to multiply by
+     * @return sparse result matrix
+     */
+    public CscMatrix<T> multiply(CscMatrix<T> matrix){
+        // Validation
+        if (getColCount() != matrix.getRowCount())
+            throw new IllegalArgumentException("Matrices are not consistent");
+
+        // Columns of product are combinations of columns of this matrix
+        return new CscMatrix<T>(matrix.storage.multiply(storage, true));
+    }
+
+    /**
+     * Multiplies current matrix to specified dense one (only if matrices is consistent)
+     * @param matrix matrix to multiply by
+     * @return dense result matrix
+     */
+    public Matrix<T> multiply(Matrix<T> matrix){
+        // Validation
+        if (getColCount() != matrix.getRowCount())
+            throw new IllegalArgumentException("Matrices are not consistent");
+
+        Object[] product = storage.multiplyDense(SparseHelper.toArray(matrix), matrix.getColCount(), false);
+        return SparseHelper.toMatrix(getRowCount(), matrix.getColCount(), product, storage.calculator);
+    }
+
+    /**
+     * Multiplies current matrix to column vector
+     * @param vector vector to multiply by
+     * @return result vector
+     */
+    public Vector<T> multiply(Vector<T> vector){
+        helper.checkLength(vector.getLength(), getColCount(), "vector");
+
+        Object[] product = storage.multiplyDense(SparseHelper.toArray(vector), 1, false);
+        return SparseHelper.toVector(product, storage.calculator);
+    }
+
+    /**
+     * Returns operator for iterative solvers with elements unboxed once, elements should be numbers
+     * @return linear operator over non-zero elements
+     */
+    public LinearOperator asOperator(){
+        return new CompressedOperator(storage, false);
+    }
+
+    /**
+     * @return dense matrix with the same elements
+     */
+    public Matrix<T> toDense(){
+        return SparseHelper.toMatrix(getRowCount(), getColCount(), storage.toDense(false), storage.calculator);
+    }
+
+    /**
+     * @return the same matrix in compressed sparse row format
+     */
+    public CsrMatrix<T> toCsr(){
+        return new CsrMatrix<T>(storage.regroup());
+    }
+}
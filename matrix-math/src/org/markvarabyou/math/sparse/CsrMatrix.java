@@ -0,0 +1,143 @@
+package org.markvarabyou.math.sparse;
+
+import org.markvarabyou.math.arraylistbased.Matrix;
+import org.markvarabyou.math.arraylistbased.Vector;
+import org.markvarabyou.math.common.Calculator;
+import org.markvarabyou.math.common.MatrixExceptionHelper;
+import org.markvarabyou.math.iterative.LinearOperator;
+
+/**
+ * Sparse matrix in compressed sparse row (CSR) format.
+ * Only elements not equal to initial value of calculator are stored, so memory and time
+ * of operations depend on count of non-zero elements.
+ * Author: Mark Vorobyov
+ * Date: 10/18/26
+ * Time: 5:40 PM
+ */
+public class CsrMatrix<T> {
+
+    private CompressedStorage<T> storage;
+    private MatrixExceptionHelper helper = new MatrixExceptionHelper();
+
+    /**
+     * Initializes new matrix from CSR arrays
+     * @param rowCount Number of rows in new matrix
+     * @param colCount Number of columns in new matrix
+     * @param rowPointers rowCount + 1 offsets of rows in colIndices and values
+     * @param colIndices column indices of non-zero elements, sorted inside every row
+     * @param values values of non-zero elements
+     * @param calculator Object-calculator for matrix elements
+     */
+    public CsrMatrix(int rowCount, int colCount, int[] rowPointers, int[] colIndices, T[] values,
+                     Calculator<T> calculator) {
+        this(new CompressedStorage<T>(rowCount, colCount, rowPointers.clone(), colIndices.clone(),
+                values.clone(), calculator));
+    }
+
+    /**
+     * Initializes new matrix with non-zero elements of dense matrix
+     * @param matrix dense matrix
+     * @param calculator Object-calculator for matrix elements
+     */
+    public CsrMatrix(Matrix<T> matrix, Calculator<T> calculator) {
+        this(CompressedStorage.compress(SparseHelper.toArray(matrix), matrix.getRowCount(), matrix.getColCount(),
+                true, calculator));
+    }
+
+    CsrMatrix(CompressedStorage<T> storage) {
+        this.storage = storage;
+    }
+
+    /**
+     * @return Count of rows in matrix
+     */
+    public int getRowCount() {
+        return storage.majorCount;
+    }
+
+    /**
+     * @return Count of columns in matrix
+     */
+    public int getColCount() {
+        return storage.minorCount;
+    }
+
+    /**
+     * @return Count of stored non-zero elements
+     */
+    public int getNonZeroCount() {
+        return storage.getNonZeroCount();
+    }
+
+    /**
+     * @param row number of element row
+     * @param col number of element column
+     * @return value of element of matrix
+     */
+    public T get(int row, int col){
+        helper.checkRowAndColCount(row, col, getRowCount() - 1, getColCount() - 1);
+
+        return storage.get(row, col);
+    }
+
+    /**
+     * Multiplies current matrix to specified sparse one (only if matrices is consistent)
+     * @param matrix matrix to multiply by
+     * @return sparse result matrix
+     */
+    public CsrMatrix<T> multiply(CsrMatrix<T> matrix){
+        // Validation
+        if (getColCount() != matrix.getRowCount())
+            throw new IllegalArgumentException("Matrices are not consistent");
+
+        return new CsrMatrix<T>(storage.multiply(matrix.storage, false));
+    }
+
+    /**
+     * Multiplies current matrix to specified dense one (only if matrices is consistent)
+     * @param matrix matrix to multiply by
+     * @return dense result matrix
+     */
+    public Matrix<T> multiply(Matrix<T> matrix){
+        // Validation
+        if (getColCount() != matrix.getRowCount())
+            throw new IllegalArgumentException("Matrices are not consistent");
+
+        Object[] product = storage.multiplyDense(SparseHelper.toArray(matrix), matrix.getColCount(), true);
+        return SparseHelper.toMatrix(getRowCount(), matrix.getColCount(), product, storage.calculator);
+    }
+
+    /**
+     * Multiplies current matrix to column vector
+     * @param vector vector to multiply by
+     * @return result vector
+     */
+    public Vector<T> multiply(Vector<T> vector){
+        helper.checkLength(vector.getLength(), getColCount(), "vector");
+
+        Object[] product = storage.multiplyDense(SparseHelper.toArray(vector), 1, true);
+        return SparseHelper.toVector(product, storage.calculator);
+    }
+
+    /**
+     * Returns operator for iterative solvers with elements unboxed once, elements should be numbers
+     * @return linear operator over non-zero elements
+     */
+    public LinearOperator asOperator(){
+        return new CompressedOperator(storage, true);
+    }
+
+    /**
+     * @return dense matrix with the same elements
+     */
+    public Matrix<T> toDense(){
+        return SparseHelper.toMatrix(getRowCount(), getColCount(), storage.toDense(true), storage.calculator);
+    }
+
+    /**
+     * @return the same matrix in compressed sparse column format
+     */
+    public CscMatrix<T> toCsc(){
+        return new CscMatrix<T>(storage.regroup());
+    }
+}
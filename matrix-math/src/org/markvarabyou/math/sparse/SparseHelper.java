@@ -0,0 +1,46 @@
+package org.markvarabyou.math.sparse;
+
+import org.markvarabyou.math.arraylistbased.Matrix;
+import org.markvarabyou.math.arraylistbased.Vector;
+import org.markvarabyou.math.common.Calculator;
+
+/**
+ * Conversions between dense matrices and flat arrays for sparse kernels.
+ * Author: Mark Vorobyov
+ * Date: 10/18/26
+ * Time: 6:20 PM
+ */
+final class SparseHelper {
+
+    private SparseHelper() {
+    }
+
+    static <T> Object[] toArray(Matrix<T> matrix) {
+        int colCount = matrix.getColCount();
+        Object[] values = new Object[matrix.getRowCount() * colCount];
+        for (int i = 0; i < matrix.getRowCount(); i++){
+            for (int j = 0; j < colCount; j++){
+                values[i * colCount + j] = matrix.get(i, j);
+            }
+        }
+        return values;
+    }
+
+    static <T> Object[] toArray(Vector<T> vector) {
+        Object[] values = new Object[vector.getLength()];
+        for (int i = 0; i < values.length; i++){
+            values[i] = vector.get(i);
+        }
+        return values;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Matrix<T> toMatrix(int rowCount, int colCount, Object[] values, Calculator<T> calculator) {
+        return new Matrix<T>(rowCount, colCount, (T[]) values, calculator);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Vector<T> toVector(Object[] values, Calculator<T> calculator) {
+        return new Vector<T>((T[]) values, calculator);
+    }
+}
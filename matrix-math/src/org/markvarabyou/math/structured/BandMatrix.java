@@ -0,0 +1,281 @@
+package org.markvarabyou.math.structured;
+
+import org.markvarabyou.math.arraylistbased.Matrix;
+import org.markvarabyou.math.arraylistbased.Vector;
+import org.markvarabyou.math.common.Calculator;
+import org.markvarabyou.math.common.MatrixExceptionHelper;
+
+/**
+ * Band matrix which stores only diagonals from -lowerBandwidth (below main one) to upperBandwidth (above it),
+ * diagonal by diagonal. Memory is rowCount * (lowerBandwidth + upperBandwidth + 1) elements and products
+ * take time proportional to rowCount multiplied by bandwidths instead of cube of size.
+ * Author: Mark Vorobyov
+ * Date: 10/22/26
+ * Time: 11:00 AM
+ */
+public class BandMatrix<T> {
+
+    private int rowCount;
+    private int colCount;
+    private int lowerBandwidth;
+    private int upperBandwidth;
+    // Diagonal d = col - row is stored by rows: element (i, i + d) is at (d + lowerBandwidth) * rowCount + i,
+    // cells of diagonals outside of matrix hold initial values of calculator
+    private Object[] values;
+    private Calculator<T> calculator;
+    private MatrixExceptionHelper helper = new MatrixExceptionHelper();
+
+    /**
+     * Initializes new band matrix rowCount x colCount filled with initial values of calculator
+     * @param rowCount Number of rows in new matrix
+     * @param colCount Number of columns in new matrix
+     * @param lowerBandwidth count of stored diagonals below main one
+     * @param upperBandwidth count of stored diagonals above main one
+     * @param calculator Object-calculator for matrix elements
+     */
+    public BandMatrix(int rowCount, int colCount, int lowerBandwidth, int upperBandwidth,
+                      Calculator<T> calculator) {
+        // Validation
+        if (lowerBandwidth < 0 || upperBandwidth < 0)
+            throw new IllegalArgumentException("Invalid bandwidth");
+
+        this.rowCount = rowCount;
+        this.colCount = colCount;
+        // Diagonals beyond corners of matrix are empty
+        this.lowerBandwidth = Math.min(lowerBandwidth, Math.max(0, rowCount - 1));
+        this.upperBandwidth = Math.min(upperBandwidth, Math.max(0, colCount - 1));
+        this.calculator = calculator;
+        this.values = StructuredHelper.filled(rowCount * getDiagonalCount(), calculator);
+    }
+
+    /**
+     * Initializes new band matrix with elements of dense one
+     * @param matrix dense matrix with initial values of calculator outside of band
+     * @param lowerBandwidth count of stored diagonals below main one
+     * @param upperBandwidth count of stored diagonals above main one
+     * @param calculator Object-calculator for matrix elements
+     */
+    public BandMatrix(Matrix<T> matrix, int lowerBandwidth, int upperBandwidth, Calculator<T> calculator) {
+        this(matrix.getRowCount(), matrix.getColCount(), lowerBandwidth, upperBandwidth, calculator);
+
+        T zero = calculator.getNew();
+        for (int i = 0; i < rowCount; i++){
+            for (int j = 0; j < colCount; j++){
+                if (inBand(i, j))
+                    values[index(i, j)] = matrix.get(i, j);
+                else if (!zero.equals(matrix.get(i, j)))
+                    throw new IllegalArgumentException("Element is outside of band");
+            }
+        }
+    }
+
+    private int getDiagonalCount(){
+        return lowerBandwidth + upperBandwidth + 1;
+    }
+
+    private boolean inBand(int row, int col){
+        return col - row >= -lowerBandwidth && col - row <= upperBandwidth;
+    }
+
+    private int index(int row, int col){
+        return (col - row + lowerBandwidth) * rowCount + row;
+    }
+
+    /**
+     * @return Count of rows in matrix
+     */
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * @return Count of columns in matrix
+     */
+    public int getColCount() {
+        return colCount;
+    }
+
+    /**
+     * @return Count of stored diagonals below main one
+     */
+    public int getLowerBandwidth() {
+        return lowerBandwidth;
+    }
+
+    /**
+     * @return Count of stored diagonals above main one
+     */
+    public int getUpperBandwidth() {
+        return upperBandwidth;
+    }
+
+    /**
+     * @param row number of element row
+     * @param col number of element column
+     * @return value of element of matrix, initial value of calculator outside of band
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int row, int col){
+        helper.checkRowAndColCount(row, col, rowCount - 1, colCount - 1);
+
+        return inBand(row, col) ? (T) values[index(row, col)] : calculator.getNew();
+    }
+
+    /**
+     * Sets the value to element of band in specified row and column
+     * @param row number of element row
+     * @param col number of element column
+     * @param value value of element to set
+     * @return previous value of element
+     */
+    @SuppressWarnings("unchecked")
+    public T set(int row, int col, T value){
+        helper.checkRowAndColCount(row, col, rowCount - 1, colCount - 1);
+        if (!inBand(row, col))
+            throw new IllegalArgumentException("Element is outside of band");
+
+        int index = index(row, col);
+        T previous = (T) values[index];
+        values[index] = value;
+        return previous;
+    }
+
+    /**
+     * Adds specified band matrix with this (only if sizes is equal), band of result covers both bands
+     * @param matrix matrix to add
+     * @return band result of adding
+     */
+    @SuppressWarnings("unchecked")
+    public BandMatrix<T> add(BandMatrix<T> matrix){
+        // Validation
+        if (rowCount != matrix.rowCount || colCount != matrix.colCount)
+            throw new IllegalArgumentException("Illegal size of matrix to add");
+
+        BandMatrix<T> result = new BandMatrix<T>(rowCount, colCount, Math.max(lowerBandwidth, matrix.lowerBandwidth),
+                Math.max(upperBandwidth, matrix.upperBandwidth), calculator);
+        result.accumulate(this);
+        result.accumulate(matrix);
+        return result;
+    }
+
+    /**
+     * Adds diagonals of narrower or equal band to diagonals of this matrix in place
+     */
+    @SuppressWarnings("unchecked")
+    private void accumulate(BandMatrix<T> matrix){
+        for (int d = -matrix.lowerBandwidth; d <= matrix.upperBandwidth; d++){
+            int source = (d + matrix.lowerBandwidth) * rowCount;
+            int target = (d + lowerBandwidth) * rowCount;
+            for (int i = Math.max(0, -d), end = Math.min(rowCount, colCount - d); i < end; i++){
+                values[target + i] = calculator.sum((T) values[target + i], (T) matrix.values[source + i]);
+            }
+        }
+    }
+
+    /**
+     * Multiplies current matrix to single value
+     * @param value value to be multiplied
+     * @return band result matrix
+     */
+    @SuppressWarnings("unchecked")
+    public BandMatrix<T> multiply(T value){
+        BandMatrix<T> result = new BandMatrix<T>(rowCount, colCount, lowerBandwidth, upperBandwidth, calculator);
+        for (int k = 0; k < values.length; k++){
+            result.values[k] = calculator.mul((T) values[k], value);
+        }
+        return result;
+    }
+
+    /**
+     * Multiplies current matrix to specified band one (only if matrices is consistent).
+     * Bandwidths of result are sums of bandwidths of operands
+     * @param matrix matrix to multiply by
+     * @return band result matrix
+     */
+    @SuppressWarnings("unchecked")
+    public BandMatrix<T> multiply(BandMatrix<T> matrix){
+        // Validation
+        if (colCount != matrix.rowCount)
+            throw new IllegalArgumentException("Matrices are not consistent");
+
+        BandMatrix<T> result = new BandMatrix<T>(rowCount, matrix.colCount, lowerBandwidth + matrix.lowerBandwidth,
+                upperBandwidth + matrix.upperBandwidth, calculator);
+        Object[] product = result.values;
+        for (int i = 0; i < rowCount; i++){
+            for (int da = -lowerBandwidth; da <= upperBandwidth; da++){
+                int k = i + da;
+                if (k < 0 || k >= colCount)
+                    continue;
+                T value = (T) values[(da + lowerBandwidth) * rowCount + i];
+                for (int db = -matrix.lowerBandwidth; db <= matrix.upperBandwidth; db++){
+                    int j = k + db;
+                    if (j < 0 || j >= matrix.colCount)
+                        continue;
+                    int target = result.index(i, j);
+                    product[target] = calculator.fma(value,
+                            (T) matrix.values[(db + matrix.lowerBandwidth) * matrix.rowCount + k], (T) product[target]);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Multiplies current matrix to column vector
+     * @param vector vector to multiply by
+     * @return result vector
+     */
+    public Vector<T> multiply(Vector<T> vector){
+        helper.checkLength(vector.getLength(), colCount, "vector");
+
+        Object[] product = multiplyDense(StructuredHelper.toArray(vector), 1);
+        return StructuredHelper.toVector(product, calculator);
+    }
+
+    /**
+     * Multiplies current matrix to specified dense one (only if matrices is consistent)
+     * @param matrix matrix to multiply by
+     * @return dense result matrix
+     */
+    public Matrix<T> multiply(Matrix<T> matrix){
+        // Validation
+        if (colCount != matrix.getRowCount())
+            throw new IllegalArgumentException("Matrices are not consistent");
+
+        Object[] product = multiplyDense(StructuredHelper.toArray(matrix), matrix.getColCount());
+        return StructuredHelper.toMatrix(rowCount, matrix.getColCount(), product, calculator);
+    }
+
+    /**
+     * Every diagonal adds its elements multiplied by shifted rows of dense operand
+     */
+    @SuppressWarnings("unchecked")
+    private Object[] multiplyDense(Object[] dense, int denseColCount){
+        Object[] result = StructuredHelper.filled(rowCount * denseColCount, calculator);
+        for (int d = -lowerBandwidth; d <= upperBandwidth; d++){
+            int diagonal = (d + lowerBandwidth) * rowCount;
+            for (int i = Math.max(0, -d), end = Math.min(rowCount, colCount - d); i < end; i++){
+                T value = (T) values[diagonal + i];
+                int rowI = i * denseColCount;
+                int rowK = (i + d) * denseColCount;
+                for (int c = 0; c < denseColCount; c++){
+                    result[rowI + c] = calculator.fma(value, (T) dense[rowK + c], (T) result[rowI + c]);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return dense matrix with the same elements
+     */
+    public Matrix<T> toDense(){
+        Object[] dense = StructuredHelper.filled(rowCount * colCount, calculator);
+        for (int d = -lowerBandwidth; d <= upperBandwidth; d++){
+            for (int i = Math.max(0, -d), end = Math.min(rowCount, colCount - d); i < end; i++){
+                dense[i * colCount + i + d] = values[(d + lowerBandwidth) * rowCount + i];
+            }
+        }
+        return StructuredHelper.toMatrix(rowCount, colCount, dense, calculator);
+    }
+}
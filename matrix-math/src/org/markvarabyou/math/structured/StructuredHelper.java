@@ -0,0 +1,70 @@
+package org.markvarabyou.math.structured;
+
+import org.markvarabyou.math.arraylistbased.Matrix;
+import org.markvarabyou.math.arraylistbased.Vector;
+import org.markvarabyou.math.common.Calculator;
+
+import java.util.Arrays;
+
+/**
+ * Packed indexing and conversions between dense matrices and flat arrays for structured kernels.
+ * Author: Mark Vorobyov
+ * Date: 10/22/26
+ * Time: 9:10 AM
+ */
+final class StructuredHelper {
+
+    private StructuredHelper() {
+    }
+
+    /**
+     * @return count of elements in packed triangle of square matrix
+     */
+    static int packedLength(int size) {
+        return size * (size + 1) / 2;
+    }
+
+    /**
+     * Index of element in packed triangle, row i of lower triangle (column i of upper one) starts at i * (i + 1) / 2
+     * @param major greater of row and column
+     * @param minor lesser of row and column
+     */
+    static int packedIndex(int major, int minor) {
+        return major * (major + 1) / 2 + minor;
+    }
+
+    static <T> Object[] filled(int length, Calculator<T> calculator) {
+        Object[] values = new Object[length];
+        Arrays.fill(values, calculator.getNew());
+        return values;
+    }
+
+    static <T> Object[] toArray(Matrix<T> matrix) {
+        int colCount = matrix.getColCount();
+        Object[] values = new Object[matrix.getRowCount() * colCount];
+        for (int i = 0; i < matrix.getRowCount(); i++){
+            for (int j = 0; j < colCount; j++){
+                values[i * colCount + j] = matrix.get(i, j);
+            }
+        }
+        return values;
+    }
+
+    static <T> Object[] toArray(Vector<T> vector) {
+        Object[] values = new Object[vector.getLength()];
+        for (int i = 0; i < values.length; i++){
+            values[i] = vector.get(i);
+        }
+        return values;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Matrix<T> toMatrix(int rowCount, int colCount, Object[] values, Calculator<T> calculator) {
+        return new Matrix<T>(rowCount, colCount, (T[]) values, calculator);
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Vector<T> toVector(Object[] values, Calculator<T> calculator) {
+        return new Vector<T>((T[]) values, calculator);
+    }
+}
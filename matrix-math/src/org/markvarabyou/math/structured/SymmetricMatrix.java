@@ -0,0 +1,222 @@
+package org.markvarabyou.math.structured;
+
+import org.markvarabyou.math.arraylistbased.Matrix;
+import org.markvarabyou.math.arraylistbased.Vector;
+import org.markvarabyou.math.common.Calculator;
+import org.markvarabyou.math.common.MatrixExceptionHelper;
+
+/**
+ * Symmetric square matrix which stores only lower triangle packed by rows, size * (size + 1) / 2 elements.
+ * Products read every stored element once and use it for both halves of matrix.
+ * Author: Mark Vorobyov
+ * Date: 10/22/26
+ * Time: 9:30 AM
+ */
+public class SymmetricMatrix<T> {
+
+    private int size;
+    // Element (i, j) with j <= i is stored at i * (i + 1) / 2 + j, element (j, i) is the same
+    private Object[] values;
+    private Calculator<T> calculator;
+    private MatrixExceptionHelper helper = new MatrixExceptionHelper();
+
+    /**
+     * Initializes new symmetric matrix size x size filled with initial values of calculator
+     * @param size Number of rows and columns in new matrix
+     * @param calculator Object-calculator for matrix elements
+     */
+    public SymmetricMatrix(int size, Calculator<T> calculator) {
+        this(StructuredHelper.filled(StructuredHelper.packedLength(size), calculator), size, calculator);
+    }
+
+    /**
+     * Initializes new symmetric matrix with packed lower triangle
+     * @param size Number of rows and columns in new matrix
+     * @param packed lower triangle by rows: (0, 0), (1, 0), (1, 1), (2, 0) ...
+     * @param calculator Object-calculator for matrix elements
+     */
+    public SymmetricMatrix(int size, T[] packed, Calculator<T> calculator) {
+        this((Object[]) packed.clone(), size, calculator);
+    }
+
+    /**
+     * Initializes new symmetric matrix with elements of dense one
+     * @param matrix square symmetric dense matrix
+     * @param calculator Object-calculator for matrix elements
+     */
+    public SymmetricMatrix(Matrix<T> matrix, Calculator<T> calculator) {
+        // Validation
+        if (matrix.getRowCount() != matrix.getColCount())
+            throw new IllegalArgumentException("Matrix is not square");
+
+        this.size = matrix.getRowCount();
+        this.calculator = calculator;
+        this.values = new Object[StructuredHelper.packedLength(size)];
+        for (int i = 0; i < size; i++){
+            for (int j = 0; j <= i; j++){
+                T value = matrix.get(i, j);
+                if (!value.equals(matrix.get(j, i)))
+                    throw new IllegalArgumentException("Matrix is not symmetric");
+                values[StructuredHelper.packedIndex(i, j)] = value;
+            }
+        }
+    }
+
+    private SymmetricMatrix(Object[] values, int size, Calculator<T> calculator) {
+        helper.checkLength(values.length, StructuredHelper.packedLength(size), "packed array");
+
+        this.size = size;
+        this.values = values;
+        this.calculator = calculator;
+    }
+
+    private int index(int row, int col){
+        helper.checkRowAndColCount(row, col, size - 1, size - 1);
+
+        return row >= col ? StructuredHelper.packedIndex(row, col) : StructuredHelper.packedIndex(col, row);
+    }
+
+    /**
+     * @return Count of rows in matrix
+     */
+    public int getRowCount() {
+        return size;
+    }
+
+    /**
+     * @return Count of columns in matrix
+     */
+    public int getColCount() {
+        return size;
+    }
+
+    /**
+     * @param row number of element row
+     * @param col number of element column
+     * @return value of element of matrix
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int row, int col){
+        return (T) values[index(row, col)];
+    }
+
+    /**
+     * Sets the value to element in specified row and column and to symmetric element
+     * @param row number of element row
+     * @param col number of element column
+     * @param value value of element to set
+     * @return previous value of element
+     */
+    @SuppressWarnings("unchecked")
+    public T set(int row, int col, T value){
+        int index = index(row, col);
+        T previous = (T) values[index];
+        values[index] = value;
+        return previous;
+    }
+
+    /**
+     * Adds specified symmetric matrix with this (only if sizes is equal)
+     * @param matrix matrix to add
+     * @return symmetric result of adding
+     */
+    @SuppressWarnings("unchecked")
+    public SymmetricMatrix<T> add(SymmetricMatrix<T> matrix){
+        // Validation
+        if (size != matrix.size)
+            throw new IllegalArgumentException("Illegal size of matrix to add");
+
+        Object[] sum = new Object[values.length];
+        for (int k = 0; k < sum.length; k++){
+            sum[k] = calculator.sum((T) values[k], (T) matrix.values[k]);
+        }
+        return new SymmetricMatrix<T>(sum, size, calculator);
+    }
+
+    /**
+     * Multiplies current matrix to single value
+     * @param value value to be multiplied
+     * @return symmetric result matrix
+     */
+    @SuppressWarnings("unchecked")
+    public SymmetricMatrix<T> multiply(T value){
+        Object[] product = new Object[values.length];
+        for (int k = 0; k < product.length; k++){
+            product[k] = calculator.mul((T) values[k], value);
+        }
+        return new SymmetricMatrix<T>(product, size, calculator);
+    }
+
+    /**
+     * Multiplies current matrix to column vector
+     * @param vector vector to multiply by
+     * @return result vector
+     */
+    public Vector<T> multiply(Vector<T> vector){
+        helper.checkLength(vector.getLength(), size, "vector");
+
+        Object[] product = multiplyDense(StructuredHelper.toArray(vector), 1);
+        return StructuredHelper.toVector(product, calculator);
+    }
+
+    /**
+     * Multiplies current matrix to specified dense one (only if matrices is consistent)
+     * @param matrix matrix to multiply by
+     * @return dense result matrix
+     */
+    public Matrix<T> multiply(Matrix<T> matrix){
+        // Validation
+        if (size != matrix.getRowCount())
+            throw new IllegalArgumentException("Matrices are not consistent");
+
+        Object[] product = multiplyDense(StructuredHelper.toArray(matrix), matrix.getColCount());
+        return StructuredHelper.toMatrix(size, matrix.getColCount(), product, calculator);
+    }
+
+    /**
+     * Multiplies current matrix to specified symmetric one, product of symmetric matrices is not symmetric
+     * @param matrix matrix to multiply by
+     * @return dense result matrix
+     */
+    public Matrix<T> multiply(SymmetricMatrix<T> matrix){
+        return multiply(matrix.toDense());
+    }
+
+    /**
+     * Row i of result gets a(i, j) * row j and row j gets a(i, j) * row i for every stored element below diagonal
+     */
+    @SuppressWarnings("unchecked")
+    private Object[] multiplyDense(Object[] dense, int colCount){
+        Object[] result = StructuredHelper.filled(size * colCount, calculator);
+        for (int i = 0, k = 0; i < size; i++){
+            int rowI = i * colCount;
+            for (int j = 0; j <= i; j++, k++){
+                T value = (T) values[k];
+                int rowJ = j * colCount;
+                for (int c = 0; c < colCount; c++){
+                    result[rowI + c] = calculator.fma(value, (T) dense[rowJ + c], (T) result[rowI + c]);
+                }
+                if (j == i)
+                    continue;
+                for (int c = 0; c < colCount; c++){
+                    result[rowJ + c] = calculator.fma(value, (T) dense[rowI + c], (T) result[rowJ + c]);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return dense matrix with the same elements
+     */
+    public Matrix<T> toDense(){
+        Object[] dense = new Object[size * size];
+        for (int i = 0, k = 0; i < size; i++){
+            for (int j = 0; j <= i; j++, k++){
+                dense[i * size + j] = values[k];
+                dense[j * size + i] = values[k];
+            }
+        }
+        return StructuredHelper.toMatrix(size, size, dense, calculator);
+    }
+}
@@ -0,0 +1,263 @@
+package org.markvarabyou.math.structured;
+
+import org.markvarabyou.math.arraylistbased.Matrix;
+import org.markvarabyou.math.arraylistbased.Vector;
+import org.markvarabyou.math.common.Calculator;
+import org.markvarabyou.math.common.MatrixExceptionHelper;
+
+/**
+ * Lower or upper triangular square matrix which stores only its triangle packed, size * (size + 1) / 2 elements.
+ * Lower triangle is packed by rows and upper one by columns, so transposition keeps packed array.
+ * Products skip elements outside of triangle.
+ * Author: Mark Vorobyov
+ * Date: 10/22/26
+ * Time: 10:05 AM
+ */
+public class TriangularMatrix<T> {
+
+    private int size;
+    private boolean lower;
+    // Element (i, j) of triangle is stored at max * (max + 1) / 2 + min of its row and column
+    private Object[] values;
+    private Calculator<T> calculator;
+    private MatrixExceptionHelper helper = new MatrixExceptionHelper();
+
+    /**
+     * Initializes new triangular matrix size x size filled with initial values of calculator
+     * @param size Number of rows and columns in new matrix
+     * @param lower true for lower triangular matrix, false for upper one
+     * @param calculator Object-calculator for matrix elements
+     */
+    public TriangularMatrix(int size, boolean lower, Calculator<T> calculator) {
+        this(StructuredHelper.filled(StructuredHelper.packedLength(size), calculator), size, lower, calculator);
+    }
+
+    /**
+     * Initializes new triangular matrix with packed triangle
+     * @param size Number of rows and columns in new matrix
+     * @param lower true for lower triangular matrix, false for upper one
+     * @param packed lower triangle by rows or upper triangle by columns: (0, 0), (1, 0), (1, 1), (2, 0) ...
+     * @param calculator Object-calculator for matrix elements
+     */
+    public TriangularMatrix(int size, boolean lower, T[] packed, Calculator<T> calculator) {
+        this((Object[]) packed.clone(), size, lower, calculator);
+    }
+
+    /**
+     * Initializes new triangular matrix with elements of dense one
+     * @param matrix square dense matrix with initial values of calculator outside of triangle
+     * @param lower true for lower triangular matrix, false for upper one
+     * @param calculator Object-calculator for matrix elements
+     */
+    public TriangularMatrix(Matrix<T> matrix, boolean lower, Calculator<T> calculator) {
+        // Validation
+        if (matrix.getRowCount() != matrix.getColCount())
+            throw new IllegalArgumentException("Matrix is not square");
+
+        this.size = matrix.getRowCount();
+        this.lower = lower;
+        this.calculator = calculator;
+        this.values = new Object[StructuredHelper.packedLength(size)];
+        T zero = calculator.getNew();
+        for (int i = 0; i < size; i++){
+            for (int j = 0; j < size; j++){
+                if (inTriangle(i, j))
+                    values[packedIndex(i, j)] = matrix.get(i, j);
+                else if (!zero.equals(matrix.get(i, j)))
+                    throw new IllegalArgumentException("Element is outside of triangle");
+            }
+        }
+    }
+
+    private TriangularMatrix(Object[] values, int size, boolean lower, Calculator<T> calculator) {
+        helper.checkLength(values.length, StructuredHelper.packedLength(size), "packed array");
+
+        this.size = size;
+        this.lower = lower;
+        this.values = values;
+        this.calculator = calculator;
+    }
+
+    private boolean inTriangle(int row, int col){
+        return lower ? col <= row : col >= row;
+    }
+
+    private static int packedIndex(int row, int col){
+        return row >= col ? StructuredHelper.packedIndex(row, col) : StructuredHelper.packedIndex(col, row);
+    }
+
+    /**
+     * @return Count of rows in matrix
+     */
+    public int getRowCount() {
+        return size;
+    }
+
+    /**
+     * @return Count of columns in matrix
+     */
+    public int getColCount() {
+        return size;
+    }
+
+    /**
+     * @return true for lower triangular matrix, false for upper one
+     */
+    public boolean isLower() {
+        return lower;
+    }
+
+    /**
+     * @param row number of element row
+     * @param col number of element column
+     * @return value of element of matrix, initial value of calculator outside of triangle
+     */
+    @SuppressWarnings("unchecked")
+    public T get(int row, int col){
+        helper.checkRowAndColCount(row, col, size - 1, size - 1);
+
+        return inTriangle(row, col) ? (T) values[packedIndex(row, col)] : calculator.getNew();
+    }
+
+    /**
+     * Sets the value to element of triangle in specified row and column
+     * @param row number of element row
+     * @param col number of element column
+     * @param value value of element to set
+     * @return previous value of element
+     */
+    @SuppressWarnings("unchecked")
+    public T set(int row, int col, T value){
+        helper.checkRowAndColCount(row, col, size - 1, size - 1);
+        if (!inTriangle(row, col))
+            throw new IllegalArgumentException("Element is outside of triangle");
+
+        int index = packedIndex(row, col);
+        T previous = (T) values[index];
+        values[index] = value;
+        return previous;
+    }
+
+    /**
+     * Returns transposed matrix, lower becomes upper and vice versa without reordering of elements
+     * @return transposed triangular matrix
+     */
+    public TriangularMatrix<T> transpose(){
+        return new TriangularMatrix<T>(values.clone(), size, !lower, calculator);
+    }
+
+    /**
+     * Adds specified triangular matrix with this (only if sizes and triangles are equal)
+     * @param matrix matrix to add
+     * @return triangular result of adding
+     */
+    @SuppressWarnings("unchecked")
+    public TriangularMatrix<T> add(TriangularMatrix<T> matrix){
+        // Validation
+        if (size != matrix.size || lower != matrix.lower)
+            throw new IllegalArgumentException("Illegal size of matrix to add");
+
+        Object[] sum = new Object[values.length];
+        for (int k = 0; k < sum.length; k++){
+            sum[k] = calculator.sum((T) values[k], (T) matrix.values[k]);
+        }
+        return new TriangularMatrix<T>(sum, size, lower, calculator);
+    }
+
+    /**
+     * Multiplies current matrix to single value
+     * @param value value to be multiplied
+     * @return triangular result matrix
+     */
+    @SuppressWarnings("unchecked")
+    public TriangularMatrix<T> multiply(T value){
+        Object[] product = new Object[values.length];
+        for (int k = 0; k < product.length; k++){
+            product[k] = calculator.mul((T) values[k], value);
+        }
+        return new TriangularMatrix<T>(product, size, lower, calculator);
+    }
+
+    /**
+     * Multiplies current matrix to specified triangular one of the same kind, product stays triangular.
+     * Element (i, j) sums only over k between i and j
+     * @param matrix lower matrix for lower one and upper matrix for upper one
+     * @return triangular result matrix
+     */
+    @SuppressWarnings("unchecked")
+    public TriangularMatrix<T> multiply(TriangularMatrix<T> matrix){
+        // Validation
+        if (size != matrix.size || lower != matrix.lower)
+            throw new IllegalArgumentException("Matrices are not consistent");
+
+        Object[] product = new Object[values.length];
+        for (int i = 0; i < size; i++){
+            int from = lower ? 0 : i;
+            int to = lower ? i : size - 1;
+            for (int j = from; j <= to; j++){
+                T sum = calculator.getNew();
+                for (int k = Math.min(i, j), end = Math.max(i, j); k <= end; k++){
+                    sum = calculator.fma((T) values[packedIndex(i, k)], (T) matrix.values[packedIndex(k, j)], sum);
+                }
+                product[packedIndex(i, j)] = sum;
+            }
+        }
+        return new TriangularMatrix<T>(product, size, lower, calculator);
+    }
+
+    /**
+     * Multiplies current matrix to column vector
+     * @param vector vector to multiply by
+     * @return result vector
+     */
+    public Vector<T> multiply(Vector<T> vector){
+        helper.checkLength(vector.getLength(), size, "vector");
+
+        Object[] product = multiplyDense(StructuredHelper.toArray(vector), 1);
+        return StructuredHelper.toVector(product, calculator);
+    }
+
+    /**
+     * Multiplies current matrix to specified dense one (only if matrices is consistent)
+     * @param matrix matrix to multiply by
+     * @return dense result matrix
+     */
+    public Matrix<T> multiply(Matrix<T> matrix){
+        // Validation
+        if (size != matrix.getRowCount())
+            throw new IllegalArgumentException("Matrices are not consistent");
+
+        Object[] product = multiplyDense(StructuredHelper.toArray(matrix), matrix.getColCount());
+        return StructuredHelper.toMatrix(size, matrix.getColCount(), product, calculator);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object[] multiplyDense(Object[] dense, int colCount){
+        Object[] result = StructuredHelper.filled(size * colCount, calculator);
+        for (int i = 0; i < size; i++){
+            int rowI = i * colCount;
+            for (int k = lower ? 0 : i, end = lower ? i : size - 1; k <= end; k++){
+                T value = (T) values[packedIndex(i, k)];
+                int rowK = k * colCount;
+                for (int c = 0; c < colCount; c++){
+                    result[rowI + c] = calculator.fma(value, (T) dense[rowK + c], (T) result[rowI + c]);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return dense matrix with the same elements
+     */
+    public Matrix<T> toDense(){
+        Object[] dense = StructuredHelper.filled(size * size, calculator);
+        for (int i = 0; i < size; i++){
+            for (int j = 0; j < size; j++){
+                if (inTriangle(i, j))
+                    dense[i * size + j] = values[packedIndex(i, j)];
+            }
+        }
+        return StructuredHelper.toMatrix(size, size, dense, calculator);
+    }
+}
@@ -0,0 +1,588 @@
+package org.markvarabyou.math.tests.arraybased;
+
+import junit.framework.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.markvarabyou.math.arraybased.DoubleMatrix;
+import org.markvarabyou.math.arraybased.DoubleVector;
+import org.markvarabyou.math.common.ExecutionPolicy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Test class for DoubleMatrix
+ * Author: Mark Vorobyov
+ * Date: 10/18/26
+ * Time: 11:10 AM
+ */
+public class DoubleMatrixTest {
+    private DoubleMatrix doubleMatrix;
+
+    //Test data
+    private double[] initialValues = new double[]{1.0, 2.0, 3.0, 4.0};
+    private int initRowCount = 2;
+    private int initColCount = 2;
+
+    private static void assertMatrixEquals(DoubleMatrix expected, DoubleMatrix actual){
+        Assert.assertEquals(expected.getRowCount(), actual.getRowCount());
+        Assert.assertEquals(expected.getColCount(), actual.getColCount());
+        for (int i = 0; i < actual.getRowCount(); i++){
+            for (int j = 0; j < actual.getColCount(); j++){
+                Assert.assertEquals(expected.get(i, j), actual.get(i, j), 1e-9);
+            }
+        }
+    }
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Before
+    public void setUp() throws Exception {
+        doubleMatrix = new DoubleMatrix(initRowCount, initColCount, initialValues);
+    }
+
+    @Test
+    public void testGetRowAndColCount() throws Exception {
+        //Then
+        Assert.assertEquals(initRowCount, doubleMatrix.getRowCount());
+        Assert.assertEquals(initColCount, doubleMatrix.getColCount());
+    }
+
+    @Test
+    public void testGetSuccess() throws Exception {
+        //When
+        double element = doubleMatrix.get(1, 0);
+
+        //Then
+        Assert.assertEquals(initialValues[2], element, 0.0);
+    }
+
+    @Test
+    public void testGetFails() throws Exception {
+        //Given
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Invalid row or column index");
+
+        //When
+        doubleMatrix.get(doubleMatrix.getRowCount() + 1, 0); //Wrong row index
+    }
+
+    @Test
+    public void testSetSuccess() throws Exception {
+        //Given
+        double initValue = doubleMatrix.get(0, 1);
+
+        //When
+        double previous = doubleMatrix.set(0, 1, initValue + 1);
+
+        //Then
+        Assert.assertEquals(initValue, previous, 0.0);
+        Assert.assertEquals(initValue + 1, doubleMatrix.get(0, 1), 0.0);
+    }
+
+    @Test
+    public void testGetAndSetRow() throws Exception {
+        //Given
+        DoubleVector newRow = doubleMatrix.getRow(0).multiply(doubleMatrix.getRow(0));
+
+        //When
+        doubleMatrix.setRow(1, newRow);
+
+        //Then
+        Assert.assertEquals(1.0, doubleMatrix.get(1, 0), 0.0);
+        Assert.assertEquals(4.0, doubleMatrix.get(1, 1), 0.0);
+    }
+
+    @Test
+    public void testGetAndSetCol() throws Exception {
+        //Given
+        DoubleVector col = doubleMatrix.getCol(1);
+
+        //When
+        doubleMatrix.setCol(0, col);
+
+        //Then
+        Assert.assertEquals(2.0, doubleMatrix.get(0, 0), 0.0);
+        Assert.assertEquals(4.0, doubleMatrix.get(1, 0), 0.0);
+    }
+
+    @Test
+    public void testSetColFailsInvalidVectorLength() throws Exception {
+        //Given
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Invalid vector length");
+
+        //When
+        doubleMatrix.setCol(0, new DoubleVector(doubleMatrix.getRowCount() - 1)); //Vector of invalid size
+    }
+
+    @Test
+    public void testAddSuccess() throws Exception {
+        //When
+        DoubleMatrix result = doubleMatrix.add(doubleMatrix);
+
+        //Then
+        assertMatrixEquals(doubleMatrix.multiply(2.0), result);
+    }
+
+    @Test
+    public void testAddFailsInvalidMatrix() throws Exception {
+        //Given
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Illegal size of matrix to add");
+
+        //When
+        doubleMatrix.add(new DoubleMatrix(1, 1)); //Add matrix of another size
+    }
+
+    @Test
+    public void testMultiplyMatrices() throws Exception {
+        //Given
+        DoubleMatrix first = new DoubleMatrix(4, 4, new double[] {
+                2.0, 3.0, 4.0, 5.0,
+                3.0, 4.0, 5.0, 5.0,
+                2.0, 7.0, 8.0, 9.0,
+                3.0, 1.0, 7.0, 9.0
+        });
+        DoubleMatrix second = new DoubleMatrix(4, 4, new double[] {
+                6.0, 3.0, 5.0, 7.0,
+                8.0, 1.0, 2.0, 9.0,
+                4.0, 9.0, 1.0, 2.0,
+                3.0, 4.0, 5.0, 2.0
+        });
+        DoubleMatrix expected = new DoubleMatrix(4, 4, new double[] {
+                67.0,  65.0,  45.0,  59.0,
+                85.0,  78.0,  53.0,  77.0,
+                127.0, 121.0,  77.0, 111.0,
+                81.0, 109.0,  69.0,  62.0
+        });
+
+        //When
+        DoubleMatrix actual = first.multiply(second);
+
+        //Then
+        assertMatrixEquals(expected, actual);
+    }
+
+    @Test
+    public void testParallelOperationsMatchSequential() throws Exception {
+        //Given
+        Random random = new Random(1);
+        double[] values = new double[150 * 130];
+        for (int i = 0; i < values.length; i++){
+            values[i] = random.nextDouble();
+        }
+        DoubleMatrix first = new DoubleMatrix(150, 130, values);
+        DoubleMatrix second = new DoubleMatrix(130, 150, values);
+        DoubleMatrix expectedProduct = first.multiply(second);
+        DoubleMatrix expectedSum = first.add(first).multiply(3.0);
+        first.setExecutionPolicy(new ExecutionPolicy(new ForkJoinPool(4), 1000));
+
+        //When
+        DoubleMatrix product = first.multiply(second);
+        DoubleMatrix sum = first.add(first).multiply(3.0);
+
+        //Then
+        assertMatrixEquals(expectedProduct, product);
+        assertMatrixEquals(expectedSum, sum);
+        Assert.assertSame(first.getExecutionPolicy(), sum.getExecutionPolicy());
+    }
+
+    @Test
+    public void testMultiplyMatricesFails() throws Exception {
+        //Given
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Matrices are not consistent");
+
+        //When
+        new DoubleMatrix(4, 5).multiply(new DoubleMatrix(6, 4)); //Trying to multiply non consistent matrices
+    }
+
+    @Test
+    public void testSerialization() throws Exception {
+        //Given
+        File file = File.createTempFile("double-matrix", ".ser");
+        file.deleteOnExit();
+        DoubleMatrix restored = new DoubleMatrix();
+
+        //When
+        doubleMatrix.serialize(file.getPath());
+        restored.deserialize(file.getPath());
+
+        //Then
+        assertMatrixEquals(doubleMatrix, restored);
+    }
+
+    @Test
+    public void testReadObjectRestoresTransientFields() throws Exception {
+        //Given
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        doubleMatrix.setExecutionPolicy(new ExecutionPolicy(new ForkJoinPool(2), 1000));
+
+        //When
+        out.writeObject(doubleMatrix);
+        out.close();
+        DoubleMatrix restored = (DoubleMatrix) new ObjectInputStream(
+                new ByteArrayInputStream(bytes.toByteArray())).readObject();
+
+        //Then
+        Assert.assertEquals(ExecutionPolicy.SEQUENTIAL, restored.getExecutionPolicy());
+        Assert.assertEquals(doubleMatrix.get(1, 0), restored.get(1, 0), 0.0);
+        assertMatrixEquals(doubleMatrix.add(doubleMatrix), restored.add(restored));
+        assertMatrixEquals(doubleMatrix.multiply(doubleMatrix), restored.multiply(restored));
+    }
+
+    @Test
+    public void testWriteAndReadFile() throws Exception {
+        //Given
+        File file = File.createTempFile("double-matrix", ".txt");
+        file.deleteOnExit();
+        DoubleMatrix restored = new DoubleMatrix();
+
+        //When
+        doubleMatrix.writeToFile(file.getPath());
+        restored.readFromFile(file.getPath());
+
+        //Then
+        assertMatrixEquals(doubleMatrix, restored);
+    }
+
+    @Test
+    public void testWriteAndReadBinaryFile() throws Exception {
+        //Given
+        File file = File.createTempFile("double-matrix", ".bin");
+        file.deleteOnExit();
+        DoubleMatrix restored = new DoubleMatrix();
+
+        //When
+        doubleMatrix.writeToBinaryFile(file.getPath());
+        restored.readFromBinaryFile(file.getPath());
+
+        //Then
+        assertMatrixEquals(doubleMatrix, restored);
+    }
+
+    @Test
+    public void testReadBinaryFileImportsTextFile() throws Exception {
+        //Given
+        File file = File.createTempFile("double-matrix", ".txt");
+        file.deleteOnExit();
+        DoubleMatrix restored = new DoubleMatrix();
+
+        //When
+        doubleMatrix.writeToFile(file.getPath());
+        restored.readFromBinaryFile(file.getPath());
+
+        //Then
+        assertMatrixEquals(doubleMatrix, restored);
+    }
+
+    @Test
+    public void testInPlaceOperations() throws Exception {
+        //Given
+        DoubleMatrix expected = doubleMatrix.add(doubleMatrix).multiply(3.0);
+
+        //When
+        DoubleMatrix actual = doubleMatrix.addInPlace(new DoubleMatrix(initRowCount, initColCount, initialValues))
+                .scaleInPlace(3.0);
+
+        //Then
+        Assert.assertSame(doubleMatrix, actual);
+        assertMatrixEquals(expected, actual);
+    }
+
+    @Test
+    public void testMultiplyIntoReusesDestination() throws Exception {
+        //Given
+        Random random = new Random(2);
+        double[] values = new double[13 * 7];
+        for (int i = 0; i < values.length; i++){
+            values[i] = random.nextDouble();
+        }
+        DoubleMatrix first = new DoubleMatrix(13, 7, values);
+        DoubleMatrix second = new DoubleMatrix(7, 13, values);
+        DoubleMatrix dest = new DoubleMatrix(13, 13);
+        DoubleMatrix expected = first.multiply(second);
+
+        //When
+        DoubleMatrix.multiplyInto(second, first, new DoubleMatrix(7, 7)); //Other sizes do not break workspace
+        DoubleMatrix.multiplyInto(first, second, dest);
+        DoubleMatrix.multiplyInto(first, second, dest);
+        DoubleMatrix.multiplyAccumulate(first, second, dest);
+
+        //Then
+        assertMatrixEquals(expected.multiply(2.0), dest);
+    }
+
+    @Test
+    public void testMultiplyIntoOverwritesNaNAndInfinity() throws Exception {
+        //Given
+        double[] garbage = new double[]{Double.NaN, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY, Double.NaN};
+        DoubleMatrix dest = new DoubleMatrix(2, 2, garbage);
+        DoubleMatrix transposedDest = new DoubleMatrix(2, 2, garbage).transpose();
+        DoubleMatrix expected = doubleMatrix.multiply(doubleMatrix);
+
+        //When
+        DoubleMatrix.multiplyInto(doubleMatrix, doubleMatrix, dest);
+        DoubleMatrix.multiplyInto(doubleMatrix, doubleMatrix, transposedDest);
+
+        //Then
+        assertMatrixEquals(expected, dest);
+        assertMatrixEquals(expected, transposedDest);
+    }
+
+    @Test
+    public void testMultiplyIntoViewOfOperand() throws Exception {
+        //Given
+        Random random = new Random(8);
+        double[] values = new double[6 * 6];
+        for (int i = 0; i < values.length; i++){
+            values[i] = random.nextDouble();
+        }
+        DoubleMatrix a = new DoubleMatrix(6, 6, values);
+        DoubleMatrix b = new DoubleMatrix(6, 4, Arrays.copyOf(values, 24));
+        DoubleMatrix accumulated = new DoubleMatrix(6, 6, values.clone());
+        DoubleMatrix expected = a.copy().multiply(b);
+        DoubleMatrix expectedSum = accumulated.subMatrix(0, 2, 6, 4).copy().add(expected);
+
+        //When
+        DoubleMatrix.multiplyInto(a, b, a.subMatrix(0, 0, 6, 4));
+        DoubleMatrix.multiplyAccumulate(accumulated, b, accumulated.subMatrix(0, 2, 6, 4));
+
+        //Then
+        assertMatrixEquals(expected, a.subMatrix(0, 0, 6, 4));
+        assertMatrixEquals(expectedSum, accumulated.subMatrix(0, 2, 6, 4));
+    }
+
+    @Test
+    public void testAddInPlaceOverlappingView() throws Exception {
+        //Given
+        DoubleMatrix matrix = new DoubleMatrix(3, 3, new double[]{1, 2, 3, 4, 5, 6, 7, 8, 9});
+        DoubleMatrix expected = matrix.transposeMaterialized().add(matrix);
+        DoubleMatrix shifted = new DoubleMatrix(3, 3, new double[]{1, 2, 3, 4, 5, 6, 7, 8, 9});
+        DoubleMatrix expectedShifted = shifted.subMatrix(1, 1, 2, 2).copy().add(shifted.subMatrix(0, 0, 2, 2));
+
+        //When
+        matrix.transpose().addInPlace(matrix);
+        shifted.subMatrix(1, 1, 2, 2).addInPlace(shifted.subMatrix(0, 0, 2, 2));
+
+        //Then
+        assertMatrixEquals(expected, matrix.transpose());
+        assertMatrixEquals(expectedShifted, shifted.subMatrix(1, 1, 2, 2));
+    }
+
+    @Test
+    public void testMultiplyIntoFailsInvalidDestination() throws Exception {
+        //Given
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Illegal size of destination matrix");
+
+        //When
+        DoubleMatrix.multiplyInto(doubleMatrix, doubleMatrix, new DoubleMatrix(2, 3));
+    }
+
+    @Test
+    public void testRowAndColViewsWriteThrough() throws Exception {
+        //Given
+        DoubleVector row = doubleMatrix.getRow(1);
+        DoubleVector col = doubleMatrix.getCol(1);
+
+        //When
+        row.set(0, 10.0);
+        doubleMatrix.set(0, 1, 20.0);
+        DoubleVector copy = col.copy();
+        col.set(1, 0.0);
+
+        //Then
+        Assert.assertEquals(10.0, doubleMatrix.get(1, 0), 0.0);
+        Assert.assertEquals(0.0, doubleMatrix.get(1, 1), 0.0);
+        Assert.assertEquals(24.0, copy.sumElements(), 0.0);
+        Assert.assertEquals(20.0 * 20.0, col.dot(copy), 0.0);
+    }
+
+    @Test
+    public void testSubMatrixView() throws Exception {
+        //Given
+        Random random = new Random(3);
+        double[] values = new double[20 * 30];
+        for (int i = 0; i < values.length; i++){
+            values[i] = random.nextDouble();
+        }
+        DoubleMatrix matrix = new DoubleMatrix(20, 30, values);
+        DoubleMatrix first = matrix.subMatrix(2, 3, 9, 11);
+        DoubleMatrix second = matrix.subMatrix(5, 17, 11, 7);
+        DoubleMatrix expected = first.copy().multiply(second.copy());
+
+        //When
+        DoubleMatrix product = first.multiply(second);
+        DoubleMatrix.multiplyInto(first, second, matrix.subMatrix(11, 0, 9, 7));
+        first.scaleInPlace(0.0);
+
+        //Then
+        assertMatrixEquals(expected, product);
+        assertMatrixEquals(expected, matrix.subMatrix(11, 0, 9, 7));
+        Assert.assertEquals(0.0, matrix.get(2, 3), 0.0);
+        Assert.assertEquals(values[2 * 30 + 2], matrix.get(2, 2), 0.0);
+        Assert.assertEquals(values[19 * 30 + 7], matrix.get(19, 7), 0.0);
+    }
+
+    @Test
+    public void testSubMatrixFailsOutOfBounds() throws Exception {
+        //Given
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Invalid row or column index");
+
+        //When
+        doubleMatrix.subMatrix(1, 1, 2, 1);
+    }
+
+    @Test
+    public void testTransposeViewAndProducts() throws Exception {
+        //Given
+        Random random = new Random(4);
+        double[] values = new double[23 * 31];
+        for (int i = 0; i < values.length; i++){
+            values[i] = random.nextDouble();
+        }
+        DoubleMatrix a = new DoubleMatrix(23, 31, values);
+        DoubleMatrix b = new DoubleMatrix(23, 31, values).multiply(2.0);
+        DoubleMatrix aTransposed = a.transposeMaterialized();
+        DoubleMatrix bTransposed = b.transposeMaterialized();
+
+        //When
+        DoubleMatrix view = a.transpose();
+        DoubleMatrix aTimesBt = a.multiply(b.transpose());
+        DoubleMatrix atTimesB = a.transpose().multiply(b);
+
+        //Then
+        Assert.assertEquals(31, view.getRowCount());
+        Assert.assertEquals(values[5 * 31 + 7], view.get(7, 5), 0.0);
+        assertMatrixEquals(aTransposed, view);
+        assertMatrixEquals(a, view.transpose());
+        assertMatrixEquals(a.multiply(bTransposed), aTimesBt);
+        assertMatrixEquals(aTransposed.multiply(b), atTimesB);
+    }
+
+    @Test
+    public void testMultiplyChain() throws Exception {
+        //Given
+        Random random = new Random(5);
+        int[] dims = {40, 3, 35, 4, 30};
+        DoubleMatrix[] chain = new DoubleMatrix[dims.length - 1];
+        for (int m = 0; m < chain.length; m++){
+            double[] values = new double[dims[m] * dims[m + 1]];
+            for (int i = 0; i < values.length; i++){
+                values[i] = random.nextDouble();
+            }
+            chain[m] = new DoubleMatrix(dims[m], dims[m + 1], values);
+        }
+
+        //When
+        DoubleMatrix actual = DoubleMatrix.multiplyChain(chain);
+
+        //Then
+        assertMatrixEquals(chain[0].multiply(chain[1]).multiply(chain[2]).multiply(chain[3]), actual);
+        Assert.assertEquals("(M0 ((M1 M2) M3))", DoubleMatrix.planChain(chain).toString());
+    }
+
+    @Test
+    public void testMultiplyVector() throws Exception {
+        //Given
+        DoubleVector vector = new DoubleVector(new double[]{1.0, -1.0});
+
+        //When
+        DoubleVector column = doubleMatrix.multiply(vector);
+        DoubleVector row = vector.multiply(doubleMatrix);
+        DoubleVector ofView = doubleMatrix.transpose().multiply(doubleMatrix.getCol(0));
+
+        //Then
+        Assert.assertEquals(-1.0, column.get(0), 0.0);
+        Assert.assertEquals(-1.0, column.get(1), 0.0);
+        Assert.assertEquals(-2.0, row.get(0), 0.0);
+        Assert.assertEquals(-2.0, row.get(1), 0.0);
+        Assert.assertEquals(10.0, ofView.get(0), 0.0);
+        Assert.assertEquals(14.0, ofView.get(1), 0.0);
+    }
+
+    @Test
+    public void testMultiplyVectorFailsInvalidLength() throws Exception {
+        //Given
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Invalid vector length");
+
+        //When
+        doubleMatrix.multiply(new DoubleVector(3));
+    }
+
+    @Test
+    public void testMultiplyBatch() throws Exception {
+        //Given
+        Random random = new Random(9);
+        double[] values = new double[12 * 9];
+        for (int i = 0; i < values.length; i++){
+            values[i] = random.nextDouble();
+        }
+        DoubleMatrix shared = new DoubleMatrix(9, 12, values);
+        List<DoubleMatrix> batch = new ArrayList<DoubleMatrix>();
+        batch.add(new DoubleMatrix(5, 9, Arrays.copyOf(values, 45)));
+        batch.add(new DoubleMatrix(12, 9, values).transpose().subMatrix(0, 0, 3, 9));
+        batch.add(new DoubleMatrix(0, 9));
+
+        //When
+        List<DoubleMatrix> products = shared.multiplyBatch(batch);
+
+        //Then
+        Assert.assertEquals(3, products.size());
+        for (int m = 0; m < batch.size(); m++){
+            assertMatrixEquals(batch.get(m).multiply(shared), products.get(m));
+        }
+    }
+
+    @Test
+    public void testMultiplyStrassen() throws Exception {
+        //Given
+        Random random = new Random(10);
+        double[] values = new double[37 * 41];
+        for (int i = 0; i < values.length; i++){
+            values[i] = random.nextDouble();
+        }
+        DoubleMatrix first = new DoubleMatrix(37, 41, values);
+        DoubleMatrix second = new DoubleMatrix(37, 41, values).transpose().subMatrix(1, 0, 40, 30);
+
+        //When
+        DoubleMatrix actual = first.subMatrix(0, 1, 37, 40).multiplyStrassen(second, 8);
+
+        //Then
+        assertMatrixEquals(first.subMatrix(0, 1, 37, 40).multiply(second), actual);
+    }
+
+    @Test
+    public void testSolveDeterminantAndInverseOfView() throws Exception {
+        //Given
+        DoubleMatrix matrix = new DoubleMatrix(3, 4, new double[]{9, 4, 7, 0, 9, 2, 6, 0, 9, 0, 0, 5})
+                .subMatrix(0, 0, 3, 3).transpose();
+
+        //When
+        DoubleVector solution = matrix.solve(new DoubleVector(new double[]{27, 6, 13}));
+        DoubleMatrix inverse = matrix.inverse();
+
+        //Then
+        Assert.assertEquals(90.0, matrix.determinant(), 1e-12);
+        Assert.assertEquals(1.0, solution.get(0), 1e-12);
+        Assert.assertEquals(1.0, solution.get(1), 1e-12);
+        Assert.assertEquals(1.0, solution.get(2), 1e-12);
+        assertMatrixEquals(matrix.solve(new DoubleMatrix(3, 3, new double[]{1, 0, 0, 0, 1, 0, 0, 0, 1})), inverse);
+    }
+}
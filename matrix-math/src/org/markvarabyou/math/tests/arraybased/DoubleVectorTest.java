@@ -0,0 +1,122 @@
+package org.markvarabyou.math.tests.arraybased;
+
+import junit.framework.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.markvarabyou.math.arraybased.DoubleMatrix;
+import org.markvarabyou.math.arraybased.DoubleVector;
+
+/**
+ * Test class for DoubleVector.
+ * Author: Mark Vorobyov
+ * Date: 10/18/26
+ * Time: 11:05 AM
+ */
+public class DoubleVectorTest {
+    private DoubleVector doubleVector;
+
+    //Init data
+    private double[] initialValues = new double[] {1.0, 2.0, 3.0, 4.0};
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Before
+    public void setUp() throws Exception {
+        doubleVector = new DoubleVector(initialValues);
+    }
+
+    @Test
+    public void testGet() throws Exception {
+        //Given
+        int index = 0;
+
+        //When
+        double value = doubleVector.get(index);
+
+        //Then
+        Assert.assertEquals(initialValues[index], value, 0.0);
+    }
+
+    @Test
+    public void testSet() throws Exception {
+        //Given
+        int index = 0;
+        double value = 12;
+
+        //When
+        doubleVector.set(index, value);
+
+        //Then
+        Assert.assertEquals(value, doubleVector.get(index), 0.0);
+        Assert.assertEquals(1.0, initialValues[index], 0.0); //Source array is not shared
+    }
+
+    @Test
+    public void testGetLength() throws Exception {
+        //When
+        int actual = doubleVector.getLength();
+
+        //Then
+        Assert.assertEquals(initialValues.length, actual);
+    }
+
+    @Test
+    public void testSumElements() throws Exception {
+        //Given
+        double expected = 0;
+        for (double initialValue : initialValues) {
+            expected += initialValue;
+        }
+
+        //When
+        double actual = doubleVector.sumElements();
+
+        //Then
+        Assert.assertEquals(expected, actual, 0.0);
+    }
+
+    @Test
+    public void testMultiply() throws Exception {
+        //Given
+        DoubleVector first = new DoubleVector(new double[] {2.0, 4.0, 5.0, 3.0});
+        DoubleVector second = new DoubleVector(new double[] {5.0, 2.0, 1.0, 7.0});
+        double[] expected = new double[] {10.0, 8.0, 5.0, 21.0};
+
+        //When
+        DoubleVector actual = first.multiply(second);
+
+        //Then
+        for (int i = 0; i < expected.length; i++){
+            Assert.assertEquals(expected[i], actual.get(i), 0.0);
+        }
+    }
+
+    @Test
+    public void testMultiplyFailsShorterView() throws Exception {
+        //Given
+        DoubleVector row = new DoubleMatrix(2, 3, new double[] {1.0, 2.0, 3.0, 4.0, 5.0, 6.0}).getRow(0);
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Invalid vector length");
+
+        //When
+        doubleVector.multiply(row); //Row view has 3 elements, next elements of storage belong to other row
+    }
+
+    @Test
+    public void testDot() throws Exception {
+        //Given
+        double expected = 0;
+        for (double initialValue : initialValues) {
+            expected += initialValue * initialValue;
+        }
+
+        //When
+        double actual = doubleVector.dot(doubleVector);
+
+        //Then
+        Assert.assertEquals(expected, actual, 1e-12);
+    }
+}
@@ -0,0 +1,131 @@
+package org.markvarabyou.math.tests.arraybased;
+
+import junit.framework.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.markvarabyou.math.arraybased.DoubleMatrix;
+import org.markvarabyou.math.arraybased.FloatMatrix;
+import org.markvarabyou.math.arraybased.FloatVector;
+import org.markvarabyou.math.common.Accumulation;
+import org.markvarabyou.math.common.ExecutionPolicy;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Test class for FloatMatrix.
+ * Author: Mark Vorobyov
+ * Date: 10/21/26
+ * Time: 9:50 PM
+ */
+public class FloatMatrixTest {
+    private Random random = new Random(22);
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private DoubleMatrix randomMatrix(int rowCount, int colCount){
+        double[] values = new double[rowCount * colCount];
+        for (int i = 0; i < values.length; i++){
+            values[i] = (float) (random.nextDouble() - 0.5);
+        }
+        return new DoubleMatrix(rowCount, colCount, values);
+    }
+
+    @Test
+    public void testGetSetAndConversion() throws Exception {
+        //Given
+        FloatMatrix matrix = new FloatMatrix(2, 3, new float[]{1, 2, 3, 4, 5, 6});
+
+        //When
+        float previous = matrix.set(1, 2, 7.5f);
+        DoubleMatrix converted = matrix.toDoubleMatrix();
+
+        //Then
+        Assert.assertEquals(6f, previous);
+        Assert.assertEquals(7.5f, matrix.get(1, 2));
+        Assert.assertEquals(7.5, converted.get(1, 2));
+        Assert.assertEquals(2.0, new FloatMatrix(converted).get(0, 1), 0.0);
+        Assert.assertEquals(Accumulation.DOUBLE, matrix.getAccumulation());
+    }
+
+    @Test
+    public void testAddAndMultiplyByValue() throws Exception {
+        //Given
+        FloatMatrix matrix = new FloatMatrix(2, 2, new float[]{1, 2, 3, 4});
+        matrix.setAccumulation(Accumulation.KAHAN);
+
+        //When
+        FloatMatrix result = matrix.add(matrix).multiply(0.5f);
+
+        //Then
+        Assert.assertEquals(3f, result.get(1, 0));
+        Assert.assertEquals(10f, result.sumElements());
+        Assert.assertEquals(Accumulation.KAHAN, result.getAccumulation());
+    }
+
+    @Test
+    public void testMultiplyMatchesDoubleMatrix() throws Exception {
+        ExecutionPolicy[] policies = {ExecutionPolicy.SEQUENTIAL, new ExecutionPolicy(new ForkJoinPool(2), 100)};
+        for (ExecutionPolicy policy : policies){
+            for (Accumulation accumulation : Accumulation.values()){
+                //Given
+                DoubleMatrix a = randomMatrix(70, 300);
+                DoubleMatrix b = randomMatrix(300, 45);
+                FloatMatrix floatA = new FloatMatrix(a);
+                floatA.setExecutionPolicy(policy);
+                floatA.setAccumulation(accumulation);
+                FloatVector vector = new FloatVector(300);
+                for (int i = 0; i < 300; i++){
+                    vector.set(i, (float) b.get(i, 3));
+                }
+
+                //When
+                FloatMatrix product = floatA.multiply(new FloatMatrix(b));
+                FloatVector column = floatA.multiply(vector);
+
+                //Then
+                DoubleMatrix expected = a.multiply(b);
+                for (int i = 0; i < 70; i++){
+                    for (int j = 0; j < 45; j++){
+                        Assert.assertEquals(expected.get(i, j), product.get(i, j), 1e-4);
+                    }
+                    Assert.assertEquals(expected.get(i, 3), column.get(i), 1e-4);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testVectorDotKeepsPrecision() throws Exception {
+        //Given
+        float[] values = new float[1 << 20];
+        java.util.Arrays.fill(values, 0.1f);
+        FloatVector vector = new FloatVector(values);
+        FloatVector ones = new FloatVector(values.length);
+        for (int i = 0; i < values.length; i++){
+            ones.set(i, 1);
+        }
+        float expected = (float) (0.1f * (double) values.length);
+
+        //When
+        float dot = vector.dot(ones);
+        vector.setAccumulation(Accumulation.FLOAT);
+        float plain = vector.dot(ones);
+
+        //Then
+        Assert.assertEquals(expected, dot);
+        Assert.assertTrue(Math.abs(plain - expected) > 1);
+    }
+
+    @Test
+    public void testMultiplyNotConsistentMatrices() throws Exception {
+        //Then
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Matrices are not consistent");
+
+        //When
+        new FloatMatrix(2, 3).multiply(new FloatMatrix(2, 3));
+    }
+}
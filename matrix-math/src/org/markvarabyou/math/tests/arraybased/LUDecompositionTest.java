@@ -0,0 +1,134 @@
+package org.markvarabyou.math.tests.arraybased;
+
+import junit.framework.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.markvarabyou.math.arraybased.DoubleMatrix;
+import org.markvarabyou.math.arraybased.DoubleVector;
+import org.markvarabyou.math.arraybased.LUDecomposition;
+import org.markvarabyou.math.common.ExecutionPolicy;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Test class for LUDecomposition.
+ * Author: Mark Vorobyov
+ * Date: 10/21/26
+ * Time: 12:30 PM
+ */
+public class LUDecompositionTest {
+    private Random random = new Random(19);
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private DoubleMatrix randomMatrix(int rowCount, int colCount){
+        double[] values = new double[rowCount * colCount];
+        for (int i = 0; i < values.length; i++){
+            values[i] = random.nextDouble() - 0.5;
+        }
+        return new DoubleMatrix(rowCount, colCount, values);
+    }
+
+    private static void assertMatrixEquals(DoubleMatrix expected, DoubleMatrix actual, double delta){
+        Assert.assertEquals(expected.getRowCount(), actual.getRowCount());
+        Assert.assertEquals(expected.getColCount(), actual.getColCount());
+        for (int i = 0; i < actual.getRowCount(); i++){
+            for (int j = 0; j < actual.getColCount(); j++){
+                Assert.assertEquals(expected.get(i, j), actual.get(i, j), delta);
+            }
+        }
+    }
+
+    @Test
+    public void testFactorsReproducePermutedMatrix() throws Exception {
+        int[] sizes = {1, 5, 64, 150};
+        ExecutionPolicy[] policies = {ExecutionPolicy.SEQUENTIAL, new ExecutionPolicy(new ForkJoinPool(3), 100)};
+        for (int n : sizes){
+            for (ExecutionPolicy policy : policies){
+                //Given
+                DoubleMatrix matrix = randomMatrix(n, n);
+                matrix.setExecutionPolicy(policy);
+
+                //When
+                LUDecomposition lu = matrix.lu();
+
+                //Then
+                DoubleMatrix product = lu.getLower().multiply(lu.getUpper());
+                int[] pivot = lu.getPivot();
+                for (int i = 0; i < n; i++){
+                    Assert.assertTrue(lu.getLower().get(i, i) == 1.0);
+                    for (int j = 0; j < n; j++){
+                        Assert.assertEquals(matrix.get(pivot[i], j), product.get(i, j), 1e-10);
+                        if (j < i)
+                            Assert.assertTrue(Math.abs(lu.getLower().get(i, j)) <= 1.0);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testSolveManyRightHandSides() throws Exception {
+        //Given
+        DoubleMatrix matrix = randomMatrix(130, 130);
+        matrix.setExecutionPolicy(new ExecutionPolicy(new ForkJoinPool(2), 100));
+        DoubleMatrix expected = randomMatrix(130, 300);
+        DoubleVector vector = expected.getCol(7);
+        LUDecomposition lu = matrix.lu();
+
+        //When
+        DoubleMatrix solution = lu.solve(matrix.multiply(expected));
+        DoubleVector vectorSolution = lu.solve(matrix.multiply(vector));
+
+        //Then
+        assertMatrixEquals(expected, solution, 1e-8);
+        for (int i = 0; i < 130; i++){
+            Assert.assertEquals(vector.get(i), vectorSolution.get(i), 1e-8);
+        }
+    }
+
+    @Test
+    public void testDeterminantAndInverse() throws Exception {
+        //Given
+        DoubleMatrix matrix = new DoubleMatrix(3, 3, new double[]{0, 2, 1, 1, 1, 0, 3, 0, 1});
+        DoubleMatrix identity = new DoubleMatrix(3, 3, new double[]{1, 0, 0, 0, 1, 0, 0, 0, 1});
+
+        //When
+        LUDecomposition lu = matrix.lu();
+        DoubleMatrix inverse = lu.inverse();
+
+        //Then
+        Assert.assertEquals(-5.0, lu.determinant(), 1e-12);
+        Assert.assertFalse(lu.isSingular());
+        assertMatrixEquals(identity, matrix.multiply(inverse), 1e-12);
+        assertMatrixEquals(identity, inverse.multiply(matrix), 1e-12);
+    }
+
+    @Test
+    public void testSingularMatrix() throws Exception {
+        //Given
+        LUDecomposition lu = new DoubleMatrix(2, 2, new double[]{1, 2, 2, 4}).lu();
+
+        //Then
+        Assert.assertTrue(lu.isSingular());
+        Assert.assertEquals(0.0, lu.determinant(), 0.0);
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Matrix is singular");
+
+        //When
+        lu.inverse();
+    }
+
+    @Test
+    public void testNotSquareMatrix() throws Exception {
+        //Then
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Matrix is not square");
+
+        //When
+        new DoubleMatrix(2, 3).lu();
+    }
+}
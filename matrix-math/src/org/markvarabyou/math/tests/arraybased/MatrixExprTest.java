@@ -0,0 +1,148 @@
+package org.markvarabyou.math.tests.arraybased;
+
+import junit.framework.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.markvarabyou.math.arraybased.DoubleMatrix;
+import org.markvarabyou.math.arraybased.MatrixExpr;
+
+import java.util.Random;
+
+/**
+ * Test class for MatrixExpr
+ * Author: Mark Vorobyov
+ * Date: 10/20/26
+ * Time: 6:50 PM
+ */
+public class MatrixExprTest {
+    private Random random = new Random(6);
+
+    private DoubleMatrix randomMatrix(int rowCount, int colCount){
+        double[] values = new double[rowCount * colCount];
+        for (int i = 0; i < values.length; i++){
+            values[i] = random.nextDouble();
+        }
+        return new DoubleMatrix(rowCount, colCount, values);
+    }
+
+    private static void assertMatrixEquals(DoubleMatrix expected, DoubleMatrix actual){
+        Assert.assertEquals(expected.getRowCount(), actual.getRowCount());
+        Assert.assertEquals(expected.getColCount(), actual.getColCount());
+        for (int i = 0; i < actual.getRowCount(); i++){
+            for (int j = 0; j < actual.getColCount(); j++){
+                Assert.assertEquals(expected.get(i, j), actual.get(i, j), 1e-9);
+            }
+        }
+    }
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void testElementWiseChain() throws Exception {
+        //Given
+        DoubleMatrix a = randomMatrix(7, 1500);
+        DoubleMatrix b = randomMatrix(7, 1500);
+        DoubleMatrix c = randomMatrix(7, 1500);
+
+        //When
+        DoubleMatrix actual = a.lazy().add(b).multiply(2.0).add(c).add(a).evaluate();
+
+        //Then
+        assertMatrixEquals(a.add(b).multiply(2.0).add(c).add(a), actual);
+    }
+
+    @Test
+    public void testScalarFactorsOfProducts() throws Exception {
+        //Given
+        DoubleMatrix a = randomMatrix(9, 5);
+        DoubleMatrix b = randomMatrix(5, 6);
+        DoubleMatrix c = randomMatrix(9, 6);
+        DoubleMatrix d = randomMatrix(6, 6);
+
+        //When
+        DoubleMatrix actual = a.lazy().multiply(2.0).multiply(b.lazy().multiply(3.0))
+                .add(c.lazy().multiply(-1.0))
+                .multiply(d.lazy().add(d))
+                .add(a.lazy().multiply(b))
+                .evaluate();
+
+        //Then
+        DoubleMatrix expected = a.multiply(b).multiply(6.0).add(c.multiply(-1.0)).multiply(d.multiply(2.0))
+                .add(a.multiply(b));
+        assertMatrixEquals(expected, actual);
+    }
+
+    @Test
+    public void testIntoOperandAndView() throws Exception {
+        //Given
+        DoubleMatrix a = randomMatrix(6, 6);
+        DoubleMatrix b = randomMatrix(6, 6);
+        DoubleMatrix expectedA = b.add(a.multiply(3.0));
+        DoubleMatrix expectedProduct = expectedA.multiply(2.0).multiply(b).add(b);
+        DoubleMatrix expectedB = b.add(b.transposeMaterialized());
+        DoubleMatrix product = new DoubleMatrix(8, 8);
+
+        //When
+        MatrixExpr.of(b).add(a.lazy().multiply(3.0)).into(a);
+        a.lazy().multiply(2.0).multiply(b).add(b).into(product.subMatrix(1, 2, 6, 6));
+        a.lazy().multiply(2.0).multiply(b).add(b).into(a);
+        b.lazy().add(b.transpose()).into(b);
+
+        //Then
+        assertMatrixEquals(expectedProduct, a);
+        assertMatrixEquals(expectedProduct, product.subMatrix(1, 2, 6, 6));
+        Assert.assertEquals(0.0, product.get(0, 0), 0.0);
+        Assert.assertEquals(0.0, product.get(7, 7), 0.0);
+        assertMatrixEquals(expectedB, b);
+    }
+
+    @Test
+    public void testIntoOverwritesNaNDestination() throws Exception {
+        //Given
+        DoubleMatrix a = randomMatrix(5, 4);
+        DoubleMatrix b = randomMatrix(4, 5);
+        DoubleMatrix c = randomMatrix(5, 5);
+        DoubleMatrix expected = a.multiply(b).multiply(2.0).add(c).add(c.multiply(b.transposeMaterialized().multiply(
+                a.transposeMaterialized())));
+        DoubleMatrix dest = new DoubleMatrix(5, 5);
+        DoubleMatrix transposedDest = new DoubleMatrix(5, 5).transpose();
+        for (int i = 0; i < 5; i++){
+            for (int j = 0; j < 5; j++){
+                dest.set(i, j, (i + j) % 2 == 0 ? Double.NaN : Double.POSITIVE_INFINITY);
+                transposedDest.set(i, j, Double.NaN);
+            }
+        }
+        MatrixExpr expr = a.lazy().multiply(b).multiply(2.0).add(c).add(c.lazy().multiply(b.transpose()
+                .lazy().multiply(a.transpose())));
+
+        //When
+        expr.into(dest);
+        expr.into(transposedDest);
+
+        //Then
+        assertMatrixEquals(expected, dest);
+        assertMatrixEquals(expected, transposedDest);
+    }
+
+    @Test
+    public void testAddFailsInvalidMatrix() throws Exception {
+        //Given
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Illegal size of matrix to add");
+
+        //When
+        randomMatrix(2, 2).lazy().add(randomMatrix(2, 3));
+    }
+
+    @Test
+    public void testIntoFailsInvalidDestination() throws Exception {
+        //Given
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Illegal size of destination matrix");
+
+        //When
+        randomMatrix(2, 2).lazy().multiply(3.0).into(new DoubleMatrix(3, 2));
+    }
+}
@@ -0,0 +1,70 @@
+package org.markvarabyou.math.tests.arraylistbased;
+
+import junit.framework.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.markvarabyou.math.arraylistbased.Matrices;
+import org.markvarabyou.math.arraylistbased.Matrix;
+import org.markvarabyou.math.common.Calculators.IntCalculator;
+
+import java.util.Random;
+
+/**
+ * Test class for Matrices
+ * Author: Mark Vorobyov
+ * Date: 10/20/26
+ * Time: 8:15 PM
+ */
+public class MatricesTest {
+    private Random random = new Random(7);
+    private IntCalculator calculator = new IntCalculator();
+
+    private Matrix<Integer> randomMatrix(int rowCount, int colCount){
+        Integer[] values = new Integer[rowCount * colCount];
+        for (int i = 0; i < values.length; i++){
+            values[i] = random.nextInt(10) - 5;
+        }
+        return new Matrix<Integer>(rowCount, colCount, values, calculator);
+    }
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMultiplyChainMatchesLeftToRight() throws Exception {
+        //Given
+        Matrix<Integer> a = randomMatrix(20, 2);
+        Matrix<Integer> b = randomMatrix(2, 30);
+        Matrix<Integer> c = randomMatrix(30, 3);
+        Matrix<Integer> d = randomMatrix(3, 25);
+        Matrix<Integer> expected = a.multiply(b).multiply(c).multiply(d);
+
+        //When
+        Matrix<Integer> actual = Matrices.multiplyChain(a, b, c, d);
+
+        //Then
+        Assert.assertEquals("(M0 ((M1 M2) M3))", Matrices.planChain(a, b, c, d).toString());
+        Assert.assertTrue(Matrices.planChain(a, b, c, d).getFlops()
+                < Matrices.planChain(a, b, c, d).getLeftToRightFlops());
+        Assert.assertEquals(20, actual.getRowCount());
+        Assert.assertEquals(25, actual.getColCount());
+        for (int i = 0; i < 20; i++){
+            for (int j = 0; j < 25; j++){
+                Assert.assertEquals(expected.get(i, j), actual.get(i, j));
+            }
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testMultiplyChainFailsInconsistent() throws Exception {
+        //Given
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Matrices are not consistent");
+
+        //When
+        Matrices.multiplyChain(randomMatrix(2, 3), randomMatrix(4, 2));
+    }
+}
@@ -8,7 +8,23 @@ import org.junit.Test;
 import org.junit.rules.ExpectedException;
 import org.markvarabyou.math.arraylistbased.Matrix;
 import org.markvarabyou.math.arraylistbased.Vector;
+import org.markvarabyou.math.common.Calculator;
 import org.markvarabyou.math.common.Calculators.DoubleCalculator;
+import org.markvarabyou.math.common.Calculators.IntCalculator;
+import org.markvarabyou.math.common.Calculators.ModularCalculator;
+import org.markvarabyou.math.common.ExecutionPolicy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Test class for Matrix
@@ -29,6 +45,43 @@ public class MatrixTest {
         return new Matrix<Double>(initRowCount, initColCount, initialValues, calculator);
     }
 
+    // Calculator of boxed elements which is not serializable
+    private static class BigIntegerCalculator extends Calculator<BigInteger> {
+        @Override
+        public BigInteger getNew() {
+            return BigInteger.ZERO;
+        }
+
+        @Override
+        public BigInteger sum(BigInteger first, BigInteger second) {
+            return first.add(second);
+        }
+
+        @Override
+        public BigInteger mul(BigInteger first, BigInteger second) {
+            return first.multiply(second);
+        }
+
+        @Override
+        public BigInteger decode(String s) {
+            return new BigInteger(s);
+        }
+    }
+
+    // Calculator derived from primitive one, it has no element type code of its own
+    private static class SerializableIntCalculator extends IntCalculator implements Serializable {
+        private static final long serialVersionUID = 1L;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Matrix<T> externalize(Matrix<T> matrix) throws Exception {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        ObjectOutputStream out = new ObjectOutputStream(bytes);
+        out.writeObject(matrix);
+        out.close();
+        return (Matrix<T>) new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray())).readObject();
+    }
+
     @Rule
     public ExpectedException expectedException = ExpectedException.none();
 
@@ -339,6 +392,29 @@ public class MatrixTest {
         }
     }
 
+    @Test
+    public void testParallelMultiplyMatchesSequential() throws Exception {
+        //Given
+        Double[] values = new Double[40 * 30];
+        for (int i = 0; i < values.length; i++){
+            values[i] = (double) (i % 13);
+        }
+        Matrix<Double> first = new Matrix<Double>(40, 30, values, calculator);
+        Matrix<Double> second = new Matrix<Double>(30, 40, values, calculator);
+        Matrix<Double> expected = first.multiply(second);
+        first.setExecutionPolicy(new ExecutionPolicy(new ForkJoinPool(4), 100));
+
+        //When
+        Matrix<Double> actual = first.multiply(second);
+
+        //Then
+        for (int i = 0; i < actual.getRowCount(); i++){
+            for (int j = 0; j < actual.getColCount(); j++){
+                Assert.assertEquals(expected.get(i, j), actual.get(i, j));
+            }
+        }
+    }
+
     @Test
     public void testMultiplyMatricesFails() throws Exception {
         //Given
@@ -350,4 +426,480 @@ public class MatrixTest {
         //When
         first.multiply(second); //Trying to multiply non consistent matrices
     }
+
+    @Test
+    public void testWriteAndReadBinaryFile() throws Exception {
+        //Given
+        File file = File.createTempFile("matrix", ".bin");
+        file.deleteOnExit();
+        Matrix<Double> restored = new Matrix<Double>(0, 0, calculator);
+
+        //When
+        doubleMatrix.writeToBinaryFile(file.getPath());
+        restored.readFromBinaryFile(file.getPath());
+
+        //Then
+        Assert.assertEquals(initRowCount, restored.getRowCount());
+        Assert.assertEquals(initColCount, restored.getColCount());
+        for (int i = 0; i < initRowCount; i++){
+            for (int j = 0; j < initColCount; j++){
+                Assert.assertEquals(doubleMatrix.get(i, j), restored.get(i, j));
+            }
+        }
+    }
+
+    @Test
+    public void testWriteAndReadTextFile() throws Exception {
+        //Given
+        File file = File.createTempFile("matrix", ".txt");
+        file.deleteOnExit();
+        Matrix<Integer> intMatrix = new Matrix<Integer>(2, 3, new Integer[]{1, -2, 3, Integer.MAX_VALUE, 5,
+                Integer.MIN_VALUE}, new IntCalculator());
+        Matrix<Long> modularMatrix = new Matrix<Long>(2, 1, new Long[]{3L, 5L}, new ModularCalculator(7));
+        Matrix<Double> restored = new Matrix<Double>(0, 0, calculator);
+        Matrix<Integer> restoredInt = new Matrix<Integer>(0, 0, new IntCalculator());
+        Matrix<Long> restoredModular = new Matrix<Long>(0, 0, new ModularCalculator(7));
+        restored.setExecutionPolicy(new ExecutionPolicy(new ForkJoinPool(2), 1));
+
+        //When
+        doubleMatrix.transpose().writeToFile(file.getPath());
+        restored.readFromFile(file.getPath());
+        intMatrix.writeToFile(file.getPath());
+        restoredInt.readFromFile(file.getPath());
+        modularMatrix.writeToFile(file.getPath());
+        restoredModular.readFromFile(file.getPath());
+
+        //Then
+        for (int i = 0; i < initRowCount; i++){
+            for (int j = 0; j < initColCount; j++){
+                Assert.assertEquals(doubleMatrix.get(j, i), restored.get(i, j));
+            }
+        }
+        Assert.assertEquals(3, restoredInt.getColCount());
+        for (int i = 0; i < 2; i++){
+            for (int j = 0; j < 3; j++){
+                Assert.assertEquals(intMatrix.get(i, j), restoredInt.get(i, j));
+            }
+        }
+        Assert.assertEquals(Long.valueOf(5), restoredModular.get(1, 0));
+    }
+
+    @Test
+    public void testExternalizationRestoresCalculator() throws Exception {
+        //Given
+        Matrix<Integer> intMatrix = new Matrix<Integer>(2, 3, new Integer[]{1, -2, 3, 4, 5, 6}, new IntCalculator());
+
+        //When
+        Matrix<Double> restored = externalize(doubleMatrix);
+        Matrix<Integer> restoredInt = externalize(intMatrix);
+
+        //Then
+        Assert.assertEquals(doubleMatrix.getRowCount(), restored.getRowCount());
+        Assert.assertEquals(doubleMatrix.getColCount(), restored.getColCount());
+        Matrix<Double> doubled = restored.add(restored); //Calculator is restored
+        for (int i = 0; i < initRowCount; i++){
+            for (int j = 0; j < initColCount; j++){
+                Assert.assertEquals(doubleMatrix.get(i, j) * 2, doubled.get(i, j));
+            }
+        }
+        Assert.assertEquals(Integer.valueOf(-2), restoredInt.get(0, 1));
+        Assert.assertEquals(Integer.valueOf(12), restoredInt.multiply(2).get(1, 2));
+    }
+
+    @Test
+    public void testExternalizationOfBoxedElements() throws Exception {
+        //Given
+        File file = File.createTempFile("matrix", ".ser");
+        file.deleteOnExit();
+        BigIntegerCalculator bigCalculator = new BigIntegerCalculator();
+        BigInteger big = BigInteger.valueOf(Long.MAX_VALUE);
+        Matrix<BigInteger> bigMatrix = new Matrix<BigInteger>(1, 2, new BigInteger[]{big, BigInteger.ONE},
+                bigCalculator);
+        Matrix<BigInteger> restoredBig = new Matrix<BigInteger>(bigCalculator);
+        Matrix<Integer> derived = new Matrix<Integer>(1, 2, new Integer[]{3, 4}, new SerializableIntCalculator());
+
+        //When
+        bigMatrix.serialize(file.getPath());
+        restoredBig.deserialize(file.getPath());
+        Matrix<Integer> restoredDerived = externalize(derived);
+
+        //Then
+        Assert.assertEquals(big.add(big), restoredBig.add(restoredBig).get(0, 0)); //Current calculator is kept
+        Assert.assertEquals(BigInteger.ONE, restoredBig.get(0, 1));
+        Assert.assertEquals(Integer.valueOf(8), restoredDerived.multiply(2).get(0, 1)); //Calculator is restored
+    }
+
+    @Test
+    public void testExternalizationRestoresModulus() throws Exception {
+        //Given
+        ModularCalculator modular = new ModularCalculator(7);
+        Matrix<Long> matrix = new Matrix<Long>(2, 2, new Long[]{3L, 5L, 6L, 2L}, modular);
+        Matrix<Long> expected = matrix.multiply(matrix);
+
+        //When
+        Matrix<Long> restored = externalize(matrix);
+
+        //Then
+        Matrix<Long> actual = restored.multiply(restored);
+        for (int i = 0; i < 2; i++){
+            for (int j = 0; j < 2; j++){
+                Assert.assertEquals(expected.get(i, j), actual.get(i, j));
+            }
+        }
+        Assert.assertEquals(Long.valueOf(3), restored.add(restored).get(0, 1)); //5 + 5 = 10 = 3 (mod 7)
+        Assert.assertEquals(Long.valueOf(5), restored.add(restored).get(1, 0)); //6 + 6 = 12 = 5 (mod 7)
+    }
+
+    @Test
+    public void testSerializeAndDeserialize() throws Exception {
+        //Given
+        File file = File.createTempFile("matrix", ".ser");
+        file.deleteOnExit();
+        Matrix<Double> restored = new Matrix<Double>(calculator);
+
+        //When
+        doubleMatrix.serialize(file.getPath());
+        restored.deserialize(file.getPath());
+
+        //Then
+        Assert.assertEquals(initRowCount, restored.getRowCount());
+        Assert.assertEquals(Double.valueOf(4.0), restored.get(1, 1));
+        Assert.assertTrue(file.length() < 128); //Primitive payload without per-element records
+    }
+
+    @Test
+    public void testInPlaceOperations() throws Exception {
+        //Given
+        Matrix<Double> expected = doubleMatrix.add(doubleMatrix).multiply(3.0);
+
+        //When
+        Matrix<Double> actual = doubleMatrix.addInPlace(restoreTestMatrix()).scaleInPlace(3.0);
+
+        //Then
+        Assert.assertSame(doubleMatrix, actual);
+        for (int i = 0; i < initRowCount; i++){
+            for (int j = 0; j < initColCount; j++){
+                Assert.assertEquals(expected.get(i, j), actual.get(i, j));
+            }
+        }
+    }
+
+    @Test
+    public void testMultiplyIntoAndAccumulate() throws Exception {
+        //Given
+        Matrix<Double> product = doubleMatrix.multiply(doubleMatrix);
+        Matrix<Double> dest = new Matrix<Double>(initRowCount, initColCount, new Double[]{9.0, 9.0, 9.0, 9.0},
+                calculator);
+
+        //When
+        Matrix.multiplyInto(doubleMatrix, restoreTestMatrix(), dest);
+        Matrix.multiplyAccumulate(doubleMatrix, restoreTestMatrix(), dest);
+
+        //Then
+        for (int i = 0; i < initRowCount; i++){
+            for (int j = 0; j < initColCount; j++){
+                Assert.assertEquals(product.get(i, j) * 2, dest.get(i, j));
+            }
+        }
+    }
+
+    @Test
+    public void testMultiplyIntoViewsReusesWorkspace() throws Exception {
+        //Given
+        Random random = new Random(12);
+        Integer[] values = new Integer[6 * 7];
+        for (int i = 0; i < values.length; i++){
+            values[i] = random.nextInt(201) - 100;
+        }
+        Matrix<Integer> matrix = new Matrix<Integer>(6, 7, values, new IntCalculator());
+        Matrix<Integer> a = matrix.subMatrix(1, 2, 4, 5);
+        Matrix<Integer> b = matrix.subMatrix(0, 1, 3, 5).transpose();
+        Matrix<Integer> container = new Matrix<Integer>(6, 6, new IntCalculator());
+        Matrix<Integer> dest = container.subMatrix(1, 1, 4, 3).transpose().transpose();
+        Matrix<Integer> product = a.multiply(b);
+
+        //When
+        Matrix.multiplyInto(a, b, dest);
+        Matrix.multiplyInto(a, b, dest);
+        Matrix.multiplyAccumulate(a, b, dest);
+
+        //Then
+        for (int i = 0; i < 4; i++){
+            for (int j = 0; j < 3; j++){
+                Assert.assertEquals(Integer.valueOf(product.get(i, j) * 2), dest.get(i, j));
+            }
+        }
+        Assert.assertEquals(Integer.valueOf(0), container.get(0, 0));
+        Assert.assertEquals(Integer.valueOf(0), container.get(5, 5));
+    }
+
+    @Test
+    public void testMultiplyIntoFailsSameDestination() throws Exception {
+        //Given
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Destination matrix should differ from operands");
+
+        //When
+        Matrix.multiplyInto(doubleMatrix, restoreTestMatrix(), doubleMatrix);
+    }
+
+    @Test
+    public void testRowAndColViewsWriteThrough() throws Exception {
+        //Given
+        Vector<Double> row = doubleMatrix.getRow(1);
+        Vector<Double> col = doubleMatrix.getCol(1);
+
+        //When
+        row.set(0, 10.0);
+        doubleMatrix.set(0, 1, 20.0);
+
+        //Then
+        Assert.assertEquals(10.0, doubleMatrix.get(1, 0));
+        Assert.assertEquals(20.0, col.get(0));
+        Assert.assertEquals(24.0, col.sumElements());
+    }
+
+    @Test
+    public void testSubMatrixView() throws Exception {
+        //Given
+        Matrix<Integer> matrix = new Matrix<Integer>(3, 3, new Integer[]{
+                1, 2, 3,
+                4, 5, 6,
+                7, 8, 9
+        }, new IntCalculator());
+
+        //When
+        Matrix<Integer> block = matrix.subMatrix(1, 1, 2, 2);
+        Matrix<Integer> copy = block.copy();
+        block.addInPlace(block.copy());
+        Matrix<Integer> product = matrix.subMatrix(0, 0, 1, 2).multiply(block);
+
+        //Then
+        Assert.assertEquals(10, (int) matrix.get(1, 1));
+        Assert.assertEquals(18, (int) matrix.get(2, 2));
+        Assert.assertEquals(30, (int) block.getCol(1).sumElements());
+        Assert.assertEquals(9, (int) copy.get(1, 1));
+        Assert.assertEquals(42, (int) product.get(0, 0));
+        Assert.assertEquals(48, (int) product.get(0, 1));
+    }
+
+    @Test
+    public void testAddInPlaceOverlappingView() throws Exception {
+        //Given
+        Matrix<Integer> matrix = new Matrix<Integer>(3, 3, new Integer[]{
+                1, 2, 3,
+                4, 5, 6,
+                7, 8, 9
+        }, new IntCalculator());
+        Matrix<Integer> square = new Matrix<Integer>(2, 2, new Integer[]{1, 2, 3, 4}, new IntCalculator());
+
+        //When
+        matrix.subMatrix(1, 1, 2, 2).addInPlace(matrix.subMatrix(0, 0, 2, 2));
+        square.transpose().addInPlace(square);
+
+        //Then
+        Assert.assertEquals(6, (int) matrix.get(1, 1));
+        Assert.assertEquals(8, (int) matrix.get(1, 2));
+        Assert.assertEquals(12, (int) matrix.get(2, 1));
+        Assert.assertEquals(14, (int) matrix.get(2, 2));
+        Assert.assertEquals(2, (int) square.get(0, 0));
+        Assert.assertEquals(5, (int) square.get(0, 1));
+        Assert.assertEquals(5, (int) square.get(1, 0));
+        Assert.assertEquals(8, (int) square.get(1, 1));
+    }
+
+    @Test
+    public void testTransposeViewAndProducts() throws Exception {
+        //Given
+        Matrix<Integer> matrix = new Matrix<Integer>(2, 3, new Integer[]{
+                1, 2, 3,
+                4, 5, 6
+        }, new IntCalculator());
+        Matrix<Integer> expected = new Matrix<Integer>(3, 2, new Integer[]{
+                1, 4,
+                2, 5,
+                3, 6
+        }, new IntCalculator());
+
+        //When
+        Matrix<Integer> view = matrix.transpose();
+        Matrix<Integer> materialized = matrix.transposeMaterialized();
+        Matrix<Integer> gram = matrix.multiply(view);
+        view.set(2, 1, 7);
+
+        //Then
+        Assert.assertEquals(3, materialized.getRowCount());
+        for (int i = 0; i < 3; i++){
+            for (int j = 0; j < 2; j++){
+                Assert.assertEquals(expected.get(i, j), materialized.get(i, j));
+            }
+        }
+        Assert.assertEquals(14, (int) gram.get(0, 0));
+        Assert.assertEquals(32, (int) gram.get(0, 1));
+        Assert.assertEquals(77, (int) gram.get(1, 1));
+        Assert.assertEquals(7, (int) matrix.get(1, 2));
+    }
+
+    @Test
+    public void testMultiplyVector() throws Exception {
+        //Given
+        Vector<Double> vector = new Vector<Double>(new Double[]{1.0, -1.0}, calculator);
+        Matrix<Integer> matrix = new Matrix<Integer>(2, 3, new Integer[]{
+                1, 2, 3,
+                4, 5, 6
+        }, new IntCalculator());
+
+        //When
+        Vector<Double> column = doubleMatrix.multiply(vector);
+        Vector<Double> row = vector.multiply(doubleMatrix);
+        Vector<Integer> ofView = matrix.transpose().multiply(matrix.getCol(2));
+
+        //Then
+        Assert.assertEquals(-1.0, column.get(0));
+        Assert.assertEquals(-1.0, column.get(1));
+        Assert.assertEquals(-2.0, row.get(0));
+        Assert.assertEquals(-2.0, row.get(1));
+        Assert.assertEquals(27, (int) ofView.get(0));
+        Assert.assertEquals(36, (int) ofView.get(1));
+        Assert.assertEquals(45, (int) ofView.get(2));
+    }
+
+    @Test
+    public void testMultiplyVectorFailsInvalidLength() throws Exception {
+        //Given
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Invalid vector length");
+
+        //When
+        doubleMatrix.multiply(new Vector<Double>(3, calculator));
+    }
+
+    @Test
+    public void testMultiplyBatch() throws Exception {
+        //Given
+        Matrix<Integer> shared = new Matrix<Integer>(2, 2, new Integer[]{1, 2, 3, 4}, new IntCalculator());
+        List<Matrix<Integer>> batch = new ArrayList<Matrix<Integer>>();
+        batch.add(new Matrix<Integer>(1, 2, new Integer[]{1, 1}, new IntCalculator()));
+        batch.add(shared.transpose());
+        List<Matrix<Double>> doubleBatch = new ArrayList<Matrix<Double>>();
+        doubleBatch.add(doubleMatrix);
+        doubleBatch.add(doubleMatrix.subMatrix(1, 0, 1, 2));
+
+        //When
+        List<Matrix<Integer>> products = shared.multiplyBatch(batch);
+        List<Matrix<Double>> doubleProducts = doubleMatrix.multiplyBatch(doubleBatch);
+
+        //Then
+        Assert.assertEquals(4, (int) products.get(0).get(0, 0));
+        Assert.assertEquals(6, (int) products.get(0).get(0, 1));
+        Assert.assertEquals(10, (int) products.get(1).get(0, 0));
+        Assert.assertEquals(20, (int) products.get(1).get(1, 1));
+        Assert.assertEquals(7.0, doubleProducts.get(0).get(0, 0));
+        Assert.assertEquals(22.0, doubleProducts.get(0).get(1, 1));
+        Assert.assertEquals(1, doubleProducts.get(1).getRowCount());
+        Assert.assertEquals(22.0, doubleProducts.get(1).get(0, 1));
+    }
+
+    @Test
+    public void testPowerOfFibonacciMatrixModulo() throws Exception {
+        //Given
+        ModularCalculator modular = new ModularCalculator(1000000007L);
+        Matrix<Long> fibonacci = new Matrix<Long>(2, 2, new Long[]{1L, 1L, 1L, 0L}, modular);
+
+        //When
+        Matrix<Long> small = fibonacci.power(90);
+        Matrix<Long> large = fibonacci.power(1000000000000000000L);
+
+        //Then
+        long previous = 0, current = 1;
+        for (int i = 1; i < 90; i++){
+            long next = previous + current;
+            previous = current;
+            current = next;
+        }
+        // F(90) still fits into long
+        Assert.assertEquals(current % 1000000007L, (long) small.get(0, 1));
+        // F(10^18) mod 10^9 + 7, computed by fast doubling
+        Assert.assertEquals(209783453L, (long) large.get(0, 1));
+        Assert.assertEquals(large.get(0, 0), modular.sum(large.get(0, 1), large.get(1, 1)));
+        Assert.assertEquals(1L, (long) fibonacci.get(0, 0));
+        // Pisano period of 10^9 + 7 divides 2 * (10^9 + 8)
+        Assert.assertEquals(0L, (long) fibonacci.power(2000000016L).get(0, 1));
+    }
+
+    @Test
+    public void testPowerCountsPathsLikeBigInteger() throws Exception {
+        //Given
+        int n = 40;
+        long modulus = 998244353L;
+        Random random = new Random(23);
+        Long[] adjacency = new Long[n * n];
+        BigInteger[] expected = new BigInteger[n * n];
+        for (int i = 0; i < adjacency.length; i++){
+            adjacency[i] = random.nextInt(3) == 0 ? 1L : 0L;
+            expected[i] = i % (n + 1) == 0 ? BigInteger.ONE : BigInteger.ZERO;
+        }
+        Matrix<Long> graph = new Matrix<Long>(n, n, adjacency, new ModularCalculator(modulus));
+        graph.setExecutionPolicy(new ExecutionPolicy(new ForkJoinPool(2), 100));
+        for (int step = 0; step < 37; step++){
+            BigInteger[] next = new BigInteger[n * n];
+            for (int i = 0; i < n; i++){
+                for (int j = 0; j < n; j++){
+                    BigInteger paths = BigInteger.ZERO;
+                    for (int k = 0; k < n; k++){
+                        if (adjacency[k * n + j] == 1L)
+                            paths = paths.add(expected[i * n + k]);
+                    }
+                    next[i * n + j] = paths;
+                }
+            }
+            expected = next;
+        }
+
+        //When
+        Matrix<Long> paths = graph.power(37);
+
+        //Then
+        for (int i = 0; i < n; i++){
+            for (int j = 0; j < n; j++){
+                Assert.assertEquals(expected[i * n + j].mod(BigInteger.valueOf(modulus)).longValue(),
+                        (long) paths.get(i, j));
+            }
+        }
+    }
+
+    @Test
+    public void testPowerZeroAndOne() throws Exception {
+        //When
+        Matrix<Double> identity = doubleMatrix.power(0);
+        Matrix<Double> same = doubleMatrix.power(1);
+        same.set(0, 0, 10.0);
+
+        //Then
+        Assert.assertEquals(1.0, identity.get(0, 0));
+        Assert.assertEquals(0.0, identity.get(0, 1));
+        Assert.assertEquals(1.0, identity.get(1, 1));
+        Assert.assertEquals(1.0, doubleMatrix.get(0, 0));
+        Assert.assertEquals(37.0, doubleMatrix.power(2).get(0, 0) + 30.0);
+    }
+
+    @Test
+    public void testPowerOfNotSquareMatrix() throws Exception {
+        //Then
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Matrix is not square");
+
+        //When
+        doubleMatrix.subMatrix(0, 0, 1, 2).power(2);
+    }
+
+    @Test
+    public void testNegativePower() throws Exception {
+        //Then
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Invalid exponent");
+
+        //When
+        doubleMatrix.power(-1);
+    }
 }
@@ -0,0 +1,103 @@
+package org.markvarabyou.math.tests.common.Calculators;
+
+import junit.framework.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.markvarabyou.math.common.Calculators.ModularCalculator;
+
+import java.math.BigInteger;
+import java.util.Random;
+
+/**
+ * Test class for ModularCalculator.
+ * Author: Mark Vorobyov
+ * Date: 10/21/26
+ * Time: 10:50 PM
+ */
+public class ModularCalculatorTest {
+    private Random random = new Random(23);
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private long[] randomResidues(int length, long modulus){
+        long[] values = new long[length];
+        for (int i = 0; i < length; i++){
+            values[i] = i % 5 == 0 ? modulus - 1 : (long) (random.nextDouble() * modulus);
+        }
+        return values;
+    }
+
+    @Test
+    public void testOperationsMatchBigInteger() throws Exception {
+        long[] moduli = {2, 3, 1000000007L, 998244353L, Integer.MAX_VALUE};
+        for (long modulus : moduli){
+            //Given
+            ModularCalculator calculator = new ModularCalculator(modulus);
+            BigInteger m = BigInteger.valueOf(modulus);
+            long[] a = randomResidues(200, modulus);
+            long[] b = randomResidues(200, modulus);
+
+            for (int i = 0; i < a.length; i++){
+                //When
+                long product = calculator.mul(a[i], b[i]);
+                long sum = calculator.sum(a[i], b[i]);
+                long fma = calculator.fma(a[i], b[i], b[(i + 1) % b.length]);
+
+                //Then
+                BigInteger x = BigInteger.valueOf(a[i]);
+                BigInteger y = BigInteger.valueOf(b[i]);
+                Assert.assertEquals(x.multiply(y).mod(m).longValue(), product);
+                Assert.assertEquals(x.add(y).mod(m).longValue(), sum);
+                Assert.assertEquals(x.multiply(y).add(BigInteger.valueOf(b[(i + 1) % b.length])).mod(m).longValue(),
+                        fma);
+            }
+        }
+    }
+
+    @Test
+    public void testDeferredReductionInDotProduct() throws Exception {
+        long[] moduli = {2, 1000000007L, Integer.MAX_VALUE};
+        for (long modulus : moduli){
+            //Given
+            ModularCalculator calculator = new ModularCalculator(modulus);
+            long[] a = randomResidues(3 * 70001, modulus);
+            long[] b = randomResidues(70001, modulus);
+            BigInteger expected = BigInteger.ZERO;
+            for (int i = 0; i < b.length; i++){
+                expected = expected.add(BigInteger.valueOf(a[3 * i + 2]).multiply(BigInteger.valueOf(b[i])));
+            }
+
+            //When
+            long dot = calculator.dot(a, 2, 3, b, 0, 1, b.length);
+
+            //Then
+            Assert.assertEquals(expected.mod(BigInteger.valueOf(modulus)).longValue(), dot);
+        }
+    }
+
+    @Test
+    public void testReduceAndDecode() throws Exception {
+        //Given
+        ModularCalculator calculator = new ModularCalculator(1000000007L);
+
+        //Then
+        Assert.assertEquals(Long.MAX_VALUE % 1000000007L, calculator.reduce(Long.MAX_VALUE));
+        Assert.assertEquals(0L, calculator.reduce(1000000007L));
+        Assert.assertEquals(1000000006L, (long) calculator.decode("-1"));
+        Assert.assertEquals(7L, (long) calculator.decode("2000000021"));
+        Assert.assertEquals(1L, (long) calculator.getOne());
+        Assert.assertEquals(1000000007L, calculator.getModulus());
+    }
+
+    @Test
+    public void testInvalidModulus() throws Exception {
+        //Then
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Invalid modulus");
+
+        //When
+        new ModularCalculator(1L << 31);
+    }
+}
@@ -0,0 +1,72 @@
+package org.markvarabyou.math.tests.common;
+
+import junit.framework.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.markvarabyou.math.common.ChainPlan;
+
+import java.util.Arrays;
+
+/**
+ * Test class for ChainPlan.
+ * Author: Mark Vorobyov
+ * Date: 10/20/26
+ * Time: 8:05 PM
+ */
+public class ChainPlanTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void testOptimalOrder() throws Exception {
+        //When
+        ChainPlan plan = ChainPlan.of(30, 35, 15, 5, 10, 20, 25);
+
+        //Then
+        Assert.assertEquals(6, plan.getCount());
+        Assert.assertEquals(2 * 15125, plan.getFlops());
+        Assert.assertEquals(2 * 40500, plan.getLeftToRightFlops());
+        Assert.assertEquals(2, plan.getSplit(0, 5));
+        Assert.assertEquals("((M0 (M1 M2)) ((M3 M4) M5))", plan.toString());
+    }
+
+    @Test
+    public void testExecuteFollowsPlan() throws Exception {
+        //Given
+        ChainPlan plan = ChainPlan.of(10, 100, 5, 50);
+
+        //When
+        String order = plan.execute(Arrays.asList("A", "B", "C"), new ChainPlan.Multiplier<String>() {
+            @Override
+            public String multiply(String left, String right) {
+                return "(" + left + right + ")";
+            }
+        });
+
+        //Then
+        Assert.assertEquals("((AB)C)", order);
+        Assert.assertEquals(2 * 7500, plan.getFlops());
+    }
+
+    @Test
+    public void testSingleMatrix() throws Exception {
+        //When
+        ChainPlan plan = ChainPlan.of(3, 4);
+
+        //Then
+        Assert.assertEquals(0, plan.getFlops());
+        Assert.assertEquals("M0", plan.toString());
+    }
+
+    @Test
+    public void testEmptyChainFails() throws Exception {
+        //Given
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Chain of matrices is empty");
+
+        //When
+        ChainPlan.of(3);
+    }
+}
@@ -0,0 +1,75 @@
+package org.markvarabyou.math.tests.common;
+
+import junit.framework.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.markvarabyou.math.common.ExecutionPolicy;
+import org.markvarabyou.math.common.RangeTask;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Test class for ExecutionPolicy.
+ * Author: Mark Vorobyov
+ * Date: 10/18/26
+ * Time: 3:05 PM
+ */
+public class ExecutionPolicyTest {
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Test
+    public void testExecuteCoversEveryItemOnce() throws Exception {
+        //Given
+        ExecutionPolicy policy = new ExecutionPolicy(new ForkJoinPool(4), 10);
+        final AtomicIntegerArray visits = new AtomicIntegerArray(1000);
+
+        //When
+        policy.execute(visits.length(), 1, new RangeTask() {
+            @Override
+            public void compute(int from, int to) {
+                for (int i = from; i < to; i++){
+                    visits.incrementAndGet(i);
+                }
+            }
+        });
+
+        //Then
+        for (int i = 0; i < visits.length(); i++){
+            Assert.assertEquals(1, visits.get(i));
+        }
+    }
+
+    @Test
+    public void testSmallWorkRunsAsSingleTask() throws Exception {
+        //Given
+        ExecutionPolicy policy = new ExecutionPolicy(new ForkJoinPool(4), 1000);
+        final AtomicInteger calls = new AtomicInteger();
+
+        //When
+        policy.execute(100, 10, new RangeTask() {
+            @Override
+            public void compute(int from, int to) {
+                calls.incrementAndGet();
+            }
+        });
+
+        //Then
+        Assert.assertEquals(1, calls.get());
+        Assert.assertFalse(ExecutionPolicy.SEQUENTIAL.isParallel(Long.MAX_VALUE - 1));
+    }
+
+    @Test
+    public void testInvalidThreshold() throws Exception {
+        //Given
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Threshold should be positive");
+
+        //When
+        new ExecutionPolicy(new ForkJoinPool(1), 0);
+    }
+}
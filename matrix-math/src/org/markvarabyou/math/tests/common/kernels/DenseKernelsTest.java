@@ -0,0 +1,76 @@
+package org.markvarabyou.math.tests.common.kernels;
+
+import junit.framework.Assert;
+import org.junit.Test;
+import org.markvarabyou.math.common.kernels.DenseKernels;
+
+import java.util.Random;
+
+/**
+ * Test class for DenseKernels.
+ * Author: Mark Vorobyov
+ * Date: 10/20/26
+ * Time: 1:50 PM
+ */
+public class DenseKernelsTest {
+    private Random random = new Random(5);
+
+    private double[] randomDoubles(int length){
+        double[] values = new double[length];
+        for (int i = 0; i < values.length; i++){
+            values[i] = random.nextDouble() - 0.5;
+        }
+        return values;
+    }
+
+    @Test
+    public void testDotAndSumAllTailLengths() throws Exception {
+        for (int length = 0; length < 11; length++){
+            for (int stride = 1; stride < 4; stride++){
+                //Given
+                double[] a = randomDoubles(2 + length * stride);
+                double[] b = randomDoubles(1 + length * 2);
+                int[] ints = new int[2 + length * stride];
+                double expectedDot = 0;
+                double expectedSum = 0;
+                int expectedIntDot = 0;
+                for (int i = 0; i < length; i++){
+                    ints[2 + i * stride] = random.nextInt();
+                    expectedDot += a[2 + i * stride] * b[1 + i * 2];
+                    expectedSum += a[2 + i];
+                    expectedIntDot += ints[2 + i * stride] * ints[2 + i * stride];
+                }
+
+                //When
+                double dot = DenseKernels.dot(a, 2, stride, b, 1, 2, length);
+                double sum = DenseKernels.sum(a, 2, length);
+                int intDot = DenseKernels.dot(ints, 2, stride, ints, 2, stride, length);
+
+                //Then
+                Assert.assertEquals(expectedDot, dot, 1e-12);
+                Assert.assertEquals(expectedSum, sum, 1e-12);
+                Assert.assertEquals(expectedIntDot, intDot);
+            }
+        }
+    }
+
+    @Test
+    public void testElementWise() throws Exception {
+        //Given
+        float[] a = new float[]{1, 2, 3, 4, 5};
+        float[] b = new float[]{10, 20, 30, 40, 50};
+        float[] c = new float[5];
+
+        //When
+        DenseKernels.add(a, 1, b, 0, c, 0, 4);
+        DenseKernels.axpy(2, a, 0, c, 1, 3);
+        DenseKernels.scale(c, 0, 0.5f, c, 0, 5);
+
+        //Then
+        Assert.assertEquals(6f, c[0], 0f);
+        Assert.assertEquals(12.5f, c[1], 0f);
+        Assert.assertEquals(19f, c[2], 0f);
+        Assert.assertEquals(25.5f, c[3], 0f);
+        Assert.assertEquals(0f, c[4], 0f);
+    }
+}
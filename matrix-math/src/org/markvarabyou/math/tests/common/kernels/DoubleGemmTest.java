@@ -0,0 +1,92 @@
+package org.markvarabyou.math.tests.common.kernels;
+
+import junit.framework.Assert;
+import org.junit.Test;
+import org.markvarabyou.math.common.kernels.DoubleGemm;
+
+import java.util.Random;
+
+/**
+ * Test class for DoubleGemm.
+ * Author: Mark Vorobyov
+ * Date: 10/18/26
+ * Time: 1:15 PM
+ */
+public class DoubleGemmTest {
+    private Random random = new Random(42);
+
+    private double[] randomValues(int length){
+        double[] values = new double[length];
+        for (int i = 0; i < length; i++){
+            values[i] = random.nextDouble() - 0.5;
+        }
+        return values;
+    }
+
+    private static double[] naiveMultiply(double[] a, double[] b, int m, int k, int n){
+        double[] c = new double[m * n];
+        for (int i = 0; i < m; i++){
+            for (int j = 0; j < n; j++){
+                double sum = 0;
+                for (int p = 0; p < k; p++){
+                    sum += a[i * k + p] * b[p * n + j];
+                }
+                c[i * n + j] = sum;
+            }
+        }
+        return c;
+    }
+
+    private void checkMultiply(int m, int k, int n){
+        //Given
+        double[] a = randomValues(m * k);
+        double[] b = randomValues(k * n);
+        double[] expected = naiveMultiply(a, b, m, k, n);
+        double[] actual = new double[m * n];
+
+        //When
+        DoubleGemm.multiply(a, b, actual, m, k, n);
+
+        //Then
+        for (int i = 0; i < expected.length; i++){
+            Assert.assertEquals(expected[i], actual[i], 1e-9);
+        }
+    }
+
+    @Test
+    public void testMultiplySmall() throws Exception {
+        checkMultiply(1, 1, 1);
+        checkMultiply(3, 5, 2);
+        checkMultiply(4, 4, 4);
+    }
+
+    @Test
+    public void testMultiplyAcrossBlockBorders() throws Exception {
+        checkMultiply(101, 300, 67);
+    }
+
+    @Test
+    public void testMultiplyStridedOperands() throws Exception {
+        //Given
+        int m = 7, k = 9, n = 5;
+        double[] a = randomValues(m * k);
+        double[] bTransposed = randomValues(n * k);
+        double[] b = new double[k * n];
+        for (int p = 0; p < k; p++){
+            for (int j = 0; j < n; j++){
+                b[p * n + j] = bTransposed[j * k + p];
+            }
+        }
+        double[] expected = naiveMultiply(a, b, m, k, n);
+        double[] actual = new double[m * n];
+
+        //When
+        double[] packedB = DoubleGemm.packB(bTransposed, 0, 1, k, k, n);
+        DoubleGemm.multiply(a, 0, k, 1, packedB, actual, 0, n, k, 0, m, 0, n);
+
+        //Then
+        for (int i = 0; i < expected.length; i++){
+            Assert.assertEquals(expected[i], actual[i], 1e-9);
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.markvarabyou.math.tests.common.kernels;
+
+import junit.framework.Assert;
+import org.junit.Test;
+import org.markvarabyou.math.common.ExecutionPolicy;
+import org.markvarabyou.math.common.kernels.DoubleGemv;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Test class for DoubleGemv.
+ * Author: Mark Vorobyov
+ * Date: 10/20/26
+ * Time: 9:10 PM
+ */
+public class DoubleGemvTest {
+    private Random random = new Random(8);
+
+    private double[] randomDoubles(int length){
+        double[] values = new double[length];
+        for (int i = 0; i < values.length; i++){
+            values[i] = random.nextDouble() - 0.5;
+        }
+        return values;
+    }
+
+    @Test
+    public void testRowAndColumnMajorMatrices() throws Exception {
+        int[][] sizes = {{1, 1}, {3, 7}, {1500, 5}, {2100, 33}};
+        ExecutionPolicy[] policies = {ExecutionPolicy.SEQUENTIAL, new ExecutionPolicy(new ForkJoinPool(3), 100)};
+        for (int[] size : sizes){
+            for (ExecutionPolicy policy : policies){
+                //Given
+                int rowCount = size[0];
+                int colCount = size[1];
+                double[] a = randomDoubles(rowCount * colCount);
+                double[] x = randomDoubles(2 * colCount);
+                double[] expected = new double[rowCount];
+                for (int i = 0; i < rowCount; i++){
+                    for (int j = 0; j < colCount; j++){
+                        expected[i] += a[i * colCount + j] * x[2 * j];
+                    }
+                }
+                double[] rowMajor = new double[rowCount + 1];
+                double[] colMajor = new double[rowCount];
+
+                //When
+                DoubleGemv.multiply(a, 0, colCount, 1, rowCount, colCount, x, 0, 2, rowMajor, 1, policy);
+                DoubleGemv.multiply(transposed(a, rowCount, colCount), 0, 1, rowCount, rowCount, colCount,
+                        x, 0, 2, colMajor, 0, policy);
+
+                //Then
+                for (int i = 0; i < rowCount; i++){
+                    Assert.assertEquals(expected[i], rowMajor[i + 1], 1e-9);
+                    Assert.assertEquals(expected[i], colMajor[i], 1e-9);
+                }
+            }
+        }
+    }
+
+    private static double[] transposed(double[] a, int rowCount, int colCount){
+        double[] result = new double[a.length];
+        for (int i = 0; i < rowCount; i++){
+            for (int j = 0; j < colCount; j++){
+                result[j * rowCount + i] = a[i * colCount + j];
+            }
+        }
+        return result;
+    }
+}
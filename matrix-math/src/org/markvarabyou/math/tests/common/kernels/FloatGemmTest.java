@@ -0,0 +1,109 @@
+package org.markvarabyou.math.tests.common.kernels;
+
+import junit.framework.Assert;
+import org.junit.Test;
+import org.markvarabyou.math.common.Accumulation;
+import org.markvarabyou.math.common.ExecutionPolicy;
+import org.markvarabyou.math.common.kernels.FloatGemm;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Test class for FloatGemm.
+ * Author: Mark Vorobyov
+ * Date: 10/21/26
+ * Time: 9:35 PM
+ */
+public class FloatGemmTest {
+    private Random random = new Random(22);
+
+    private float[] randomFloats(int length){
+        float[] values = new float[length];
+        for (int i = 0; i < values.length; i++){
+            values[i] = random.nextFloat() - 0.5f;
+        }
+        return values;
+    }
+
+    private double[] product(float[] a, float[] b, int m, int k, int n){
+        double[] c = new double[m * n];
+        for (int i = 0; i < m; i++){
+            for (int p = 0; p < k; p++){
+                for (int j = 0; j < n; j++){
+                    c[i * n + j] += (double) a[i * k + p] * b[p * n + j];
+                }
+            }
+        }
+        return c;
+    }
+
+    @Test
+    public void testEdgesAndBlocksForAllAccumulations() throws Exception {
+        //Given
+        int m = 101, k = 530, n = 263;
+        float[] a = randomFloats(m * k);
+        float[] b = randomFloats(k * n);
+        double[] expected = product(a, b, m, k, n);
+        float[] packed = FloatGemm.packB(b, 0, n, 1, k, n);
+        ExecutionPolicy[] policies = {ExecutionPolicy.SEQUENTIAL, new ExecutionPolicy(new ForkJoinPool(3), 100)};
+
+        for (Accumulation accumulation : Accumulation.values()){
+            for (ExecutionPolicy policy : policies){
+                //When
+                float[] c = new float[m * n];
+                FloatGemm.multiply(a, 0, k, 1, packed, c, 0, n, m, k, n, accumulation, policy);
+
+                //Then
+                for (int i = 0; i < c.length; i++){
+                    Assert.assertEquals(expected[i], c[i], 1e-3);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDoubleAccumulationRoundsOnce() throws Exception {
+        //Given
+        int m = 9, k = 700, n = 5;
+        float[] a = randomFloats(m * k);
+        float[] b = randomFloats(k * n);
+        double[] expected = product(a, b, m, k, n);
+
+        //When
+        float[] c = new float[m * n];
+        FloatGemm.multiply(a, 0, k, 1, FloatGemm.packB(b, 0, n, 1, k, n), c, 0, n, m, k, n,
+                Accumulation.DOUBLE, ExecutionPolicy.SEQUENTIAL);
+
+        //Then
+        for (int i = 0; i < c.length; i++){
+            Assert.assertEquals((float) expected[i], c[i], Math.ulp((float) expected[i]));
+        }
+    }
+
+    @Test
+    public void testTransposedOperandAccumulatesIntoResult() throws Exception {
+        //Given
+        int m = 6, k = 7, n = 5;
+        float[] a = randomFloats(m * k);
+        float[] transposed = new float[k * m];
+        for (int i = 0; i < m; i++){
+            for (int p = 0; p < k; p++){
+                transposed[p * m + i] = a[i * k + p];
+            }
+        }
+        float[] b = randomFloats(k * n);
+        double[] expected = product(a, b, m, k, n);
+        float[] c = new float[m * n];
+        java.util.Arrays.fill(c, 1);
+
+        //When
+        FloatGemm.multiply(transposed, 0, 1, m, FloatGemm.packB(b, 0, n, 1, k, n), c, 0, n, m, k, n,
+                Accumulation.KAHAN, ExecutionPolicy.SEQUENTIAL);
+
+        //Then
+        for (int i = 0; i < c.length; i++){
+            Assert.assertEquals(expected[i] + 1, c[i], 1e-5);
+        }
+    }
+}
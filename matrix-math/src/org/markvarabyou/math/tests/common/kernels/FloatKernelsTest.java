@@ -0,0 +1,92 @@
+package org.markvarabyou.math.tests.common.kernels;
+
+import junit.framework.Assert;
+import org.junit.Test;
+import org.markvarabyou.math.common.Accumulation;
+import org.markvarabyou.math.common.ExecutionPolicy;
+import org.markvarabyou.math.common.kernels.FloatKernels;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Test class for FloatKernels.
+ * Author: Mark Vorobyov
+ * Date: 10/21/26
+ * Time: 9:20 PM
+ */
+public class FloatKernelsTest {
+    private Random random = new Random(22);
+
+    private float[] randomFloats(int length){
+        float[] values = new float[length];
+        for (int i = 0; i < values.length; i++){
+            values[i] = random.nextFloat();
+        }
+        return values;
+    }
+
+    @Test
+    public void testLongSumKeepsPrecision() throws Exception {
+        //Given
+        int length = 1 << 20;
+        float[] values = new float[length];
+        java.util.Arrays.fill(values, 0.1f);
+        double expected = 0.1f * (double) length;
+
+        //When
+        float plain = FloatKernels.sum(values, 0, 1, length, Accumulation.FLOAT);
+        float wide = FloatKernels.sum(values, 0, 1, length, Accumulation.DOUBLE);
+        float compensated = FloatKernels.sum(values, 0, 1, length, Accumulation.KAHAN);
+
+        //Then
+        Assert.assertEquals(expected, wide, Math.ulp((float) expected));
+        Assert.assertEquals(expected, compensated, Math.ulp((float) expected));
+        Assert.assertTrue(Math.abs(plain - expected) > 100 * Math.abs(wide - expected));
+    }
+
+    @Test
+    public void testStridedDot() throws Exception {
+        //Given
+        float[] a = randomFloats(3000);
+        float[] b = randomFloats(2000);
+        double expected = 0;
+        for (int i = 0; i < 999; i++){
+            expected += (double) a[1 + 3 * i] * b[2 * i];
+        }
+
+        for (Accumulation accumulation : Accumulation.values()){
+            //When
+            float actual = FloatKernels.dot(a, 1, 3, b, 0, 2, 999, accumulation);
+
+            //Then
+            Assert.assertEquals(expected, actual, 1e-3);
+        }
+        Assert.assertEquals((float) expected, FloatKernels.dot(a, 1, 3, b, 0, 2, 999, Accumulation.DOUBLE));
+    }
+
+    @Test
+    public void testMatrixVectorProduct() throws Exception {
+        //Given
+        int rowCount = 37, colCount = 301;
+        float[] a = randomFloats(rowCount * colCount);
+        float[] x = randomFloats(colCount);
+        ExecutionPolicy[] policies = {ExecutionPolicy.SEQUENTIAL, new ExecutionPolicy(new ForkJoinPool(3), 100)};
+
+        for (ExecutionPolicy policy : policies){
+            //When
+            float[] y = new float[rowCount + 1];
+            FloatKernels.multiply(a, 0, colCount, 1, rowCount, colCount, x, 0, 1, y, 1, Accumulation.DOUBLE, policy);
+
+            //Then
+            Assert.assertEquals(0f, y[0]);
+            for (int i = 0; i < rowCount; i++){
+                double expected = 0;
+                for (int j = 0; j < colCount; j++){
+                    expected += (double) a[i * colCount + j] * x[j];
+                }
+                Assert.assertEquals((float) expected, y[i + 1]);
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.markvarabyou.math.tests.common.kernels;
+
+import junit.framework.Assert;
+import org.junit.Test;
+import org.markvarabyou.math.common.Calculators.IntCalculator;
+import org.markvarabyou.math.common.kernels.GenericGemm;
+
+import java.util.Random;
+
+/**
+ * Test class for GenericGemm.
+ * Author: Mark Vorobyov
+ * Date: 10/18/26
+ * Time: 1:25 PM
+ */
+public class GenericGemmTest {
+    private IntCalculator calculator = new IntCalculator();
+    private Random random = new Random(7);
+
+    private Object[] randomValues(int length){
+        Object[] values = new Object[length];
+        for (int i = 0; i < length; i++){
+            values[i] = random.nextInt(21) - 10;
+        }
+        return values;
+    }
+
+    private void checkMultiply(int m, int k, int n){
+        //Given
+        Object[] a = randomValues(m * k);
+        Object[] b = randomValues(k * n);
+
+        //When
+        Object[] actual = GenericGemm.multiply(calculator, a, b, m, k, n);
+
+        //Then
+        for (int i = 0; i < m; i++){
+            for (int j = 0; j < n; j++){
+                int expected = 0;
+                for (int p = 0; p < k; p++){
+                    expected += (Integer) a[i * k + p] * (Integer) b[p * n + j];
+                }
+                Assert.assertEquals(expected, ((Integer) actual[i * n + j]).intValue());
+            }
+        }
+    }
+
+    @Test
+    public void testMultiplySmall() throws Exception {
+        checkMultiply(1, 1, 1);
+        checkMultiply(3, 5, 2);
+    }
+
+    @Test
+    public void testMultiplyAcrossBlockBorders() throws Exception {
+        checkMultiply(67, 131, 5);
+    }
+}
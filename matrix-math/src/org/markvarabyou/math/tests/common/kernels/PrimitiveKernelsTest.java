@@ -0,0 +1,156 @@
+package org.markvarabyou.math.tests.common.kernels;
+
+import junit.framework.Assert;
+import org.junit.Test;
+import org.markvarabyou.math.common.Calculator;
+import org.markvarabyou.math.common.Calculators.DoubleCalculator;
+import org.markvarabyou.math.common.Calculators.IntCalculator;
+import org.markvarabyou.math.common.Calculators.LongCalculator;
+import org.markvarabyou.math.common.Calculators.ModularCalculator;
+import org.markvarabyou.math.common.DoubleArithmetic;
+import org.markvarabyou.math.common.ExecutionPolicy;
+import org.markvarabyou.math.common.kernels.GenericGemm;
+import org.markvarabyou.math.common.kernels.PrimitiveKernels;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Test class for PrimitiveKernels.
+ * Author: Mark Vorobyov
+ * Date: 10/20/26
+ * Time: 10:50 AM
+ */
+public class PrimitiveKernelsTest {
+    private Random random = new Random(11);
+
+    /**
+     * Max-plus semiring: sum is maximum, product is addition
+     */
+    private static class MaxPlusCalculator extends DoubleArithmetic {
+        @Override
+        public Double getNew() {
+            return Double.NEGATIVE_INFINITY;
+        }
+
+        @Override
+        public double sum(double first, double second) {
+            return Math.max(first, second);
+        }
+
+        @Override
+        public double mul(double first, double second) {
+            return first + second;
+        }
+
+        @Override
+        public double dot(double[] a, int aOffset, int aStride, double[] b, int bOffset, int bStride, int length) {
+            double result = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < length; i++, aOffset += aStride, bOffset += bStride){
+                result = Math.max(result, a[aOffset] + b[bOffset]);
+            }
+            return result;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void checkMatchesGeneric(Calculator<?> calculator, Object[] a, Object[] b, int m, int k, int n){
+        //When
+        Object[] expected = GenericGemm.multiply((Calculator<Object>) calculator, a, b, m, k, n);
+        Object[] actual = PrimitiveKernels.multiply(calculator, a, b, m, k, n,
+                new ExecutionPolicy(new ForkJoinPool(2), 1));
+
+        //Then
+        for (int i = 0; i < expected.length; i++){
+            Assert.assertEquals(expected[i], actual[i]);
+        }
+    }
+
+    @Test
+    public void testMultiplyLongs() throws Exception {
+        //Given
+        Object[] a = new Object[7 * 9];
+        Object[] b = new Object[9 * 5];
+        for (int i = 0; i < a.length; i++){
+            a[i] = (long) random.nextInt(1 << 20);
+        }
+        for (int i = 0; i < b.length; i++){
+            b[i] = (long) random.nextInt(1 << 20);
+        }
+
+        checkMatchesGeneric(new LongCalculator(), a, b, 7, 9, 5);
+    }
+
+    @Test
+    public void testMultiplyDoublesUsesHooks() throws Exception {
+        //Given
+        Object[] a = new Object[6 * 4];
+        Object[] b = new Object[4 * 3];
+        for (int i = 0; i < a.length; i++){
+            a[i] = (double) random.nextInt(100);
+        }
+        for (int i = 0; i < b.length; i++){
+            b[i] = (double) random.nextInt(100);
+        }
+
+        checkMatchesGeneric(new DoubleCalculator(), a, b, 6, 4, 3);
+        checkMatchesGeneric(new MaxPlusCalculator(), a, b, 6, 4, 3);
+    }
+
+    @Test
+    public void testMultiplyAcrossTilesAndPanels() throws Exception {
+        //Given
+        int m = 70, k = 600, n = 150; //More than one tile of rows and columns and more than two panels
+        Object[] ints = new Object[m * k];
+        Object[] intsB = new Object[k * n];
+        Object[] residues = new Object[m * k];
+        Object[] residuesB = new Object[k * n];
+        Object[] doubles = new Object[m * k];
+        Object[] doublesB = new Object[k * n];
+        for (int i = 0; i < ints.length; i++){
+            ints[i] = random.nextInt(2001) - 1000;
+            residues[i] = (long) random.nextInt(1000003);
+            doubles[i] = (double) random.nextInt(100);
+        }
+        for (int i = 0; i < intsB.length; i++){
+            intsB[i] = random.nextInt(2001) - 1000;
+            residuesB[i] = (long) random.nextInt(1000003);
+            doublesB[i] = (double) random.nextInt(100);
+        }
+
+        checkMatchesGeneric(new IntCalculator(), ints, intsB, m, k, n);
+        checkMatchesGeneric(new ModularCalculator(1000003), residues, residuesB, m, k, n);
+        checkMatchesGeneric(new MaxPlusCalculator(), doubles, doublesB, m, k, n);
+        checkMatchesGeneric(new MaxPlusCalculator(), doubles, doublesB, m, 0, n);
+    }
+
+    @Test
+    public void testSum() throws Exception {
+        //When
+        Object sum = PrimitiveKernels.sum(new LongCalculator(), new Object[]{1L << 40, 2L, -3L});
+
+        //Then
+        Assert.assertEquals((1L << 40) - 1, sum);
+        Assert.assertFalse(PrimitiveKernels.supports(new Calculator<String>() {
+            @Override
+            public String getNew() {
+                return "";
+            }
+
+            @Override
+            public String sum(String first, String second) {
+                return first + second;
+            }
+
+            @Override
+            public String mul(String first, String second) {
+                return first + second;
+            }
+
+            @Override
+            public String decode(String s) {
+                return s;
+            }
+        }));
+    }
+}
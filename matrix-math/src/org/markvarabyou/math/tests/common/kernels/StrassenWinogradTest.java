@@ -0,0 +1,110 @@
+package org.markvarabyou.math.tests.common.kernels;
+
+import junit.framework.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.markvarabyou.math.common.ExecutionPolicy;
+import org.markvarabyou.math.common.kernels.StrassenWinograd;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Test class for StrassenWinograd.
+ * Author: Mark Vorobyov
+ * Date: 10/20/26
+ * Time: 10:05 PM
+ */
+public class StrassenWinogradTest {
+    private Random random = new Random(18);
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private double[] randomDoubles(int length){
+        double[] values = new double[length];
+        for (int i = 0; i < values.length; i++){
+            values[i] = random.nextDouble() - 0.5;
+        }
+        return values;
+    }
+
+    private double[] classic(double[] a, double[] b, int m, int k, int n){
+        double[] c = new double[m * n];
+        for (int i = 0; i < m; i++){
+            for (int p = 0; p < k; p++){
+                for (int j = 0; j < n; j++){
+                    c[i * n + j] += a[i * k + p] * b[p * n + j];
+                }
+            }
+        }
+        return c;
+    }
+
+    @Test
+    public void testOddSizesAreMultipliedWithPadding() throws Exception {
+        int[][] sizes = {{1, 1, 1}, {8, 8, 8}, {17, 9, 23}, {33, 40, 31}, {64, 65, 66}};
+        ExecutionPolicy[] policies = {ExecutionPolicy.SEQUENTIAL, new ExecutionPolicy(new ForkJoinPool(3), 1)};
+        for (int[] size : sizes){
+            for (ExecutionPolicy policy : policies){
+                //Given
+                int m = size[0], k = size[1], n = size[2];
+                double[] a = randomDoubles(m * k);
+                double[] b = randomDoubles(k * n);
+                double[] expected = classic(a, b, m, k, n);
+                double[] c = new double[m * n];
+
+                //When
+                StrassenWinograd.multiply(a, 0, k, 1, b, 0, n, 1, c, 0, n, m, k, n, 4, policy);
+
+                //Then
+                for (int i = 0; i < expected.length; i++){
+                    Assert.assertEquals(expected[i], c[i], 1e-9);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testStridedOperandsAndResultRows() throws Exception {
+        //Given
+        int m = 12, k = 10, n = 14;
+        double[] a = randomDoubles(m * k);
+        double[] b = randomDoubles(k * n);
+        double[] expected = classic(a, b, m, k, n);
+        double[] aColMajor = new double[m * k];
+        for (int i = 0; i < m; i++){
+            for (int p = 0; p < k; p++){
+                aColMajor[p * m + i] = a[i * k + p];
+            }
+        }
+        double[] c = new double[2 + m * (n + 3)];
+
+        //When
+        StrassenWinograd.multiply(aColMajor, 0, 1, m, b, 0, n, 1, c, 2, n + 3, m, k, n, 2, ExecutionPolicy.SEQUENTIAL);
+
+        //Then
+        for (int i = 0; i < m; i++){
+            for (int j = 0; j < n; j++){
+                Assert.assertEquals(expected[i * n + j], c[2 + i * (n + 3) + j], 1e-9);
+            }
+        }
+        Assert.assertEquals(0.0, c[0]);
+        Assert.assertEquals(0.0, c[2 + n]);
+    }
+
+    @Test
+    public void testInvalidCutoff() throws Exception {
+        //Given
+        double[] a = new double[4];
+
+        //Then
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Invalid cutoff");
+
+        //When
+        StrassenWinograd.multiply(a, 0, 2, 1, a, 0, 2, 1, new double[4], 0, 2, 2, 2, 2, 0,
+                ExecutionPolicy.SEQUENTIAL);
+    }
+}
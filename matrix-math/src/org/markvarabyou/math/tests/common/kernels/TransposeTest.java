@@ -0,0 +1,55 @@
+package org.markvarabyou.math.tests.common.kernels;
+
+import junit.framework.Assert;
+import org.junit.Test;
+import org.markvarabyou.math.common.kernels.Transpose;
+
+/**
+ * Test class for Transpose.
+ * Author: Mark Vorobyov
+ * Date: 10/20/26
+ * Time: 5:55 PM
+ */
+public class TransposeTest {
+
+    @Test
+    public void testTransposeOddSizes() throws Exception {
+        int[][] sizes = {{1, 1}, {1, 40}, {40, 1}, {17, 33}, {50, 37}};
+        for (int[] size : sizes){
+            //Given
+            int rowCount = size[0];
+            int colCount = size[1];
+            double[] a = new double[3 + rowCount * colCount];
+            for (int i = 0; i < a.length; i++){
+                a[i] = i;
+            }
+            double[] c = new double[rowCount * colCount];
+
+            //When
+            Transpose.transpose(a, 3, colCount, 1, rowCount, colCount, c, 0, rowCount);
+
+            //Then
+            for (int i = 0; i < rowCount; i++){
+                for (int j = 0; j < colCount; j++){
+                    Assert.assertEquals(a[3 + i * colCount + j], c[j * rowCount + i], 0.0);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testTransposeBoxedStridedSource() throws Exception {
+        //Given
+        Object[] a = new Object[]{1, 2, 3, 4, 5, 6};
+        Object[] c = new Object[6];
+
+        //When
+        Transpose.transpose(a, 0, 1, 2, 2, 3, c, 0, 2); //Source is column-major 2 x 3
+
+        //Then
+        Assert.assertEquals(1, c[0]);
+        Assert.assertEquals(2, c[1]);
+        Assert.assertEquals(5, c[4]);
+        Assert.assertEquals(6, c[5]);
+    }
+}
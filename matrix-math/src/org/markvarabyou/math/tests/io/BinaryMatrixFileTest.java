@@ -0,0 +1,116 @@
+package org.markvarabyou.math.tests.io;
+
+import junit.framework.Assert;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.markvarabyou.math.common.ElementType;
+import org.markvarabyou.math.io.BinaryMatrixFile;
+import org.markvarabyou.math.io.MatrixFileHeader;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Test class for BinaryMatrixFile.
+ * Author: Mark Vorobyov
+ * Date: 10/19/26
+ * Time: 2:50 PM
+ */
+public class BinaryMatrixFileTest {
+    private File file;
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Before
+    public void setUp() throws Exception {
+        file = File.createTempFile("binary-matrix", ".bin");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        file.delete();
+    }
+
+    @Test
+    public void testWriteAndReadLargerThanBuffer() throws Exception {
+        //Given
+        Random random = new Random(7);
+        double[] values = new double[700 * 300]; //More than one buffer of payload
+        for (int i = 0; i < values.length; i++){
+            values[i] = random.nextDouble();
+        }
+
+        //When
+        new BinaryMatrixFile(new MatrixFileHeader(ElementType.DOUBLE, 700, 300), values).write(file.getPath());
+        BinaryMatrixFile restored = BinaryMatrixFile.read(file.getPath());
+
+        //Then
+        Assert.assertEquals(700, restored.getHeader().getRowCount());
+        Assert.assertEquals(300, restored.getHeader().getColCount());
+        Assert.assertEquals(MatrixFileHeader.SIZE + values.length * 8L, file.length());
+        Assert.assertTrue(Arrays.equals(values, (double[]) restored.getValues()));
+    }
+
+    @Test
+    public void testBigEndianIntPayload() throws Exception {
+        //Given
+        int[] values = new int[]{1, -2, 3, 1 << 20, 5, 6};
+        MatrixFileHeader header = new MatrixFileHeader(ElementType.INT, ByteOrder.BIG_ENDIAN, 2, 3);
+
+        //When
+        new BinaryMatrixFile(header, values).write(file.getPath());
+        BinaryMatrixFile restored = BinaryMatrixFile.read(file.getPath());
+
+        //Then
+        Assert.assertEquals(ByteOrder.BIG_ENDIAN, restored.getHeader().getByteOrder());
+        Assert.assertTrue(Arrays.equals(values, (int[]) restored.getValues()));
+        Assert.assertEquals(-2.0, restored.toDoubles()[1], 0.0);
+        Assert.assertEquals(1 << 20, restored.toBoxed()[3]);
+    }
+
+    @Test
+    public void testIsBinary() throws Exception {
+        //Given
+        FileWriter writer = new FileWriter(file);
+        writer.write("1\n1\n1.0\n");
+        writer.close();
+
+        //Then
+        Assert.assertFalse(BinaryMatrixFile.isBinary(file.getPath()));
+        BinaryMatrixFile.fromBoxed(1, 1, ElementType.FLOAT, new Object[]{1.5f}).write(file.getPath());
+        Assert.assertTrue(BinaryMatrixFile.isBinary(file.getPath()));
+    }
+
+    @Test
+    public void testReadFailsTruncatedFile() throws Exception {
+        //Given
+        new BinaryMatrixFile(new MatrixFileHeader(ElementType.DOUBLE, 2, 2), new double[4]).write(file.getPath());
+        RandomAccessFile truncated = new RandomAccessFile(file, "rw");
+        truncated.setLength(MatrixFileHeader.SIZE + 8);
+        truncated.close();
+        expectedException.expect(IOException.class);
+        expectedException.expectMessage("Matrix file is truncated");
+
+        //When
+        BinaryMatrixFile.read(file.getPath());
+    }
+
+    @Test
+    public void testInvalidValuesLength() throws Exception {
+        //Given
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Invalid values length");
+
+        //When
+        new BinaryMatrixFile(new MatrixFileHeader(ElementType.INT, 2, 2), new int[3]);
+    }
+}
@@ -0,0 +1,108 @@
+package org.markvarabyou.math.tests.io;
+
+import junit.framework.Assert;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.markvarabyou.math.common.ExecutionPolicy;
+import org.markvarabyou.math.io.TextMatrixFile;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Test class for TextMatrixFile.
+ * Author: Mark Vorobyov
+ * Date: 10/19/26
+ * Time: 5:05 PM
+ */
+public class TextMatrixFileTest {
+    private File file;
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    private void writeFile(String text) throws IOException {
+        FileWriter writer = new FileWriter(file);
+        writer.write(text);
+        writer.close();
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        file = File.createTempFile("text-matrix", ".csv");
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        file.delete();
+    }
+
+    @Test
+    public void testReadCsvWithMixedSeparators() throws Exception {
+        //Given
+        writeFile("1, 2.5;-3\r\n\r\n4e2\t+0.5 -1.25E-3\n");
+
+        //When
+        TextMatrixFile actual = TextMatrixFile.readCsv(file.getPath(), ExecutionPolicy.SEQUENTIAL);
+
+        //Then
+        Assert.assertEquals(2, actual.getRowCount());
+        Assert.assertEquals(3, actual.getColCount());
+        double[] expected = new double[]{1, 2.5, -3, 400, 0.5, -0.00125};
+        for (int i = 0; i < expected.length; i++){
+            Assert.assertEquals(expected[i], actual.getValues()[i], 0.0);
+        }
+    }
+
+    @Test
+    public void testReadMatchesDoubleParsing() throws Exception {
+        //Given
+        Random random = new Random(3);
+        String[] tokens = new String[]{"0", "-0.0", "123456789", "1e22", "1e-300", "NaN", "-Infinity",
+                "0.1", "3.141592653589793", "9007199254740993", "2.2250738585072014E-308"};
+        StringBuilder text = new StringBuilder("40\n1\n");
+        for (int i = 0; i < 40; i++){
+            String token = i < tokens.length ? tokens[i] : Double.toString(random.nextGaussian() * 1000);
+            text.append(token).append('\n');
+        }
+        writeFile(text.toString());
+
+        //When
+        TextMatrixFile actual = TextMatrixFile.read(file.getPath(), new ExecutionPolicy(new ForkJoinPool(2), 1));
+
+        //Then
+        String[] lines = text.toString().split("\n");
+        for (int i = 0; i < 40; i++){
+            Assert.assertEquals(Double.doubleToLongBits(Double.parseDouble(lines[i + 2])),
+                    Double.doubleToLongBits(actual.getValues()[i]));
+        }
+    }
+
+    @Test
+    public void testReadCsvFailsRaggedRows() throws Exception {
+        //Given
+        writeFile("1,2,3\n4,5\n");
+        expectedException.expect(IOException.class);
+        expectedException.expectMessage("Rows of matrix file have different length");
+
+        //When
+        TextMatrixFile.readCsv(file.getPath(), ExecutionPolicy.SEQUENTIAL);
+    }
+
+    @Test
+    public void testReadFailsInvalidCount() throws Exception {
+        //Given
+        writeFile("2\n2\n1.0\n2.0\n3.0\n");
+        expectedException.expect(IOException.class);
+        expectedException.expectMessage("Invalid count of matrix elements");
+
+        //When
+        TextMatrixFile.read(file.getPath(), ExecutionPolicy.SEQUENTIAL);
+    }
+}
@@ -0,0 +1,84 @@
+package org.markvarabyou.math.tests.iterative;
+
+import junit.framework.Assert;
+import org.junit.Test;
+import org.markvarabyou.math.arraybased.DoubleVector;
+import org.markvarabyou.math.arraylistbased.Matrix;
+import org.markvarabyou.math.common.Calculators.DoubleCalculator;
+import org.markvarabyou.math.iterative.BiCgStab;
+import org.markvarabyou.math.iterative.LinearOperator;
+import org.markvarabyou.math.iterative.SolverResult;
+import org.markvarabyou.math.sparse.CscMatrix;
+
+/**
+ * Test class for BiCgStab.
+ * Author: Mark Vorobyov
+ * Date: 10/21/26
+ * Time: 4:45 PM
+ */
+public class BiCgStabTest {
+
+    /**
+     * @return convection-diffusion matrix, diagonally dominant and not symmetric
+     */
+    private static Matrix<Double> convectionDiffusion(int n){
+        Double[] values = new Double[n * n];
+        for (int i = 0; i < values.length; i++){
+            values[i] = 0.0;
+        }
+        for (int i = 0; i < n; i++){
+            values[i * n + i] = 4.0 + i % 3;
+            if (i > 0)
+                values[i * n + i - 1] = -2.5;
+            if (i + 1 < n)
+                values[i * n + i + 1] = -0.5;
+            if (i + 5 < n)
+                values[i * n + i + 5] = 0.75;
+        }
+        return new Matrix<Double>(n, n, values, new DoubleCalculator());
+    }
+
+    @Test
+    public void testNonSymmetricSystemInDenseAndSparseFormats() throws Exception {
+        //Given
+        Matrix<Double> matrix = convectionDiffusion(200);
+        LinearOperator[] operators = {matrix.asOperator(),
+                new CscMatrix<Double>(matrix, new DoubleCalculator()).asOperator()};
+        DoubleVector b = new DoubleVector(200);
+        for (int i = 0; i < 200; i++){
+            b.set(i, Math.cos(i));
+        }
+
+        for (LinearOperator operator : operators){
+            BiCgStab solver = new BiCgStab(operator);
+            solver.setTolerance(1e-11);
+
+            //When
+            SolverResult result = solver.solve(b);
+
+            //Then
+            Assert.assertTrue(result.isConverged());
+            Assert.assertTrue(result.getIterations() < 100);
+            Assert.assertTrue(result.getResidual() <= 1e-11);
+            for (double value : ConjugateGradientTest.residual(operator, result.getSolution(), b)){
+                Assert.assertEquals(0.0, value, 1e-9);
+            }
+        }
+    }
+
+    @Test
+    public void testZeroRightHandSide() throws Exception {
+        //Given
+        BiCgStab solver = new BiCgStab(convectionDiffusion(4).asOperator());
+
+        //When
+        SolverResult result = solver.solve(new DoubleVector(4), new DoubleVector(new double[]{1, 2, 3, 4}));
+
+        //Then
+        Assert.assertTrue(result.isConverged());
+        Assert.assertEquals(0, result.getIterations());
+        for (int i = 0; i < 4; i++){
+            Assert.assertEquals(0.0, result.getSolution().get(i));
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package org.markvarabyou.math.tests.iterative;
+
+import junit.framework.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.markvarabyou.math.arraybased.DoubleMatrix;
+import org.markvarabyou.math.arraybased.DoubleVector;
+import org.markvarabyou.math.arraylistbased.Matrix;
+import org.markvarabyou.math.common.Calculators.IntCalculator;
+import org.markvarabyou.math.iterative.ConjugateGradient;
+import org.markvarabyou.math.iterative.IterationListener;
+import org.markvarabyou.math.iterative.LinearOperator;
+import org.markvarabyou.math.iterative.SolverResult;
+import org.markvarabyou.math.sparse.CsrMatrix;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Test class for ConjugateGradient.
+ * Author: Mark Vorobyov
+ * Date: 10/21/26
+ * Time: 4:20 PM
+ */
+public class ConjugateGradientTest {
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    /**
+     * @return 5-point Laplacian of size x size grid with growing diagonal, symmetric positive definite
+     */
+    static CsrMatrix<Integer> laplacian(int size){
+        int n = size * size;
+        Integer[] values = new Integer[n * n];
+        for (int i = 0; i < values.length; i++){
+            values[i] = 0;
+        }
+        for (int i = 0; i < n; i++){
+            values[i * n + i] = 4 + i % 7;
+            if (i % size > 0)
+                values[i * n + i - 1] = values[(i - 1) * n + i] = -1;
+            if (i >= size)
+                values[i * n + i - size] = values[(i - size) * n + i] = -1;
+        }
+        IntCalculator calculator = new IntCalculator();
+        return new CsrMatrix<Integer>(new Matrix<Integer>(n, n, values, calculator), calculator);
+    }
+
+    static double[] residual(LinearOperator operator, DoubleVector x, DoubleVector b){
+        int n = b.getLength();
+        double[] values = new double[n];
+        double[] product = new double[n];
+        for (int i = 0; i < n; i++){
+            values[i] = x.get(i);
+        }
+        operator.apply(values, product);
+        for (int i = 0; i < n; i++){
+            product[i] -= b.get(i);
+        }
+        return product;
+    }
+
+    @Test
+    public void testSparseSystemConvergesWithPreconditioning() throws Exception {
+        //Given
+        LinearOperator operator = laplacian(12).asOperator();
+        DoubleVector b = new DoubleVector(144);
+        for (int i = 0; i < 144; i++){
+            b.set(i, Math.sin(i));
+        }
+        ConjugateGradient solver = new ConjugateGradient(operator);
+        solver.setTolerance(1e-12);
+        final List<Double> reported = new ArrayList<Double>();
+        solver.setListener(new IterationListener() {
+            @Override
+            public void iterationDone(int iteration, double residual) {
+                Assert.assertEquals(reported.size() + 1, iteration);
+                reported.add(residual);
+            }
+        });
+
+        //When
+        SolverResult result = solver.solve(b);
+        solver.setListener(null);
+        solver.setPreconditioned(false);
+        SolverResult plain = solver.solve(b);
+
+        //Then
+        Assert.assertTrue(result.isConverged());
+        Assert.assertTrue(result.getResidual() <= 1e-12);
+        Assert.assertEquals(result.getIterations() + 1, result.getResiduals().length);
+        Assert.assertEquals(1.0, result.getResiduals()[0], 1e-15);
+        Assert.assertEquals(result.getResidual(), reported.get(result.getIterations() - 1));
+        Assert.assertTrue(result.getIterations() <= plain.getIterations());
+        for (double value : residual(operator, result.getSolution(), b)){
+            Assert.assertEquals(0.0, value, 1e-9);
+        }
+    }
+
+    @Test
+    public void testDenseSystemFromInitialGuess() throws Exception {
+        //Given
+        DoubleMatrix matrix = new DoubleMatrix(3, 3, new double[]{4, 1, 0, 1, 3, 1, 0, 1, 2});
+        DoubleVector b = new DoubleVector(new double[]{5, 5, 3});
+        ConjugateGradient solver = new ConjugateGradient(matrix.asOperator());
+
+        //When
+        SolverResult exact = solver.solve(b, new DoubleVector(new double[]{1, 1, 1}));
+        SolverResult result = solver.solve(b, new DoubleVector(new double[]{0, 2, 0}));
+
+        //Then
+        Assert.assertEquals(0, exact.getIterations());
+        Assert.assertTrue(exact.isConverged());
+        Assert.assertTrue(result.getIterations() <= 3);
+        for (int i = 0; i < 3; i++){
+            Assert.assertEquals(1.0, result.getSolution().get(i), 1e-10);
+        }
+    }
+
+    @Test
+    public void testIterationsLimit() throws Exception {
+        //Given
+        ConjugateGradient solver = new ConjugateGradient(laplacian(10).asOperator());
+        solver.setMaxIterations(3);
+        DoubleVector b = new DoubleVector(100);
+        b.set(0, 1);
+
+        //When
+        SolverResult result = solver.solve(b);
+
+        //Then
+        Assert.assertFalse(result.isConverged());
+        Assert.assertEquals(3, result.getIterations());
+        Assert.assertTrue(result.getResidual() < result.getResiduals()[0]);
+    }
+
+    @Test
+    public void testUnboundedIterationsLimit() throws Exception {
+        //Given
+        int n = 150; //Ill-conditioned second difference matrix needs more iterations than initial history holds
+        DoubleMatrix matrix = new DoubleMatrix(n, n);
+        for (int i = 0; i < n; i++){
+            matrix.set(i, i, 2);
+            if (i > 0)
+                matrix.set(i, i - 1, -1);
+            if (i + 1 < n)
+                matrix.set(i, i + 1, -1);
+        }
+        ConjugateGradient solver = new ConjugateGradient(matrix.asOperator());
+        solver.setMaxIterations(Integer.MAX_VALUE);
+        solver.setPreconditioned(false);
+        DoubleVector b = new DoubleVector(n);
+        b.set(0, 1);
+
+        //When
+        SolverResult result = solver.solve(b);
+
+        //Then
+        Assert.assertTrue(result.isConverged());
+        Assert.assertTrue(result.getIterations() > 64);
+        Assert.assertEquals(result.getIterations() + 1, result.getResiduals().length);
+        Assert.assertTrue(result.getResidual() <= solver.getTolerance());
+    }
+
+    @Test
+    public void testNotSquareMatrix() throws Exception {
+        //Then
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Matrix is not square");
+
+        //When
+        new ConjugateGradient(new DoubleMatrix(2, 3).asOperator());
+    }
+}
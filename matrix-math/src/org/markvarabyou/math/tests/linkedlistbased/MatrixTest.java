@@ -8,6 +8,14 @@ import org.junit.rules.ExpectedException;
 import org.markvarabyou.math.linkedlistbased.Matrix;
 import org.markvarabyou.math.linkedlistbased.Vector;
 import org.markvarabyou.math.common.Calculators.DoubleCalculator;
+import org.markvarabyou.math.common.Calculators.IntCalculator;
+import org.markvarabyou.math.common.Calculators.ModularCalculator;
+import org.markvarabyou.math.common.ExecutionPolicy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Test class for Matrix
@@ -338,6 +346,29 @@ public class MatrixTest {
         }
     }
 
+    @Test
+    public void testParallelMultiplyMatchesSequential() throws Exception {
+        //Given
+        Double[] values = new Double[40 * 30];
+        for (int i = 0; i < values.length; i++){
+            values[i] = (double) (i % 13);
+        }
+        Matrix<Double> first = new Matrix<Double>(40, 30, values, calculator);
+        Matrix<Double> second = new Matrix<Double>(30, 40, values, calculator);
+        Matrix<Double> expected = first.multiply(second);
+        first.setExecutionPolicy(new ExecutionPolicy(new ForkJoinPool(4), 100));
+
+        //When
+        Matrix<Double> actual = first.multiply(second);
+
+        //Then
+        for (int i = 0; i < actual.getRowCount(); i++){
+            for (int j = 0; j < actual.getColCount(); j++){
+                Assert.assertEquals(expected.get(i, j), actual.get(i, j));
+            }
+        }
+    }
+
     @Test
     public void testMultiplyMatricesFails() throws Exception {
         //Given
@@ -349,4 +380,166 @@ public class MatrixTest {
         //When
         first.multiply(second); //Trying to multiply non consistent matrices
     }
+
+    @Test
+    public void testInPlaceOperations() throws Exception {
+        //Given
+        Matrix<Double> expected = doubleMatrix.add(doubleMatrix).multiply(3.0);
+
+        //When
+        Matrix<Double> actual = doubleMatrix.addInPlace(restoreTestMatrix()).scaleInPlace(3.0);
+
+        //Then
+        Assert.assertSame(doubleMatrix, actual);
+        for (int i = 0; i < initRowCount; i++){
+            for (int j = 0; j < initColCount; j++){
+                Assert.assertEquals(expected.get(i, j), actual.get(i, j));
+            }
+        }
+    }
+
+    @Test
+    public void testMultiplyIntoAndAccumulate() throws Exception {
+        //Given
+        Matrix<Double> product = doubleMatrix.multiply(doubleMatrix);
+        Matrix<Double> dest = new Matrix<Double>(initRowCount, initColCount, new Double[]{9.0, 9.0, 9.0, 9.0},
+                calculator);
+
+        //When
+        Matrix.multiplyInto(doubleMatrix, restoreTestMatrix(), dest);
+        Matrix.multiplyAccumulate(doubleMatrix, restoreTestMatrix(), dest);
+
+        //Then
+        for (int i = 0; i < initRowCount; i++){
+            for (int j = 0; j < initColCount; j++){
+                Assert.assertEquals(product.get(i, j) * 2, dest.get(i, j));
+            }
+        }
+    }
+
+    @Test
+    public void testMultiplyIntoAcrossPanelsReusesWorkspace() throws Exception {
+        //Given
+        Random random = new Random(13);
+        int m = 5, k = 300, n = 7; //Inner size spans two panels of packed second operand
+        Integer[] first = new Integer[m * k];
+        Integer[] second = new Integer[k * n];
+        Long[] residues = new Long[m * k];
+        Long[] residuesB = new Long[k * n];
+        for (int i = 0; i < first.length; i++){
+            first[i] = random.nextInt(201) - 100;
+            residues[i] = (long) random.nextInt(1000003);
+        }
+        for (int i = 0; i < second.length; i++){
+            second[i] = random.nextInt(201) - 100;
+            residuesB[i] = (long) random.nextInt(1000003);
+        }
+        Matrix<Integer> a = new Matrix<Integer>(m, k, first, new IntCalculator());
+        Matrix<Integer> b = new Matrix<Integer>(k, n, second, new IntCalculator());
+        Matrix<Integer> dest = new Matrix<Integer>(m, n, new IntCalculator());
+        Matrix<Long> modularA = new Matrix<Long>(m, k, residues, new ModularCalculator(1000003));
+        Matrix<Long> modularB = new Matrix<Long>(k, n, residuesB, new ModularCalculator(1000003));
+        Matrix<Long> modularDest = new Matrix<Long>(m, n, new ModularCalculator(1000003));
+        Matrix<Integer> product = a.multiply(b);
+        Matrix<Long> modularProduct = modularA.multiply(modularB);
+
+        //When
+        Matrix.multiplyInto(a, b, dest);
+        Matrix.multiplyInto(a, b, dest);
+        Matrix.multiplyAccumulate(a, b, dest);
+        Matrix.multiplyInto(modularA, modularB, modularDest);
+        Matrix.multiplyAccumulate(modularA, modularB, modularDest);
+
+        //Then
+        for (int i = 0; i < m; i++){
+            for (int j = 0; j < n; j++){
+                Assert.assertEquals(Integer.valueOf(product.get(i, j) * 2), dest.get(i, j));
+                Assert.assertEquals(Long.valueOf(modularProduct.get(i, j) * 2 % 1000003), modularDest.get(i, j));
+            }
+        }
+    }
+
+    @Test
+    public void testMultiplyIntoFailsSameDestination() throws Exception {
+        //Given
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Destination matrix should differ from operands");
+
+        //When
+        Matrix.multiplyInto(doubleMatrix, restoreTestMatrix(), doubleMatrix);
+    }
+
+    @Test
+    public void testInsertAndRemoveRowsMatchesArrayList() throws Exception {
+        //Given
+        int colCount = 7;
+        Random random = new Random(21);
+        List<Double[]> expected = new ArrayList<Double[]>();
+        Matrix<Double> matrix = new Matrix<Double>(0, colCount, calculator);
+
+        //When
+        for (int step = 0; step < 300; step++){
+            if (expected.isEmpty() || random.nextInt(3) > 0){
+                Double[] row = new Double[colCount];
+                for (int j = 0; j < colCount; j++){
+                    row[j] = (double) (step * colCount + j);
+                }
+                int position = random.nextInt(expected.size() + 1);
+                expected.add(position, row);
+                if (position == matrix.getRowCount())
+                    matrix.addRow(new Vector<Double>(row, calculator));
+                else
+                    matrix.insertRow(position, new Vector<Double>(row, calculator));
+            } else {
+                int position = random.nextInt(expected.size());
+                expected.remove(position);
+                matrix.removeRow(position);
+            }
+        }
+
+        //Then
+        Assert.assertEquals(expected.size(), matrix.getRowCount());
+        for (int i = 0; i < expected.size(); i++){
+            Vector<Double> row = matrix.getRow(i);
+            for (int j = 0; j < colCount; j++){
+                Assert.assertEquals(expected.get(i)[j], matrix.get(i, j));
+                Assert.assertEquals(expected.get(i)[j], row.get(j));
+            }
+        }
+        Vector<Double> col = matrix.getCol(3);
+        for (int i = 0; i < expected.size(); i++){
+            Assert.assertEquals(expected.get(i)[3], col.get(i));
+        }
+    }
+
+    @Test
+    public void testSetColumnOfLargeMatrix() throws Exception {
+        //Given
+        Matrix<Double> matrix = new Matrix<Double>(50, 30, calculator);
+        Double[] values = new Double[50];
+        for (int i = 0; i < values.length; i++){
+            values[i] = (double) i;
+        }
+
+        //When
+        matrix.setCol(29, new Vector<Double>(values, calculator));
+        matrix.set(49, 0, -1.0);
+
+        //Then
+        for (int i = 0; i < 50; i++){
+            Assert.assertEquals((double) i, matrix.get(i, 29));
+            Assert.assertEquals(i == 49 ? -1.0 : 0.0, matrix.get(i, 0));
+        }
+        Assert.assertEquals(49.0 * 50 / 2 - 1, matrix.getCol(29).sumElements() + matrix.getCol(0).sumElements());
+    }
+
+    @Test
+    public void testRemoveRowFails() throws Exception {
+        //Given
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Index is out of range");
+
+        //When
+        doubleMatrix.removeRow(initRowCount);
+    }
 }
@@ -0,0 +1,163 @@
+package org.markvarabyou.math.tests.mapped;
+
+import junit.framework.Assert;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.markvarabyou.math.arraybased.DoubleMatrix;
+import org.markvarabyou.math.arraybased.DoubleVector;
+import org.markvarabyou.math.mapped.MappedDoubleMatrix;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.Random;
+
+/**
+ * Test class for MappedDoubleMatrix.
+ * Author: Mark Vorobyov
+ * Date: 10/19/26
+ * Time: 11:40 AM
+ */
+public class MappedDoubleMatrixTest {
+    private File file;
+    private File resultFile;
+    private MappedDoubleMatrix matrix;
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    private static File createTempFile() throws IOException {
+        File file = File.createTempFile("mapped-matrix", ".bin");
+        file.deleteOnExit();
+        return file;
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        file = createTempFile();
+        resultFile = createTempFile();
+        matrix = new MappedDoubleMatrix(file.getPath(), 3, 2);
+    }
+
+    @After
+    public void tearDown() throws Exception {
+        matrix.close();
+    }
+
+    @Test
+    public void testNewMatrixIsZero() throws Exception {
+        //Then
+        Assert.assertEquals(3, matrix.getRowCount());
+        Assert.assertEquals(2, matrix.getColCount());
+        Assert.assertEquals(0.0, matrix.get(2, 1), 0.0);
+    }
+
+    @Test
+    public void testSetAndReopen() throws Exception {
+        //Given
+        matrix.set(2, 1, 5.5);
+        matrix.setRow(0, new DoubleVector(new double[] {1.0, 2.0}));
+        matrix.close();
+
+        //When
+        matrix = new MappedDoubleMatrix(file.getPath());
+
+        //Then
+        Assert.assertEquals(5.5, matrix.get(2, 1), 0.0);
+        Assert.assertEquals(2.0, matrix.getRow(0).get(1), 0.0);
+        Assert.assertEquals(5.5, matrix.getCol(1).get(2), 0.0);
+    }
+
+    @Test
+    public void testReadOnlyReopen() throws Exception {
+        //Given
+        matrix.set(1, 0, 2.5);
+        matrix.close();
+        Assert.assertTrue(file.setReadOnly());
+        matrix = new MappedDoubleMatrix(file.getPath(), true);
+        expectedException.expect(UnsupportedOperationException.class);
+        expectedException.expectMessage("Matrix file is opened only for reading");
+
+        //Then
+        Assert.assertTrue(matrix.isReadOnly());
+        Assert.assertEquals(2.5, matrix.get(1, 0), 0.0);
+        Assert.assertEquals(2.5, matrix.toDoubleMatrix().get(1, 0), 0.0);
+
+        //When
+        matrix.set(1, 0, 3.0);
+    }
+
+    @Test
+    public void testGetFails() throws Exception {
+        //Given
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Invalid row or column index");
+
+        //When
+        matrix.get(3, 0); //Wrong row index
+    }
+
+    @Test
+    public void testOpenFailsOnTextFile() throws Exception {
+        //Given
+        expectedException.expect(IOException.class);
+        FileWriter writer = new FileWriter(resultFile);
+        writer.write("3\n2\n1.0\n2.0\n3.0\n4.0\n5.0\n6.0\n");
+        writer.close();
+
+        //When
+        new MappedDoubleMatrix(resultFile.getPath());
+    }
+
+    @Test
+    public void testToDoubleMatrixFailsTooLarge() throws Exception {
+        //Given
+        MappedDoubleMatrix large = new MappedDoubleMatrix(resultFile.getPath(), 1 << 16, (1 << 15) + 1); //Sparse file
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Matrix does not fit into heap array");
+
+        //When
+        try {
+            large.toDoubleMatrix();
+        } finally {
+            large.close();
+            Assert.assertTrue(resultFile.delete());
+        }
+    }
+
+    @Test
+    public void testMultiply() throws Exception {
+        //Given
+        Random random = new Random(3);
+        int rows = 600, inner = 530, cols = 70;
+        MappedDoubleMatrix first = new MappedDoubleMatrix(createTempFile().getPath(), rows, inner);
+        MappedDoubleMatrix second = new MappedDoubleMatrix(createTempFile().getPath(), inner, cols);
+        for (int i = 0; i < rows; i++){
+            for (int j = 0; j < inner; j++){
+                first.set(i, j, random.nextDouble());
+            }
+        }
+        for (int i = 0; i < inner; i++){
+            for (int j = 0; j < cols; j++){
+                second.set(i, j, random.nextDouble());
+            }
+        }
+        DoubleMatrix expected = first.toDoubleMatrix().multiply(second.toDoubleMatrix());
+
+        //When
+        MappedDoubleMatrix actual = first.multiply(second, resultFile.getPath());
+
+        //Then
+        for (int i = 0; i < rows; i++){
+            for (int j = 0; j < cols; j++){
+                Assert.assertEquals(expected.get(i, j), actual.get(i, j), 1e-9);
+            }
+        }
+        first.close();
+        second.close();
+        actual.close();
+    }
+}
@@ -0,0 +1,105 @@
+package org.markvarabyou.math.tests.primitive;
+
+import junit.framework.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.markvarabyou.math.common.ExecutionPolicy;
+import org.markvarabyou.math.primitive.IntMatrix;
+import org.markvarabyou.math.primitive.IntVector;
+import org.markvarabyou.math.primitive.LongMatrix;
+import org.markvarabyou.math.primitive.LongVector;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Test class for matrices and vectors generated from primitive templates.
+ * Author: Mark Vorobyov
+ * Date: 10/22/26
+ * Time: 4:10 PM
+ */
+public class PrimitiveMatricesTest {
+    private Random random = new Random(25);
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    @Test
+    public void testIntMatrixOperations() throws Exception {
+        //Given
+        IntMatrix matrix = new IntMatrix(2, 3, new int[]{1, 2, 3, 4, 5, 6});
+        IntVector vector = new IntVector(new int[]{1, 0, -1});
+
+        //When
+        IntMatrix product = matrix.multiply(matrix.transpose());
+        IntVector column = matrix.multiply(vector);
+        IntMatrix sum = matrix.add(matrix.multiply(2));
+        int previous = matrix.set(1, 2, 7);
+
+        //Then
+        Assert.assertEquals(14, product.get(0, 0));
+        Assert.assertEquals(32, product.get(0, 1));
+        Assert.assertEquals(77, product.get(1, 1));
+        Assert.assertEquals(-2, column.get(0));
+        Assert.assertEquals(-2, column.get(1));
+        Assert.assertEquals(63, sum.sumElements());
+        Assert.assertEquals(6, previous);
+        Assert.assertEquals(7, matrix.getCol(2).get(1));
+        Assert.assertEquals(4, matrix.getRow(1).get(0));
+    }
+
+    @Test
+    public void testLongProductMatchesNaiveLoop() throws Exception {
+        //Given
+        int m = 37, k = 300, n = 29;
+        long[] a = new long[m * k];
+        long[] b = new long[k * n];
+        for (int i = 0; i < a.length; i++){
+            a[i] = random.nextInt(2000001) - 1000000;
+        }
+        for (int i = 0; i < b.length; i++){
+            b[i] = random.nextInt(2000001) - 1000000;
+        }
+        LongMatrix first = new LongMatrix(m, k, a);
+        first.setExecutionPolicy(new ExecutionPolicy(new ForkJoinPool(3), 100));
+
+        //When
+        LongMatrix product = first.multiply(new LongMatrix(k, n, b));
+
+        //Then
+        for (int i = 0; i < m; i++){
+            for (int j = 0; j < n; j++){
+                long expected = 0;
+                for (int p = 0; p < k; p++){
+                    expected += a[i * k + p] * b[p * n + j];
+                }
+                Assert.assertEquals(expected, product.get(i, j));
+            }
+        }
+        LongVector ones = new LongVector(n);
+        for (int j = 0; j < n; j++){
+            ones.set(j, 1L);
+        }
+        Assert.assertEquals(product.getRow(3).sumElements(), product.getRow(3).dot(ones));
+    }
+
+    @Test
+    public void testMultiplyNotConsistentMatrices() throws Exception {
+        //Then
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Matrices are not consistent");
+
+        //When
+        new IntMatrix(2, 3).multiply(new IntMatrix(2, 3));
+    }
+
+    @Test
+    public void testVectorIndexOutOfRange() throws Exception {
+        //Then
+        exception.expect(IndexOutOfBoundsException.class);
+
+        //When
+        new IntVector(2).get(2);
+    }
+}
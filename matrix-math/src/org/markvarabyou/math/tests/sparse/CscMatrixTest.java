@@ -0,0 +1,102 @@
+package org.markvarabyou.math.tests.sparse;
+
+import junit.framework.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.markvarabyou.math.arraylistbased.Matrix;
+import org.markvarabyou.math.arraylistbased.Vector;
+import org.markvarabyou.math.common.Calculators.IntCalculator;
+import org.markvarabyou.math.sparse.CscMatrix;
+
+/**
+ * Test class for CscMatrix.
+ * Author: Mark Vorobyov
+ * Date: 10/18/26
+ * Time: 6:50 PM
+ */
+public class CscMatrixTest {
+    private IntCalculator calculator = new IntCalculator();
+    private Matrix<Integer> dense;
+    private CscMatrix<Integer> sparse;
+
+    //Test data
+    private Integer[] values = new Integer[] {
+            0, 2, 0,
+            1, 0, 5,
+            0, 0, 0,
+            0, 7, 0
+    };
+
+    private static void assertMatrixEquals(Matrix<Integer> expected, Matrix<Integer> actual){
+        Assert.assertEquals(expected.getRowCount(), actual.getRowCount());
+        Assert.assertEquals(expected.getColCount(), actual.getColCount());
+        for (int i = 0; i < expected.getRowCount(); i++){
+            for (int j = 0; j < expected.getColCount(); j++){
+                Assert.assertEquals(expected.get(i, j), actual.get(i, j));
+            }
+        }
+    }
+
+    @Before
+    public void setUp() throws Exception {
+        dense = new Matrix<Integer>(4, 3, values, calculator);
+        sparse = new CscMatrix<Integer>(dense, calculator);
+    }
+
+    @Test
+    public void testFromDense() throws Exception {
+        //Then
+        Assert.assertEquals(4, sparse.getNonZeroCount());
+        Assert.assertEquals(Integer.valueOf(7), sparse.get(3, 1));
+        Assert.assertEquals(Integer.valueOf(0), sparse.get(2, 1));
+        assertMatrixEquals(dense, sparse.toDense());
+    }
+
+    @Test
+    public void testMultiplySparse() throws Exception {
+        //Given
+        Matrix<Integer> second = new Matrix<Integer>(3, 2, new Integer[] {1, 0, 0, 2, 3, 0}, calculator);
+
+        //When
+        CscMatrix<Integer> actual = sparse.multiply(new CscMatrix<Integer>(second, calculator));
+
+        //Then
+        assertMatrixEquals(dense.multiply(second), actual.toDense());
+    }
+
+    @Test
+    public void testMultiplyDense() throws Exception {
+        //Given
+        Matrix<Integer> second = new Matrix<Integer>(3, 2, new Integer[] {1, 4, 2, 2, 3, 8}, calculator);
+
+        //When
+        Matrix<Integer> actual = sparse.multiply(second);
+
+        //Then
+        assertMatrixEquals(dense.multiply(second), actual);
+    }
+
+    @Test
+    public void testMultiplyVector() throws Exception {
+        //Given
+        Vector<Integer> vector = new Vector<Integer>(new Integer[] {1, 2, 3}, calculator);
+
+        //When
+        Vector<Integer> actual = sparse.multiply(vector);
+
+        //Then
+        Assert.assertEquals(Integer.valueOf(4), actual.get(0));
+        Assert.assertEquals(Integer.valueOf(16), actual.get(1));
+        Assert.assertEquals(Integer.valueOf(0), actual.get(2));
+        Assert.assertEquals(Integer.valueOf(14), actual.get(3));
+    }
+
+    @Test
+    public void testToCsr() throws Exception {
+        //When
+        Matrix<Integer> actual = sparse.toCsr().toDense();
+
+        //Then
+        assertMatrixEquals(dense, actual);
+    }
+}
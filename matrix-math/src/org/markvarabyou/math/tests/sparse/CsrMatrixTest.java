@@ -0,0 +1,146 @@
+package org.markvarabyou.math.tests.sparse;
+
+import junit.framework.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.markvarabyou.math.arraylistbased.Matrix;
+import org.markvarabyou.math.arraylistbased.Vector;
+import org.markvarabyou.math.common.Calculators.IntCalculator;
+import org.markvarabyou.math.sparse.CsrMatrix;
+
+/**
+ * Test class for CsrMatrix.
+ * Author: Mark Vorobyov
+ * Date: 10/18/26
+ * Time: 6:35 PM
+ */
+public class CsrMatrixTest {
+    private IntCalculator calculator = new IntCalculator();
+    private Matrix<Integer> dense;
+    private CsrMatrix<Integer> sparse;
+
+    //Test data
+    private Integer[] values = new Integer[] {
+            0, 2, 0, 0,
+            1, 0, 0, 3,
+            0, 0, 0, 0
+    };
+
+    private static void assertMatrixEquals(Matrix<Integer> expected, Matrix<Integer> actual){
+        Assert.assertEquals(expected.getRowCount(), actual.getRowCount());
+        Assert.assertEquals(expected.getColCount(), actual.getColCount());
+        for (int i = 0; i < expected.getRowCount(); i++){
+            for (int j = 0; j < expected.getColCount(); j++){
+                Assert.assertEquals(expected.get(i, j), actual.get(i, j));
+            }
+        }
+    }
+
+    @Rule
+    public ExpectedException expectedException = ExpectedException.none();
+
+    @Before
+    public void setUp() throws Exception {
+        dense = new Matrix<Integer>(3, 4, values, calculator);
+        sparse = new CsrMatrix<Integer>(dense, calculator);
+    }
+
+    @Test
+    public void testFromDense() throws Exception {
+        //Then
+        Assert.assertEquals(3, sparse.getNonZeroCount());
+        Assert.assertEquals(Integer.valueOf(3), sparse.get(1, 3));
+        Assert.assertEquals(Integer.valueOf(0), sparse.get(2, 2));
+        assertMatrixEquals(dense, sparse.toDense());
+    }
+
+    @Test
+    public void testFromArrays() throws Exception {
+        //When
+        CsrMatrix<Integer> matrix = new CsrMatrix<Integer>(3, 4, new int[] {0, 1, 3, 3}, new int[] {1, 0, 3},
+                new Integer[] {2, 1, 3}, calculator);
+
+        //Then
+        assertMatrixEquals(dense, matrix.toDense());
+    }
+
+    @Test
+    public void testFromArraysFailsUnsortedIndices() throws Exception {
+        //Given
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Indices should be sorted and in range");
+
+        //When
+        new CsrMatrix<Integer>(1, 4, new int[] {0, 2}, new int[] {3, 1}, new Integer[] {1, 1}, calculator);
+    }
+
+    @Test
+    public void testGetFails() throws Exception {
+        //Given
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Invalid row or column index");
+
+        //When
+        sparse.get(3, 0); //Wrong row index
+    }
+
+    @Test
+    public void testMultiplySparse() throws Exception {
+        //Given
+        Matrix<Integer> second = new Matrix<Integer>(4, 2, new Integer[] {1, 0, 0, 2, 0, 0, 4, 0}, calculator);
+
+        //When
+        CsrMatrix<Integer> actual = sparse.multiply(new CsrMatrix<Integer>(second, calculator));
+
+        //Then
+        assertMatrixEquals(dense.multiply(second), actual.toDense());
+        Assert.assertEquals(2, actual.getNonZeroCount());
+    }
+
+    @Test
+    public void testMultiplyDense() throws Exception {
+        //Given
+        Matrix<Integer> second = new Matrix<Integer>(4, 2, new Integer[] {1, 5, 7, 2, 3, 3, 4, 6}, calculator);
+
+        //When
+        Matrix<Integer> actual = sparse.multiply(second);
+
+        //Then
+        assertMatrixEquals(dense.multiply(second), actual);
+    }
+
+    @Test
+    public void testMultiplyVector() throws Exception {
+        //Given
+        Vector<Integer> vector = new Vector<Integer>(new Integer[] {1, 2, 3, 4}, calculator);
+
+        //When
+        Vector<Integer> actual = sparse.multiply(vector);
+
+        //Then
+        Assert.assertEquals(Integer.valueOf(4), actual.get(0));
+        Assert.assertEquals(Integer.valueOf(13), actual.get(1));
+        Assert.assertEquals(Integer.valueOf(0), actual.get(2));
+    }
+
+    @Test
+    public void testMultiplyFails() throws Exception {
+        //Given
+        expectedException.expect(IllegalArgumentException.class);
+        expectedException.expectMessage("Matrices are not consistent");
+
+        //When
+        sparse.multiply(sparse); //Trying to multiply non consistent matrices
+    }
+
+    @Test
+    public void testToCsc() throws Exception {
+        //When
+        Matrix<Integer> actual = sparse.toCsc().toDense();
+
+        //Then
+        assertMatrixEquals(dense, actual);
+    }
+}
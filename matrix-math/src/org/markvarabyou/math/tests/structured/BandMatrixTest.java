@@ -0,0 +1,142 @@
+package org.markvarabyou.math.tests.structured;
+
+import junit.framework.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.markvarabyou.math.arraylistbased.Matrix;
+import org.markvarabyou.math.arraylistbased.Vector;
+import org.markvarabyou.math.common.Calculators.LongCalculator;
+import org.markvarabyou.math.structured.BandMatrix;
+
+import java.util.Random;
+
+/**
+ * Test class for BandMatrix.
+ * Author: Mark Vorobyov
+ * Date: 10/22/26
+ * Time: 1:15 PM
+ */
+public class BandMatrixTest {
+    private LongCalculator calculator = new LongCalculator();
+    private Random random = new Random(24);
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private BandMatrix<Long> randomMatrix(int rowCount, int colCount, int lower, int upper){
+        BandMatrix<Long> matrix = new BandMatrix<Long>(rowCount, colCount, lower, upper, calculator);
+        for (int i = 0; i < rowCount; i++){
+            for (int j = Math.max(0, i - lower); j <= Math.min(colCount - 1, i + upper); j++){
+                matrix.set(i, j, (long) random.nextInt(19) - 9);
+            }
+        }
+        return matrix;
+    }
+
+    private static <T> void assertMatrixEquals(Matrix<T> expected, Matrix<T> actual){
+        Assert.assertEquals(expected.getRowCount(), actual.getRowCount());
+        Assert.assertEquals(expected.getColCount(), actual.getColCount());
+        for (int i = 0; i < actual.getRowCount(); i++){
+            for (int j = 0; j < actual.getColCount(); j++){
+                Assert.assertEquals(expected.get(i, j), actual.get(i, j));
+            }
+        }
+    }
+
+    @Test
+    public void testProductsMatchDense() throws Exception {
+        //Given
+        BandMatrix<Long> first = randomMatrix(9, 7, 2, 1);
+        BandMatrix<Long> second = randomMatrix(7, 6, 0, 3);
+        Matrix<Long> dense = first.toDense();
+        Long[] values = new Long[14];
+        for (int i = 0; i < values.length; i++){
+            values[i] = (long) i - 5;
+        }
+        Matrix<Long> other = new Matrix<Long>(7, 2, values, calculator);
+        Vector<Long> vector = other.getCol(0);
+
+        //When
+        BandMatrix<Long> product = first.multiply(second);
+        Matrix<Long> denseProduct = first.multiply(other);
+        Vector<Long> vectorProduct = first.multiply(vector);
+
+        //Then
+        Assert.assertEquals(2, product.getLowerBandwidth());
+        Assert.assertEquals(4, product.getUpperBandwidth());
+        assertMatrixEquals(dense.multiply(second.toDense()), product.toDense());
+        assertMatrixEquals(dense.multiply(other), denseProduct);
+        Vector<Long> expected = dense.multiply(vector);
+        for (int i = 0; i < 9; i++){
+            Assert.assertEquals(expected.get(i), vectorProduct.get(i));
+        }
+        assertMatrixEquals(dense.multiply(3L), first.multiply(3L).toDense());
+    }
+
+    @Test
+    public void testAddWidensBand() throws Exception {
+        //Given
+        BandMatrix<Long> first = randomMatrix(6, 6, 1, 0);
+        BandMatrix<Long> second = randomMatrix(6, 6, 0, 2);
+
+        //When
+        BandMatrix<Long> sum = first.add(second);
+
+        //Then
+        Assert.assertEquals(1, sum.getLowerBandwidth());
+        Assert.assertEquals(2, sum.getUpperBandwidth());
+        assertMatrixEquals(first.toDense().add(second.toDense()), sum.toDense());
+    }
+
+    @Test
+    public void testLargeTridiagonalProduct() throws Exception {
+        //Given
+        int n = 200000;
+        BandMatrix<Long> stencil = new BandMatrix<Long>(n, n, 1, 1, calculator);
+        for (int i = 0; i < n; i++){
+            stencil.set(i, i, 2L);
+            if (i > 0)
+                stencil.set(i, i - 1, -1L);
+            if (i + 1 < n)
+                stencil.set(i, i + 1, -1L);
+        }
+
+        //When
+        BandMatrix<Long> square = stencil.multiply(stencil);
+
+        //Then
+        Assert.assertEquals(2, square.getUpperBandwidth());
+        Assert.assertEquals(5L, (long) square.get(0, 0));
+        Assert.assertEquals(6L, (long) square.get(n / 2, n / 2));
+        Assert.assertEquals(-4L, (long) square.get(n / 2, n / 2 + 1));
+        Assert.assertEquals(1L, (long) square.get(n / 2, n / 2 - 2));
+        Assert.assertEquals(0L, (long) square.get(0, n - 1));
+    }
+
+    @Test
+    public void testFromDenseMatrix() throws Exception {
+        //Given
+        Matrix<Long> dense = new Matrix<Long>(3, 3, new Long[]{1L, 2L, 0L, 3L, 4L, 5L, 0L, 6L, 7L}, calculator);
+
+        //When
+        BandMatrix<Long> matrix = new BandMatrix<Long>(dense, 1, 5, calculator);
+
+        //Then
+        Assert.assertEquals(2, matrix.getUpperBandwidth());
+        assertMatrixEquals(dense, matrix.toDense());
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Element is outside of band");
+        new BandMatrix<Long>(dense, 0, 1, calculator);
+    }
+
+    @Test
+    public void testInvalidBandwidth() throws Exception {
+        //Then
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Invalid bandwidth");
+
+        //When
+        new BandMatrix<Long>(3, 3, -1, 0, calculator);
+    }
+}
@@ -0,0 +1,109 @@
+package org.markvarabyou.math.tests.structured;
+
+import junit.framework.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.markvarabyou.math.arraylistbased.Matrix;
+import org.markvarabyou.math.arraylistbased.Vector;
+import org.markvarabyou.math.common.Calculators.IntCalculator;
+import org.markvarabyou.math.structured.SymmetricMatrix;
+
+/**
+ * Test class for SymmetricMatrix.
+ * Author: Mark Vorobyov
+ * Date: 10/22/26
+ * Time: 12:10 PM
+ */
+public class SymmetricMatrixTest {
+    private IntCalculator calculator = new IntCalculator();
+    // 1 2 4
+    // 2 3 5
+    // 4 5 6
+    private Integer[] packed = new Integer[]{1, 2, 3, 4, 5, 6};
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private static <T> void assertMatrixEquals(Matrix<T> expected, Matrix<T> actual){
+        Assert.assertEquals(expected.getRowCount(), actual.getRowCount());
+        Assert.assertEquals(expected.getColCount(), actual.getColCount());
+        for (int i = 0; i < actual.getRowCount(); i++){
+            for (int j = 0; j < actual.getColCount(); j++){
+                Assert.assertEquals(expected.get(i, j), actual.get(i, j));
+            }
+        }
+    }
+
+    @Test
+    public void testGetAndSetBothHalves() throws Exception {
+        //Given
+        SymmetricMatrix<Integer> matrix = new SymmetricMatrix<Integer>(3, packed, calculator);
+
+        //When
+        int previous = matrix.set(0, 2, 7);
+
+        //Then
+        Assert.assertEquals(4, previous);
+        Assert.assertEquals(7, (int) matrix.get(2, 0));
+        Assert.assertEquals(5, (int) matrix.get(1, 2));
+        Assert.assertEquals(5, (int) matrix.get(2, 1));
+        Assert.assertEquals(4, (int) packed[3]);
+    }
+
+    @Test
+    public void testProductsMatchDense() throws Exception {
+        //Given
+        SymmetricMatrix<Integer> matrix = new SymmetricMatrix<Integer>(3, packed, calculator);
+        Matrix<Integer> dense = matrix.toDense();
+        Matrix<Integer> other = new Matrix<Integer>(3, 2, new Integer[]{1, -1, 2, 0, 3, 5}, calculator);
+        Vector<Integer> vector = new Vector<Integer>(new Integer[]{1, 2, 3}, calculator);
+
+        //When
+        Matrix<Integer> product = matrix.multiply(other);
+        Vector<Integer> vectorProduct = matrix.multiply(vector);
+        Matrix<Integer> square = matrix.multiply(matrix);
+        SymmetricMatrix<Integer> sum = matrix.add(matrix.multiply(2));
+
+        //Then
+        assertMatrixEquals(dense.multiply(other), product);
+        assertMatrixEquals(dense.multiply(dense), square);
+        Vector<Integer> expected = dense.multiply(vector);
+        for (int i = 0; i < 3; i++){
+            Assert.assertEquals(expected.get(i), vectorProduct.get(i));
+        }
+        assertMatrixEquals(dense.multiply(3), sum.toDense());
+    }
+
+    @Test
+    public void testFromDenseMatrix() throws Exception {
+        //Given
+        Matrix<Integer> dense = new SymmetricMatrix<Integer>(3, packed, calculator).toDense();
+
+        //When
+        SymmetricMatrix<Integer> matrix = new SymmetricMatrix<Integer>(dense, calculator);
+
+        //Then
+        assertMatrixEquals(dense, matrix.toDense());
+    }
+
+    @Test
+    public void testNotSymmetricMatrix() throws Exception {
+        //Then
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Matrix is not symmetric");
+
+        //When
+        new SymmetricMatrix<Integer>(new Matrix<Integer>(2, 2, new Integer[]{1, 2, 3, 4}, calculator), calculator);
+    }
+
+    @Test
+    public void testInvalidPackedLength() throws Exception {
+        //Then
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Invalid packed array length");
+
+        //When
+        new SymmetricMatrix<Integer>(4, packed, calculator);
+    }
+}
@@ -0,0 +1,117 @@
+package org.markvarabyou.math.tests.structured;
+
+import junit.framework.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.markvarabyou.math.arraylistbased.Matrix;
+import org.markvarabyou.math.arraylistbased.Vector;
+import org.markvarabyou.math.common.Calculators.IntCalculator;
+import org.markvarabyou.math.structured.TriangularMatrix;
+
+import java.util.Random;
+
+/**
+ * Test class for TriangularMatrix.
+ * Author: Mark Vorobyov
+ * Date: 10/22/26
+ * Time: 12:40 PM
+ */
+public class TriangularMatrixTest {
+    private IntCalculator calculator = new IntCalculator();
+    private Random random = new Random(24);
+
+    @Rule
+    public ExpectedException exception = ExpectedException.none();
+
+    private TriangularMatrix<Integer> randomMatrix(int size, boolean lower){
+        TriangularMatrix<Integer> matrix = new TriangularMatrix<Integer>(size, lower, calculator);
+        for (int i = 0; i < size; i++){
+            for (int j = 0; j < size; j++){
+                if (lower ? j <= i : j >= i)
+                    matrix.set(i, j, random.nextInt(19) - 9);
+            }
+        }
+        return matrix;
+    }
+
+    private static <T> void assertMatrixEquals(Matrix<T> expected, Matrix<T> actual){
+        Assert.assertEquals(expected.getRowCount(), actual.getRowCount());
+        Assert.assertEquals(expected.getColCount(), actual.getColCount());
+        for (int i = 0; i < actual.getRowCount(); i++){
+            for (int j = 0; j < actual.getColCount(); j++){
+                Assert.assertEquals(expected.get(i, j), actual.get(i, j));
+            }
+        }
+    }
+
+    @Test
+    public void testProductsMatchDense() throws Exception {
+        for (boolean lower : new boolean[]{true, false}){
+            //Given
+            TriangularMatrix<Integer> first = randomMatrix(7, lower);
+            TriangularMatrix<Integer> second = randomMatrix(7, lower);
+            Matrix<Integer> dense = first.toDense();
+            Integer[] values = new Integer[21];
+            for (int i = 0; i < values.length; i++){
+                values[i] = i - 10;
+            }
+            Matrix<Integer> other = new Matrix<Integer>(7, 3, values, calculator);
+            Vector<Integer> vector = other.getCol(1);
+
+            //When
+            TriangularMatrix<Integer> product = first.multiply(second);
+            Matrix<Integer> denseProduct = first.multiply(other);
+            Vector<Integer> vectorProduct = first.multiply(vector);
+            TriangularMatrix<Integer> sum = first.add(second);
+
+            //Then
+            Assert.assertEquals(lower, product.isLower());
+            assertMatrixEquals(dense.multiply(second.toDense()), product.toDense());
+            assertMatrixEquals(dense.multiply(other), denseProduct);
+            Vector<Integer> expected = dense.multiply(vector);
+            for (int i = 0; i < 7; i++){
+                Assert.assertEquals(expected.get(i), vectorProduct.get(i));
+            }
+            assertMatrixEquals(dense.add(second.toDense()), sum.toDense());
+            assertMatrixEquals(dense.transpose(), first.transpose().toDense());
+            assertMatrixEquals(dense.multiply(-2), first.multiply(-2).toDense());
+        }
+    }
+
+    @Test
+    public void testFromDenseMatrix() throws Exception {
+        //Given
+        Matrix<Integer> dense = new Matrix<Integer>(2, 2, new Integer[]{1, 2, 0, 4}, calculator);
+
+        //When
+        TriangularMatrix<Integer> matrix = new TriangularMatrix<Integer>(dense, false, calculator);
+
+        //Then
+        Assert.assertEquals(2, (int) matrix.get(0, 1));
+        Assert.assertEquals(0, (int) matrix.get(1, 0));
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Element is outside of triangle");
+        new TriangularMatrix<Integer>(dense, true, calculator);
+    }
+
+    @Test
+    public void testSetOutsideOfTriangle() throws Exception {
+        //Then
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Element is outside of triangle");
+
+        //When
+        new TriangularMatrix<Integer>(3, true, calculator).set(0, 1, 5);
+    }
+
+    @Test
+    public void testMultiplyLowerToUpper() throws Exception {
+        //Then
+        exception.expect(IllegalArgumentException.class);
+        exception.expectMessage("Matrices are not consistent");
+
+        //When
+        randomMatrix(3, true).multiply(randomMatrix(3, false));
+    }
+}
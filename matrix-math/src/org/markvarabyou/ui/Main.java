@@ -48,6 +48,9 @@ public class Main {
         return System.nanoTime() - startTime;
     }
 
+    /**
+     * Single-shot timing without warmup, use JMH benchmarks from matrix-math-benchmarks for real numbers
+     */
     private static void compareListImplementations(){
         int rows = 100;
         int cols = 100;